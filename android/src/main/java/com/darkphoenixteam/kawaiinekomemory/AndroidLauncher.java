@@ -1,5 +1,6 @@
 package com.darkphoenixteam.kawaiinekomemory;
 
+import android.content.pm.ApplicationInfo;
 import android.os.Bundle;
 import android.view.WindowManager;
 
@@ -9,6 +10,9 @@ import com.badlogic.gdx.backends.android.AndroidApplicationConfiguration;
 /**
  * Launcher de Android para Kawaii Neko Memory
  * 
+ * Las builds debug (debuggable) arrancan con las herramientas de
+ * perfilado del juego; las release no.
+ * 
  * @author DarkphoenixTeam
  */
 public class AndroidLauncher extends AndroidApplication {
@@ -26,6 +30,7 @@ public class AndroidLauncher extends AndroidApplication {
         
         getWindow().addFlags(WindowManager.LayoutParams.FLAG_KEEP_SCREEN_ON);
         
-        initialize(new KawaiiNekoMemory(), config);
+        boolean debuggable = (getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0;
+        initialize(new KawaiiNekoMemory(debuggable), config);
     }
 }
\ No newline at end of file
@@ -2,52 +2,120 @@ package com.darkphoenixteam.kawaiinekomemory;
 
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
 import com.darkphoenixteam.kawaiinekomemory.screens.SplashScreen;
 import com.darkphoenixteam.kawaiinekomemory.systems.AudioManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.BackgroundWorker;
 import com.darkphoenixteam.kawaiinekomemory.systems.FontManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.SettingsStore;
 import com.darkphoenixteam.kawaiinekomemory.systems.SharedAssetManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.StartupTracer;
+import com.darkphoenixteam.kawaiinekomemory.systems.TextBatch;
+import com.darkphoenixteam.kawaiinekomemory.systems.ThumbnailAtlas;
+import com.darkphoenixteam.kawaiinekomemory.ui.PerfOverlay;
 
 /**
  * Clase principal del juego Kawaii Neko Memory
  * 
+ * Traza de arranque: el log "Arranque:" mide cada fase de create() y el
+ * tiempo hasta el primer frame del splash (comparar fuentes horneadas
+ * contra FreeType). En ejecuciones de perfilado las mismas fases son
+ * spans de StartupTracer y la traza se exporta cuando la primera
+ * pantalla tras el splash ha dibujado sus primeros frames.
+ * 
+ * El batch es un TextBatch: si el dispositivo admite su shader, las
+ * fuentes son de campo de distancia (un atlas por grupo de idiomas).
+ * 
+ * El PerfOverlay (debug) lo dibujan las pantallas; empieza desactivado.
+ * Solo existe en ejecuciones de perfilado (build debug de Android,
+ * --profile o --perf en escritorio): sin él las pantallas ignoran los
+ * gestos y las teclas del overlay y de la traza.
+ * 
  * @author DarkphoenixTeam
- * @version 1.1 - SharedAssetManager integrado
+ * @version 1.6 - Herramientas de perfilado solo en ejecuciones de perfilado
  */
 public class KawaiiNekoMemory extends Game {
     
     public static final String TAG = "KawaiiNekoMemory";
     
-    private SpriteBatch batch;
+    private TextBatch batch;
     private FontManager fontManager;
+    private PerfOverlay perfOverlay;
+    
+    // Build debug o launcher de perfilado: overlay, gestos y traza de arranque
+    private final boolean profiling;
+    
+    // === TRAZA DE ARRANQUE ===
+    private long createStartNanos;
+    private long phaseStartNanos;
+    private boolean firstFrameLogged;
+    private int startupTraceFrames = -1;     // Frames tras el splash (-1: aún en el splash)
     
     public KawaiiNekoMemory() {
+        this(false);
+    }
+    
+    /**
+     * @param profiling true en builds debug o ejecuciones de perfilado
+     */
+    public KawaiiNekoMemory(boolean profiling) {
+        this.profiling = profiling;
     }
     
     @Override
     public void create() {
+        createStartNanos = TimeUtils.nanoTime();
+        phaseStartNanos = createStartNanos;
+        StartupTracer tracer = StartupTracer.getInstance();
+        tracer.setEnabled(profiling);
+        tracer.begin("create");
+        
         Gdx.app.log(TAG, "=== Kawaii Neko Memory v1.0.0 ===");
         Gdx.app.log(TAG, "DarkphoenixTeam");
         Gdx.app.log(TAG, "Screen: " + Gdx.graphics.getWidth() + "x" + Gdx.graphics.getHeight());
+        if (profiling) {
+            Gdx.app.log(TAG, "Perfilado activo (PerfOverlay y StartupTracer)");
+        }
         
-        batch = new SpriteBatch();
+        // SpriteBatch que también pinta texto de campo de distancia (si hay soporte)
+        tracer.begin("SpriteBatch");
+        batch = new TextBatch();
+        logStartupPhase("SpriteBatch");
         
-        // Inicializar FontManager
-        fontManager = new FontManager();
+        // Ajustes (migración de Preferences antiguos) y tabla de textos
+        tracer.begin("Ajustes e idioma");
+        boolean cjk = LocaleManager.getInstance().isCJK();
+        logStartupPhase("Ajustes e idioma");
+        
+        // Inicializar FontManager (campo de distancia solo si el batch lo puede pintar)
+        tracer.begin("Fuentes");
+        fontManager = new FontManager(cjk, batch.isDistanceFieldEnabled());
+        logStartupPhase("Fuentes (" + (fontManager.isBaked() ? "horneadas" : "FreeType") + ")");
+        
+        if (profiling) {
+            perfOverlay = new PerfOverlay();
+        }
         
         // === INICIALIZAR SHARED ASSET MANAGER ===
+        tracer.begin("Assets comunes");
         SharedAssetManager sharedAssets = SharedAssetManager.getInstance();
         sharedAssets.preloadCommon();
         Gdx.app.log(TAG, "SharedAssetManager inicializado - " + sharedAssets.getMemoryUsage());
         
+        // Miniaturas de cartas: se leen/generan en segundo plano durante el splash
+        ThumbnailAtlas.getInstance().prepareAsync();
+        logStartupPhase("Assets comunes");
+        
         // === INICIALIZAR AUDIO ===
+        tracer.begin("Audio");
         AudioManager audioManager = AudioManager.getInstance();
         
-        // Precargar sonidos frecuentes
-        audioManager.preloadSound(AssetPaths.SFX_BUTTON);
-        audioManager.preloadSound(AssetPaths.SFX_CARD_FLIP);
-        audioManager.preloadSound(AssetPaths.SFX_MATCH);
+        // Todos los efectos cargados ya: en partida no se decodifica nada
+        audioManager.loadSounds();
         
         // Reproducir música del menú
         audioManager.playMusic(AssetPaths.MUSIC_MENU, true);
@@ -55,20 +123,73 @@ public class KawaiiNekoMemory extends Game {
         Gdx.app.log(TAG, "AudioManager inicializado - Música: " + 
                    (int)(audioManager.getMusicVolume() * 100) + "% | SFX: " + 
                    (int)(audioManager.getSoundVolume() * 100) + "%");
+        logStartupPhase("Audio");
         
         // Iniciar con SplashScreen
+        tracer.begin("SplashScreen");
         setScreen(new SplashScreen(this));
+        logStartupPhase("SplashScreen");
+        
+        tracer.end();
+    }
+    
+    /**
+     * Loguea la duración de la fase que termina, cierra su span
+     * y empieza la siguiente
+     */
+    private void logStartupPhase(String phase) {
+        StartupTracer.getInstance().end();
+        long now = TimeUtils.nanoTime();
+        Gdx.app.log(TAG, "Arranque: " + phase + " " + (now - phaseStartNanos) / 1_000_000L + "ms");
+        phaseStartNanos = now;
+    }
+    
+    /**
+     * setScreen con span (hide de la anterior y show de la nueva)
+     */
+    @Override
+    public void setScreen(Screen screen) {
+        StartupTracer tracer = StartupTracer.getInstance();
+        tracer.begin("setScreen");
+        super.setScreen(screen);
+        tracer.end();
+        
+        if (profiling && startupTraceFrames < 0 && screen != null && !(screen instanceof SplashScreen)) {
+            startupTraceFrames = 0;
+        }
     }
     
     @Override
     public void render() {
+        // Aplica un cambio de idioma preparado antes de actualizar la pantalla
+        LocaleManager.getInstance().update();
+        // Aperturas de música en segundo plano y crossfades
+        AudioManager.getInstance().update(Gdx.graphics.getDeltaTime());
+        // Guardado agrupado de ajustes y progreso
+        SettingsStore.getInstance().update(Gdx.graphics.getDeltaTime());
         super.render();
+        
+        if (!firstFrameLogged) {
+            firstFrameLogged = true;
+            Gdx.app.log(TAG, "Arranque: primer frame en " + 
+                       (TimeUtils.nanoTime() - createStartNanos) / 1_000_000L + "ms desde create()");
+        }
+        
+        // Fin del arranque: primera pantalla tras el splash con sus frames trazados
+        if (startupTraceFrames >= 0 && startupTraceFrames < StartupTracer.SCREEN_FRAMES) {
+            startupTraceFrames++;
+            if (startupTraceFrames == StartupTracer.SCREEN_FRAMES) {
+                StartupTracer.getInstance().export(StartupTracer.STARTUP_FILE);
+            }
+        }
     }
     
     @Override
     public void pause() {
         super.pause();
         AudioManager.getInstance().pauseMusic();
+        // La app puede no volver: se guarda ya, sin esperar al siguiente frame
+        SettingsStore.getInstance().flushNow();
         Gdx.app.log(TAG, "App pausada - música pausada");
     }
     
@@ -91,16 +212,28 @@ public class KawaiiNekoMemory extends Game {
             fontManager.dispose();
         }
         
+        if (perfOverlay != null) {
+            perfOverlay.dispose();
+        }
+        
         // Liberar recursos de audio
         AudioManager.getInstance().dispose();
         
         // Liberar SharedAssetManager
         SharedAssetManager.getInstance().dispose();
+        ThumbnailAtlas.reset();
+        
+        // Detener hilo de trabajo
+        BackgroundWorker.reset();
         
         if (getScreen() != null) {
             getScreen().dispose();
         }
         
+        // Último: lo que hayan guardado las pantallas al cerrarse
+        SettingsStore.reset();
+        StartupTracer.reset();
+        
         Gdx.app.log(TAG, "Recursos liberados correctamente");
     }
     
@@ -111,4 +244,15 @@ public class KawaiiNekoMemory extends Game {
     public FontManager getFontManager() {
         return fontManager;
     }
+    
+    /**
+     * @return null fuera de las ejecuciones de perfilado
+     */
+    public PerfOverlay getPerfOverlay() {
+        return perfOverlay;
+    }
+    
+    public boolean isProfiling() {
+        return profiling;
+    }
 }
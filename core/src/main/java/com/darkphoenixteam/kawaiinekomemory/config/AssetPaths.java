@@ -90,27 +90,9 @@ public final class AssetPaths {
     public static final String MUSIC_MENU = "audio/music/menu_theme.ogg";
     public static final String MUSIC_BAZAAR = "audio/music/bazaar_theme.ogg";
     
-    /**
-     * Obtiene ruta de música para modo campaña (GameScreen)
-     * Archivos: game_track_01.ogg a game_track_10.ogg
-     * 
-     * @param trackIndex Índice 0-9
-     * @return Ruta del archivo de audio
-     */
-    public static String getGameMusicPath(int trackIndex) {
-        return "audio/music/game_track_" + String.format("%02d", trackIndex + 1) + ".ogg";
-    }
-    
-    /**
-     * Obtiene ruta de música para modo Time Attack
-     * Archivos: timeattack_track_01.ogg a timeattack_track_10.ogg
-     * 
-     * @param trackIndex Índice 0-9
-     * @return Ruta del archivo de audio
-     */
-    public static String getTimeAttackMusicPath(int trackIndex) {
-        return "audio/music/timeattack_track_" + String.format("%02d", trackIndex + 1) + ".ogg";
-    }
+    // === DATOS (generados por el build) ===
+    public static final String LEVEL_CATALOG = "data/levels.bin";
+    public static final String MUSIC_MANIFEST = "data/music.properties";
     
     // === SFX (OGG) ===
     public static final String SFX_CARD_FLIP = "audio/sfx/card_flip.ogg";
@@ -122,6 +104,7 @@ public final class AssetPaths {
     public static final String SFX_VICTORY = "audio/sfx/victory.ogg";
     public static final String SFX_DEFEAT = "audio/sfx/defeat.ogg";
     public static final String SFX_TIMEFREEZE = "audio/sfx/time_freeze.ogg";
+    public static final String SFX_HINT = "audio/sfx/hint.ogg";
     
     // === CONSTANTES ===
     public static final int TOTAL_DECKS = 5;
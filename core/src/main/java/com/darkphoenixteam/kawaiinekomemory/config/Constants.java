@@ -21,6 +21,23 @@ public final class Constants {
     public static final float MATCH_CHECK_DELAY = 0.3f;
     public static final float SHUFFLE_DURATION = 0.5f;
     
+    // === SIMULACIÓN (paso fijo) ===
+    public static final float FIXED_TIMESTEP = 1f / 120f;     // Tick lógico a 120 Hz
+    public static final int MAX_STEPS_PER_FRAME = 8;          // Catch-up máximo por frame
+    // Clamp de picos (GC, flush, etc.): lo que cabe en el catch-up (~66 ms)
+    public static final float MAX_FRAME_TIME = MAX_STEPS_PER_FRAME * FIXED_TIMESTEP;
+    
+    // === PRE-GENERACIÓN DE GRID ===
+    public static final int GRID_PREP_CARDS_PER_FRAME = 4;    // Cartas en espera inicializadas por frame
+    public static final int GRID_LAYOUT_QUEUE_SIZE = 3;       // Layouts barajados por adelantado
+    public static final float GRID_SLIDE_IN_DURATION = 0.3f;  // Entrada del grid en Time Attack sin fin
+    
+    // === ANIMACIONES (TweenEngine) ===
+    public static final int TWEEN_INITIAL_CAPACITY = 64;      // Slots antes de ampliar arrays
+    public static final float MATCH_FADE_DURATION = 0.35f;
+    public static final float PANEL_POP_DURATION = 0.25f;
+    public static final float HUD_COUNTER_DURATION = 0.4f;
+    
     // === NO MATCH FEEDBACK ===
     public static final float NO_MATCH_SHAKE_DURATION = 0.4f;
     
@@ -66,43 +83,23 @@ public final class Constants {
     public static final int TIME_ATTACK_NEKOIN_PER_PAIR = 5;
     public static final float TIME_ATTACK_AD_MULTIPLIER = 2.5f;
     
-    // === TIEMPO BASE POR DIFICULTAD (segundos) ===
-    public static final float TIME_BASE_EASY = 45f;
-    public static final float TIME_BASE_NORMAL = 60f;
-    public static final float TIME_BASE_ADVANCED = 80f;
-    public static final float TIME_BASE_HARD = 120f;
-    
-    // === DECAY DE TIEMPO POR NIVEL ===
-    public static final float TIME_DECAY_EASY = 1.0f;
-    public static final float TIME_DECAY_NORMAL = 1.5f;
-    public static final float TIME_DECAY_ADVANCED = 2.0f;
-    public static final float TIME_DECAY_HARD = 2.5f;
-    
-    // === MULTIPLICADORES DE TIEMPO POR RANGO ===
-    public static final float TIME_MULT_ENDURANCE = 1.8f;
-    public static final float TIME_MULT_SHUFFLE = 1.25f;
-    public static final float TIME_MULT_MASTERY = 2.3f;
+    // === MARATHON (tableros grandes con cámara propia) ===
+    // Tamaños: 6x8, 8x10, 10x12
+    public static final int[] MARATHON_COLS = {6, 8, 10};
+    public static final int[] MARATHON_ROWS = {8, 10, 12};
+    public static final float MARATHON_CARD_WIDTH = 80f;
+    public static final float MARATHON_ATLAS_SCALE = 0.5f;      // 256x384 -> 128x192
+    public static final float MARATHON_MIN_ZOOM = 0.6f;
+    public static final float MARATHON_TAP_SLOP = 12f;         // Arrastre mínimo para pan
+    public static final float MARATHON_BENCHMARK_SECONDS = 20f;
     
-    // === SHUFFLE CONFIG ===
-    public static final int SHUFFLE_TRIGGER_PAIRS = 3;
+    // Tiempos, grids y shuffle por nivel: core/src/data/levels.json (ver LevelCatalog)
     
     // === NIVELES ===
-    public static final int LEVELS_PER_DIFFICULTY = 50;
-    public static final int TOTAL_LEVELS = 200;
     public static final int LEVELS_PER_ROW = 5;
     public static final int ROWS_PER_DIFFICULTY = 10;
     public static final int TOTAL_DIFFICULTIES = 4;
     
-    // === RANGOS DE NIVEL ===
-    public static final int RANGE_SPEED_START = 1;
-    public static final int RANGE_SPEED_END = 15;
-    public static final int RANGE_ENDURANCE_START = 16;
-    public static final int RANGE_ENDURANCE_END = 30;
-    public static final int RANGE_SHUFFLE_START = 31;
-    public static final int RANGE_SHUFFLE_END = 40;
-    public static final int RANGE_MASTERY_START = 41;
-    public static final int RANGE_MASTERY_END = 50;
-    
     // === MAZO Y CARTAS ===
     public static final int TOTAL_DECKS = 5;
     public static final int CARDS_PER_DECK = 7;
@@ -152,6 +149,9 @@ public final class Constants {
     public static final int GACHA_BASE_COST = 1000;
     public static final int GACHA_INCREMENT_ODD = 500;
     public static final int GACHA_INCREMENT_EVEN = 1000;
+    public static final int GACHA_MULTI_PULL = 10;
+    // Peso relativo de cada carta según su deck (los decks más valiosos salen menos)
+    public static final float[] GACHA_DECK_WEIGHTS = {1.0f, 0.8f, 0.6f, 0.4f, 0.25f};
     
     // === ADS ===
     public static final int GAMES_BEFORE_INTERSTITIAL_LOSS = 3;
@@ -164,10 +164,6 @@ public final class Constants {
     public static final float HUD_HEIGHT = 80f;
     public static final float GRID_PADDING = 10f;
     
-    // === MÚSICA ===
-    public static final int GAME_MUSIC_TRACKS = 10;
-    public static final int TIME_ATTACK_MUSIC_TRACKS = 10;
-    
     // === RANKINGS ===
     public static final int RANKINGS_MAX_ENTRIES = 100;
     
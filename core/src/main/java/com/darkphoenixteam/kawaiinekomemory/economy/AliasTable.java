@@ -0,0 +1,98 @@
+package com.darkphoenixteam.kawaiinekomemory.economy;
+
+import com.badlogic.gdx.math.MathUtils;
+
+/**
+ * Muestreo ponderado O(1) por el método alias (Vose)
+ * 
+ * build() es O(n) y reutiliza los arrays internos; sample() usa un
+ * aleatorio entero y uno float, sin importar el número de entradas.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class AliasTable {
+    
+    private float[] probability;
+    private int[] alias;
+    private int[] small;
+    private int[] large;
+    private float[] scaled;
+    private int size;
+    
+    public AliasTable(int capacity) {
+        ensureCapacity(Math.max(1, capacity));
+    }
+    
+    /**
+     * Construye la tabla para los n primeros pesos (todos > 0)
+     */
+    public void build(float[] weights, int n) {
+        ensureCapacity(n);
+        size = n;
+        if (n == 0) return;
+        
+        float total = 0f;
+        for (int i = 0; i < n; i++) {
+            total += weights[i];
+        }
+        
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = weights[i] * n / total;
+            if (scaled[i] < 1f) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            
+            probability[less] = scaled[less];
+            alias[less] = more;
+            
+            scaled[more] = (scaled[more] + scaled[less]) - 1f;
+            if (scaled[more] < 1f) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        
+        // Restos por error de redondeo: probabilidad 1
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1f;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1f;
+        }
+    }
+    
+    /**
+     * Índice aleatorio según los pesos, -1 si la tabla está vacía
+     */
+    public int sample() {
+        if (size == 0) return -1;
+        
+        int column = MathUtils.random(size - 1);
+        return MathUtils.random() < probability[column] ? column : alias[column];
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    private void ensureCapacity(int capacity) {
+        if (probability != null && probability.length >= capacity) return;
+        
+        probability = new float[capacity];
+        alias = new int[capacity];
+        small = new int[capacity];
+        large = new int[capacity];
+        scaled = new float[capacity];
+    }
+}
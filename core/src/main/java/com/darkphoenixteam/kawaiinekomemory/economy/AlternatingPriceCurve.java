@@ -0,0 +1,68 @@
+package com.darkphoenixteam.kawaiinekomemory.economy;
+
+/**
+ * Curva con incrementos alternos: base, +impar, +par, +impar, ...
+ * 
+ * Es la curva del gacha y de las mejoras de Time Attack. Forma cerrada:
+ * precio(n) = base + ceil(n/2) * impar + floor(n/2) * par
+ * 
+ * La suma de los n primeros precios también es cerrada, usando
+ * F(n) = sum(floor(k/2), k = 0..n-1) = m*m si n es impar, m*(m-1) si es par (m = n/2)
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class AlternatingPriceCurve implements PriceCurve {
+    
+    private final int base;
+    private final int incrementOdd;
+    private final int incrementEven;
+    private final int maxPurchases;
+    
+    public AlternatingPriceCurve(int base, int incrementOdd, int incrementEven) {
+        this(base, incrementOdd, incrementEven, UNLIMITED);
+    }
+    
+    public AlternatingPriceCurve(int base, int incrementOdd, int incrementEven, int maxPurchases) {
+        this.base = base;
+        this.incrementOdd = incrementOdd;
+        this.incrementEven = incrementEven;
+        this.maxPurchases = maxPurchases;
+    }
+    
+    @Override
+    public int price(int purchased) {
+        if (purchased < 0) purchased = 0;
+        if (purchased >= maxPurchases) return UNAVAILABLE;
+        
+        long n = purchased;
+        return Prices.toPrice(base + ((n + 1) / 2) * incrementOdd + (n / 2) * incrementEven);
+    }
+    
+    @Override
+    public int quote(int purchased, int count) {
+        if (purchased < 0) purchased = 0;
+        if (count <= 0) return 0;
+        if ((long) purchased + count > maxPurchases) return UNAVAILABLE;
+        
+        return Prices.toPrice(sumFirst((long) purchased + count) - sumFirst(purchased));
+    }
+    
+    @Override
+    public int getMaxPurchases() {
+        return maxPurchases;
+    }
+    
+    /**
+     * Suma de los n primeros precios
+     */
+    private long sumFirst(long n) {
+        // sum(ceil(k/2), k < n) = sum(floor(k/2), k < n+1)
+        return n * base + floorSum(n + 1) * incrementOdd + floorSum(n) * incrementEven;
+    }
+    
+    private static long floorSum(long n) {
+        long m = n / 2;
+        return (n % 2 == 0) ? m * (m - 1) : m * m;
+    }
+}
@@ -0,0 +1,107 @@
+package com.darkphoenixteam.kawaiinekomemory.economy;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.IntArray;
+import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.systems.SaveManager;
+
+/**
+ * Gacha ponderado por deck con tiradas múltiples en una sola transacción
+ * 
+ * - Candidatas: cartas bloqueadas según el bitmask de SaveManager
+ * - Peso de cada carta = Constants.GACHA_DECK_WEIGHTS[deck]
+ * - Cada tirada muestrea con AliasTable (O(1)) y retira la carta ganada,
+ *   así una tirada múltiple nunca repite carta
+ * - Coste (cotización O(1)), nekoins, contador y desbloqueos se guardan
+ *   juntos con SaveManager.commitGachaPulls(): un solo flush
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class GachaEngine {
+    
+    private static final String TAG = "GachaEngine";
+    
+    private final SaveManager saveManager;
+    private final AliasTable aliasTable;
+    
+    // Candidatas y pesos en paralelo (sin boxing)
+    private final IntArray candidates;
+    private final float[] weights;
+    
+    // Resultado de la última tirada (reutilizado)
+    private final IntArray results;
+    
+    public GachaEngine(SaveManager saveManager) {
+        this.saveManager = saveManager;
+        this.aliasTable = new AliasTable(Constants.TOTAL_CARDS);
+        this.candidates = new IntArray(Constants.TOTAL_CARDS);
+        this.weights = new float[Constants.TOTAL_CARDS];
+        this.results = new IntArray(Constants.GACHA_MULTI_PULL);
+    }
+    
+    /**
+     * Cartas que aún se pueden ganar
+     */
+    public int getAvailablePulls() {
+        return Constants.TOTAL_CARDS - saveManager.getUnlockedCardCount();
+    }
+    
+    /**
+     * Coste de count tiradas (limitado a las cartas restantes)
+     */
+    public int quote(int count) {
+        int pulls = Math.min(count, getAvailablePulls());
+        return pulls > 0 ? saveManager.getGachaCost(pulls) : PriceCurve.UNAVAILABLE;
+    }
+    
+    /**
+     * Realiza hasta count tiradas y las guarda en una transacción.
+     * @return IDs de carta ganados (buffer reutilizado, válido hasta la
+     *         siguiente tirada), o null si no hay cartas o nekoins suficientes
+     */
+    public IntArray pull(int count) {
+        loadCandidates();
+        
+        int pulls = Math.min(count, candidates.size);
+        if (pulls <= 0) return null;
+        
+        int cost = saveManager.getGachaCost(pulls);
+        if (cost < 0 || saveManager.getNekoins() < cost) return null;
+        
+        results.clear();
+        for (int i = 0; i < pulls; i++) {
+            aliasTable.build(weights, candidates.size);
+            int index = aliasTable.sample();
+            
+            results.add(candidates.get(index));
+            
+            // Quitar la ganada: intercambio con la última (el orden no importa)
+            int last = candidates.size - 1;
+            candidates.set(index, candidates.get(last));
+            weights[index] = weights[last];
+            candidates.size = last;
+        }
+        
+        if (!saveManager.commitGachaPulls(results, cost)) {
+            return null;
+        }
+        
+        Gdx.app.log(TAG, "Tiradas: " + pulls + " por " + cost + " -> " + results);
+        return results;
+    }
+    
+    private void loadCandidates() {
+        candidates.clear();
+        long unlockedMask = saveManager.getUnlockedCardMask();
+        float[] deckWeights = Constants.GACHA_DECK_WEIGHTS;
+        
+        for (int cardId = 0; cardId < Constants.TOTAL_CARDS; cardId++) {
+            if ((unlockedMask & (1L << cardId)) != 0) continue;
+            
+            int deck = SaveManager.getDeckFromCardId(cardId);
+            weights[candidates.size] = (deck >= 0 && deck < deckWeights.length) ? deckWeights[deck] : 1f;
+            candidates.add(cardId);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.darkphoenixteam.kawaiinekomemory.economy;
+
+/**
+ * Precio actual de una curva, cacheado por número de compras
+ * 
+ * Las pantallas piden el precio cada frame; solo se recalcula cuando
+ * cambia el contador (compra, uso de un poder) o tras invalidate().
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class PriceCache {
+    
+    private static final int NONE = Integer.MIN_VALUE;
+    
+    private final PriceCurve curve;
+    private int cachedCount = NONE;
+    private int cachedPrice;
+    
+    public PriceCache(PriceCurve curve) {
+        this.curve = curve;
+    }
+    
+    /**
+     * Precio de la siguiente compra tras purchased compras
+     */
+    public int price(int purchased) {
+        if (purchased != cachedCount) {
+            cachedPrice = curve.price(purchased);
+            cachedCount = purchased;
+        }
+        return cachedPrice;
+    }
+    
+    /**
+     * Coste de count compras seguidas (O(1), sin caché)
+     */
+    public int quote(int purchased, int count) {
+        return curve.quote(purchased, count);
+    }
+    
+    public void invalidate() {
+        cachedCount = NONE;
+    }
+    
+    public PriceCurve getCurve() {
+        return curve;
+    }
+}
@@ -0,0 +1,37 @@
+package com.darkphoenixteam.kawaiinekomemory.economy;
+
+/**
+ * Curva de precios: precio de la compra n (0 = primera) en función de
+ * cuántas se han hecho ya
+ * 
+ * Las implementaciones responden en O(1): forma cerrada o tabla con sumas
+ * prefijas. Nada de recorrer el historial de compras.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public interface PriceCurve {
+    
+    /** Precio devuelto cuando la compra no está disponible (tope alcanzado) */
+    int UNAVAILABLE = -1;
+    
+    /** Sin límite de compras */
+    int UNLIMITED = Integer.MAX_VALUE;
+    
+    /**
+     * Precio de la compra con índice purchased (= compras ya hechas)
+     * @return precio, o UNAVAILABLE si se alcanzó el tope
+     */
+    int price(int purchased);
+    
+    /**
+     * Coste total de comprar count unidades seguidas tras purchased compras
+     * @return suma de precios, o UNAVAILABLE si alguna supera el tope
+     */
+    int quote(int purchased, int count);
+    
+    /**
+     * Número máximo de compras (UNLIMITED si no hay tope)
+     */
+    int getMaxPurchases();
+}
@@ -0,0 +1,40 @@
+package com.darkphoenixteam.kawaiinekomemory.economy;
+
+import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+
+/**
+ * Curvas de precio del juego, construidas una vez desde Constants
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public final class Prices {
+    
+    /** Tiradas de gacha: sin tope (el límite real son las cartas bloqueadas) */
+    public static final PriceCurve GACHA = new AlternatingPriceCurve(
+        Constants.GACHA_BASE_COST,
+        Constants.GACHA_INCREMENT_ODD,
+        Constants.GACHA_INCREMENT_EVEN);
+    
+    /** Mejoras de Time Attack: tabla precalculada de TIME_ATTACK_MAX_UPGRADES entradas */
+    public static final PriceCurve TIME_ATTACK_UPGRADE = TablePriceCurve.sample(
+        new AlternatingPriceCurve(
+            Constants.TIME_ATTACK_UPGRADE_BASE_COST,
+            Constants.TIME_ATTACK_UPGRADE_INCREMENT_ODD,
+            Constants.TIME_ATTACK_UPGRADE_INCREMENT_EVEN),
+        Constants.TIME_ATTACK_MAX_UPGRADES);
+    
+    /** Poderes (pista, congelar tiempo): precio según el stock actual */
+    public static final PriceCurve POWER = new TablePriceCurve(
+        Constants.POWER_PRICES, Constants.MAX_POWER_STOCK);
+    
+    private Prices() {
+    }
+    
+    /**
+     * Convierte una suma en long a precio int (satura en vez de desbordar)
+     */
+    static int toPrice(long value) {
+        return (int) Math.min(Integer.MAX_VALUE, value);
+    }
+}
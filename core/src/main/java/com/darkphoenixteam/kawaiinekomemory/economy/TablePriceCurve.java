@@ -0,0 +1,74 @@
+package com.darkphoenixteam.kawaiinekomemory.economy;
+
+/**
+ * Curva definida por tabla (p. ej. Constants.POWER_PRICES)
+ * 
+ * Pasado el final de la tabla se repite el último precio hasta el tope.
+ * Las sumas prefijas se calculan una vez: quote() es una resta.
+ * 
+ * sample() congela cualquier curva en una tabla (lookup precalculado).
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class TablePriceCurve implements PriceCurve {
+    
+    private final int[] prices;
+    private final long[] prefix;     // prefix[i] = suma de prices[0..i-1]
+    private final int maxPurchases;
+    
+    /**
+     * @param prices precios por compra (se copia)
+     * @param maxPurchases tope de compras (UNLIMITED = sin tope)
+     */
+    public TablePriceCurve(int[] prices, int maxPurchases) {
+        if (prices == null || prices.length == 0) {
+            throw new IllegalArgumentException("Tabla de precios vacía");
+        }
+        this.prices = prices.clone();
+        this.maxPurchases = maxPurchases;
+        
+        prefix = new long[prices.length + 1];
+        for (int i = 0; i < prices.length; i++) {
+            prefix[i + 1] = prefix[i] + prices[i];
+        }
+    }
+    
+    /**
+     * Precalcula los count primeros precios de una curva (tope = count)
+     */
+    public static TablePriceCurve sample(PriceCurve curve, int count) {
+        int[] table = new int[count];
+        for (int i = 0; i < count; i++) {
+            table[i] = curve.price(i);
+        }
+        return new TablePriceCurve(table, count);
+    }
+    
+    @Override
+    public int price(int purchased) {
+        if (purchased < 0) purchased = 0;
+        if (purchased >= maxPurchases) return UNAVAILABLE;
+        return prices[Math.min(purchased, prices.length - 1)];
+    }
+    
+    @Override
+    public int quote(int purchased, int count) {
+        if (purchased < 0) purchased = 0;
+        if (count <= 0) return 0;
+        if ((long) purchased + count > maxPurchases) return UNAVAILABLE;
+        
+        return Prices.toPrice(sumFirst((long) purchased + count) - sumFirst(purchased));
+    }
+    
+    @Override
+    public int getMaxPurchases() {
+        return maxPurchases;
+    }
+    
+    private long sumFirst(long n) {
+        int last = prices.length;
+        if (n <= last) return prefix[(int) n];
+        return prefix[last] + (n - last) * prices[last - 1];
+    }
+}
@@ -0,0 +1,234 @@
+package com.darkphoenixteam.kawaiinekomemory.i18n;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import java.text.NumberFormat;
+
+/**
+ * Texto con placeholders {n} pre-parseado una sola vez
+ * 
+ * - El patrón se parte en literales + índices de argumento: formatear es
+ *   concatenar, sin MessageFormat ni reparseo por llamada
+ * - Caché circular de los últimos resultados por valor de argumentos:
+ *   un HUD que pinta "Moves: 12" cada frame no crea ningún String
+ *   hasta que el valor cambia
+ * - Sobrecargas int sin boxing para el caso común (contadores)
+ * 
+ * Mismo resultado que I18NBundle.format(): números con el separador de
+ * miles del idioma, "{{" es una llave literal, apóstrofes literales y
+ * un placeholder sin argumento se deja tal cual.
+ * 
+ * No es thread-safe: usar desde el hilo de render.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public final class MessageTemplate {
+    
+    /** Argumentos que entran en la caché (más se formatean sin cachear) */
+    private static final int MAX_ARGS = 4;
+    private static final int CACHE_SIZE = 4;
+    
+    // Marca de argumento entero (el valor va en el array de longs)
+    private static final Object INT_ARG = new Object();
+    
+    private final String[] literals;      // literals.length = argIndex.length + 1
+    private final int[] argIndex;
+    private final NumberFormat numberFormat;
+    private final StringBuilder builder = new StringBuilder(32);
+    
+    // === CACHÉ ===
+    private final Object[][] cacheObjects = new Object[CACHE_SIZE][MAX_ARGS];
+    private final long[][] cacheNumbers = new long[CACHE_SIZE][MAX_ARGS];
+    private final int[] cacheArgCount = new int[CACHE_SIZE];
+    private final String[] cacheResults = new String[CACHE_SIZE];
+    private int cacheNext;
+    
+    // === ARGUMENTOS DE LA LLAMADA ACTUAL ===
+    private final Object[] argObjects = new Object[MAX_ARGS];
+    private final long[] argNumbers = new long[MAX_ARGS];
+    
+    public MessageTemplate(String pattern, NumberFormat numberFormat) {
+        this.numberFormat = numberFormat;
+        
+        Array<String> parts = new Array<>(String.class);
+        IntArray indices = new IntArray();
+        StringBuilder literal = new StringBuilder();
+        int length = pattern.length();
+        
+        for (int i = 0; i < length; i++) {
+            char ch = pattern.charAt(i);
+            if (ch != '{') {
+                literal.append(ch);
+                continue;
+            }
+            
+            // "{{" = llave literal
+            if (i + 1 < length && pattern.charAt(i + 1) == '{') {
+                literal.append('{');
+                i++;
+                continue;
+            }
+            
+            // "{n}"
+            int end = i + 1;
+            while (end < length && Character.isDigit(pattern.charAt(end))) end++;
+            if (end > i + 1 && end < length && pattern.charAt(end) == '}') {
+                parts.add(literal.toString());
+                literal.setLength(0);
+                indices.add(Integer.parseInt(pattern.substring(i + 1, end)));
+                i = end;
+            } else {
+                literal.append(ch);
+            }
+        }
+        parts.add(literal.toString());
+        
+        literals = parts.toArray();
+        argIndex = indices.toArray();
+        
+        for (int i = 0; i < CACHE_SIZE; i++) {
+            cacheArgCount[i] = -1;
+        }
+    }
+    
+    // ==================== FORMATO ====================
+    
+    public String format(int arg0) {
+        setInt(0, arg0);
+        return resolve(1);
+    }
+    
+    public String format(int arg0, int arg1) {
+        setInt(0, arg0);
+        setInt(1, arg1);
+        return resolve(2);
+    }
+    
+    public String format(Object arg0) {
+        setObject(0, arg0);
+        return resolve(1);
+    }
+    
+    public String format(Object... args) {
+        if (args.length > MAX_ARGS) {
+            return buildUncached(args);
+        }
+        for (int i = 0; i < args.length; i++) {
+            setObject(i, args[i]);
+        }
+        return resolve(args.length);
+    }
+    
+    /**
+     * Número de placeholders del patrón
+     */
+    public int getPlaceholderCount() {
+        return argIndex.length;
+    }
+    
+    // ==================== INTERNOS ====================
+    
+    private void setInt(int slot, long value) {
+        argObjects[slot] = INT_ARG;
+        argNumbers[slot] = value;
+    }
+    
+    private void setObject(int slot, Object value) {
+        // Enteros en caja: misma clave que la sobrecarga int
+        if (value instanceof Integer || value instanceof Long
+            || value instanceof Short || value instanceof Byte) {
+            setInt(slot, ((Number) value).longValue());
+        } else {
+            argObjects[slot] = value;
+            argNumbers[slot] = 0L;
+        }
+    }
+    
+    private String resolve(int argCount) {
+        for (int entry = 0; entry < CACHE_SIZE; entry++) {
+            if (matches(entry, argCount)) {
+                return cacheResults[entry];
+            }
+        }
+        
+        String result = build(argCount);
+        
+        int entry = cacheNext;
+        cacheNext = (cacheNext + 1) % CACHE_SIZE;
+        cacheArgCount[entry] = argCount;
+        cacheResults[entry] = result;
+        for (int i = 0; i < argCount; i++) {
+            cacheObjects[entry][i] = argObjects[i];
+            cacheNumbers[entry][i] = argNumbers[i];
+        }
+        return result;
+    }
+    
+    private boolean matches(int entry, int argCount) {
+        if (cacheArgCount[entry] != argCount) return false;
+        
+        for (int i = 0; i < argCount; i++) {
+            Object cached = cacheObjects[entry][i];
+            Object current = argObjects[i];
+            if (current == INT_ARG) {
+                if (cached != INT_ARG || cacheNumbers[entry][i] != argNumbers[i]) return false;
+            } else if (current == null ? cached != null : !current.equals(cached)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Concatena literales y los argumentos de la llamada actual
+     */
+    private String build(int argCount) {
+        builder.setLength(0);
+        
+        for (int i = 0; i < argIndex.length; i++) {
+            builder.append(literals[i]);
+            
+            int index = argIndex[i];
+            if (index >= argCount) {
+                builder.append('{').append(index).append('}');
+            } else if (argObjects[index] == INT_ARG) {
+                builder.append(numberFormat.format(argNumbers[index]));
+            } else {
+                appendObject(argObjects[index]);
+            }
+        }
+        builder.append(literals[literals.length - 1]);
+        
+        return builder.toString();
+    }
+    
+    /**
+     * Formato sin caché (más de MAX_ARGS argumentos)
+     */
+    private String buildUncached(Object[] args) {
+        builder.setLength(0);
+        
+        for (int i = 0; i < argIndex.length; i++) {
+            builder.append(literals[i]);
+            
+            int index = argIndex[i];
+            if (index >= args.length) {
+                builder.append('{').append(index).append('}');
+            } else {
+                appendObject(args[index]);
+            }
+        }
+        builder.append(literals[literals.length - 1]);
+        
+        return builder.toString();
+    }
+    
+    private void appendObject(Object value) {
+        if (value instanceof Number) {
+            builder.append(numberFormat.format(value));
+        } else {
+            builder.append(value);
+        }
+    }
+}
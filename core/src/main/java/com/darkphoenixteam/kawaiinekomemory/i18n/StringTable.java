@@ -0,0 +1,115 @@
+package com.darkphoenixteam.kawaiinekomemory.i18n;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.PropertiesUtils;
+import java.io.IOException;
+import java.io.Reader;
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * Textos de un idioma en un String[] denso indexado por StringId
+ * 
+ * - get(id) es un acceso a array: sin hash de String ni try/catch
+ * - Las claves que faltan en la traducción toman el texto inglés
+ *   (igual que el fallback al bundle padre de I18NBundle)
+ * - Los MessageTemplate se crean al primer format() de cada id
+ * 
+ * load() no toca GL: se puede preparar fuera del hilo de render.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public final class StringTable {
+    
+    private static final String BASE_NAME = "strings";
+    private static final String BASE_LANGUAGE = "en";
+    
+    private final String languageCode;
+    private final String[] strings;
+    private final MessageTemplate[] templates;
+    private final NumberFormat numberFormat;
+    private final int untranslatedCount;
+    
+    private StringTable(String languageCode, String[] strings, int untranslatedCount) {
+        this.languageCode = languageCode;
+        this.strings = strings;
+        this.templates = new MessageTemplate[strings.length];
+        this.numberFormat = NumberFormat.getInstance(new Locale(languageCode));
+        this.untranslatedCount = untranslatedCount;
+    }
+    
+    /**
+     * Lee strings.properties (inglés) y, encima, strings_[code].properties
+     * @param directory carpeta con los .properties (p. ej. Gdx.files.internal("i18n"))
+     */
+    public static StringTable load(FileHandle directory, String languageCode) throws IOException {
+        ObjectMap<String, String> values = new ObjectMap<>(StringId.COUNT);
+        readProperties(directory.child(BASE_NAME + ".properties"), values);
+        
+        int untranslated = 0;
+        if (!BASE_LANGUAGE.equals(languageCode)) {
+            ObjectMap<String, String> translated = new ObjectMap<>(StringId.COUNT);
+            readProperties(directory.child(BASE_NAME + "_" + languageCode + ".properties"), translated);
+            
+            for (int id = 0; id < StringId.COUNT; id++) {
+                String key = StringId.key(id);
+                String value = translated.get(key);
+                if (value != null) {
+                    values.put(key, value);
+                } else {
+                    untranslated++;
+                }
+            }
+        }
+        
+        String[] strings = new String[StringId.COUNT];
+        for (int id = 0; id < StringId.COUNT; id++) {
+            String key = StringId.key(id);
+            strings[id] = values.get(key, "[" + key + "]");
+        }
+        
+        return new StringTable(languageCode, strings, untranslated);
+    }
+    
+    private static void readProperties(FileHandle file, ObjectMap<String, String> into) throws IOException {
+        Reader reader = file.reader("UTF-8");
+        try {
+            PropertiesUtils.load(into, reader);
+        } finally {
+            reader.close();
+        }
+    }
+    
+    // ==================== ACCESO ====================
+    
+    public String get(int id) {
+        return strings[id];
+    }
+    
+    /**
+     * Plantilla pre-parseada del id (se crea en el primer uso)
+     */
+    public MessageTemplate template(int id) {
+        MessageTemplate template = templates[id];
+        if (template == null) {
+            template = new MessageTemplate(strings[id], numberFormat);
+            templates[id] = template;
+        }
+        return template;
+    }
+    
+    public String getLanguageCode() {
+        return languageCode;
+    }
+    
+    /** Claves que no están traducidas (se muestran en inglés) */
+    public int getUntranslatedCount() {
+        return untranslatedCount;
+    }
+    
+    public int size() {
+        return strings.length;
+    }
+}
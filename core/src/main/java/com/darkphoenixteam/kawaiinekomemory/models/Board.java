@@ -0,0 +1,614 @@
+package com.darkphoenixteam.kawaiinekomemory.models;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.systems.BackgroundWorker;
+import com.darkphoenixteam.kawaiinekomemory.systems.TweenEngine;
+
+/**
+ * Tablero de cartas reutilizable entre grids y reinicios
+ * 
+ * - Las cartas salen de un Pool<Card> y vuelven a él en cada reparto
+ * - El layout (posición de cada slot) se calcula una sola vez
+ * - Los datos de cada par (textura, deck, índice, valor) se registran
+ *   una vez con setPair(); deal() solo baraja y reasigna
+ * 
+ * Tras el primer reparto, deal() y shuffleUnmatched() no crean objetos.
+ * 
+ * Siguiente grid en segundo plano:
+ * - Cola acotada de layouts barajados (GRID_LAYOUT_QUEUE_SIZE) que el
+ *   BackgroundWorker rellena cada vez que se consume uno
+ * - prepareNext(): pide el próximo grid y mantiene la cola llena
+ * - pumpNext(n): en el hilo GL, toma un layout e inicializa n cartas por frame
+ * - swapToNext(): intercambia los buffers de cartas en O(1)
+ * Todos los layouts usan los pares de setPair(): sus texturas ya están
+ * residentes, un grid nunca espera a una carga.
+ * 
+ * Las cartas se animan con el TweenEngine de la pantalla dueña.
+ * 
+ * Tableros grandes (Marathon):
+ * - Layout con ancho de carta fijo: el tablero puede ser mayor que la pantalla
+ * - slotCards indexa las cartas por celda: findClickableAt() es O(1)
+ * - draw() con rectángulo visible solo recorre las celdas en pantalla
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.4 - Cola de layouts para grids continuos
+ */
+public class Board {
+    
+    private static final float CARD_RATIO = 1.4f;
+    
+    // === DIMENSIONES ===
+    private final int cols;
+    private final int rows;
+    private final int pairs;
+    
+    // === LAYOUT (slots precalculados) ===
+    private final float[] slotX;
+    private final float[] slotY;
+    private float boardX, boardY;
+    private float boardWidth, boardHeight;
+    private float cardWidth, cardHeight;
+    private float gridStartX, gridStartY;   // Esquina inferior izquierda de la celda (0, rows-1)
+    private float pitchX, pitchY;           // Carta + margen
+    private final Card[] slotCards;         // Carta actual en cada celda
+    
+    // === DATOS POR PAR ===
+    private final TextureRegion[] pairFront;
+    private final int[] pairDeck;
+    private final int[] pairCardIndex;
+    private final int[] pairValue;
+    private TextureRegion backTexture;
+    
+    // === CARTAS ===
+    private final Pool<Card> cardPool;
+    private Array<Card> cards;
+    private final IntArray dealOrder;
+    
+    // === COLA DE LAYOUTS (productor: worker, consumidor: hilo GL) ===
+    private final int[][] layoutQueue;         // Ring buffer; también es el lock
+    private int queueHead;
+    private int queueCount;
+    private final RandomXS128 workerRandom;    // MathUtils.random no es thread-safe
+    private final AsyncTask<Void> producerTask;
+    private AsyncResult<Void> pendingProduce;
+    
+    // === SIGUIENTE GRID (doble buffer de cartas) ===
+    private Array<Card> nextCards;
+    private final IntArray nextOrder;          // Layout tomado de la cola
+    private boolean nextRequested;
+    private boolean nextTaken;
+    private int nextBuilt;
+    
+    // === MÉTRICAS DEL ÚLTIMO SWAP ===
+    private long lastSwapNanos;
+    private boolean lastSwapStalled;
+    
+    // === BUFFERS DE SHUFFLE ===
+    private final Array<Card> shuffleCards;
+    private final float[] shuffleX;
+    private final float[] shuffleY;
+    private final int[] shuffleSlot;
+    
+    /**
+     * Tablero que ocupa el área de juego de la pantalla
+     */
+    public Board(int cols, int rows, int pairs, TweenEngine tweens) {
+        this(cols, rows, pairs, tweens, 0f);
+    }
+    
+    /**
+     * @param fixedCardWidth ancho de carta fijo (el tablero puede exceder la pantalla);
+     *                       0 para ajustar al área de juego
+     */
+    public Board(int cols, int rows, int pairs, TweenEngine tweens, float fixedCardWidth) {
+        this.cols = cols;
+        this.rows = rows;
+        this.pairs = pairs;
+        
+        int capacity = pairs * 2;
+        
+        this.slotX = new float[cols * rows];
+        this.slotY = new float[cols * rows];
+        this.slotCards = new Card[cols * rows];
+        
+        this.pairFront = new TextureRegion[pairs];
+        this.pairDeck = new int[pairs];
+        this.pairCardIndex = new int[pairs];
+        this.pairValue = new int[pairs];
+        
+        // Grid actual + grid en espera
+        this.cardPool = new Pool<Card>(capacity * 2, capacity * 2) {
+            @Override
+            protected Card newObject() {
+                return new Card(tweens);
+            }
+        };
+        this.cards = new Array<>(true, capacity, Card.class);
+        this.dealOrder = new IntArray(capacity);
+        
+        this.layoutQueue = new int[Constants.GRID_LAYOUT_QUEUE_SIZE][Math.min(capacity, cols * rows)];
+        this.workerRandom = new RandomXS128();
+        this.producerTask = () -> {
+            while (produceLayout()) {
+                // Rellena hasta que la cola esté llena
+            }
+            return null;
+        };
+        
+        this.nextCards = new Array<>(true, capacity, Card.class);
+        this.nextOrder = new IntArray(capacity);
+        
+        this.shuffleCards = new Array<>(false, capacity, Card.class);
+        this.shuffleX = new float[capacity];
+        this.shuffleY = new float[capacity];
+        this.shuffleSlot = new int[capacity];
+        
+        if (fixedCardWidth > 0f) {
+            computeFixedLayout(fixedCardWidth);
+        } else {
+            computeLayout();
+        }
+    }
+    
+    // ==================== LAYOUT ====================
+    
+    private void computeLayout() {
+        float hudHeight = Constants.HUD_HEIGHT;
+        float padding = Constants.GRID_PADDING;
+        float margin = Constants.CARD_MARGIN_PERCENT;
+        
+        boardWidth = Constants.VIRTUAL_WIDTH - (padding * 2);
+        boardHeight = Constants.VIRTUAL_HEIGHT - hudHeight - (padding * 2);
+        boardX = padding;
+        boardY = padding;
+        
+        float totalMarginX = boardWidth * margin * (cols + 1);
+        float totalMarginY = boardHeight * margin * (rows + 1);
+        
+        cardWidth = (boardWidth - totalMarginX) / cols;
+        cardHeight = (boardHeight - totalMarginY) / rows;
+        
+        if (cardHeight > cardWidth * CARD_RATIO) {
+            cardHeight = cardWidth * CARD_RATIO;
+        } else {
+            cardWidth = cardHeight / CARD_RATIO;
+        }
+        
+        float actualMarginX = (boardWidth - (cardWidth * cols)) / (cols + 1);
+        float actualMarginY = (boardHeight - (cardHeight * rows)) / (rows + 1);
+        
+        placeSlots(boardX + actualMarginX, boardY + actualMarginY, actualMarginX, actualMarginY);
+    }
+    
+    /**
+     * Layout con celdas de tamaño fijo, origen en (0, 0).
+     * Las dimensiones se calculan una sola vez aquí.
+     */
+    private void computeFixedLayout(float fixedCardWidth) {
+        cardWidth = fixedCardWidth;
+        cardHeight = fixedCardWidth * CARD_RATIO;
+        
+        float margin = cardWidth * Constants.CARD_MARGIN_PERCENT * 2f;
+        
+        boardX = 0f;
+        boardY = 0f;
+        boardWidth = cols * cardWidth + (cols + 1) * margin;
+        boardHeight = rows * cardHeight + (rows + 1) * margin;
+        
+        placeSlots(margin, margin, margin, margin);
+    }
+    
+    private void placeSlots(float startX, float startY, float actualMarginX, float actualMarginY) {
+        gridStartX = startX;
+        gridStartY = startY;
+        pitchX = cardWidth + actualMarginX;
+        pitchY = cardHeight + actualMarginY;
+        
+        int slot = 0;
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                slotX[slot] = startX + col * (cardWidth + actualMarginX);
+                slotY[slot] = startY + (rows - 1 - row) * (cardHeight + actualMarginY);
+                slot++;
+            }
+        }
+    }
+    
+    // ==================== DATOS DE PARES ====================
+    
+    /**
+     * Registra los datos de un par. Llamar una vez al cargar las texturas.
+     */
+    public void setPair(int pairId, Texture front, int deckIndex, int cardIndex, int nekoinValue) {
+        setPair(pairId, front != null ? new TextureRegion(front) : null,
+                deckIndex, cardIndex, nekoinValue);
+    }
+    
+    /**
+     * Variante con región (p. ej. de un atlas compartido por todo el tablero)
+     */
+    public void setPair(int pairId, TextureRegion front, int deckIndex, int cardIndex, int nekoinValue) {
+        pairFront[pairId] = front;
+        pairDeck[pairId] = deckIndex;
+        pairCardIndex[pairId] = cardIndex;
+        pairValue[pairId] = nekoinValue;
+    }
+    
+    public void setBackTexture(Texture backTexture) {
+        this.backTexture = backTexture != null ? new TextureRegion(backTexture) : null;
+    }
+    
+    public void setBackRegion(TextureRegion backRegion) {
+        this.backTexture = backRegion;
+    }
+    
+    // ==================== REPARTO ====================
+    
+    /**
+     * Devuelve las cartas al pool y reparte un grid nuevo barajado
+     */
+    public void deal() {
+        cancelNext();
+        
+        cardPool.freeAll(cards);
+        cards.clear();
+        
+        // Reinicios: si hay un layout en cola se usa, si no se baraja aquí
+        if (!pollLayout(dealOrder)) {
+            shuffleLocal(dealOrder);
+        }
+        
+        int count = Math.min(dealOrder.size, slotX.length);
+        for (int slot = 0; slot < count; slot++) {
+            cards.add(buildCard(dealOrder.get(slot), slot));
+        }
+        rebuildSlotIndex();
+    }
+    
+    // ==================== SIGUIENTE GRID ====================
+    
+    /**
+     * Pide el próximo grid y asegura que el worker rellene la cola.
+     * Llamar mientras se juega el grid actual.
+     */
+    public void prepareNext() {
+        if (!nextRequested) {
+            // Cartas del grid anterior al último swap
+            releaseNext();
+            nextRequested = true;
+        }
+        refillQueue();
+    }
+    
+    /**
+     * Slice por frame en el hilo GL: toma un layout de la cola e
+     * inicializa hasta maxCards cartas en espera
+     */
+    public void pumpNext(int maxCards) {
+        if (!nextRequested) return;
+        
+        if (!nextTaken) {
+            if (!pollLayout(nextOrder)) {
+                refillQueue();
+                return;
+            }
+            nextTaken = true;
+            refillQueue();
+        }
+        
+        int count = Math.min(nextOrder.size, slotX.length);
+        int end = nextBuilt + Math.min(maxCards, count - nextBuilt);
+        for (; nextBuilt < end; nextBuilt++) {
+            nextCards.add(buildCard(nextOrder.get(nextBuilt), nextBuilt));
+        }
+    }
+    
+    public boolean isNextReady() {
+        return nextTaken && nextBuilt >= Math.min(nextOrder.size, slotX.length);
+    }
+    
+    /**
+     * Activa el grid preparado. Si no se pidió preparación, reparte en el acto.
+     * Con la cola vacía no espera al worker (puede estar ocupado con otras
+     * tareas): baraja el layout aquí. Queda registrado en wasLastSwapStalled().
+     */
+    public void swapToNext() {
+        if (!nextRequested) {
+            deal();
+            return;
+        }
+        
+        long start = System.nanoTime();
+        lastSwapStalled = !isNextReady();
+        
+        if (!nextTaken && !pollLayout(nextOrder)) {
+            shuffleLocal(nextOrder);
+        }
+        nextTaken = true;
+        pumpNext(Integer.MAX_VALUE);
+        
+        // Pointer flip: las cartas viejas vuelven al pool en el próximo prepareNext/deal
+        Array<Card> old = cards;
+        cards = nextCards;
+        nextCards = old;
+        rebuildSlotIndex();
+        
+        nextRequested = false;
+        nextTaken = false;
+        nextBuilt = 0;
+        refillQueue();
+        
+        lastSwapNanos = System.nanoTime() - start;
+    }
+    
+    /**
+     * Descarta el grid en espera (reinicio o reparto directo).
+     * Los layouts en cola siguen siendo válidos y se conservan.
+     */
+    private void cancelNext() {
+        nextRequested = false;
+        nextTaken = false;
+        nextBuilt = 0;
+        releaseNext();
+    }
+    
+    private void releaseNext() {
+        cardPool.freeAll(nextCards);
+        nextCards.clear();
+    }
+    
+    // ==================== COLA DE LAYOUTS ====================
+    
+    /**
+     * Lanza el productor si la cola no está llena y no hay uno en curso
+     */
+    private void refillQueue() {
+        if (pendingProduce != null) {
+            if (!pendingProduce.isDone()) return;
+            pendingProduce.get();
+            pendingProduce = null;
+        }
+        synchronized (layoutQueue) {
+            if (queueCount == layoutQueue.length) return;
+        }
+        pendingProduce = BackgroundWorker.getInstance().submit(producerTask);
+    }
+    
+    /**
+     * Corre en el worker: baraja en el primer slot libre y lo publica.
+     * El slot libre no es visible para el consumidor hasta queueCount++.
+     * @return false si la cola ya estaba llena
+     */
+    private boolean produceLayout() {
+        int[] layout;
+        synchronized (layoutQueue) {
+            if (queueCount == layoutQueue.length) return false;
+            layout = layoutQueue[(queueHead + queueCount) % layoutQueue.length];
+        }
+        
+        for (int i = 0; i < layout.length; i++) {
+            layout[i] = i / 2;
+        }
+        for (int i = layout.length - 1; i > 0; i--) {
+            int j = workerRandom.nextInt(i + 1);
+            int temp = layout[i];
+            layout[i] = layout[j];
+            layout[j] = temp;
+        }
+        
+        synchronized (layoutQueue) {
+            queueCount++;
+        }
+        return true;
+    }
+    
+    /**
+     * Copia el layout más antiguo en target y libera su slot
+     * @return false si la cola está vacía
+     */
+    private boolean pollLayout(IntArray target) {
+        synchronized (layoutQueue) {
+            if (queueCount == 0) return false;
+            
+            int[] layout = layoutQueue[queueHead];
+            target.clear();
+            target.addAll(layout, 0, layout.length);
+            queueHead = (queueHead + 1) % layoutQueue.length;
+            queueCount--;
+            return true;
+        }
+    }
+    
+    /**
+     * Layout barajado en el hilo GL (cola vacía)
+     */
+    private void shuffleLocal(IntArray target) {
+        target.clear();
+        for (int i = 0; i < pairs; i++) {
+            target.add(i);
+            target.add(i);
+        }
+        target.shuffle();
+    }
+    
+    private Card buildCard(int pairId, int slot) {
+        Card card = cardPool.obtain();
+        card.init(pairId, pairFront[pairId], backTexture,
+                  slotX[slot], slotY[slot], cardWidth, cardHeight);
+        card.setDeckIndex(pairDeck[pairId]);
+        card.setCardIndex(pairCardIndex[pairId]);
+        card.setNekoinValue(pairValue[pairId]);
+        card.setSlot(slot);
+        return card;
+    }
+    
+    private void rebuildSlotIndex() {
+        for (int i = 0; i < slotCards.length; i++) {
+            slotCards[i] = null;
+        }
+        for (int i = 0; i < cards.size; i++) {
+            Card card = cards.get(i);
+            slotCards[card.getSlot()] = card;
+        }
+    }
+    
+    // ==================== SHUFFLE EN JUEGO ====================
+    
+    /**
+     * Intercambia aleatoriamente las posiciones de las cartas no emparejadas.
+     * Las cartas se deslizan a su nuevo slot durante SHUFFLE_DURATION.
+     */
+    public void shuffleUnmatched() {
+        shuffleCards.clear();
+        for (int i = 0; i < cards.size; i++) {
+            Card card = cards.get(i);
+            if (!card.isMatched()) {
+                shuffleX[shuffleCards.size] = card.getX();
+                shuffleY[shuffleCards.size] = card.getY();
+                shuffleSlot[shuffleCards.size] = card.getSlot();
+                shuffleCards.add(card);
+            }
+        }
+        
+        for (int i = shuffleCards.size - 1; i > 0; i--) {
+            int j = MathUtils.random(i);
+            float tempX = shuffleX[i];
+            shuffleX[i] = shuffleX[j];
+            shuffleX[j] = tempX;
+            float tempY = shuffleY[i];
+            shuffleY[i] = shuffleY[j];
+            shuffleY[j] = tempY;
+            int tempSlot = shuffleSlot[i];
+            shuffleSlot[i] = shuffleSlot[j];
+            shuffleSlot[j] = tempSlot;
+        }
+        
+        for (int i = 0; i < shuffleCards.size; i++) {
+            Card card = shuffleCards.get(i);
+            card.setSlot(shuffleSlot[i]);
+            card.slideTo(shuffleX[i], shuffleY[i], Constants.SHUFFLE_DURATION);
+        }
+        shuffleCards.clear();
+        rebuildSlotIndex();
+    }
+    
+    // ==================== CICLO ====================
+    
+    public void update(float delta) {
+        for (int i = 0; i < cards.size; i++) {
+            cards.get(i).update(delta);
+        }
+    }
+    
+    public void draw(SpriteBatch batch, float alpha) {
+        for (int i = 0; i < cards.size; i++) {
+            cards.get(i).draw(batch, alpha);
+        }
+    }
+    
+    /**
+     * Dibuja solo las celdas que intersectan el rectángulo visible (coordenadas
+     * del tablero). Pensado para tableros sin shuffle en curso: una carta
+     * deslizándose se dibuja según su celda de destino.
+     */
+    public void draw(SpriteBatch batch, float alpha,
+                     float minX, float minY, float maxX, float maxY) {
+        int colStart = Math.max(0, (int) Math.floor((minX - gridStartX) / pitchX));
+        int colEnd = Math.min(cols - 1, (int) Math.floor((maxX - gridStartX) / pitchX));
+        int bottomRow = Math.max(0, (int) Math.floor((minY - gridStartY) / pitchY));
+        int topRow = Math.min(rows - 1, (int) Math.floor((maxY - gridStartY) / pitchY));
+        
+        // Las filas del layout crecen hacia abajo
+        int rowStart = rows - 1 - topRow;
+        int rowEnd = rows - 1 - bottomRow;
+        
+        for (int row = rowStart; row <= rowEnd; row++) {
+            int base = row * cols;
+            for (int col = colStart; col <= colEnd; col++) {
+                Card card = slotCards[base + col];
+                if (card != null) {
+                    card.draw(batch, alpha);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Entrada del grid: cada carta parte desplazada offsetX y se desliza a su
+     * slot. Los bounds ya están en el destino: se puede tocar durante la entrada.
+     */
+    public void slideIn(float offsetX, float duration) {
+        for (int i = 0; i < cards.size; i++) {
+            Card card = cards.get(i);
+            float targetX = card.getX();
+            float targetY = card.getY();
+            card.setPosition(targetX + offsetX, targetY);
+            card.slideTo(targetX, targetY, duration);
+        }
+    }
+    
+    /**
+     * true mientras alguna carta siga deslizándose tras un shuffle
+     */
+    public boolean isSliding() {
+        for (int i = 0; i < cards.size; i++) {
+            if (cards.get(i).isSliding()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Carta clickeable bajo el punto, o null
+     */
+    public Card findClickableAt(float x, float y) {
+        if (x < gridStartX || y < gridStartY) return null;
+        
+        int col = (int) ((x - gridStartX) / pitchX);
+        int row = rows - 1 - (int) ((y - gridStartY) / pitchY);
+        if (col >= cols || row < 0) return null;
+        
+        Card card = slotCards[row * cols + col];
+        if (card != null && card.contains(x, y) && card.canBeClicked()) {
+            return card;
+        }
+        return null;
+    }
+    
+    // ==================== GETTERS ====================
+    
+    /**
+     * Cartas del grid actual. La referencia cambia tras swapToNext().
+     */
+    public Array<Card> getCards() { return cards; }
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+    public int getPairs() { return pairs; }
+    public float getBoardX() { return boardX; }
+    public float getBoardY() { return boardY; }
+    public float getBoardWidth() { return boardWidth; }
+    public float getBoardHeight() { return boardHeight; }
+    public float getCardWidth() { return cardWidth; }
+    public float getCardHeight() { return cardHeight; }
+    
+    /**
+     * Duración del último swapToNext() (incluye construir cartas pendientes)
+     */
+    public long getLastSwapNanos() { return lastSwapNanos; }
+    
+    /**
+     * true si el último swap no tenía el grid listo y tuvo que completarlo en el acto
+     */
+    public boolean wasLastSwapStalled() { return lastSwapStalled; }
+}
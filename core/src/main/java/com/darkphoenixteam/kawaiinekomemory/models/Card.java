@@ -1,18 +1,37 @@
 package com.darkphoenixteam.kawaiinekomemory.models;
 
 import com.badlogic.gdx.graphics.Color;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
+import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.systems.TweenEngine;
 
 /**
  * Representa una carta individual en el tablero
  * Maneja estados, animación de volteo y renderizado
+ * Reutilizable vía Pool (ver Board): init() reasigna identidad y posición
+ * 
+ * Las animaciones (flip, fade de match, shake y deslizamiento) corren en
+ * el TweenEngine de la pantalla; update() solo guarda el estado del tick
+ * anterior para interpolar en draw(). Sin TweenEngine, saltan al valor final.
+ * 
+ * Dibuja TextureRegions: pueden venir de texturas sueltas o de un atlas
+ * (una sola textura para todo el tablero = un solo draw call).
  * 
  * @author DarkphoenixTeam
  */
-public class Card {
+public class Card implements Pool.Poolable, TweenEngine.Target {
+    
+    // === CANALES DE TWEEN ===
+    private static final int TWEEN_FLIP = 0;
+    private static final int TWEEN_MATCH_FADE = 1;
+    private static final int TWEEN_SHAKE = 2;
+    private static final int TWEEN_SLIDE_X = 3;
+    private static final int TWEEN_SLIDE_Y = 4;
     
     /**
      * Estados posibles de la carta
@@ -35,27 +54,37 @@ public class Card {
     private State state;
     private boolean isClickable;
     
+    // === SLOT EN EL TABLERO (hit-test O(1), ver Board) ===
+    private int slot = -1;
+    
     // === POSICIÓN Y DIMENSIONES ===
-    private float x, y;
+    private float x, y;                 // Posición lógica (bounds)
+    private float drawX, drawY;         // Posición dibujada (deslizamiento)
+    private float prevDrawX, prevDrawY;
     private float width, height;
     private Rectangle bounds;
     
     // === TEXTURAS ===
-    private Texture frontTexture;
-    private Texture backTexture;
+    private TextureRegion frontTexture;
+    private TextureRegion backTexture;
     private boolean texturesOwned;  // true si esta carta debe disponer las texturas
     
     // === ANIMACIÓN DE FLIP ===
     private float flipProgress;     // 0.0 a 1.0
+    private float prevFlipProgress; // Valor del tick anterior (interpolación)
     private float flipDuration;     // Segundos para voltear
-    private static final float DEFAULT_FLIP_DURATION = 0.3f;
+    private static final float DEFAULT_FLIP_DURATION = Constants.CARD_FLIP_TIME;
     
     // === EFECTOS VISUALES ===
-    private float shakeTimer;       // Para efecto de "hint"
+    private float shakeTimer;       // Para efecto de "hint" (tween hacia 0)
     private float shakeIntensity;
     private float matchAlpha;       // Para fade out al hacer match
+    private float prevMatchAlpha;
     private boolean isShaking;
     
+    // === ANIMACIÓN ===
+    private TweenEngine tweens;
+    
     // === COLORES ===
     private static final Color COLOR_NORMAL = new Color(1f, 1f, 1f, 1f);
     private static final Color COLOR_MATCHED = new Color(1f, 1f, 1f, 0.3f);
@@ -65,79 +94,109 @@ public class Card {
      * Constructor principal
      * 
      * @param cardId ID único para matching
-     * @param frontTexture Textura del frente (imagen del personaje)
-     * @param backTexture Textura del reverso (compartida)
+     * @param frontTexture Región del frente (imagen del personaje)
+     * @param backTexture Región del reverso (compartida)
      * @param x Posición X
      * @param y Posición Y
      * @param width Ancho de la carta
      * @param height Alto de la carta
      */
-    public Card(int cardId, Texture frontTexture, Texture backTexture, 
+    public Card(int cardId, TextureRegion frontTexture, TextureRegion backTexture, 
                 float x, float y, float width, float height) {
+        this.bounds = new Rectangle();
+        this.flipDuration = DEFAULT_FLIP_DURATION;
+        this.shakeIntensity = 5f;
+        init(cardId, frontTexture, backTexture, x, y, width, height);
+    }
+    
+    /**
+     * Constructor para Pool: la carta se configura después con init()
+     */
+    Card(TweenEngine tweens) {
+        this(-1, null, null, 0f, 0f, 0f, 0f);
+        this.tweens = tweens;
+    }
+    
+    /**
+     * (Re)inicializa la carta sin crear objetos nuevos
+     */
+    public void init(int cardId, TextureRegion frontTexture, TextureRegion backTexture,
+                     float x, float y, float width, float height) {
         this.cardId = cardId;
         this.frontTexture = frontTexture;
         this.backTexture = backTexture;
-        this.x = x;
-        this.y = y;
         this.width = width;
         this.height = height;
-        this.bounds = new Rectangle(x, y, width, height);
-        
-        // Estado inicial
-        this.state = State.HIDDEN;
-        this.isClickable = true;
-        
-        // Animación
-        this.flipProgress = 0f;
-        this.flipDuration = DEFAULT_FLIP_DURATION;
-        
-        // Efectos
-        this.shakeTimer = 0f;
-        this.shakeIntensity = 5f;
-        this.matchAlpha = 1f;
-        this.isShaking = false;
+        this.bounds.set(x, y, width, height);
+        setPosition(x, y);
         
         // Por defecto, valor base
+        this.deckIndex = 0;
+        this.cardIndex = 0;
         this.nekoinValue = 1;
         this.texturesOwned = false;
+        
+        // Estado inicial, animación y efectos
+        reset();
     }
     
     // ==================== ACTUALIZACIÓN ====================
     
     /**
-     * Actualiza la animación de la carta
-     * @param delta Tiempo desde el último frame
+     * Guarda el estado del tick anterior para la interpolación.
+     * Llamar a paso fijo ANTES de TweenEngine.update() (ver BaseScreen).
+     * @param delta Duración del tick
      */
     public void update(float delta) {
-        // Actualizar animación de flip
-        if (state == State.FLIPPING_TO_FRONT || state == State.FLIPPING_TO_BACK) {
-            flipProgress += delta / flipDuration;
-            
-            if (flipProgress >= 1f) {
-                flipProgress = 0f;
-                
-                if (state == State.FLIPPING_TO_FRONT) {
-                    state = State.REVEALED;
-                } else {
-                    state = State.HIDDEN;
-                    isClickable = true;
-                }
-            }
+        prevFlipProgress = flipProgress;
+        prevMatchAlpha = matchAlpha;
+        prevDrawX = drawX;
+        prevDrawY = drawY;
+    }
+    
+    // ==================== TWEENS ====================
+    
+    @Override
+    public void onTweenUpdate(int channel, float value) {
+        switch (channel) {
+            case TWEEN_FLIP: flipProgress = value; break;
+            case TWEEN_MATCH_FADE: matchAlpha = value; break;
+            case TWEEN_SHAKE: shakeTimer = value; break;
+            case TWEEN_SLIDE_X: drawX = value; break;
+            case TWEEN_SLIDE_Y: drawY = value; break;
+            default: break;
         }
-        
-        // Actualizar shake (para hint)
-        if (isShaking) {
-            shakeTimer -= delta;
-            if (shakeTimer <= 0) {
-                isShaking = false;
-                shakeTimer = 0f;
+    }
+    
+    @Override
+    public void onTweenComplete(int channel) {
+        if (channel == TWEEN_FLIP) {
+            flipProgress = 0f;
+            prevFlipProgress = 0f;
+            
+            if (state == State.FLIPPING_TO_FRONT) {
+                state = State.REVEALED;
+            } else if (state == State.FLIPPING_TO_BACK) {
+                state = State.HIDDEN;
+                isClickable = true;
             }
+        } else if (channel == TWEEN_SHAKE) {
+            isShaking = false;
+            shakeTimer = 0f;
+        } else if (channel == TWEEN_SLIDE_X) {
+            drawX = x;
+        } else if (channel == TWEEN_SLIDE_Y) {
+            drawY = y;
         }
-        
-        // Actualizar fade out de cartas matched
-        if (state == State.MATCHED && matchAlpha > 0.3f) {
-            matchAlpha -= delta * 2f;  // Fade en 0.35 segundos
-            if (matchAlpha < 0.3f) matchAlpha = 0.3f;
+    }
+    
+    private void startTween(int channel, float from, float to, float duration,
+                            Interpolation interpolation) {
+        if (tweens != null) {
+            tweens.start(this, channel, from, to, duration, interpolation);
+        } else {
+            onTweenUpdate(channel, to);
+            onTweenComplete(channel);
         }
     }
     
@@ -147,7 +206,20 @@ public class Card {
      * Dibuja la carta en su estado actual
      */
     public void draw(SpriteBatch batch) {
-        if (state == State.MATCHED && matchAlpha <= 0.05f) {
+        draw(batch, 1f);
+    }
+    
+    /**
+     * Dibuja la carta interpolando entre el tick anterior y el actual
+     * @param alpha Fracción del tick transcurrida (BaseScreen.getRenderAlpha)
+     */
+    public void draw(SpriteBatch batch, float alpha) {
+        float progress = MathUtils.lerp(prevFlipProgress, flipProgress, alpha);
+        float fade = MathUtils.lerp(prevMatchAlpha, matchAlpha, alpha);
+        float baseX = MathUtils.lerp(prevDrawX, drawX, alpha);
+        float baseY = MathUtils.lerp(prevDrawY, drawY, alpha);
+        
+        if (state == State.MATCHED && fade <= 0.05f) {
             return;  // No dibujar si está casi invisible
         }
         
@@ -159,29 +231,29 @@ public class Card {
         
         // Calcular escala horizontal para efecto de flip
         float scaleX = 1f;
-        Texture textureToDraw = backTexture;
+        TextureRegion textureToDraw = backTexture;
         
         if (state == State.FLIPPING_TO_FRONT) {
             // Primera mitad: se ve el reverso encogiendo
-            if (flipProgress < 0.5f) {
-                scaleX = 1f - (flipProgress * 2f);
+            if (progress < 0.5f) {
+                scaleX = 1f - (progress * 2f);
                 textureToDraw = backTexture;
             } 
             // Segunda mitad: se ve el frente expandiendo
             else {
-                scaleX = (flipProgress - 0.5f) * 2f;
+                scaleX = (progress - 0.5f) * 2f;
                 textureToDraw = frontTexture;
             }
         } 
         else if (state == State.FLIPPING_TO_BACK) {
             // Primera mitad: se ve el frente encogiendo
-            if (flipProgress < 0.5f) {
-                scaleX = 1f - (flipProgress * 2f);
+            if (progress < 0.5f) {
+                scaleX = 1f - (progress * 2f);
                 textureToDraw = frontTexture;
             } 
             // Segunda mitad: se ve el reverso expandiendo
             else {
-                scaleX = (flipProgress - 0.5f) * 2f;
+                scaleX = (progress - 0.5f) * 2f;
                 textureToDraw = backTexture;
             }
         }
@@ -193,24 +265,24 @@ public class Card {
         }
         
         // Aplicar alpha si está matched
-        Color oldColor = batch.getColor().cpy();
+        float oldColor = batch.getPackedColor();
         if (state == State.MATCHED) {
-            batch.setColor(1f, 1f, 1f, matchAlpha);
+            batch.setColor(1f, 1f, 1f, fade);
         } else if (isShaking) {
             batch.setColor(COLOR_HINT);
         }
         
         // Calcular posición centrada con escala
         float drawWidth = width * Math.abs(scaleX);
-        float drawX = x + offsetX + (width - drawWidth) / 2f;
+        float left = baseX + offsetX + (width - drawWidth) / 2f;
         
         // Dibujar
         if (textureToDraw != null) {
-            batch.draw(textureToDraw, drawX, y, drawWidth, height);
+            batch.draw(textureToDraw, left, baseY, drawWidth, height);
         }
         
         // Restaurar color
-        batch.setColor(oldColor);
+        batch.setPackedColor(oldColor);
     }
     
     // ==================== ACCIONES ====================
@@ -226,7 +298,9 @@ public class Card {
         
         state = State.FLIPPING_TO_FRONT;
         flipProgress = 0f;
+        prevFlipProgress = 0f;
         isClickable = false;
+        startTween(TWEEN_FLIP, 0f, 1f, flipDuration, Interpolation.linear);
         return true;
     }
     
@@ -237,6 +311,8 @@ public class Card {
         if (state == State.REVEALED) {
             state = State.FLIPPING_TO_BACK;
             flipProgress = 0f;
+            prevFlipProgress = 0f;
+            startTween(TWEEN_FLIP, 0f, 1f, flipDuration, Interpolation.linear);
         }
     }
     
@@ -246,6 +322,8 @@ public class Card {
     public void setMatched() {
         state = State.MATCHED;
         isClickable = false;
+        startTween(TWEEN_MATCH_FADE, matchAlpha, COLOR_MATCHED.a,
+                   Constants.MATCH_FADE_DURATION, Interpolation.pow2Out);
     }
     
     /**
@@ -255,16 +333,36 @@ public class Card {
     public void startShake(float duration) {
         isShaking = true;
         shakeTimer = duration;
+        startTween(TWEEN_SHAKE, duration, 0f, duration, Interpolation.linear);
+    }
+    
+    /**
+     * Desliza la carta a una nueva posición (shuffle).
+     * Los bounds se mueven al destino en el acto; solo el dibujo se anima.
+     */
+    public void slideTo(float targetX, float targetY, float duration) {
+        this.x = targetX;
+        this.y = targetY;
+        this.bounds.setPosition(targetX, targetY);
+        
+        startTween(TWEEN_SLIDE_X, drawX, targetX, duration, Interpolation.pow2);
+        startTween(TWEEN_SLIDE_Y, drawY, targetY, duration, Interpolation.pow2);
     }
     
     /**
      * Reinicia la carta a su estado inicial
      */
     public void reset() {
+        if (tweens != null) {
+            tweens.killAll(this);
+        }
+        
         state = State.HIDDEN;
         isClickable = true;
         flipProgress = 0f;
+        prevFlipProgress = 0f;
         matchAlpha = 1f;
+        prevMatchAlpha = 1f;
         isShaking = false;
         shakeTimer = 0f;
     }
@@ -294,8 +392,15 @@ public class Card {
         this.x = x;
         this.y = y;
         this.bounds.setPosition(x, y);
+        this.drawX = x;
+        this.drawY = y;
+        this.prevDrawX = x;
+        this.prevDrawY = y;
     }
     
+    public int getSlot() { return slot; }
+    void setSlot(int slot) { this.slot = slot; }
+    
     public float getX() { return x; }
     public float getY() { return y; }
     public float getWidth() { return width; }
@@ -328,6 +433,10 @@ public class Card {
         return state == State.FLIPPING_TO_FRONT || state == State.FLIPPING_TO_BACK;
     }
     
+    public boolean isSliding() {
+        return drawX != x || drawY != y;
+    }
+    
     public boolean isMatched() {
         return state == State.MATCHED;
     }
@@ -338,10 +447,10 @@ public class Card {
     
     // ==================== TEXTURAS ====================
     
-    public Texture getFrontTexture() { return frontTexture; }
-    public Texture getBackTexture() { return backTexture; }
+    public TextureRegion getFrontTexture() { return frontTexture; }
+    public TextureRegion getBackTexture() { return backTexture; }
     
-    public void setFrontTexture(Texture texture) { 
+    public void setFrontTexture(TextureRegion texture) { 
         this.frontTexture = texture; 
     }
     
@@ -354,7 +463,7 @@ public class Card {
      */
     public void dispose() {
         if (texturesOwned) {
-            if (frontTexture != null) frontTexture.dispose();
+            if (frontTexture != null) frontTexture.getTexture().dispose();
             // backTexture es compartida, no la disponemos aquí
         }
     }
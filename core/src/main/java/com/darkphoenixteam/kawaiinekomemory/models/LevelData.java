@@ -3,165 +3,70 @@ package com.darkphoenixteam.kawaiinekomemory.models;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
 
 /**
- * Modelo de datos para un nivel
- * Incluye configuración de tiempo, grids y shuffle basado en el rango del nivel
+ * Definición inmutable de un nivel (flyweight)
+ * 
+ * Las instancias las crea LevelCatalog una sola vez a partir de la tabla
+ * compilada (assets/data/levels.bin) y se comparten entre pantallas.
+ * El progreso del jugador (desbloqueo, estrellas) vive en SaveManager.
  * 
  * @author DarkphoenixTeam
+ * @version 2.0 - Flyweight cargado desde LevelCatalog
  */
-public class LevelData {
+public final class LevelData {
     
     /**
-     * Enum de dificultades con configuración de grid
+     * Enum de dificultades (grid, tiempo y niveles vienen del catálogo)
      */
     public enum Difficulty {
-        EASY(0, "Fácil", 3, 4, Constants.TIME_BASE_EASY, Constants.TIME_DECAY_EASY),
-        NORMAL(1, "Normal", 4, 4, Constants.TIME_BASE_NORMAL, Constants.TIME_DECAY_NORMAL),
-        ADVANCED(2, "Avanzado", 4, 5, Constants.TIME_BASE_ADVANCED, Constants.TIME_DECAY_ADVANCED),
-        HARD(3, "Difícil", 5, 6, Constants.TIME_BASE_HARD, Constants.TIME_DECAY_HARD);
+        EASY(0, "Fácil"),
+        NORMAL(1, "Normal"),
+        ADVANCED(2, "Avanzado"),
+        HARD(3, "Difícil");
         
         public final int index;
         public final String name;
-        public final int cols;
-        public final int rows;
-        public final float baseTime;
-        public final float timeDecay;
         
-        Difficulty(int index, String name, int cols, int rows, float baseTime, float timeDecay) {
+        Difficulty(int index, String name) {
             this.index = index;
             this.name = name;
-            this.cols = cols;
-            this.rows = rows;
-            this.baseTime = baseTime;
-            this.timeDecay = timeDecay;
-        }
-        
-        public int getTotalCards() {
-            return cols * rows;
-        }
-        
-        public int getPairs() {
-            return getTotalCards() / 2;
-        }
-        
-        public static Difficulty fromGlobalId(int globalLevelId) {
-            if (globalLevelId < 50) return EASY;
-            if (globalLevelId < 100) return NORMAL;
-            if (globalLevelId < 150) return ADVANCED;
-            return HARD;
         }
     }
     
     /**
-     * Rangos de nivel con diferentes mecánicas
+     * Rangos de nivel con diferentes mecánicas (valores por defecto de levels.json)
      */
     public enum LevelRange {
         SPEED,      // 1-15: Single grid, no shuffle
         ENDURANCE,  // 16-30: Double grid, no shuffle
         SHUFFLE,    // 31-40: Single grid, shuffle cada 3 pares
-        MASTERY     // 41-50: Double grid, shuffle cada 3 pares
+        MASTERY     // 41+: Double grid, shuffle cada 3 pares
     }
     
-    private int globalId;        // 0-199 (único en todo el juego)
-    private int localId;         // 1-50 (dentro de la dificultad)
-    private Difficulty difficulty;
-    private LevelRange range;
-    private boolean unlocked;
-    private boolean completed;
+    private final int globalId;        // Estable: clave de guardado
+    private final int localId;         // 1..n dentro de la dificultad
+    private final Difficulty difficulty;
+    private final LevelRange range;
     
-    // Configuración calculada
-    private float timeLimit;
-    private int gridCount;
-    private boolean shuffleEnabled;
+    private final int cols;
+    private final int rows;
+    private final int gridCount;
+    private final int shuffleEvery;    // Pares entre shuffles, 0 = sin shuffle
+    private final float timeLimit;
     
     /**
-     * Constructor
-     * @param globalId ID único del nivel (0-199)
+     * Solo para LevelCatalog: los valores ya vienen resueltos (reglas + overrides)
      */
-    public LevelData(int globalId) {
+    public LevelData(int globalId, int localId, Difficulty difficulty, LevelRange range,
+                     int cols, int rows, int gridCount, int shuffleEvery, float timeLimit) {
         this.globalId = globalId;
-        this.difficulty = Difficulty.fromGlobalId(globalId);
-        this.localId = (globalId % 50) + 1; // 1-50
-        
-        // Calcular rango y configuración
-        calculateRange();
-        calculateTimeLimit();
-        calculateGridConfig();
-    }
-    
-    /**
-     * Determina el rango del nivel basado en localId
-     */
-    private void calculateRange() {
-        if (localId <= Constants.RANGE_SPEED_END) {
-            range = LevelRange.SPEED;
-        } else if (localId <= Constants.RANGE_ENDURANCE_END) {
-            range = LevelRange.ENDURANCE;
-        } else if (localId <= Constants.RANGE_SHUFFLE_END) {
-            range = LevelRange.SHUFFLE;
-        } else {
-            range = LevelRange.MASTERY;
-        }
-    }
-    
-    /**
-     * Calcula el tiempo límite basado en dificultad y rango
-     */
-    private void calculateTimeLimit() {
-        float base = difficulty.baseTime;
-        float decay = difficulty.timeDecay;
-        
-        switch (range) {
-            case SPEED:
-                // Time = Base - ((L-1) * Decay)
-                timeLimit = base - ((localId - 1) * decay);
-                break;
-                
-            case ENDURANCE:
-                // Time = (Base * 1.8) - ((L-16) * Decay)
-                timeLimit = (base * Constants.TIME_MULT_ENDURANCE) - 
-                           ((localId - Constants.RANGE_ENDURANCE_START) * decay);
-                break;
-                
-            case SHUFFLE:
-                // Time = Base * 1.25
-                timeLimit = base * Constants.TIME_MULT_SHUFFLE;
-                break;
-                
-            case MASTERY:
-                // Time = Base * 2.3
-                timeLimit = base * Constants.TIME_MULT_MASTERY;
-                break;
-        }
-        
-        // Mínimo 15 segundos para evitar niveles imposibles
-        timeLimit = Math.max(15f, timeLimit);
-    }
-    
-    /**
-     * Configura número de grids y shuffle
-     */
-    private void calculateGridConfig() {
-        switch (range) {
-            case SPEED:
-                gridCount = 1;
-                shuffleEnabled = false;
-                break;
-                
-            case ENDURANCE:
-                gridCount = 2;
-                shuffleEnabled = false;
-                break;
-                
-            case SHUFFLE:
-                gridCount = 1;
-                shuffleEnabled = true;
-                break;
-                
-            case MASTERY:
-                gridCount = 2;
-                shuffleEnabled = true;
-                break;
-        }
+        this.localId = localId;
+        this.difficulty = difficulty;
+        this.range = range;
+        this.cols = cols;
+        this.rows = rows;
+        this.gridCount = gridCount;
+        this.shuffleEvery = shuffleEvery;
+        this.timeLimit = timeLimit;
     }
     
     // ==================== GETTERS PRINCIPALES ====================
@@ -171,15 +76,19 @@ public class LevelData {
     public Difficulty getDifficulty() { return difficulty; }
     public LevelRange getRange() { return range; }
     
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
     public float getTimeLimit() { return timeLimit; }
     public int getGridCount() { return gridCount; }
-    public boolean isShuffleEnabled() { return shuffleEnabled; }
-    
-    public boolean isUnlocked() { return unlocked; }
-    public void setUnlocked(boolean unlocked) { this.unlocked = unlocked; }
+    public int getShuffleEvery() { return shuffleEvery; }
+    public boolean isShuffleEnabled() { return shuffleEvery > 0; }
     
-    public boolean isCompleted() { return completed; }
-    public void setCompleted(boolean completed) { this.completed = completed; }
+    /**
+     * Pares por grid
+     */
+    public int getPairsPerGrid() {
+        return cols * rows / 2;
+    }
     
     // ==================== CÁLCULOS DE RECOMPENSA ====================
     
@@ -223,14 +132,14 @@ public class LevelData {
      * Obtiene el número de pares necesarios para este nivel
      */
     public int getPairsRequired() {
-        return difficulty.getPairs() * gridCount;
+        return getPairsPerGrid() * gridCount;
     }
     
     /**
      * Obtiene el número de cartas únicas necesarias
      */
     public int getUniqueCardsRequired() {
-        return difficulty.getPairs();
+        return getPairsPerGrid();
     }
     
     // ==================== UI ====================
@@ -263,14 +172,16 @@ public class LevelData {
     
     @Override
     public String toString() {
-        return String.format("Level %d (%s L%d) - %s | Time: %.0fs | Grids: %d | Shuffle: %s",
+        return String.format("Level %d (%s L%d) - %s | %dx%d | Time: %.0fs | Grids: %d | Shuffle: %s",
             globalId,
             difficulty.name,
             localId,
             range.name(),
+            cols,
+            rows,
             timeLimit,
             gridCount,
-            shuffleEnabled ? "ON" : "OFF"
+            shuffleEvery > 0 ? "cada " + shuffleEvery : "OFF"
         );
     }
 }
\ No newline at end of file
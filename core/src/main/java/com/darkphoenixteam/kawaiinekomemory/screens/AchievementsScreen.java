@@ -6,21 +6,28 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Align;
 import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
 import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringId;
 import com.darkphoenixteam.kawaiinekomemory.models.Achievement;
 import com.darkphoenixteam.kawaiinekomemory.systems.AudioManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.SaveManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.SoundId;
 import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
+import com.darkphoenixteam.kawaiinekomemory.ui.VirtualGrid;
+import com.darkphoenixteam.kawaiinekomemory.ui.VirtualList;
 
 /**
  * Pantalla de logros con localización completa
  * 
+ * La lista es una VirtualList: solo se dibujan las filas visibles y cada
+ * fila reciclada cachea su texto (nombre, descripción y recompensa)
+ * 
  * @author DarkphoenixTeam
- * @version 1.1 - Localización completa
+ * @version 1.2 - Lista virtualizada con scroll cinético
  */
 public class AchievementsScreen extends BaseScreen {
     
@@ -44,9 +51,8 @@ public class AchievementsScreen extends BaseScreen {
     // === RENDER ===
     private ShapeRenderer shapeRenderer;
     
-    // === SCROLL ===
-    private float scrollOffset = 0f;
-    private float maxScrollOffset = 0f;
+    // === LISTA ===
+    private VirtualList<AchievementRow> list;
     private static final float ITEM_HEIGHT = 90f;
     private static final float ITEM_MARGIN = 10f;
     
@@ -60,10 +66,6 @@ public class AchievementsScreen extends BaseScreen {
     private SaveManager saveManager;
     private LocaleManager locale;
     
-    private final Vector2 touchPoint = new Vector2();
-    private float lastTouchY = 0f;
-    private boolean isDragging = false;
-    
     public AchievementsScreen(KawaiiNekoMemory game) {
         super(game);
         
@@ -80,9 +82,11 @@ public class AchievementsScreen extends BaseScreen {
         
         shapeRenderer = new ShapeRenderer();
         
-        float contentHeight = Achievement.count() * (ITEM_HEIGHT + ITEM_MARGIN);
-        float visibleHeight = Constants.VIRTUAL_HEIGHT - HEADER_HEIGHT - FOOTER_HEIGHT;
-        maxScrollOffset = Math.max(0, contentHeight - visibleHeight);
+        list = new VirtualList<>(AchievementRow::new, ITEM_HEIGHT, ITEM_MARGIN);
+        float listTop = Constants.VIRTUAL_HEIGHT - HEADER_HEIGHT - CONTENT_PADDING;
+        list.setBounds(CONTENT_PADDING, FOOTER_HEIGHT,
+                       Constants.VIRTUAL_WIDTH - CONTENT_PADDING * 2 - 70f, listTop - FOOTER_HEIGHT);
+        list.setItemCount(Achievement.count());
         
         audioManager.playMusic(AssetPaths.MUSIC_MENU, true);
         
@@ -112,10 +116,10 @@ public class AchievementsScreen extends BaseScreen {
             Texture backTex = new Texture(Gdx.files.internal(AssetPaths.BTN_BACK));
             float btnWidth = Constants.VIRTUAL_WIDTH * 0.4f;
             float btnHeight = btnWidth * 0.35f;
-            backButton = new SimpleButton(backTex, locale.get("common.back"),
+            backButton = new SimpleButton(backTex, locale.get(StringId.COMMON_BACK),
                 (Constants.VIRTUAL_WIDTH - btnWidth) / 2f, 20f, btnWidth, btnHeight);
             backButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 game.setScreen(new HomeScreen(game));
             });
         } catch (Exception e) {
@@ -130,8 +134,8 @@ public class AchievementsScreen extends BaseScreen {
             Texture upTex = new Texture(Gdx.files.internal(AssetPaths.BTN_ARROW_UP));
             upButton = new SimpleButton(upTex, "", arrowX, centerY + 30f, arrowSize, arrowSize);
             upButton.setOnClick(() -> {
-                scrollOffset = Math.max(0, scrollOffset - 200f);
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                list.flingBy(-list.getVisibleHeight() * 0.5f);
+                audioManager.playSound(SoundId.BUTTON);
             });
         } catch (Exception e) {}
         
@@ -139,38 +143,43 @@ public class AchievementsScreen extends BaseScreen {
             Texture downTex = new Texture(Gdx.files.internal(AssetPaths.BTN_ARROW_DOWN));
             downButton = new SimpleButton(downTex, "", arrowX, centerY - 80f, arrowSize, arrowSize);
             downButton.setOnClick(() -> {
-                scrollOffset = Math.min(maxScrollOffset, scrollOffset + 200f);
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                list.flingBy(list.getVisibleHeight() * 0.5f);
+                audioManager.playSound(SoundId.BUTTON);
             });
         } catch (Exception e) {}
     }
     
     @Override
     protected void update(float delta) {
-        if (!isInputEnabled()) return;
-        
-        if (backButton != null) backButton.update(viewport);
-        if (upButton != null) upButton.update(viewport);
-        if (downButton != null) downButton.update(viewport);
+        // Inercia del scroll
+        list.update(delta);
+    }
+    
+    @Override
+    protected boolean onTouchDown(float x, float y, int pointer) {
+        if (pressButton(backButton, x, y)) return true;
+        if (pressButton(upButton, x, y)) return true;
+        if (pressButton(downButton, x, y)) return true;
         
-        handleScrollInput();
+        // Inicio de arrastre de scroll
+        return pointer == 0 && list.touchDown(x, y, getTouchEventTime());
     }
     
-    private void handleScrollInput() {
-        if (Gdx.input.isTouched()) {
-            viewport.unproject(touchPoint.set(Gdx.input.getX(), Gdx.input.getY()));
-            
-            if (!isDragging) {
-                isDragging = true;
-                lastTouchY = touchPoint.y;
-            } else {
-                float deltaY = lastTouchY - touchPoint.y;
-                scrollOffset = Math.max(0, Math.min(maxScrollOffset, scrollOffset + deltaY));
-                lastTouchY = touchPoint.y;
-            }
-        } else {
-            isDragging = false;
-        }
+    @Override
+    protected void onTouchDragged(float x, float y, int pointer) {
+        if (pointer != 0) return;
+        list.touchDragged(x, y, getTouchEventTime());
+    }
+    
+    @Override
+    protected void onTouchUp(float x, float y, int pointer) {
+        if (pointer != 0) return;
+        list.touchUp(x, y, getTouchEventTime());
+    }
+    
+    @Override
+    protected void onScrolled(float amountY) {
+        list.scrolled(amountY);
     }
     
     @Override
@@ -196,10 +205,10 @@ public class AchievementsScreen extends BaseScreen {
         drawHeader();
         drawFooter();
         
-        if (upButton != null && scrollOffset > 0) {
+        if (upButton != null && list.canScrollUp()) {
             upButton.drawNoText(game.getBatch());
         }
-        if (downButton != null && scrollOffset < maxScrollOffset) {
+        if (downButton != null && list.canScrollDown()) {
             downButton.drawNoText(game.getBatch());
         }
         
@@ -214,7 +223,7 @@ public class AchievementsScreen extends BaseScreen {
                             Constants.VIRTUAL_WIDTH, HEADER_HEIGHT);
         game.getBatch().setColor(1, 1, 1, 1);
         
-        String title = locale.get("achievements.title");
+        String title = locale.get(StringId.ACHIEVEMENTS_TITLE);
         layout.setText(titleFont, title);
         titleFont.draw(game.getBatch(), title,
                       (Constants.VIRTUAL_WIDTH - layout.width) / 2f,
@@ -239,88 +248,71 @@ public class AchievementsScreen extends BaseScreen {
     }
     
     private void drawAchievementList() {
-        float startY = Constants.VIRTUAL_HEIGHT - HEADER_HEIGHT - CONTENT_PADDING + scrollOffset;
-        float itemWidth = Constants.VIRTUAL_WIDTH - CONTENT_PADDING * 2 - 70f;
+        list.prepareVisible();
+        int first = list.getFirstVisible();
+        int end = list.getEndVisible();
+        float itemWidth = list.getCellWidth();
         
-        Achievement[] achievements = Achievement.values();
+        list.beginClip(viewport);
         
-        for (int i = 0; i < achievements.length; i++) {
-            Achievement achievement = achievements[i];
-            float itemY = startY - (i * (ITEM_HEIGHT + ITEM_MARGIN));
-            
-            if (itemY < FOOTER_HEIGHT - ITEM_HEIGHT || itemY > Constants.VIRTUAL_HEIGHT) {
-                continue;
-            }
+        // Fondos y bordes: un solo begin/end por tipo para todas las filas visibles
+        shapeRenderer.setProjectionMatrix(camera.combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        for (int i = first; i < end; i++) {
+            AchievementRow row = list.getCell(i);
+            float itemY = list.getCellTop(i);
             
-            boolean isUnlocked = saveManager.isAchievementUnlocked(achievement);
-            
-            shapeRenderer.setProjectionMatrix(camera.combined);
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
-            
-            if (isUnlocked) {
+            if (row.unlocked) {
                 shapeRenderer.setColor(0.85f, 0.95f, 0.85f, 0.9f);
             } else {
                 shapeRenderer.setColor(0.9f, 0.9f, 0.9f, 0.7f);
             }
-            
             shapeRenderer.rect(CONTENT_PADDING, itemY - ITEM_HEIGHT, itemWidth, ITEM_HEIGHT);
-            shapeRenderer.end();
+        }
+        shapeRenderer.end();
+        
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
+        for (int i = first; i < end; i++) {
+            AchievementRow row = list.getCell(i);
+            float itemY = list.getCellTop(i);
             
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Line);
-            if (isUnlocked) {
+            if (row.unlocked) {
                 shapeRenderer.setColor(0.3f, 0.7f, 0.3f, 1f);
             } else {
                 shapeRenderer.setColor(0.5f, 0.5f, 0.5f, 1f);
             }
             shapeRenderer.rect(CONTENT_PADDING, itemY - ITEM_HEIGHT, itemWidth, ITEM_HEIGHT);
-            shapeRenderer.end();
-            
-            game.getBatch().begin();
-            
+        }
+        shapeRenderer.end();
+        
+        // Texto cacheado en cada fila: sin lookups ni layout por frame
+        game.getBatch().begin();
+        for (int i = first; i < end; i++) {
+            AchievementRow row = list.getCell(i);
+            float itemY = list.getCellTop(i);
             float textX = CONTENT_PADDING + 15f;
             
-            if (isUnlocked) {
-                buttonFont.setColor(Color.GOLD);
-                buttonFont.draw(game.getBatch(), "★", textX, itemY - 10f);
-            } else {
-                buttonFont.setColor(Color.GRAY);
-                buttonFont.draw(game.getBatch(), "☆", textX, itemY - 10f);
-            }
+            buttonFont.draw(game.getBatch(), row.starLayout, textX, itemY - 10f);
             
             textX += 35f;
-            
-            // Usar nombre localizado del logro
-            String achievementName = getLocalizedAchievementName(achievement);
-            String achievementDesc = getLocalizedAchievementDesc(achievement);
-            
-            if (isUnlocked) {
-                buttonFont.setColor(Color.DARK_GRAY);
-            } else {
-                buttonFont.setColor(Color.GRAY);
-            }
-            buttonFont.draw(game.getBatch(), achievementName, textX, itemY - 12f);
-            
-            smallFont.setColor(isUnlocked ? Color.DARK_GRAY : Color.GRAY);
-            smallFont.draw(game.getBatch(), achievementDesc, textX, itemY - 40f);
+            buttonFont.draw(game.getBatch(), row.nameLayout, textX, itemY - 12f);
+            smallFont.draw(game.getBatch(), row.descLayout, textX, itemY - 40f);
             
             if (nekoinIconTexture != null) {
                 float rewardX = CONTENT_PADDING + itemWidth - 80f;
                 float rewardY = itemY - ITEM_HEIGHT + 15f;
                 
-                game.getBatch().setColor(isUnlocked ? 0.5f : 1f, isUnlocked ? 0.5f : 1f, 
-                                        isUnlocked ? 0.5f : 1f, isUnlocked ? 0.5f : 1f);
+                float tint = row.unlocked ? 0.5f : 1f;
+                game.getBatch().setColor(tint, tint, tint, tint);
                 game.getBatch().draw(nekoinIconTexture, rewardX, rewardY, 20f, 20f);
                 game.getBatch().setColor(1, 1, 1, 1);
                 
-                smallFont.setColor(isUnlocked ? Color.GRAY : Color.GOLD);
-                smallFont.draw(game.getBatch(), "+" + achievement.reward, rewardX + 25f, rewardY + 17f);
+                smallFont.draw(game.getBatch(), row.rewardLayout, rewardX + 25f, rewardY + 17f);
             }
-            
-            buttonFont.setColor(Color.WHITE);
-            smallFont.setColor(Color.WHITE);
-            
-            game.getBatch().end();
         }
+        game.getBatch().end();
+        
+        list.endClip();
     }
     
     /**
@@ -349,6 +341,36 @@ public class AchievementsScreen extends BaseScreen {
         return localized;
     }
     
+    // ==================== FILA RECICLADA ====================
+    
+    /**
+     * Fila de la lista. bind() se llama solo cuando la fila pasa a mostrar
+     * otro logro: ahí se resuelven las traducciones y se maquetan los textos.
+     */
+    private class AchievementRow implements VirtualGrid.Cell {
+        
+        boolean unlocked;
+        final GlyphLayout starLayout = new GlyphLayout();
+        final GlyphLayout nameLayout = new GlyphLayout();
+        final GlyphLayout descLayout = new GlyphLayout();
+        final GlyphLayout rewardLayout = new GlyphLayout();
+        
+        @Override
+        public void bind(int index) {
+            Achievement achievement = Achievement.fromIndex(index);
+            unlocked = saveManager.isAchievementUnlocked(achievement);
+            
+            starLayout.setText(buttonFont, unlocked ? "★" : "☆",
+                               unlocked ? Color.GOLD : Color.GRAY, 0f, Align.left, false);
+            nameLayout.setText(buttonFont, getLocalizedAchievementName(achievement),
+                               unlocked ? Color.DARK_GRAY : Color.GRAY, 0f, Align.left, false);
+            descLayout.setText(smallFont, getLocalizedAchievementDesc(achievement),
+                               unlocked ? Color.DARK_GRAY : Color.GRAY, 0f, Align.left, false);
+            rewardLayout.setText(smallFont, "+" + achievement.reward,
+                                 unlocked ? Color.GRAY : Color.GOLD, 0f, Align.left, false);
+        }
+    }
+    
     @Override
     public void dispose() {
         if (patternTexture != null) patternTexture.dispose();
@@ -1,21 +1,50 @@
 package com.darkphoenixteam.kawaiinekomemory.screens;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputAdapter;
 import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.StartupTracer;
+import com.darkphoenixteam.kawaiinekomemory.systems.TweenEngine;
+import com.darkphoenixteam.kawaiinekomemory.ui.PerfOverlay;
+import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
 
 /**
- * Pantalla base con sistema de input delay, debounce global
- * y Color reutilizable (evita GC pressure)
+ * Pantalla base con sistema de input delay, input por eventos,
+ * Color reutilizable (evita GC pressure) y simulación a paso fijo
+ * 
+ * El loop separa la lógica en tres niveles:
+ * - Eventos de toque: encolados por un InputProcessor con timestamp,
+ *   desproyectados una sola vez y despachados a onTouchDown/Dragged/Up
+ * - fixedUpdate(step): timers y animaciones, a FIXED_TIMESTEP con catch-up acotado;
+ *   después de cada step avanza el TweenEngine de la pantalla
+ * - update(delta): lógica de UI, una vez por frame
+ * draw() puede interpolar entre ticks con getRenderAlpha().
+ * 
+ * Mientras está visible, la pantalla recibe onLanguageChanged() al
+ * aplicarse un cambio de idioma (refrescar ahí textos cacheados).
+ * 
+ * Tras draw() se dibuja el PerfOverlay si está activo (F3 o cuatro dedos;
+ * F4 o tres dedos guarda el CSV). El gesto se decide al levantar el
+ * primer dedo, por el máximo de dedos apoyados: un cierre con cuatro
+ * dedos no pasa por el de tres. Solo en ejecuciones de perfilado: en
+ * las demás no hay overlay y esos gestos y teclas no hacen nada.
+ * 
+ * Los primeros StartupTracer.SCREEN_FRAMES frames tras cada show() son
+ * spans de la traza (F5 la exporta; ambos solo en ejecuciones de perfilado).
  * 
  * @author DarkphoenixTeam
- * @version 2.1 - Optimización GC + Color reusable
+ * @version 3.6 - Gestos del overlay decididos al levantar el primer dedo
  */
 public abstract class BaseScreen implements Screen {
     
@@ -25,17 +54,52 @@ public abstract class BaseScreen implements Screen {
     private static final float INPUT_DELAY_DURATION = 0.3f;
     private float inputDelayTimer = 0f;
     private boolean inputEnabled = false;
+    private long inputEnabledAt = 0L;
+    
+    // === COLA DE EVENTOS DE TOQUE (struct-of-arrays, sin objetos por evento) ===
+    private static final int EVENT_QUEUE_SIZE = 32;
+    private static final int EVENT_DOWN = 0;
+    private static final int EVENT_DRAGGED = 1;
+    private static final int EVENT_UP = 2;
+    private static final int EVENT_SCROLL = 3;     // eventY = cantidad de scroll
+    
+    private final int[] eventType = new int[EVENT_QUEUE_SIZE];
+    private final float[] eventX = new float[EVENT_QUEUE_SIZE];
+    private final float[] eventY = new float[EVENT_QUEUE_SIZE];
+    private final int[] eventPointer = new int[EVENT_QUEUE_SIZE];
+    private final long[] eventTime = new long[EVENT_QUEUE_SIZE];
+    private int eventHead = 0;
+    private int eventCount = 0;
+    private long currentEventTime = 0L;
+    
+    private final Vector2 unprojectPoint = new Vector2();
+    private final InputAdapter inputProcessor = new TouchQueueProcessor();
     
-    // === DEBOUNCE GLOBAL ===
-    private static final float GLOBAL_TAP_COOLDOWN = 0.2f;
-    private float tapCooldownTimer = 0f;
-    private boolean wasTouchedLastFrame = false;
+    // Botón presionado (se suelta en el touchUp)
+    private SimpleButton pressedButton;
+    
+    // Puntero más alto del gesto del overlay en curso (-1: ninguno)
+    private int overlayGesturePointer = -1;
+    
+    // Registrado solo mientras la pantalla está visible
+    private final LocaleManager.LanguageListener languageListener = this::onLanguageChanged;
+    
+    // === TRAZA DE PRIMEROS FRAMES ===
+    private final String traceName = getClass().getSimpleName();
+    private int tracedFrames = 0;
+    
+    // === PASO FIJO ===
+    private float accumulator = 0f;
+    private float renderAlpha = 1f;
     
     // === CORE ===
     protected final KawaiiNekoMemory game;
     protected final OrthographicCamera camera;
     protected final Viewport viewport;
     
+    // === ANIMACIONES ===
+    protected final TweenEngine tweens = new TweenEngine(Constants.TWEEN_INITIAL_CAPACITY);
+    
     // === COLOR REUTILIZABLE ===
     // Usar este en lugar de batch.getColor().cpy() para evitar crear objetos cada frame
     protected final Color tempColor = new Color();
@@ -69,30 +133,64 @@ public abstract class BaseScreen implements Screen {
     protected abstract void update(float delta);
     protected abstract void draw();
     
+    /**
+     * Lógica de simulación a paso fijo (timers, animaciones).
+     * Se llama 0..MAX_STEPS_PER_FRAME veces por frame, siempre con el mismo step.
+     * El input llega antes por los hooks onTouchDown/Dragged/Up.
+     */
+    protected void fixedUpdate(float step) {}
+    
+    // === HOOKS DE INPUT (coordenadas ya en mundo virtual) ===
+    
+    /**
+     * Toque nuevo. Solo se llama con el input habilitado.
+     * @return true si algún widget lo consumió
+     */
+    protected boolean onTouchDown(float x, float y, int pointer) {
+        return false;
+    }
+    
+    protected void onTouchDragged(float x, float y, int pointer) {}
+    
+    protected void onTouchUp(float x, float y, int pointer) {}
+    
+    /**
+     * Rueda del ratón (escritorio). Solo con el input habilitado.
+     */
+    protected void onScrolled(float amountY) {}
+    
+    /**
+     * Idioma cambiado (fuentes y textos ya aplicados). Volver a pedir
+     * las fuentes a FontManager y regenerar los textos cacheados.
+     */
+    protected void onLanguageChanged(LocaleManager.Language language) {}
+    
     @Override
     public void render(float delta) {
+        boolean traced = tracedFrames < StartupTracer.SCREEN_FRAMES;
+        if (traced) {
+            StartupTracer.getInstance().begin(traceName, tracedFrames);
+            tracedFrames++;
+        }
+        
+        // === CLAMP DE PICOS ===
+        // Un hitch (GC, flush de prefs, carga) no debe comerse el tiempo del jugador
+        if (delta > Constants.MAX_FRAME_TIME) {
+            delta = Constants.MAX_FRAME_TIME;
+        }
+        
         // === ACTUALIZAR INPUT DELAY ===
         if (!inputEnabled) {
             inputDelayTimer -= delta;
             if (inputDelayTimer <= 0) {
                 inputEnabled = true;
+                inputEnabledAt = TimeUtils.nanoTime();
                 Gdx.app.log(TAG, "Input habilitado para: " + this.getClass().getSimpleName());
             }
         }
         
-        // === ACTUALIZAR DEBOUNCE GLOBAL ===
-        if (tapCooldownTimer > 0) {
-            tapCooldownTimer -= delta;
-        }
-        
-        // Detectar nuevo toque (anti multi-tap)
-        boolean isTouched = Gdx.input.isTouched();
-        if (isTouched && !wasTouchedLastFrame) {
-            if (tapCooldownTimer <= 0) {
-                tapCooldownTimer = GLOBAL_TAP_COOLDOWN;
-            }
-        }
-        wasTouchedLastFrame = isTouched;
+        // === DESPACHAR EVENTOS DE TOQUE ===
+        dispatchTouchEvents();
         
         // Limpiar pantalla
         Gdx.gl.glClearColor(bgRed, bgGreen, bgBlue, 1f);
@@ -102,9 +200,34 @@ public abstract class BaseScreen implements Screen {
         camera.update();
         game.getBatch().setProjectionMatrix(camera.combined);
         
+        // Simulación a paso fijo
+        accumulator += delta;
+        int steps = 0;
+        while (accumulator >= Constants.FIXED_TIMESTEP && steps < Constants.MAX_STEPS_PER_FRAME) {
+            fixedUpdate(Constants.FIXED_TIMESTEP);
+            tweens.update(Constants.FIXED_TIMESTEP);
+            accumulator -= Constants.FIXED_TIMESTEP;
+            steps++;
+        }
+        if (steps == Constants.MAX_STEPS_PER_FRAME && accumulator >= Constants.FIXED_TIMESTEP) {
+            // Catch-up agotado: descartar el resto para no entrar en espiral
+            accumulator %= Constants.FIXED_TIMESTEP;
+        }
+        renderAlpha = accumulator / Constants.FIXED_TIMESTEP;
+        
         // Actualizar y dibujar
         update(delta);
         draw();
+        
+        if (traced) {
+            StartupTracer.getInstance().end();
+        }
+        
+        // Overlay de rendimiento (desactivado: solo esta comprobación)
+        PerfOverlay overlay = game.getPerfOverlay();
+        if (overlay != null && overlay.isEnabled()) {
+            overlay.endFrame(this, game.getBatch(), game.getFontManager().getSmallFont());
+        }
     }
     
     @Override
@@ -122,17 +245,34 @@ public abstract class BaseScreen implements Screen {
         Gdx.app.log(TAG, "Show: " + this.getClass().getSimpleName());
         inputDelayTimer = INPUT_DELAY_DURATION;
         inputEnabled = false;
-        tapCooldownTimer = GLOBAL_TAP_COOLDOWN;
+        accumulator = 0f;
+        renderAlpha = 1f;
+        tracedFrames = 0;
+        
+        eventHead = 0;
+        eventCount = 0;
+        pressedButton = null;
+        overlayGesturePointer = -1;
+        Gdx.input.setInputProcessor(inputProcessor);
+        LocaleManager.getInstance().addListener(languageListener);
     }
     
     @Override
-    public void hide() {}
+    public void hide() {
+        if (Gdx.input.getInputProcessor() == inputProcessor) {
+            Gdx.input.setInputProcessor(null);
+        }
+        LocaleManager.getInstance().removeListener(languageListener);
+    }
     
     @Override
     public void pause() {}
     
     @Override
-    public void resume() {}
+    public void resume() {
+        // El tiempo en background no cuenta para la simulación
+        accumulator = 0f;
+    }
     
     @Override
     public void dispose() {}
@@ -144,18 +284,30 @@ public abstract class BaseScreen implements Screen {
     }
     
     /**
-     * Verifica si se puede procesar un nuevo toque
-     * Combina input delay + debounce global
+     * Hit-test de un botón dentro de onTouchDown (null-safe).
+     * Si lo acierta, el botón queda presionado hasta el touchUp.
      */
-    protected boolean canProcessTouch() {
-        return inputEnabled && tapCooldownTimer <= 0;
+    protected boolean pressButton(SimpleButton button, float x, float y) {
+        if (button != null && button.touchDown(x, y)) {
+            pressedButton = button;
+            return true;
+        }
+        return false;
     }
     
     /**
-     * Consume el toque actual (resetea cooldown)
+     * Timestamp (TimeUtils.nanoTime) del evento que se está despachando
      */
-    protected void consumeTouch() {
-        tapCooldownTimer = GLOBAL_TAP_COOLDOWN;
+    protected long getTouchEventTime() {
+        return currentEventTime;
+    }
+    
+    /**
+     * Fracción [0, 1) del siguiente tick ya transcurrida.
+     * Usar en draw() para interpolar entre el estado anterior y el actual.
+     */
+    protected float getRenderAlpha() {
+        return renderAlpha;
     }
     
     protected float getInputDelayRemaining() {
@@ -165,6 +317,7 @@ public abstract class BaseScreen implements Screen {
     protected void forceEnableInput() {
         inputDelayTimer = 0;
         inputEnabled = true;
+        inputEnabledAt = TimeUtils.nanoTime();
     }
     
     protected void setBackgroundColor(float r, float g, float b) {
@@ -192,4 +345,181 @@ public abstract class BaseScreen implements Screen {
     public Viewport getViewport() {
         return viewport;
     }
+    
+    // ==================== COLA DE EVENTOS ====================
+    
+    /**
+     * Gestos del overlay de rendimiento (el toque sigue llegando a la pantalla).
+     * Los dedos se apoyan de uno en uno: en touchDown solo se anota el
+     * puntero más alto y el gesto se resuelve en el primer touchUp.
+     */
+    private void trackOverlayGesture(int pointer) {
+        if (game.getPerfOverlay() == null) return;     // Sin perfilado
+        overlayGesturePointer = Math.max(overlayGesturePointer, pointer);
+    }
+    
+    private void resolveOverlayGesture() {
+        int pointer = overlayGesturePointer;
+        overlayGesturePointer = -1;
+        
+        PerfOverlay overlay = game.getPerfOverlay();
+        if (overlay == null) return;
+        
+        if (pointer == 3) {
+            overlay.toggle();
+        } else if (pointer == 2 && overlay.isEnabled()) {
+            overlay.dumpCsv(PerfOverlay.CSV_SECONDS);
+        }
+    }
+    
+    /**
+     * Encola un evento ya desproyectado. Los DRAGGED consecutivos
+     * del mismo puntero se fusionan (solo importa la última posición).
+     */
+    private void enqueueTouch(int type, int screenX, int screenY, int pointer) {
+        viewport.unproject(unprojectPoint.set(screenX, screenY));
+        long now = TimeUtils.nanoTime();
+        
+        if (type == EVENT_DRAGGED && eventCount > 0) {
+            int last = (eventHead + eventCount - 1) % EVENT_QUEUE_SIZE;
+            if (eventType[last] == EVENT_DRAGGED && eventPointer[last] == pointer) {
+                eventX[last] = unprojectPoint.x;
+                eventY[last] = unprojectPoint.y;
+                eventTime[last] = now;
+                return;
+            }
+        }
+        
+        pushEvent(type, unprojectPoint.x, unprojectPoint.y, pointer, now);
+    }
+    
+    private void pushEvent(int type, float x, float y, int pointer, long time) {
+        if (eventCount == EVENT_QUEUE_SIZE) {
+            // Cola llena: se descarta el más antiguo
+            eventHead = (eventHead + 1) % EVENT_QUEUE_SIZE;
+            eventCount--;
+        }
+        
+        int slot = (eventHead + eventCount) % EVENT_QUEUE_SIZE;
+        eventType[slot] = type;
+        eventX[slot] = x;
+        eventY[slot] = y;
+        eventPointer[slot] = pointer;
+        eventTime[slot] = time;
+        eventCount++;
+    }
+    
+    /**
+     * Vacía la cola: todos los toques del frame se procesan, incluso
+     * varios taps rápidos o un tap más corto que un frame
+     */
+    private void dispatchTouchEvents() {
+        while (eventCount > 0) {
+            // Un evento provocó setScreen(): el resto no es para esta pantalla
+            if (Gdx.input.getInputProcessor() != inputProcessor) {
+                eventCount = 0;
+                pressedButton = null;
+                return;
+            }
+            
+            int slot = eventHead;
+            eventHead = (eventHead + 1) % EVENT_QUEUE_SIZE;
+            eventCount--;
+            
+            currentEventTime = eventTime[slot];
+            float x = eventX[slot];
+            float y = eventY[slot];
+            int pointer = eventPointer[slot];
+            
+            switch (eventType[slot]) {
+                case EVENT_DOWN:
+                    // Toques anteriores a la habilitación del input se descartan
+                    if (inputEnabled && currentEventTime >= inputEnabledAt) {
+                        onTouchDown(x, y, pointer);
+                    }
+                    break;
+                case EVENT_DRAGGED:
+                    if (inputEnabled) {
+                        onTouchDragged(x, y, pointer);
+                    }
+                    break;
+                case EVENT_UP:
+                    if (pressedButton != null) {
+                        pressedButton.touchUp();
+                        pressedButton = null;
+                    }
+                    onTouchUp(x, y, pointer);
+                    break;
+                case EVENT_SCROLL:
+                    if (inputEnabled) {
+                        onScrolled(y);
+                    }
+                    break;
+            }
+        }
+    }
+    
+    /**
+     * InputProcessor: solo encola, el despacho ocurre en render()
+     */
+    private class TouchQueueProcessor extends InputAdapter {
+        @Override
+        public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+            if (pointer >= 2) {
+                trackOverlayGesture(pointer);
+            }
+            enqueueTouch(EVENT_DOWN, screenX, screenY, pointer);
+            return true;
+        }
+        
+        @Override
+        public boolean touchDragged(int screenX, int screenY, int pointer) {
+            enqueueTouch(EVENT_DRAGGED, screenX, screenY, pointer);
+            return true;
+        }
+        
+        @Override
+        public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+            if (overlayGesturePointer >= 0) {
+                resolveOverlayGesture();
+            }
+            enqueueTouch(EVENT_UP, screenX, screenY, pointer);
+            return true;
+        }
+        
+        @Override
+        public boolean touchCancelled(int screenX, int screenY, int pointer, int button) {
+            // Cancelado por el sistema: el gesto no cuenta
+            overlayGesturePointer = -1;
+            enqueueTouch(EVENT_UP, screenX, screenY, pointer);
+            return true;
+        }
+        
+        @Override
+        public boolean keyDown(int keycode) {
+            if (keycode == Input.Keys.F5 && game.isProfiling()) {
+                StartupTracer.getInstance().export("trace_" + TimeUtils.millis() + ".json");
+                return true;
+            }
+            
+            PerfOverlay overlay = game.getPerfOverlay();
+            if (overlay == null) return false;
+            
+            if (keycode == Input.Keys.F3) {
+                overlay.toggle();
+                return true;
+            }
+            if (keycode == Input.Keys.F4 && overlay.isEnabled()) {
+                overlay.dumpCsv(PerfOverlay.CSV_SECONDS);
+                return true;
+            }
+            return false;
+        }
+        
+        @Override
+        public boolean scrolled(float amountX, float amountY) {
+            pushEvent(EVENT_SCROLL, 0f, amountY, 0, TimeUtils.nanoTime());
+            return true;
+        }
+    }
 }
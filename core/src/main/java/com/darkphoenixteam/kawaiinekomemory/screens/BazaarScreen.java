@@ -2,28 +2,38 @@ package com.darkphoenixteam.kawaiinekomemory.screens;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.async.AsyncResult;
 import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
 import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.economy.GachaEngine;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringId;
 import com.darkphoenixteam.kawaiinekomemory.systems.AudioManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.BackgroundWorker;
 import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.SaveManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.SharedAssetManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.SoundId;
+import com.darkphoenixteam.kawaiinekomemory.systems.ThumbnailAtlas;
 import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
 
 /**
  * Pantalla del Bazaar OPTIMIZADA
  * - Usa SharedAssetManager para texturas comunes
- * - Lazy loading de cartas (solo carga la carta ganada en gacha)
+ * - Lazy loading de cartas (solo carga las cartas ganadas en gacha)
  * - Memoria reducida de ~7MB a ~200KB
+ * - Gacha ponderado con tirada x10; la carta de una tirada simple se decodifica
+ *   en BackgroundWorker mientras se muestra el reverso, la x10 usa miniaturas
  * 
  * @author DarkphoenixTeam
- * @version 4.0 - Optimización de memoria
+ * @version 4.2 - Revelado múltiple desde ThumbnailAtlas
  */
 public class BazaarScreen extends BaseScreen {
     
@@ -65,18 +75,29 @@ public class BazaarScreen extends BaseScreen {
     private Texture cardBackTexture;
     
     // === GACHA RESULT ===
-    // OPTIMIZACIÓN: Solo cargamos UNA carta cuando se gana
-    private Texture gachaResultTexture;
-    private int lastUnlockedCardId = -1;
+    // OPTIMIZACIÓN: Solo cargamos las cartas ganadas (Pixmaps decodificados fuera del hilo GL)
+    private GachaEngine gachaEngine;
+    private ThumbnailAtlas thumbnails;
+    private final IntArray revealCards = new IntArray(Constants.GACHA_MULTI_PULL);
+    private final Array<Texture> revealTextures = new Array<>(Constants.GACHA_MULTI_PULL);
+    private AsyncResult<Pixmap[]> pendingReveal;
+    private boolean revealReady = false;
     private boolean showingGachaResult = false;
     private float gachaResultTimer = 0f;
     private static final float GACHA_RESULT_DURATION = 2.5f;
+    private static final float GACHA_MULTI_RESULT_DURATION = 4.5f;
+    
+    // Layout del resultado múltiple
+    private static final int REVEAL_COLS = 5;
+    private static final float REVEAL_CARD_WIDTH = 80f;
+    private static final float REVEAL_SPACING = 12f;
     
     // === BOTONES ===
     private SimpleButton backButton;
     private SimpleButton hintBuyButton;
     private SimpleButton timefreezeBuyButton;
     private SimpleButton gachaButton;
+    private SimpleButton gachaMultiButton;
     private SimpleButton timeAttackUpgradeButton;
     
     private Texture buttonTexture;
@@ -106,6 +127,8 @@ public class BazaarScreen extends BaseScreen {
         saveManager = SaveManager.getInstance();
         locale = LocaleManager.getInstance();
         assets = SharedAssetManager.getInstance();
+        gachaEngine = new GachaEngine(saveManager);
+        thumbnails = ThumbnailAtlas.getInstance();
         
         audioManager.playMusic(AssetPaths.MUSIC_BAZAAR, true);
         
@@ -150,34 +173,43 @@ public class BazaarScreen extends BaseScreen {
         
         if (buttonTexture != null) {
             float hintY = Constants.VIRTUAL_HEIGHT - SECTION_START_Y - BUTTON_HEIGHT;
-            hintBuyButton = new SimpleButton(buttonTexture, locale.get("bazaar.buy"),
+            hintBuyButton = new SimpleButton(buttonTexture, locale.get(StringId.BAZAAR_BUY),
                 centerX - buttonWidth / 2f, hintY, buttonWidth, BUTTON_HEIGHT);
             hintBuyButton.setOnClick(this::buyHint);
             
             float freezeY = hintY - SECTION_HEIGHT;
-            timefreezeBuyButton = new SimpleButton(buttonTexture, locale.get("bazaar.buy"),
+            timefreezeBuyButton = new SimpleButton(buttonTexture, locale.get(StringId.BAZAAR_BUY),
                 centerX - buttonWidth / 2f, freezeY, buttonWidth, BUTTON_HEIGHT);
             timefreezeBuyButton.setOnClick(this::buyTimeFreeze);
             
             float upgradeY = freezeY - SECTION_HEIGHT;
-            timeAttackUpgradeButton = new SimpleButton(buttonTexture, locale.get("bazaar.upgrade"),
+            timeAttackUpgradeButton = new SimpleButton(buttonTexture, locale.get(StringId.BAZAAR_UPGRADE),
                 centerX - buttonWidth / 2f, upgradeY, buttonWidth, BUTTON_HEIGHT);
             timeAttackUpgradeButton.setOnClick(this::buyTimeAttackUpgrade);
             
+            // Gacha: tirada simple y x10 lado a lado
             float gachaY = upgradeY - SECTION_HEIGHT;
-            gachaButton = new SimpleButton(buttonTexture, locale.get("bazaar.open"),
-                centerX - buttonWidth / 2f, gachaY, buttonWidth, BUTTON_HEIGHT);
-            gachaButton.setOnClick(this::openGacha);
+            float gachaWidth = buttonWidth * 0.62f;
+            float gachaGap = 8f;
+            float gachaX = centerX - gachaWidth - gachaGap / 2f;
+            gachaButton = new SimpleButton(buttonTexture, locale.get(StringId.BAZAAR_OPEN),
+                gachaX, gachaY, gachaWidth, BUTTON_HEIGHT);
+            gachaButton.setOnClick(() -> openGacha(1));
+            
+            gachaMultiButton = new SimpleButton(buttonTexture,
+                locale.format(StringId.BAZAAR_OPEN_MULTI, Constants.GACHA_MULTI_PULL),
+                centerX + gachaGap / 2f, gachaY, gachaWidth, BUTTON_HEIGHT);
+            gachaMultiButton.setOnClick(() -> openGacha(Constants.GACHA_MULTI_PULL));
         }
         
         Texture backTex = assets.get(AssetPaths.BTN_BACK);
         if (backTex != null) {
             float backWidth = Constants.VIRTUAL_WIDTH * 0.4f;
             float backHeight = backWidth * 0.35f;
-            backButton = new SimpleButton(backTex, locale.get("common.back"),
+            backButton = new SimpleButton(backTex, locale.get(StringId.COMMON_BACK),
                 (Constants.VIRTUAL_WIDTH - backWidth) / 2f, 15f, backWidth, backHeight);
             backButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 game.setScreen(new HomeScreen(game));
             });
         }
@@ -192,7 +224,7 @@ public class BazaarScreen extends BaseScreen {
         int currentHints = saveManager.getHintUses();
         
         if (currentHints >= Constants.MAX_POWER_STOCK) {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             return;
         }
         
@@ -200,9 +232,9 @@ public class BazaarScreen extends BaseScreen {
         
         if (saveManager.spendNekoins(cost)) {
             saveManager.addHintUses(1);
-            audioManager.playSound(AssetPaths.SFX_COIN);
+            audioManager.playSound(SoundId.COIN);
         } else {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
         }
     }
     
@@ -213,7 +245,7 @@ public class BazaarScreen extends BaseScreen {
         int currentFreeze = saveManager.getTimeFreezeUses();
         
         if (currentFreeze >= Constants.MAX_POWER_STOCK) {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             return;
         }
         
@@ -221,9 +253,9 @@ public class BazaarScreen extends BaseScreen {
         
         if (saveManager.spendNekoins(cost)) {
             saveManager.addTimeFreezeUses(1);
-            audioManager.playSound(AssetPaths.SFX_COIN);
+            audioManager.playSound(SoundId.COIN);
         } else {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
         }
     }
     
@@ -234,82 +266,123 @@ public class BazaarScreen extends BaseScreen {
         int cost = saveManager.getTimeAttackUpgradeCost();
         
         if (cost < 0) {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             return;
         }
         
         if (saveManager.purchaseTimeAttackUpgrade()) {
-            audioManager.playSound(AssetPaths.SFX_VICTORY);
+            audioManager.playSound(SoundId.VICTORY);
         } else {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
         }
     }
     
-    private void openGacha() {
-        if (tapTimer > 0) return;
+    /**
+     * Tira count veces (limitado a las cartas restantes) en una sola transacción
+     * y empieza a decodificar las cartas ganadas en segundo plano
+     */
+    private void openGacha(int count) {
+        if (tapTimer > 0 || pendingReveal != null) return;
         tapTimer = TAP_COOLDOWN;
         
-        Array<Integer> locked = getLockedCards();
-        if (locked.size == 0) {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+        IntArray won = gachaEngine.pull(count);
+        if (won == null) {
+            audioManager.playSound(SoundId.NO_MATCH);
             return;
         }
         
-        int cost = saveManager.getGachaCost();
+        revealCards.clear();
+        revealCards.addAll(won);
         
-        if (saveManager.spendNekoins(cost)) {
-            saveManager.incrementGachaPulls();
-            
-            int randomIndex = MathUtils.random(0, locked.size - 1);
-            int cardId = locked.get(randomIndex);
-            
-            saveManager.unlockCard(cardId);
-            
-            // OPTIMIZACIÓN: Solo cargamos ESTA carta
-            loadGachaResultCard(cardId);
-            
-            audioManager.playSound(AssetPaths.SFX_VICTORY);
-            lastUnlockedCardId = cardId;
-            showingGachaResult = true;
-            gachaResultTimer = GACHA_RESULT_DURATION;
-            
-            Gdx.app.log(TAG, "Gacha! Card " + cardId + " desbloqueada");
+        audioManager.playSound(SoundId.COIN);
+        showingGachaResult = true;
+        revealReady = false;
+        
+        // Vista de detalle (una carta): arte completo decodificado en segundo plano.
+        // Tirada múltiple: miniaturas del ThumbnailAtlas, sin decodificar nada.
+        if (revealCards.size == 1) {
+            prefetchReveal();
         } else {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            finishReveal();
         }
+        
+        Gdx.app.log(TAG, "Gacha! " + revealCards.size + " carta(s) desbloqueada(s)");
+    }
+    
+    /**
+     * Decodifica los PNG de las cartas ganadas en BackgroundWorker.
+     * Solo la subida a GPU (new Texture(pixmap)) ocurre en el hilo GL.
+     */
+    private void prefetchReveal() {
+        final String[] paths = new String[revealCards.size];
+        for (int i = 0; i < paths.length; i++) {
+            paths[i] = assets.getCardPath(revealCards.get(i));
+        }
+        
+        pendingReveal = BackgroundWorker.getInstance().submit(() -> {
+            Pixmap[] pixmaps = new Pixmap[paths.length];
+            for (int i = 0; i < paths.length; i++) {
+                try {
+                    pixmaps[i] = new Pixmap(Gdx.files.internal(paths[i]));
+                } catch (Exception e) {
+                    Gdx.app.error(TAG, "Error decodificando carta: " + paths[i]);
+                }
+            }
+            return pixmaps;
+        });
     }
     
     /**
-     * OPTIMIZACIÓN: Carga solo la carta ganada
+     * Sube las cartas decodificadas y arranca la revelación
      */
-    private void loadGachaResultCard(int cardId) {
-        // Liberar carta anterior si existe
-        if (gachaResultTexture != null) {
-            gachaResultTexture.dispose();
-            gachaResultTexture = null;
+    private void finishReveal() {
+        Pixmap[] pixmaps = takePendingReveal();
+        int count = pixmaps != null ? Math.min(pixmaps.length, revealCards.size) : 0;
+        
+        for (int i = 0; i < count; i++) {
+            Pixmap pixmap = pixmaps[i];
+            Texture texture = null;
+            if (pixmap != null) {
+                texture = new Texture(pixmap);
+                texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+                pixmap.dispose();
+            }
+            revealTextures.add(texture);
         }
         
-        int deck = SaveManager.getDeckFromCardId(cardId);
-        int index = SaveManager.getCardIndexFromCardId(cardId);
-        String path = AssetPaths.getCardPath(deck, index);
+        revealReady = true;
+        gachaResultTimer = revealCards.size > 1 ? GACHA_MULTI_RESULT_DURATION : GACHA_RESULT_DURATION;
+        tapTimer = TAP_COOLDOWN;
+        audioManager.playSound(SoundId.VICTORY);
+    }
+    
+    /**
+     * Recoge el resultado de la decodificación (bloquea si aún no terminó)
+     */
+    private Pixmap[] takePendingReveal() {
+        if (pendingReveal == null) return null;
         
+        Pixmap[] pixmaps = null;
         try {
-            gachaResultTexture = new Texture(Gdx.files.internal(path));
-            Gdx.app.log(TAG, "Carta cargada para resultado: " + path);
+            pixmaps = pendingReveal.get();
         } catch (Exception e) {
-            Gdx.app.error(TAG, "Error cargando carta: " + path);
-            gachaResultTexture = null;
+            Gdx.app.error(TAG, "Error en prefetch del gacha: " + e.getMessage());
         }
+        pendingReveal = null;
+        return pixmaps;
     }
     
-    private Array<Integer> getLockedCards() {
-        Array<Integer> locked = new Array<>();
-        for (int i = 0; i < Constants.TOTAL_CARDS; i++) {
-            if (!saveManager.isCardUnlocked(i)) {
-                locked.add(i);
-            }
+    private void disposeReveal() {
+        for (Texture texture : revealTextures) {
+            if (texture != null) texture.dispose();
         }
-        return locked;
+        revealTextures.clear();
+        revealCards.clear();
+        revealReady = false;
+    }
+    
+    private boolean hasLockedCards() {
+        return gachaEngine.getAvailablePulls() > 0;
     }
     
     // ==================== UPDATE ====================
@@ -318,45 +391,55 @@ public class BazaarScreen extends BaseScreen {
     protected void update(float delta) {
         if (tapTimer > 0) tapTimer -= delta;
         
-        if (showingGachaResult) {
+        if (pendingReveal != null && pendingReveal.isDone()) {
+            finishReveal();
+        }
+        
+        if (showingGachaResult && revealReady) {
             gachaResultTimer -= delta;
-            if (gachaResultTimer <= 0 || (Gdx.input.justTouched() && tapTimer <= 0)) {
-                showingGachaResult = false;
-                
-                // Liberar la textura de la carta mostrada
-                if (gachaResultTexture != null) {
-                    gachaResultTexture.dispose();
-                    gachaResultTexture = null;
-                }
-                
-                lastUnlockedCardId = -1;
-                tapTimer = TAP_COOLDOWN;
+            if (gachaResultTimer <= 0) {
+                dismissGachaResult();
             }
-            return;
         }
-        
-        if (!isInputEnabled()) return;
+    }
+    
+    @Override
+    protected boolean onTouchDown(float x, float y, int pointer) {
+        if (showingGachaResult) {
+            if (revealReady && tapTimer <= 0) {
+                dismissGachaResult();
+            }
+            return true;
+        }
         
         int hintUses = saveManager.getHintUses();
-        if (hintBuyButton != null && hintUses < Constants.MAX_POWER_STOCK) {
-            hintBuyButton.update(viewport);
+        if (hintUses < Constants.MAX_POWER_STOCK && pressButton(hintBuyButton, x, y)) {
+            return true;
         }
         
         int freezeUses = saveManager.getTimeFreezeUses();
-        if (timefreezeBuyButton != null && freezeUses < Constants.MAX_POWER_STOCK) {
-            timefreezeBuyButton.update(viewport);
+        if (freezeUses < Constants.MAX_POWER_STOCK && pressButton(timefreezeBuyButton, x, y)) {
+            return true;
         }
         
         int upgradeCost = saveManager.getTimeAttackUpgradeCost();
-        if (timeAttackUpgradeButton != null && upgradeCost > 0) {
-            timeAttackUpgradeButton.update(viewport);
+        if (upgradeCost > 0 && pressButton(timeAttackUpgradeButton, x, y)) {
+            return true;
         }
         
-        if (gachaButton != null && getLockedCards().size > 0) {
-            gachaButton.update(viewport);
+        if (hasLockedCards() && (pressButton(gachaButton, x, y) || pressButton(gachaMultiButton, x, y))) {
+            return true;
         }
         
-        if (backButton != null) backButton.update(viewport);
+        return pressButton(backButton, x, y);
+    }
+    
+    private void dismissGachaResult() {
+        showingGachaResult = false;
+        
+        // Liberar las texturas de las cartas mostradas
+        disposeReveal();
+        tapTimer = TAP_COOLDOWN;
     }
     
     // ==================== DRAW ====================
@@ -396,7 +479,7 @@ public class BazaarScreen extends BaseScreen {
     }
     
     private void drawHeader() {
-        String title = locale.get("bazaar.title");
+        String title = locale.get(StringId.BAZAAR_TITLE);
         layout.setText(titleFont, title);
         titleFont.draw(game.getBatch(), title,
             (Constants.VIRTUAL_WIDTH - layout.width) / 2f,
@@ -428,22 +511,22 @@ public class BazaarScreen extends BaseScreen {
         }
         
         buttonFont.setColor(Color.WHITE);
-        buttonFont.draw(game.getBatch(), locale.get("bazaar.hint"), textX, sectionY);
+        buttonFont.draw(game.getBatch(), locale.get(StringId.BAZAAR_HINT), textX, sectionY);
         
         int uses = saveManager.getHintUses();
         int price = saveManager.getHintPrice();
         
-        String usesText = locale.format("bazaar.stock", uses, Constants.MAX_POWER_STOCK);
+        String usesText = locale.format(StringId.BAZAAR_STOCK, uses, Constants.MAX_POWER_STOCK);
         smallFont.setColor(uses >= Constants.MAX_POWER_STOCK ? Color.GREEN : Color.WHITE);
         smallFont.draw(game.getBatch(), usesText, textX, sectionY - 22f);
         
         if (uses >= Constants.MAX_POWER_STOCK) {
             smallFont.setColor(Color.GREEN);
-            smallFont.draw(game.getBatch(), locale.get("bazaar.stock.full"), textX, sectionY - 42f);
+            smallFont.draw(game.getBatch(), locale.get(StringId.BAZAAR_STOCK_FULL), textX, sectionY - 42f);
         } else {
             boolean canAfford = saveManager.getNekoins() >= price;
             smallFont.setColor(canAfford ? Color.GOLD : Color.RED);
-            smallFont.draw(game.getBatch(), locale.format("bazaar.price", price), textX, sectionY - 42f);
+            smallFont.draw(game.getBatch(), locale.format(StringId.BAZAAR_PRICE, price), textX, sectionY - 42f);
             
             if (hintBuyButton != null) {
                 hintBuyButton.draw(game.getBatch(), buttonFont);
@@ -451,7 +534,7 @@ public class BazaarScreen extends BaseScreen {
         }
         
         smallFont.setColor(Color.LIGHT_GRAY);
-        smallFont.draw(game.getBatch(), locale.get("bazaar.hint.desc"), textX, sectionY - 62f);
+        smallFont.draw(game.getBatch(), locale.get(StringId.BAZAAR_HINT_DESC), textX, sectionY - 62f);
         smallFont.setColor(Color.WHITE);
     }
     
@@ -465,22 +548,22 @@ public class BazaarScreen extends BaseScreen {
         }
         
         buttonFont.setColor(Color.WHITE);
-        buttonFont.draw(game.getBatch(), locale.get("bazaar.timefreeze"), textX, sectionY);
+        buttonFont.draw(game.getBatch(), locale.get(StringId.BAZAAR_TIMEFREEZE), textX, sectionY);
         
         int uses = saveManager.getTimeFreezeUses();
         int price = saveManager.getTimeFreezePrice();
         
-        String usesText = locale.format("bazaar.stock", uses, Constants.MAX_POWER_STOCK);
+        String usesText = locale.format(StringId.BAZAAR_STOCK, uses, Constants.MAX_POWER_STOCK);
         smallFont.setColor(uses >= Constants.MAX_POWER_STOCK ? Color.CYAN : Color.WHITE);
         smallFont.draw(game.getBatch(), usesText, textX, sectionY - 22f);
         
         if (uses >= Constants.MAX_POWER_STOCK) {
             smallFont.setColor(Color.CYAN);
-            smallFont.draw(game.getBatch(), locale.get("bazaar.stock.full"), textX, sectionY - 42f);
+            smallFont.draw(game.getBatch(), locale.get(StringId.BAZAAR_STOCK_FULL), textX, sectionY - 42f);
         } else {
             boolean canAfford = saveManager.getNekoins() >= price;
             smallFont.setColor(canAfford ? Color.GOLD : Color.RED);
-            smallFont.draw(game.getBatch(), locale.format("bazaar.price", price), textX, sectionY - 42f);
+            smallFont.draw(game.getBatch(), locale.format(StringId.BAZAAR_PRICE, price), textX, sectionY - 42f);
             
             if (timefreezeBuyButton != null) {
                 timefreezeBuyButton.draw(game.getBatch(), buttonFont);
@@ -488,7 +571,7 @@ public class BazaarScreen extends BaseScreen {
         }
         
         smallFont.setColor(Color.LIGHT_GRAY);
-        smallFont.draw(game.getBatch(), locale.get("bazaar.timefreeze.desc"), textX, sectionY - 62f);
+        smallFont.draw(game.getBatch(), locale.get(StringId.BAZAAR_TIMEFREEZE_DESC), textX, sectionY - 62f);
         smallFont.setColor(Color.WHITE);
     }
     
@@ -502,23 +585,23 @@ public class BazaarScreen extends BaseScreen {
         }
         
         buttonFont.setColor(Color.ORANGE);
-        buttonFont.draw(game.getBatch(), locale.get("bazaar.timeattack"), textX, sectionY);
+        buttonFont.draw(game.getBatch(), locale.get(StringId.BAZAAR_TIMEATTACK), textX, sectionY);
         buttonFont.setColor(Color.WHITE);
         
         float currentTime = saveManager.getTimeAttackTime();
         int cost = saveManager.getTimeAttackUpgradeCost();
         
-        String timeText = locale.format("game.time", formatTime(currentTime));
+        String timeText = locale.format(StringId.GAME_TIME, formatTime(currentTime));
         smallFont.setColor(Color.WHITE);
         smallFont.draw(game.getBatch(), timeText, textX, sectionY - 22f);
         
         if (cost < 0 || currentTime >= Constants.TIME_ATTACK_MAX_TIME) {
             smallFont.setColor(Color.LIME);
-            smallFont.draw(game.getBatch(), locale.get("bazaar.timeattack.max"), textX, sectionY - 42f);
+            smallFont.draw(game.getBatch(), locale.get(StringId.BAZAAR_TIMEATTACK_MAX), textX, sectionY - 42f);
         } else {
             boolean canAfford = saveManager.getNekoins() >= cost;
             smallFont.setColor(canAfford ? Color.GOLD : Color.RED);
-            smallFont.draw(game.getBatch(), locale.format("bazaar.timeattack.upgrade", cost), textX, sectionY - 42f);
+            smallFont.draw(game.getBatch(), locale.format(StringId.BAZAAR_TIMEATTACK_UPGRADE, cost), textX, sectionY - 42f);
             
             if (timeAttackUpgradeButton != null) {
                 timeAttackUpgradeButton.draw(game.getBatch(), buttonFont);
@@ -526,7 +609,7 @@ public class BazaarScreen extends BaseScreen {
         }
         
         smallFont.setColor(Color.LIGHT_GRAY);
-        smallFont.draw(game.getBatch(), locale.format("bazaar.timeattack.desc", formatTime(Constants.TIME_ATTACK_MAX_TIME)), textX, sectionY - 62f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.BAZAAR_TIMEATTACK_DESC, formatTime(Constants.TIME_ATTACK_MAX_TIME)), textX, sectionY - 62f);
         smallFont.setColor(Color.WHITE);
     }
     
@@ -540,31 +623,43 @@ public class BazaarScreen extends BaseScreen {
         }
         
         buttonFont.setColor(Color.MAGENTA);
-        buttonFont.draw(game.getBatch(), locale.get("bazaar.gacha"), textX, sectionY);
+        buttonFont.draw(game.getBatch(), locale.get(StringId.BAZAAR_GACHA), textX, sectionY);
         buttonFont.setColor(Color.WHITE);
         
         int unlocked = saveManager.getUnlockedCardCount();
         int cost = saveManager.getGachaCost();
         
-        String progressText = locale.format("bazaar.cards", unlocked, Constants.TOTAL_CARDS);
+        String progressText = locale.format(StringId.BAZAAR_CARDS, unlocked, Constants.TOTAL_CARDS);
         smallFont.setColor(unlocked >= Constants.TOTAL_CARDS ? Color.LIME : Color.WHITE);
         smallFont.draw(game.getBatch(), progressText, textX, sectionY - 22f);
         
         if (unlocked >= Constants.TOTAL_CARDS) {
             smallFont.setColor(Color.LIME);
-            smallFont.draw(game.getBatch(), locale.get("bazaar.gacha.complete"), textX, sectionY - 42f);
+            smallFont.draw(game.getBatch(), locale.get(StringId.BAZAAR_GACHA_COMPLETE), textX, sectionY - 42f);
         } else {
-            boolean canAfford = saveManager.getNekoins() >= cost;
-            smallFont.setColor(canAfford ? Color.GOLD : Color.RED);
-            smallFont.draw(game.getBatch(), locale.format("bazaar.price", cost), textX, sectionY - 42f);
+            int nekoins = saveManager.getNekoins();
+            smallFont.setColor(nekoins >= cost ? Color.GOLD : Color.RED);
+            smallFont.draw(game.getBatch(), locale.format(StringId.BAZAAR_PRICE, cost), textX, sectionY - 42f);
+            
+            // Cotización O(1) de la tirada múltiple (limitada a las cartas restantes)
+            int multiPulls = Math.min(Constants.GACHA_MULTI_PULL, Constants.TOTAL_CARDS - unlocked);
+            int multiCost = saveManager.getGachaCost(multiPulls);
+            String multiText = locale.format(StringId.BAZAAR_PRICE_MULTI, multiPulls, multiCost);
+            layout.setText(smallFont, multiText);
+            smallFont.setColor(nekoins >= multiCost ? Color.GOLD : Color.RED);
+            smallFont.draw(game.getBatch(), multiText,
+                Constants.VIRTUAL_WIDTH - layout.width - 20f, sectionY - 42f);
             
             if (gachaButton != null) {
                 gachaButton.draw(game.getBatch(), buttonFont);
             }
+            if (gachaMultiButton != null) {
+                gachaMultiButton.draw(game.getBatch(), buttonFont);
+            }
         }
         
         smallFont.setColor(Color.LIGHT_GRAY);
-        smallFont.draw(game.getBatch(), locale.format("bazaar.pulls", saveManager.getGachaPulls()), textX, sectionY - 62f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.BAZAAR_PULLS, saveManager.getGachaPulls()), textX, sectionY - 62f);
         smallFont.setColor(Color.WHITE);
     }
     
@@ -581,24 +676,57 @@ public class BazaarScreen extends BaseScreen {
         
         // Título
         titleFont.setColor(Color.GOLD);
-        String title = locale.get("bazaar.newcard");
+        String title = revealCards.size > 1
+            ? locale.format(StringId.BAZAAR_NEWCARDS, revealCards.size)
+            : locale.get(StringId.BAZAAR_NEWCARD);
         layout.setText(titleFont, title);
         titleFont.draw(game.getBatch(), title, 
                       (Constants.VIRTUAL_WIDTH - layout.width) / 2f, 
                       Constants.VIRTUAL_HEIGHT * 0.82f);
         titleFont.setColor(Color.WHITE);
         
-        // Carta ganada (OPTIMIZADO: solo esta carta está cargada)
-        if (gachaResultTexture != null) {
+        if (revealCards.size > 1) {
+            drawMultiReveal();
+        } else if (revealCards.size == 1) {
+            drawSingleReveal();
+        }
+        
+        // Instrucción
+        if (revealReady) {
+            smallFont.setColor(Color.GRAY);
+            String tapText = locale.get(StringId.BAZAAR_TAPCLOSE);
+            layout.setText(smallFont, tapText);
+            smallFont.draw(game.getBatch(), tapText, 
+                          (Constants.VIRTUAL_WIDTH - layout.width) / 2f, 
+                          Constants.VIRTUAL_HEIGHT * 0.10f);
+            smallFont.setColor(Color.WHITE);
+        }
+        
+        game.getBatch().end();
+    }
+    
+    /**
+     * Reverso mientras la carta se decodifica, frente al terminar
+     */
+    private Texture getRevealTexture(int index) {
+        Texture front = (revealReady && index < revealTextures.size) ? revealTextures.get(index) : null;
+        return front != null ? front : cardBackTexture;
+    }
+    
+    private void drawSingleReveal() {
+        Texture texture = getRevealTexture(0);
+        if (texture != null) {
             float cardWidth = 150f;
             float cardHeight = cardWidth * 1.4f;
             float cardX = (Constants.VIRTUAL_WIDTH - cardWidth) / 2f;
             float cardY = (Constants.VIRTUAL_HEIGHT - cardHeight) / 2f + 30f;
-            game.getBatch().draw(gachaResultTexture, cardX, cardY, cardWidth, cardHeight);
+            game.getBatch().draw(texture, cardX, cardY, cardWidth, cardHeight);
         }
         
+        if (!revealReady) return;
+        
         // Info del deck
-        int deck = SaveManager.getDeckFromCardId(lastUnlockedCardId);
+        int deck = SaveManager.getDeckFromCardId(revealCards.get(0));
         String[] deckNames = {"Base", "★", "★★", "★★★", "♥"};
         int[] nekoinValues = {1, 2, 3, 5, 7};
         
@@ -606,30 +734,51 @@ public class BazaarScreen extends BaseScreen {
         int nekoinVal = (deck >= 0 && deck < nekoinValues.length) ? nekoinValues[deck] : 1;
         
         buttonFont.setColor(getDeckColor(deck));
-        String deckText = locale.format("bazaar.deck", deckName);
+        String deckText = locale.format(StringId.BAZAAR_DECK, deckName);
         layout.setText(buttonFont, deckText);
         buttonFont.draw(game.getBatch(), deckText, 
                        (Constants.VIRTUAL_WIDTH - layout.width) / 2f, 
                        Constants.VIRTUAL_HEIGHT * 0.28f);
         
         buttonFont.setColor(Color.GOLD);
-        String valueText = locale.format("bazaar.pairvalue", nekoinVal);
+        String valueText = locale.format(StringId.BAZAAR_PAIRVALUE, nekoinVal);
         layout.setText(buttonFont, valueText);
         buttonFont.draw(game.getBatch(), valueText, 
                        (Constants.VIRTUAL_WIDTH - layout.width) / 2f, 
                        Constants.VIRTUAL_HEIGHT * 0.22f);
         buttonFont.setColor(Color.WHITE);
-        
-        // Instrucción
-        smallFont.setColor(Color.GRAY);
-        String tapText = locale.get("bazaar.tapclose");
-        layout.setText(smallFont, tapText);
-        smallFont.draw(game.getBatch(), tapText, 
-                      (Constants.VIRTUAL_WIDTH - layout.width) / 2f, 
-                      Constants.VIRTUAL_HEIGHT * 0.10f);
-        smallFont.setColor(Color.WHITE);
-        
-        game.getBatch().end();
+    }
+    
+    /**
+     * Rejilla de hasta GACHA_MULTI_PULL miniaturas con un marco del color del deck
+     */
+    private void drawMultiReveal() {
+        float cardHeight = REVEAL_CARD_WIDTH * 1.4f;
+        int rows = (revealCards.size + REVEAL_COLS - 1) / REVEAL_COLS;
+        float gridHeight = rows * cardHeight + (rows - 1) * REVEAL_SPACING;
+        float topY = (Constants.VIRTUAL_HEIGHT + gridHeight) / 2f;
+        
+        for (int i = 0; i < revealCards.size; i++) {
+            int row = i / REVEAL_COLS;
+            int col = i % REVEAL_COLS;
+            int inRow = Math.min(REVEAL_COLS, revealCards.size - row * REVEAL_COLS);
+            float rowWidth = inRow * REVEAL_CARD_WIDTH + (inRow - 1) * REVEAL_SPACING;
+            
+            float x = (Constants.VIRTUAL_WIDTH - rowWidth) / 2f + col * (REVEAL_CARD_WIDTH + REVEAL_SPACING);
+            float y = topY - (row + 1) * cardHeight - row * REVEAL_SPACING;
+            
+            if (cardBackTexture != null) {
+                saveColor();
+                game.getBatch().setColor(getDeckColor(SaveManager.getDeckFromCardId(revealCards.get(i))));
+                game.getBatch().draw(cardBackTexture, x - 3f, y - 3f, REVEAL_CARD_WIDTH + 6f, cardHeight + 6f);
+                restoreColor();
+            }
+            
+            TextureRegion thumb = thumbnails.getThumbnail(revealCards.get(i));
+            if (thumb != null) {
+                game.getBatch().draw(thumb, x, y, REVEAL_CARD_WIDTH, cardHeight);
+            }
+        }
     }
     
     private Color getDeckColor(int deckIndex) {
@@ -660,11 +809,14 @@ public class BazaarScreen extends BaseScreen {
             assets.release(path);
         }
         
-        // Liberar la carta del resultado gacha si existe
-        if (gachaResultTexture != null) {
-            gachaResultTexture.dispose();
-            gachaResultTexture = null;
+        // Liberar las cartas del resultado gacha (y los Pixmaps aún en vuelo)
+        Pixmap[] pending = takePendingReveal();
+        if (pending != null) {
+            for (Pixmap pixmap : pending) {
+                if (pixmap != null) pixmap.dispose();
+            }
         }
+        disposeReveal();
         
         // Los botones no poseen las texturas, no hacer dispose
         
@@ -5,27 +5,30 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
 import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringId;
 import com.darkphoenixteam.kawaiinekomemory.systems.AudioManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.SaveManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.SharedAssetManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.SoundId;
+import com.darkphoenixteam.kawaiinekomemory.systems.ThumbnailAtlas;
 import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
 
 /**
  * Editor de mazo OPTIMIZADO
  * - Usa SharedAssetManager para texturas compartidas
- * - Carga cartas bajo demanda (lazy loading)
- * - Memoria reducida de ~7MB a ~1MB
+ * - Cartas desde ThumbnailAtlas: una sola textura de miniaturas
+ *   (antes hasta 35 texturas a resolución completa)
  * 
  * @author DarkphoenixTeam
- * @version 2.0 - Optimización de memoria
+ * @version 2.1 - Miniaturas compartidas
  */
 public class DeckEditorScreen extends BaseScreen {
     
@@ -71,11 +74,11 @@ public class DeckEditorScreen extends BaseScreen {
     // === TEXTURAS (SharedAssetManager) ===
     private SharedAssetManager assets;
     private Texture patternTexture;
-    private Texture cardBackTexture;
     private Texture nekoinIconTexture;
     
-    // Cache local de cartas cargadas (solo las visibles)
-    private final ObjectMapSimple<Integer, Texture> loadedCards;
+    // Miniaturas de todas las cartas y reverso (no poseemos la textura)
+    private ThumbnailAtlas thumbnails;
+    private TextureRegion cardBackRegion;
     
     // === BOTONES ===
     private SimpleButton backButton;
@@ -92,47 +95,9 @@ public class DeckEditorScreen extends BaseScreen {
     private LocaleManager locale;
     private ShapeRenderer shapeRenderer;
     
-    private final Vector2 touchPoint = new Vector2();
-    
     private float activeGridX, activeGridY;
     private float availableGridX, availableGridY;
     
-    /**
-     * Clase simple de mapa para evitar dependencia de ObjectMap con Integer
-     */
-    private static class ObjectMapSimple<K, V> {
-        private final Array<K> keys = new Array<>();
-        private final Array<V> values = new Array<>();
-        
-        public void put(K key, V value) {
-            int idx = keys.indexOf(key, false);
-            if (idx >= 0) {
-                values.set(idx, value);
-            } else {
-                keys.add(key);
-                values.add(value);
-            }
-        }
-        
-        public V get(K key) {
-            int idx = keys.indexOf(key, false);
-            return idx >= 0 ? values.get(idx) : null;
-        }
-        
-        public boolean containsKey(K key) {
-            return keys.indexOf(key, false) >= 0;
-        }
-        
-        public void clear() {
-            keys.clear();
-            values.clear();
-        }
-        
-        public Array<V> getValues() {
-            return values;
-        }
-    }
-    
     public DeckEditorScreen(KawaiiNekoMemory game) {
         super(game);
         
@@ -149,7 +114,6 @@ public class DeckEditorScreen extends BaseScreen {
         assets = SharedAssetManager.getInstance();
         shapeRenderer = new ShapeRenderer();
         
-        loadedCards = new ObjectMapSimple<>();
         activeSlotBounds = new Array<>();
         availableCardBounds = new Array<>();
         
@@ -160,9 +124,6 @@ public class DeckEditorScreen extends BaseScreen {
         createBounds();
         createButtons();
         
-        // Precargar solo las cartas desbloqueadas que se van a mostrar
-        preloadVisibleCards();
-        
         Gdx.app.log(TAG, "Deck Editor inicializado (optimizado)");
         Gdx.app.log(TAG, "Memoria: " + assets.getMemoryUsage());
     }
@@ -174,55 +135,19 @@ public class DeckEditorScreen extends BaseScreen {
             patternTexture.setWrap(Texture.TextureWrap.Repeat, Texture.TextureWrap.Repeat);
         }
         
-        cardBackTexture = assets.get(AssetPaths.CARD_BACK);
         nekoinIconTexture = assets.get(AssetPaths.ICON_NEKOIN);
-    }
-    
-    /**
-     * Precarga solo las cartas que están desbloqueadas
-     * (Optimización: no cargamos las 35, solo las necesarias)
-     */
-    private void preloadVisibleCards() {
-        int loaded = 0;
-        for (int cardId = 0; cardId < Constants.TOTAL_CARDS; cardId++) {
-            if (saveManager.isCardUnlocked(cardId)) {
-                Texture tex = loadCard(cardId);
-                if (tex != null) loaded++;
-            }
-        }
-        Gdx.app.log(TAG, "Cartas precargadas: " + loaded);
-    }
-    
-    /**
-     * Carga una carta individual (lazy loading)
-     */
-    private Texture loadCard(int cardId) {
-        if (loadedCards.containsKey(cardId)) {
-            return loadedCards.get(cardId);
-        }
         
-        String path = assets.getCardPath(cardId);
-        try {
-            Texture tex = new Texture(Gdx.files.internal(path));
-            loadedCards.put(cardId, tex);
-            return tex;
-        } catch (Exception e) {
-            Gdx.app.error(TAG, "Error cargando carta " + cardId);
-            return null;
-        }
+        // Preparada en segundo plano desde el arranque; si no, se genera aquí una vez
+        thumbnails = ThumbnailAtlas.getInstance();
+        cardBackRegion = thumbnails.getBack();
     }
     
     /**
-     * Obtiene textura de carta (carga si es necesario)
+     * Miniatura de la carta, o null si no hay carta o está bloqueada
      */
-    private Texture getCardTexture(int cardId) {
-        if (cardId < 0) return null;
-        
-        Texture tex = loadedCards.get(cardId);
-        if (tex == null && saveManager.isCardUnlocked(cardId)) {
-            tex = loadCard(cardId);
-        }
-        return tex;
+    private TextureRegion getCardRegion(int cardId) {
+        if (cardId < 0 || !saveManager.isCardUnlocked(cardId)) return null;
+        return thumbnails.getThumbnail(cardId);
     }
     
     private void calculatePositions() {
@@ -261,9 +186,9 @@ public class DeckEditorScreen extends BaseScreen {
             float btnX = (Constants.VIRTUAL_WIDTH - btnWidth) / 2f;
             float btnY = 15f;
             
-            backButton = new SimpleButton(backTex, locale.get("common.back"), btnX, btnY, btnWidth, btnHeight);
+            backButton = new SimpleButton(backTex, locale.get(StringId.COMMON_BACK), btnX, btnY, btnWidth, btnHeight);
             backButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 game.setScreen(new HomeScreen(game));
             });
         }
@@ -272,16 +197,18 @@ public class DeckEditorScreen extends BaseScreen {
     @Override
     protected void update(float delta) {
         if (tapTimer > 0) tapTimer -= delta;
+    }
+    
+    @Override
+    protected boolean onTouchDown(float x, float y, int pointer) {
+        if (pressButton(backButton, x, y)) return true;
         
-        if (!isInputEnabled()) return;
-        
-        if (backButton != null) backButton.update(viewport);
-        
-        if (Gdx.input.justTouched() && tapTimer <= 0) {
-            viewport.unproject(touchPoint.set(Gdx.input.getX(), Gdx.input.getY()));
-            handleTouch(touchPoint.x, touchPoint.y);
+        if (tapTimer <= 0) {
+            handleTouch(x, y);
             tapTimer = TAP_COOLDOWN;
+            return true;
         }
+        return false;
     }
     
     private void handleTouch(float x, float y) {
@@ -301,24 +228,24 @@ public class DeckEditorScreen extends BaseScreen {
         
         if (selectedSlot >= 0) {
             selectedSlot = -1;
-            audioManager.playSound(AssetPaths.SFX_BUTTON);
+            audioManager.playSound(SoundId.BUTTON);
         }
     }
     
     private void onActiveSlotClicked(int slotIndex) {
-        Array<Integer> activeCards = saveManager.getActiveCards();
-        int cardInSlot = (slotIndex < activeCards.size) ? activeCards.get(slotIndex) : -1;
+        SaveManager.ActiveCardsView activeCards = saveManager.getActiveCardsView();
+        int cardInSlot = (slotIndex < activeCards.size()) ? activeCards.get(slotIndex) : -1;
         
         if (selectedSlot == slotIndex) {
             selectedSlot = -1;
-            audioManager.playSound(AssetPaths.SFX_BUTTON);
+            audioManager.playSound(SoundId.BUTTON);
         } else if (selectedSlot >= 0) {
             saveManager.swapActiveCards(selectedSlot, slotIndex);
             selectedSlot = -1;
-            audioManager.playSound(AssetPaths.SFX_MATCH);
+            audioManager.playSound(SoundId.MATCH);
         } else if (cardInSlot >= 0) {
             selectedSlot = slotIndex;
-            audioManager.playSound(AssetPaths.SFX_BUTTON);
+            audioManager.playSound(SoundId.BUTTON);
         }
     }
     
@@ -327,29 +254,29 @@ public class DeckEditorScreen extends BaseScreen {
         boolean active = saveManager.isCardActive(cardId);
         
         if (!unlocked) {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             return;
         }
         
         if (active) {
             saveManager.removeActiveCard(cardId);
-            audioManager.playSound(AssetPaths.SFX_BUTTON);
+            audioManager.playSound(SoundId.BUTTON);
             return;
         }
         
         if (selectedSlot >= 0) {
             if (saveManager.setActiveCardSlot(selectedSlot, cardId)) {
-                audioManager.playSound(AssetPaths.SFX_MATCH);
+                audioManager.playSound(SoundId.MATCH);
                 selectedSlot = -1;
             } else {
-                audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+                audioManager.playSound(SoundId.NO_MATCH);
             }
         } else {
             int slot = saveManager.addActiveCard(cardId);
             if (slot >= 0) {
-                audioManager.playSound(AssetPaths.SFX_MATCH);
+                audioManager.playSound(SoundId.MATCH);
             } else {
-                audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+                audioManager.playSound(SoundId.NO_MATCH);
             }
         }
     }
@@ -385,7 +312,7 @@ public class DeckEditorScreen extends BaseScreen {
     }
     
     private void drawHeader() {
-        String title = locale.get("deck.title");
+        String title = locale.get(StringId.DECK_TITLE);
         layout.setText(titleFont, title);
         titleFont.draw(game.getBatch(), title, 
                       (Constants.VIRTUAL_WIDTH - layout.width) / 2f, 
@@ -403,13 +330,13 @@ public class DeckEditorScreen extends BaseScreen {
     }
     
     private void drawActiveGrid() {
-        Array<Integer> activeCards = saveManager.getActiveCards();
+        SaveManager.ActiveCardsView activeCards = saveManager.getActiveCardsView();
         
         shapeRenderer.setProjectionMatrix(camera.combined);
         
         for (int i = 0; i < 15; i++) {
             Rectangle bounds = activeSlotBounds.get(i);
-            int cardId = (i < activeCards.size) ? activeCards.get(i) : -1;
+            int cardId = (i < activeCards.size()) ? activeCards.get(i) : -1;
             
             Color borderColor = getSlotDifficultyColor(i);
             if (i == selectedSlot) {
@@ -423,12 +350,12 @@ public class DeckEditorScreen extends BaseScreen {
             
             game.getBatch().begin();
             
-            Texture tex = getCardTexture(cardId);
-            if (tex != null) {
-                game.getBatch().draw(tex, bounds.x, bounds.y, bounds.width, bounds.height);
-            } else if (cardBackTexture != null) {
+            TextureRegion region = getCardRegion(cardId);
+            if (region != null) {
+                game.getBatch().draw(region, bounds.x, bounds.y, bounds.width, bounds.height);
+            } else if (cardBackRegion != null) {
                 game.getBatch().setColor(0.3f, 0.3f, 0.3f, 0.5f);
-                game.getBatch().draw(cardBackTexture, bounds.x, bounds.y, bounds.width, bounds.height);
+                game.getBatch().draw(cardBackRegion, bounds.x, bounds.y, bounds.width, bounds.height);
                 game.getBatch().setColor(1f, 1f, 1f, 1f);
             }
             
@@ -445,7 +372,7 @@ public class DeckEditorScreen extends BaseScreen {
     
     private void drawAvailableGrid() {
         game.getBatch().begin();
-        String sectionTitle = locale.format("deck.available", saveManager.getUnlockedCardCount());
+        String sectionTitle = locale.format(StringId.DECK_AVAILABLE, saveManager.getUnlockedCardCount());
         layout.setText(smallFont, sectionTitle);
         smallFont.draw(game.getBatch(), sectionTitle, 
                       (Constants.VIRTUAL_WIDTH - layout.width) / 2f, 
@@ -473,7 +400,7 @@ public class DeckEditorScreen extends BaseScreen {
             
             game.getBatch().begin();
             
-            Texture tex = getCardTexture(cardId);
+            TextureRegion region = getCardRegion(cardId);
             
             if (!unlocked) {
                 game.getBatch().setColor(0.15f, 0.15f, 0.15f, 1f);
@@ -481,10 +408,10 @@ public class DeckEditorScreen extends BaseScreen {
                 game.getBatch().setColor(1f, 1f, 1f, 0.5f);
             }
             
-            if (tex != null) {
-                game.getBatch().draw(tex, bounds.x, bounds.y, bounds.width, bounds.height);
-            } else if (cardBackTexture != null) {
-                game.getBatch().draw(cardBackTexture, bounds.x, bounds.y, bounds.width, bounds.height);
+            if (region != null) {
+                game.getBatch().draw(region, bounds.x, bounds.y, bounds.width, bounds.height);
+            } else if (cardBackRegion != null) {
+                game.getBatch().draw(cardBackRegion, bounds.x, bounds.y, bounds.width, bounds.height);
             }
             
             game.getBatch().setColor(1f, 1f, 1f, 1f);
@@ -497,7 +424,7 @@ public class DeckEditorScreen extends BaseScreen {
         float infoY = 85f;
         
         int activeCount = saveManager.getActiveCardCount();
-        String countText = locale.format("deck.active", activeCount);
+        String countText = locale.format(StringId.DECK_ACTIVE, activeCount);
         
         if (activeCount < 6) {
             smallFont.setColor(Color.RED);
@@ -512,12 +439,12 @@ public class DeckEditorScreen extends BaseScreen {
         smallFont.setColor(Color.WHITE);
         
         // Mostrar requisitos
-        String reqText = locale.get("deck.requirements");
+        String reqText = locale.get(StringId.DECK_REQUIREMENTS);
         layout.setText(smallFont, reqText);
         smallFont.setColor(Color.GRAY);
         smallFont.draw(game.getBatch(), reqText, (Constants.VIRTUAL_WIDTH - layout.width) / 2f, infoY - 18f);
         
-        String hint = selectedSlot >= 0 ? locale.get("deck.hint.place") : locale.get("deck.hint.select");
+        String hint = selectedSlot >= 0 ? locale.get(StringId.DECK_HINT_PLACE) : locale.get(StringId.DECK_HINT_SELECT);
         layout.setText(smallFont, hint);
         smallFont.draw(game.getBatch(), hint, (Constants.VIRTUAL_WIDTH - layout.width) / 2f, infoY - 36f);
         smallFont.setColor(Color.WHITE);
@@ -529,17 +456,10 @@ public class DeckEditorScreen extends BaseScreen {
         
         // Liberar referencias del SharedAssetManager
         assets.release(AssetPaths.PATTERN_HOME);
-        assets.release(AssetPaths.CARD_BACK);
         assets.release(AssetPaths.ICON_NEKOIN);
         assets.release(AssetPaths.BTN_BACK);
         
-        // Liberar cartas cargadas localmente
-        for (Texture tex : loadedCards.getValues()) {
-            if (tex != null) {
-                tex.dispose();
-            }
-        }
-        loadedCards.clear();
+        // Las miniaturas son compartidas (ThumbnailAtlas): no se liberan aquí
         
         if (shapeRenderer != null) shapeRenderer.dispose();
         
@@ -5,18 +5,25 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
 import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringId;
 import com.darkphoenixteam.kawaiinekomemory.models.Achievement;
+import com.darkphoenixteam.kawaiinekomemory.models.Board;
 import com.darkphoenixteam.kawaiinekomemory.models.Card;
 import com.darkphoenixteam.kawaiinekomemory.models.LevelData;
 import com.darkphoenixteam.kawaiinekomemory.systems.AudioManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.LevelCatalog;
 import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.MusicManifest;
 import com.darkphoenixteam.kawaiinekomemory.systems.SaveManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.SoundId;
+import com.darkphoenixteam.kawaiinekomemory.systems.TweenEngine;
 import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
 
 /**
@@ -24,12 +31,17 @@ import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
  * Maneja el tablero de cartas, timer, puntuación y paneles de resultado
  * 
  * @author DarkphoenixTeam
- * @version 2.0 - Localización completa
+ * @version 2.3 - Animaciones con TweenEngine
  */
-public class GameScreen extends BaseScreen {
+public class GameScreen extends BaseScreen implements TweenEngine.Target {
     
     private static final String TAG = "GameScreen";
     
+    // === CANALES DE TWEEN ===
+    private static final int TWEEN_PANEL_POP = 0;
+    private static final int TWEEN_BONUS_COUNTER = 1;
+    private static final int TWEEN_TOTAL_COUNTER = 2;
+    
     // ==================== ESTADOS DEL JUEGO ====================
     
     public enum GameState {
@@ -57,6 +69,7 @@ public class GameScreen extends BaseScreen {
     
     // ==================== TABLERO ====================
     
+    private Board board;
     private Array<Card> cards;
     private Card firstRevealed;
     private Card secondRevealed;
@@ -65,10 +78,6 @@ public class GameScreen extends BaseScreen {
     private Array<Texture> cardFrontTextures;
     private Texture backgroundTexture;
     
-    private float boardX, boardY;
-    private float boardWidth, boardHeight;
-    private float cardWidth, cardHeight;
-    
     // ==================== TIMER Y PUNTUACIÓN ====================
     
     private float timeRemaining;
@@ -76,6 +85,9 @@ public class GameScreen extends BaseScreen {
     private float elapsedTime;
     private int moveCount;
     private int deckBonus;
+    private float displayedBonus;       // Contador animado del HUD
+    private float displayedTotal;       // Contador animado del panel de victoria
+    private float panelScale = 1f;      // Pop-in de paneles
     private boolean isTimeFrozen;
     private float timeFreezeRemaining;
     
@@ -104,6 +116,7 @@ public class GameScreen extends BaseScreen {
     private BitmapFont titleFont;
     private BitmapFont buttonFont;
     private GlyphLayout layout;
+    private String levelLabel;          // "Fácil 12": constante durante la partida
     
     private SimpleButton pauseButton;
     private SimpleButton hintButton;
@@ -152,10 +165,6 @@ public class GameScreen extends BaseScreen {
     private SaveManager saveManager;
     private LocaleManager locale;
     
-    // ==================== INPUT ====================
-    
-    private final Vector2 touchPoint = new Vector2();
-    
     // ==================== CONSTRUCTOR ====================
     
     public GameScreen(KawaiiNekoMemory game, LevelData levelData) {
@@ -170,21 +179,48 @@ public class GameScreen extends BaseScreen {
         this.titleFont = game.getFontManager().getTitleFont();
         this.buttonFont = game.getFontManager().getButtonFont();
         this.layout = new GlyphLayout();
+        this.levelLabel = getLocalizedDifficultyName() + " " + levelData.getLocalId();
         
-        this.cards = new Array<>();
+        this.board = new Board(levelData.getCols(), levelData.getRows(),
+                               levelData.getPairsPerGrid(), tweens);
+        this.cards = board.getCards();
         this.cardFrontTextures = new Array<>();
         
         this.timeLimit = levelData.getTimeLimit();
+        this.totalGrids = levelData.getGridCount();
+        this.pairsPerGrid = levelData.getPairsPerGrid();
+        
+        resetGameState();
+        
+        loadAssets();
+        createBoard();
+        createHUD();
+        createPanels();
+        playRandomGameMusic();
+        
+        Gdx.app.log(TAG, "=== NIVEL INICIADO ===");
+        Gdx.app.log(TAG, levelData.toString());
+        Gdx.app.log(TAG, "Powers: Hint=" + hintUsesLeft + " | TimeFreeze=" + timeFreezeUsesLeft);
+    }
+    
+    /**
+     * Deja la partida en su estado inicial (constructor y reinicio)
+     */
+    private void resetGameState() {
         this.timeRemaining = timeLimit;
         this.elapsedTime = 0f;
-        this.totalGrids = levelData.getGridCount();
         this.currentGrid = 0;
-        this.pairsPerGrid = levelData.getDifficulty().getPairs();
         this.pairsFoundThisGrid = 0;
         this.pairsFoundTotal = 0;
         this.matchesSinceShuffle = 0;
         this.moveCount = 0;
         this.deckBonus = 0;
+        this.displayedBonus = 0f;
+        this.displayedTotal = 0f;
+        this.panelScale = 1f;
+        tweens.kill(this, TWEEN_PANEL_POP);
+        tweens.kill(this, TWEEN_BONUS_COUNTER);
+        tweens.kill(this, TWEEN_TOTAL_COUNTER);
         this.isTimeFrozen = false;
         this.timeFreezeRemaining = 0f;
         
@@ -200,20 +236,26 @@ public class GameScreen extends BaseScreen {
         this.mistakesThisGame = 0;
         this.powersUsedThisGame = 0;
         
+        this.firstRevealed = null;
+        this.secondRevealed = null;
+        this.noMatchCard1 = null;
+        this.noMatchCard2 = null;
+        this.cardsRevealedAtStart = false;
+        
         this.gameState = GameState.STARTING;
         this.startingTimer = STARTING_DURATION;
         
         this.isFirstClear = !saveManager.isLevelCompleted(levelData.getGlobalId());
-        
-        loadAssets();
+    }
+    
+    /**
+     * Reinicia el nivel sobre la misma pantalla: reutiliza texturas, cartas y botones
+     */
+    private void restartLevel() {
+        resetGameState();
         createBoard();
-        createHUD();
-        createPanels();
-        playRandomGameMusic();
-        
-        Gdx.app.log(TAG, "=== NIVEL INICIADO ===");
-        Gdx.app.log(TAG, levelData.toString());
-        Gdx.app.log(TAG, "Powers: Hint=" + hintUsesLeft + " | TimeFreeze=" + timeFreezeUsesLeft);
+        audioManager.resumeMusic();
+        Gdx.app.log(TAG, "=== NIVEL REINICIADO ===");
     }
     
     // ==================== CARGA DE ASSETS ====================
@@ -231,6 +273,7 @@ public class GameScreen extends BaseScreen {
         } catch (Exception e) {
             Gdx.app.error(TAG, "Error cargando card back");
         }
+        board.setBackTexture(cardBackTexture);
         
         loadDeckTextures();
         
@@ -269,16 +312,11 @@ public class GameScreen extends BaseScreen {
     }
     
     private void loadDeckTextures() {
-        Array<Integer> activeCards = saveManager.getActiveCards();
         int cardsNeeded = levelData.getUniqueCardsRequired();
         
-        Array<Integer> validCardIds = new Array<>();
-        for (int i = 0; i < activeCards.size; i++) {
-            int cardId = activeCards.get(i);
-            if (cardId >= 0) {
-                validCardIds.add(cardId);
-            }
-        }
+        IntArray validCardIds = saveManager.getActiveCardsView()
+            .copyValidTo(new IntArray(Math.max(cardsNeeded, Constants.ACTIVE_DECK_SIZE)));
+        int distinctCards = validCardIds.size;
         
         if (validCardIds.size < cardsNeeded) {
             while (validCardIds.size < cardsNeeded && validCardIds.size > 0) {
@@ -286,7 +324,7 @@ public class GameScreen extends BaseScreen {
             }
         }
         
-        for (int i = 0; i < cardsNeeded; i++) {
+        for (int i = 0; i < cardsNeeded && i < validCardIds.size; i++) {
             int cardId = validCardIds.get(i);
             int deck = SaveManager.getDeckFromCardId(cardId);
             int cardIndex = SaveManager.getCardIndexFromCardId(cardId);
@@ -300,94 +338,51 @@ public class GameScreen extends BaseScreen {
                 cardFrontTextures.add(null);
             }
         }
+        
+        // Datos por par: se resuelven una vez, cada reparto solo baraja
+        for (int pairId = 0; pairId < board.getPairs(); pairId++) {
+            Texture frontTex = (pairId < cardFrontTextures.size) ? 
+                               cardFrontTextures.get(pairId) : null;
+            
+            if (pairId < distinctCards) {
+                int realCardId = validCardIds.get(pairId);
+                board.setPair(pairId, frontTex,
+                    SaveManager.getDeckFromCardId(realCardId),
+                    SaveManager.getCardIndexFromCardId(realCardId),
+                    saveManager.getCardNekoinValue(realCardId));
+            } else {
+                board.setPair(pairId, frontTex, 0, 0, 1);
+            }
+        }
     }
     
     // ==================== CREACIÓN DEL TABLERO ====================
     
+    /**
+     * Reparte un grid nuevo. Las cartas vienen del pool del tablero:
+     * tras el primer grid no se crean objetos ni se cargan texturas.
+     */
     private void createBoard() {
-        cards.clear();
-        
-        LevelData.Difficulty diff = levelData.getDifficulty();
-        int cols = diff.cols;
-        int rows = diff.rows;
-        int pairs = diff.getPairs();
-        
-        float hudHeight = Constants.HUD_HEIGHT;
-        float padding = Constants.GRID_PADDING;
-        float margin = Constants.CARD_MARGIN_PERCENT;
-        
-        boardWidth = Constants.VIRTUAL_WIDTH - (padding * 2);
-        boardHeight = Constants.VIRTUAL_HEIGHT - hudHeight - (padding * 2);
-        boardX = padding;
-        boardY = padding;
-        
-        float totalMarginX = boardWidth * margin * (cols + 1);
-        float totalMarginY = boardHeight * margin * (rows + 1);
-        
-        cardWidth = (boardWidth - totalMarginX) / cols;
-        cardHeight = (boardHeight - totalMarginY) / rows;
-        
-        float desiredRatio = 1.4f;
-        if (cardHeight > cardWidth * desiredRatio) {
-            cardHeight = cardWidth * desiredRatio;
-        } else {
-            cardWidth = cardHeight / desiredRatio;
-        }
-        
-        float actualMarginX = (boardWidth - (cardWidth * cols)) / (cols + 1);
-        float actualMarginY = (boardHeight - (cardHeight * rows)) / (rows + 1);
-        
-        float startX = boardX + actualMarginX;
-        float startY = boardY + actualMarginY;
-        
-        Array<Integer> cardIds = new Array<>();
-        for (int i = 0; i < pairs; i++) {
-            cardIds.add(i);
-            cardIds.add(i);
-        }
-        cardIds.shuffle();
-        
-        Array<Integer> activeCardIds = saveManager.getActiveCards();
-        
-        int cardIndex = 0;
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                if (cardIndex >= cardIds.size) break;
-                
-                float x = startX + col * (cardWidth + actualMarginX);
-                float y = startY + (rows - 1 - row) * (cardHeight + actualMarginY);
-                
-                int pairId = cardIds.get(cardIndex);
-                Texture frontTex = (pairId < cardFrontTextures.size) ? 
-                                   cardFrontTextures.get(pairId) : null;
-                
-                Card card = new Card(pairId, frontTex, cardBackTexture, x, y, cardWidth, cardHeight);
-                
-                int realCardId = -1;
-                int validIndex = 0;
-                for (int i = 0; i < activeCardIds.size && validIndex <= pairId; i++) {
-                    if (activeCardIds.get(i) >= 0) {
-                        if (validIndex == pairId) {
-                            realCardId = activeCardIds.get(i);
-                            break;
-                        }
-                        validIndex++;
-                    }
-                }
-                
-                if (realCardId >= 0) {
-                    int deckIndex = SaveManager.getDeckFromCardId(realCardId);
-                    card.setDeckIndex(deckIndex);
-                    card.setCardIndex(SaveManager.getCardIndexFromCardId(realCardId));
-                    card.setNekoinValue(saveManager.getCardNekoinValue(realCardId));
-                } else {
-                    card.setDeckIndex(0);
-                    card.setNekoinValue(1);
-                }
-                
-                cards.add(card);
-                cardIndex++;
-            }
+        board.deal();
+        cards = board.getCards();
+        prepareNextGridIfNeeded();
+    }
+    
+    /**
+     * Activa el grid pre-generado (intercambio de buffers, sin picos de frame)
+     */
+    private void advanceBoard() {
+        board.swapToNext();
+        cards = board.getCards();
+        prepareNextGridIfNeeded();
+    }
+    
+    /**
+     * ENDURANCE/MASTERY: el siguiente grid se baraja en segundo plano mientras se juega
+     */
+    private void prepareNextGridIfNeeded() {
+        if (currentGrid + 1 < totalGrids) {
+            board.prepareNext();
         }
     }
     
@@ -454,35 +449,35 @@ public class GameScreen extends BaseScreen {
         float btnY = panelY + panelHeight * 0.15f;
         
         if (buttonTexture != null) {
-            exitButton = new SimpleButton(buttonTexture, locale.get("game.btn.exit"),
+            exitButton = new SimpleButton(buttonTexture, locale.get(StringId.GAME_BTN_EXIT),
                 btnX, btnY, btnWidth, btnHeight);
             exitButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 game.setScreen(new LevelSelectScreen(game));
             });
             
             btnY += btnHeight + btnSpacing;
             
-            restartButton = new SimpleButton(buttonTexture, locale.get("game.btn.restart"),
+            restartButton = new SimpleButton(buttonTexture, locale.get(StringId.GAME_BTN_RESTART),
                 btnX, btnY, btnWidth, btnHeight);
             restartButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
-                game.setScreen(new GameScreen(game, levelData));
+                audioManager.playSound(SoundId.BUTTON);
+                restartLevel();
             });
             
             btnY += btnHeight + btnSpacing;
             
-            continueButton = new SimpleButton(buttonTexture, locale.get("game.btn.continue"),
+            continueButton = new SimpleButton(buttonTexture, locale.get(StringId.GAME_BTN_CONTINUE),
                 btnX, btnY, btnWidth, btnHeight);
             continueButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 resumeGame();
             });
             
-            nextLevelButton = new SimpleButton(buttonTexture, locale.get("game.btn.next"),
+            nextLevelButton = new SimpleButton(buttonTexture, locale.get(StringId.GAME_BTN_NEXT),
                 btnX, btnY, btnWidth, btnHeight);
             nextLevelButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 goToNextLevel();
             });
         }
@@ -491,10 +486,7 @@ public class GameScreen extends BaseScreen {
     // ==================== MÚSICA ====================
     
     private void playRandomGameMusic() {
-        int trackIndex = MathUtils.random(0, Constants.GAME_MUSIC_TRACKS - 1);
-        String musicPath = AssetPaths.getGameMusicPath(trackIndex);
-        audioManager.playMusic(musicPath, true);
-        Gdx.app.log(TAG, "Música: " + musicPath);
+        audioManager.playMusicGroup(MusicManifest.GAME);
     }
     
     // ==================== HELPER: NOMBRE DE DIFICULTAD ====================
@@ -504,45 +496,65 @@ public class GameScreen extends BaseScreen {
      */
     private String getLocalizedDifficultyName() {
         switch (levelData.getDifficulty()) {
-            case EASY: return locale.get("difficulty.easy");
-            case NORMAL: return locale.get("difficulty.normal");
-            case ADVANCED: return locale.get("difficulty.advanced");
-            case HARD: return locale.get("difficulty.hard");
+            case EASY: return locale.get(StringId.DIFFICULTY_EASY);
+            case NORMAL: return locale.get(StringId.DIFFICULTY_NORMAL);
+            case ADVANCED: return locale.get(StringId.DIFFICULTY_ADVANCED);
+            case HARD: return locale.get(StringId.DIFFICULTY_HARD);
             default: return "???";
         }
     }
     
     // ==================== UPDATE ====================
     
+    /**
+     * Simulación a paso fijo: timers y animaciones de cartas.
+     * Un hitch del dispositivo ya no consume tiempo del jugador más allá del clamp de BaseScreen.
+     */
     @Override
-    protected void update(float delta) {
-        for (Card card : cards) {
-            card.update(delta);
-        }
+    protected void fixedUpdate(float step) {
+        board.update(step);
         
         switch (gameState) {
             case STARTING:
-                updateStarting(delta);
+                updateStarting(step);
                 break;
             case PLAYING:
-                updatePlaying(delta);
+                updateTimers(step);
                 break;
             case CHECKING:
-                updateChecking(delta);
+                updateChecking(step);
                 break;
             case NO_MATCH_SHAKE:
-                updateNoMatchShake(delta);
+                updateNoMatchShake(step);
                 break;
             case SHUFFLING:
-                updateShuffling(delta);
+                updateShuffling(step);
                 break;
-            case PAUSED:
-                updatePaused(delta);
+            default:
                 break;
+        }
+    }
+    
+    /**
+     * Input y UI, una vez por frame
+     */
+    @Override
+    protected void update(float delta) {
+        board.pumpNext(Constants.GRID_PREP_CARDS_PER_FRAME);
+    }
+    
+    @Override
+    protected boolean onTouchDown(float x, float y, int pointer) {
+        switch (gameState) {
+            case PLAYING:
+                return touchPlaying(x, y);
+            case PAUSED:
+                return touchPaused(x, y);
             case VICTORY:
             case DEFEAT:
-                updateResult(delta);
-                break;
+                return touchResult(x, y);
+            default:
+                return false;
         }
     }
     
@@ -554,7 +566,7 @@ public class GameScreen extends BaseScreen {
                 }
             }
             cardsRevealedAtStart = true;
-            audioManager.playSound(AssetPaths.SFX_CARD_SHUFFLE);
+            audioManager.playSound(SoundId.CARD_SHUFFLE);
         }
         
         startingTimer -= delta;
@@ -581,7 +593,11 @@ public class GameScreen extends BaseScreen {
         }
     }
     
-    private void updatePlaying(float delta) {
+    /**
+     * Avanza el tiempo de juego y el time freeze
+     * @return false si el tiempo se agotó (derrota)
+     */
+    private boolean updateTimers(float delta) {
         elapsedTime += delta;
         
         if (!isTimeFrozen) {
@@ -589,7 +605,7 @@ public class GameScreen extends BaseScreen {
             if (timeRemaining <= 0) {
                 timeRemaining = 0;
                 onDefeat();
-                return;
+                return false;
             }
         } else {
             timeFreezeRemaining -= delta;
@@ -598,36 +614,20 @@ public class GameScreen extends BaseScreen {
                 timeFreezeRemaining = 0f;
             }
         }
+        return true;
+    }
+    
+    private boolean touchPlaying(float x, float y) {
+        if (pressButton(pauseButton, x, y)) return true;
+        if (pressButton(hintButton, x, y)) return true;
+        if (pressButton(timeFreezeButton, x, y)) return true;
         
-        if (!isInputEnabled()) return;
-        
-        if (pauseButton != null) pauseButton.update(viewport);
-        if (hintButton != null) hintButton.update(viewport);
-        if (timeFreezeButton != null) timeFreezeButton.update(viewport);
-        
-        if (Gdx.input.justTouched()) {
-            viewport.unproject(touchPoint.set(Gdx.input.getX(), Gdx.input.getY()));
-            handleCardTouch(touchPoint.x, touchPoint.y);
-        }
+        handleCardTouch(x, y);
+        return true;
     }
     
     private void updateChecking(float delta) {
-        elapsedTime += delta;
-        
-        if (!isTimeFrozen) {
-            timeRemaining -= delta;
-            if (timeRemaining <= 0) {
-                timeRemaining = 0;
-                onDefeat();
-                return;
-            }
-        } else {
-            timeFreezeRemaining -= delta;
-            if (timeFreezeRemaining <= 0) {
-                isTimeFrozen = false;
-                timeFreezeRemaining = 0f;
-            }
-        }
+        if (!updateTimers(delta)) return;
         
         checkDelayTimer -= delta;
         
@@ -637,22 +637,7 @@ public class GameScreen extends BaseScreen {
     }
     
     private void updateNoMatchShake(float delta) {
-        elapsedTime += delta;
-        
-        if (!isTimeFrozen) {
-            timeRemaining -= delta;
-            if (timeRemaining <= 0) {
-                timeRemaining = 0;
-                onDefeat();
-                return;
-            }
-        } else {
-            timeFreezeRemaining -= delta;
-            if (timeFreezeRemaining <= 0) {
-                isTimeFrozen = false;
-                timeFreezeRemaining = 0f;
-            }
-        }
+        if (!updateTimers(delta)) return;
         
         noMatchShakeTimer -= delta;
         
@@ -673,27 +658,30 @@ public class GameScreen extends BaseScreen {
         }
     }
     
+    /**
+     * El reloj sigue corriendo mientras las cartas se deslizan
+     * (el barajado no regala tiempo para las estrellas)
+     */
     private void updateShuffling(float delta) {
-        elapsedTime += delta;
-        gameState = GameState.PLAYING;
+        if (!updateTimers(delta)) return;
+        
+        if (!board.isSliding()) {
+            gameState = GameState.PLAYING;
+        }
     }
     
-    private void updatePaused(float delta) {
-        if (!isInputEnabled()) return;
-        
-        if (continueButton != null) continueButton.update(viewport);
-        if (restartButton != null) restartButton.update(viewport);
-        if (exitButton != null) exitButton.update(viewport);
+    private boolean touchPaused(float x, float y) {
+        return pressButton(continueButton, x, y)
+            || pressButton(restartButton, x, y)
+            || pressButton(exitButton, x, y);
     }
     
-    private void updateResult(float delta) {
-        if (!isInputEnabled()) return;
-        
-        if (gameState == GameState.VICTORY) {
-            if (nextLevelButton != null) nextLevelButton.update(viewport);
+    private boolean touchResult(float x, float y) {
+        if (gameState == GameState.VICTORY && pressButton(nextLevelButton, x, y)) {
+            return true;
         }
-        if (restartButton != null) restartButton.update(viewport);
-        if (exitButton != null) exitButton.update(viewport);
+        return pressButton(restartButton, x, y)
+            || pressButton(exitButton, x, y);
     }
     
     // ==================== LÓGICA DE CARTAS ====================
@@ -701,16 +689,14 @@ public class GameScreen extends BaseScreen {
     private void handleCardTouch(float x, float y) {
         if (firstRevealed != null && secondRevealed != null) return;
         
-        for (Card card : cards) {
-            if (card.contains(x, y) && card.canBeClicked()) {
-                onCardClicked(card);
-                break;
-            }
+        Card card = board.findClickableAt(x, y);
+        if (card != null) {
+            onCardClicked(card);
         }
     }
     
     private void onCardClicked(Card card) {
-        audioManager.playSound(AssetPaths.SFX_CARD_FLIP);
+        audioManager.playSound(SoundId.CARD_FLIP);
         card.flip();
         moveCount++;
         
@@ -732,11 +718,13 @@ public class GameScreen extends BaseScreen {
         boolean isMatch = firstRevealed.getCardId() == secondRevealed.getCardId();
         
         if (isMatch) {
-            audioManager.playSound(AssetPaths.SFX_MATCH);
+            audioManager.playSound(SoundId.MATCH);
             firstRevealed.setMatched();
             secondRevealed.setMatched();
             
             deckBonus += firstRevealed.getNekoinValue();
+            tweens.start(this, TWEEN_BONUS_COUNTER, displayedBonus, deckBonus,
+                         Constants.HUD_COUNTER_DURATION, Interpolation.pow2Out);
             
             pairsFoundThisGrid++;
             pairsFoundTotal++;
@@ -753,13 +741,13 @@ public class GameScreen extends BaseScreen {
             if (pairsFoundThisGrid >= pairsPerGrid) {
                 onGridComplete();
             } else if (levelData.isShuffleEnabled() && 
-                       matchesSinceShuffle >= Constants.SHUFFLE_TRIGGER_PAIRS) {
+                       matchesSinceShuffle >= levelData.getShuffleEvery()) {
                 triggerShuffle();
             } else {
                 gameState = GameState.PLAYING;
             }
         } else {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             
             currentCombo = 0;
             mistakesThisGame++;
@@ -784,42 +772,17 @@ public class GameScreen extends BaseScreen {
             pairsFoundThisGrid = 0;
             matchesSinceShuffle = 0;
             cardsRevealedAtStart = false;
-            createBoard();
+            advanceBoard();
             gameState = GameState.STARTING;
             startingTimer = STARTING_DURATION;
         }
     }
     
     private void triggerShuffle() {
-        audioManager.playSound(AssetPaths.SFX_CARD_SHUFFLE);
+        audioManager.playSound(SoundId.CARD_SHUFFLE);
         
         matchesSinceShuffle = 0;
-        
-        Array<Card> unmatched = new Array<>();
-        Array<Float> positionsX = new Array<>();
-        Array<Float> positionsY = new Array<>();
-        
-        for (Card card : cards) {
-            if (!card.isMatched()) {
-                unmatched.add(card);
-                positionsX.add(card.getX());
-                positionsY.add(card.getY());
-            }
-        }
-        
-        for (int i = positionsX.size - 1; i > 0; i--) {
-            int j = MathUtils.random(i);
-            float tempX = positionsX.get(i);
-            positionsX.set(i, positionsX.get(j));
-            positionsX.set(j, tempX);
-            float tempY = positionsY.get(i);
-            positionsY.set(i, positionsY.get(j));
-            positionsY.set(j, tempY);
-        }
-        
-        for (int i = 0; i < unmatched.size; i++) {
-            unmatched.get(i).setPosition(positionsX.get(i), positionsY.get(i));
-        }
+        board.shuffleUnmatched();
         
         gameState = GameState.SHUFFLING;
     }
@@ -830,7 +793,7 @@ public class GameScreen extends BaseScreen {
         if (timeFreezeUsesLeft <= 0 || 
             timeFreezeUsedThisGame >= MAX_TIMEFREEZE_PER_GAME || 
             isTimeFrozen) {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             return;
         }
         
@@ -840,12 +803,12 @@ public class GameScreen extends BaseScreen {
         timeFreezeUsedThisGame++;
         powersUsedThisGame++;
         saveManager.decrementTimeFreezeUses();
-        audioManager.playSound(AssetPaths.SFX_TIMEFREEZE);
+        audioManager.playSound(SoundId.TIME_FREEZE);
     }
     
     private void useHint() {
         if (hintUsesLeft <= 0 || hintsUsedThisGame >= MAX_HINTS_PER_GAME) {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             return;
         }
         
@@ -857,7 +820,7 @@ public class GameScreen extends BaseScreen {
         }
         
         if (hiddenCards.size < 2) {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             return;
         }
         
@@ -865,12 +828,12 @@ public class GameScreen extends BaseScreen {
         int pairsToShow = useFullHint ? 2 : 1;
         
         Array<Card> cardsToShake = new Array<>();
-        Array<Integer> usedCardIds = new Array<>();
+        IntArray usedCardIds = new IntArray(pairsToShow);
         
         for (int p = 0; p < pairsToShow; p++) {
             for (int i = 0; i < hiddenCards.size; i++) {
                 Card card1 = hiddenCards.get(i);
-                if (usedCardIds.contains(card1.getCardId(), false)) continue;
+                if (usedCardIds.contains(card1.getCardId())) continue;
                 
                 for (int j = i + 1; j < hiddenCards.size; j++) {
                     Card card2 = hiddenCards.get(j);
@@ -905,7 +868,7 @@ public class GameScreen extends BaseScreen {
         }
         
         if (cardsToShake.size < 2) {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             return;
         }
         
@@ -917,18 +880,21 @@ public class GameScreen extends BaseScreen {
         hintsUsedThisGame++;
         powersUsedThisGame++;
         saveManager.decrementHintUses();
-        audioManager.playSound(AssetPaths.SFX_BUTTON);
+        audioManager.playSound(SoundId.HINT);
     }
     
     // ==================== RESULTADOS ====================
     
     private void onVictory() {
         gameState = GameState.VICTORY;
-        audioManager.playSound(AssetPaths.SFX_VICTORY);
+        audioManager.playSound(SoundId.VICTORY);
         
         starsEarned = levelData.calculateStars(timeRemaining);
         levelReward = levelData.calculateLevelReward(starsEarned, isFirstClear);
         totalNekoins = levelReward + deckBonus;
+        popPanel();
+        tweens.start(this, TWEEN_TOTAL_COUNTER, 0f, totalNekoins,
+                     Constants.HUD_COUNTER_DURATION * 2f, Interpolation.pow2Out);
         
         saveManager.setLevelCompleted(levelData.getGlobalId(), starsEarned);
         saveManager.addNekoins(totalNekoins);
@@ -952,20 +918,56 @@ public class GameScreen extends BaseScreen {
     
     private void onDefeat() {
         gameState = GameState.DEFEAT;
-        audioManager.playSound(AssetPaths.SFX_DEFEAT);
+        audioManager.playSound(SoundId.DEFEAT);
+        popPanel();
         
         saveManager.recordLoss();
         saveManager.addPairsFound(pairsFoundTotal);
         saveManager.updateBestCombo(bestComboThisGame);
     }
     
+    // ==================== ANIMACIONES ====================
+    
+    private void popPanel() {
+        panelScale = 0.6f;
+        tweens.start(this, TWEEN_PANEL_POP, 0.6f, 1f,
+                     Constants.PANEL_POP_DURATION, Interpolation.swingOut);
+    }
+    
+    @Override
+    public void onTweenUpdate(int channel, float value) {
+        switch (channel) {
+            case TWEEN_PANEL_POP: panelScale = value; break;
+            case TWEEN_BONUS_COUNTER: displayedBonus = value; break;
+            case TWEEN_TOTAL_COUNTER: displayedTotal = value; break;
+            default: break;
+        }
+    }
+    
+    @Override
+    public void onTweenComplete(int channel) {}
+    
+    /**
+     * Fondo de panel centrado, escalado por el pop-in
+     */
+    private void drawPanelBackground(Texture texture, float heightRatio) {
+        if (texture == null) return;
+        
+        float panelWidth = Constants.VIRTUAL_WIDTH * 0.85f * panelScale;
+        float panelHeight = panelWidth * heightRatio;
+        float panelX = (Constants.VIRTUAL_WIDTH - panelWidth) / 2f;
+        float panelY = (Constants.VIRTUAL_HEIGHT - panelHeight) / 2f;
+        game.getBatch().draw(texture, panelX, panelY, panelWidth, panelHeight);
+    }
+    
     // ==================== ACCIONES DE UI ====================
     
     private void pauseGame() {
         if (gameState == GameState.PLAYING) {
             gameState = GameState.PAUSED;
-            audioManager.playSound(AssetPaths.SFX_BUTTON);
+            audioManager.playSound(SoundId.BUTTON);
             audioManager.pauseMusic();
+            popPanel();
         }
     }
     
@@ -977,19 +979,18 @@ public class GameScreen extends BaseScreen {
     }
     
     private void goToNextLevel() {
-        int nextGlobalId = levelData.getGlobalId() + 1;
+        LevelData nextLevel = LevelCatalog.getInstance().getNext(levelData);
         
-        if (nextGlobalId >= Constants.TOTAL_LEVELS) {
+        if (nextLevel == null) {
             game.setScreen(new HomeScreen(game));
             return;
         }
         
-        if (!saveManager.isLevelUnlocked(nextGlobalId)) {
+        if (!saveManager.isLevelUnlocked(nextLevel.getGlobalId())) {
             game.setScreen(new LevelSelectScreen(game));
             return;
         }
         
-        LevelData nextLevel = new LevelData(nextGlobalId);
         game.setScreen(new GameScreen(game, nextLevel));
     }
     
@@ -1019,9 +1020,7 @@ public class GameScreen extends BaseScreen {
     }
     
     private void drawBoard() {
-        for (Card card : cards) {
-            card.draw(game.getBatch());
-        }
+        board.draw(game.getBatch(), getRenderAlpha());
     }
     
     private void drawHUD() {
@@ -1088,14 +1087,13 @@ public class GameScreen extends BaseScreen {
         hudFont.setColor(Color.WHITE);
         
         // Nombre del nivel localizado
-        String levelText = getLocalizedDifficultyName() + " " + levelData.getLocalId();
-        layout.setText(hudFont, levelText);
+        layout.setText(hudFont, levelLabel);
         float levelX = (Constants.VIRTUAL_WIDTH - layout.width) / 2f;
-        hudFont.draw(game.getBatch(), levelText, levelX, timeY);
+        hudFont.draw(game.getBatch(), levelLabel, levelX, timeY);
         
         // Nekoins bonus
         if (nekoinIconTexture != null && deckBonus > 0) {
-            String bonusText = "+" + deckBonus;
+            String bonusText = "+" + MathUtils.round(displayedBonus);
             layout.setText(hudFont, bonusText);
             float iconSize = 24f;
             float totalWidth = iconSize + 5f + layout.width;
@@ -1119,15 +1117,9 @@ public class GameScreen extends BaseScreen {
         }
         restoreColor();
         
-        if (panelPauseTexture != null) {
-            float panelWidth = Constants.VIRTUAL_WIDTH * 0.85f;
-            float panelHeight = panelWidth * 1.0f;
-            float panelX = (Constants.VIRTUAL_WIDTH - panelWidth) / 2f;
-            float panelY = (Constants.VIRTUAL_HEIGHT - panelHeight) / 2f;
-            game.getBatch().draw(panelPauseTexture, panelX, panelY, panelWidth, panelHeight);
-        }
+        drawPanelBackground(panelPauseTexture, 1.0f);
         
-        String title = locale.get("game.pause");
+        String title = locale.get(StringId.GAME_PAUSED);
         layout.setText(titleFont, title);
         titleFont.draw(game.getBatch(), title, 
                       (Constants.VIRTUAL_WIDTH - layout.width) / 2f,
@@ -1150,16 +1142,10 @@ public class GameScreen extends BaseScreen {
         }
         restoreColor();
         
-        if (panelVictoryTexture != null) {
-            float panelWidth = Constants.VIRTUAL_WIDTH * 0.85f;
-            float panelHeight = panelWidth * 1.2f;
-            float panelX = (Constants.VIRTUAL_WIDTH - panelWidth) / 2f;
-            float panelY = (Constants.VIRTUAL_HEIGHT - panelHeight) / 2f;
-            game.getBatch().draw(panelVictoryTexture, panelX, panelY, panelWidth, panelHeight);
-        }
+        drawPanelBackground(panelVictoryTexture, 1.2f);
         
         // Título
-        String title = locale.get("game.victory");
+        String title = locale.get(StringId.GAME_VICTORY);
         layout.setText(titleFont, title);
         titleFont.setColor(Color.GOLD);
         titleFont.draw(game.getBatch(), title, 
@@ -1179,7 +1165,7 @@ public class GameScreen extends BaseScreen {
         titleFont.setColor(Color.WHITE);
         
         // Tiempo total
-        String timeTotal = locale.format("game.elapsed", formatTimeComplete(elapsedTime));
+        String timeTotal = locale.format(StringId.GAME_TOTALTIME, formatTimeComplete(elapsedTime));
         layout.setText(hudFont, timeTotal);
         hudFont.setColor(Color.LIGHT_GRAY);
         hudFont.draw(game.getBatch(), timeTotal,
@@ -1192,26 +1178,26 @@ public class GameScreen extends BaseScreen {
         hudFont.setColor(Color.WHITE);
         
         // Movimientos
-        String movesText = locale.format("game.moves", moveCount);
+        String movesText = locale.format(StringId.GAME_MOVES, moveCount);
         layout.setText(hudFont, movesText);
         hudFont.draw(game.getBatch(), movesText, 
                     (Constants.VIRTUAL_WIDTH - layout.width) / 2f, statsY);
         
         // Recompensa
-        String rewardText = locale.format("game.reward", levelReward);
+        String rewardText = locale.format(StringId.GAME_REWARD, levelReward);
         layout.setText(hudFont, rewardText);
         hudFont.draw(game.getBatch(), rewardText, 
                     (Constants.VIRTUAL_WIDTH - layout.width) / 2f, statsY - lineHeight);
         
         // Bonus de deck
-        String bonusText = locale.format("game.deckbonus", deckBonus);
+        String bonusText = locale.format(StringId.GAME_DECKBONUS, deckBonus);
         layout.setText(hudFont, bonusText);
         hudFont.draw(game.getBatch(), bonusText, 
                     (Constants.VIRTUAL_WIDTH - layout.width) / 2f, statsY - lineHeight * 2);
         
         // Total
         hudFont.setColor(Color.GOLD);
-        String totalText = locale.format("game.total", totalNekoins);
+        String totalText = locale.format(StringId.GAME_TOTAL, MathUtils.round(displayedTotal));
         layout.setText(hudFont, totalText);
         hudFont.draw(game.getBatch(), totalText, 
                     (Constants.VIRTUAL_WIDTH - layout.width) / 2f, statsY - lineHeight * 3);
@@ -1220,7 +1206,7 @@ public class GameScreen extends BaseScreen {
         // First clear bonus
         if (isFirstClear) {
             hudFont.setColor(Color.LIME);
-            String firstText = locale.get("game.firstclear");
+            String firstText = locale.get(StringId.GAME_FIRSTCLEAR);
             layout.setText(hudFont, firstText);
             hudFont.draw(game.getBatch(), firstText, 
                         (Constants.VIRTUAL_WIDTH - layout.width) / 2f, statsY - lineHeight * 4);
@@ -1245,16 +1231,10 @@ public class GameScreen extends BaseScreen {
         }
         restoreColor();
         
-        if (panelDefeatTexture != null) {
-            float panelWidth = Constants.VIRTUAL_WIDTH * 0.85f;
-            float panelHeight = panelWidth * 1.0f;
-            float panelX = (Constants.VIRTUAL_WIDTH - panelWidth) / 2f;
-            float panelY = (Constants.VIRTUAL_HEIGHT - panelHeight) / 2f;
-            game.getBatch().draw(panelDefeatTexture, panelX, panelY, panelWidth, panelHeight);
-        }
+        drawPanelBackground(panelDefeatTexture, 1.0f);
         
         // Título
-        String title = locale.get("game.defeat");
+        String title = locale.get(StringId.GAME_DEFEAT);
         layout.setText(titleFont, title);
         titleFont.setColor(Color.RED);
         titleFont.draw(game.getBatch(), title, 
@@ -1263,7 +1243,7 @@ public class GameScreen extends BaseScreen {
         titleFont.setColor(Color.WHITE);
         
         // Tiempo total
-        String timeTotal = locale.format("game.elapsed", formatTimeComplete(elapsedTime));
+        String timeTotal = locale.format(StringId.GAME_TOTALTIME, formatTimeComplete(elapsedTime));
         layout.setText(hudFont, timeTotal);
         hudFont.setColor(Color.LIGHT_GRAY);
         hudFont.draw(game.getBatch(), timeTotal,
@@ -1272,7 +1252,7 @@ public class GameScreen extends BaseScreen {
         
         // Pares encontrados
         int totalPairsNeeded = pairsPerGrid * totalGrids;
-        String pairsText = locale.format("game.pairsfound", pairsFoundTotal, totalPairsNeeded);
+        String pairsText = locale.format(StringId.GAME_PAIRSFOUND, pairsFoundTotal, totalPairsNeeded);
         layout.setText(hudFont, pairsText);
         hudFont.setColor(Color.WHITE);
         hudFont.draw(game.getBatch(), pairsText, 
@@ -6,15 +6,16 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
 import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
 import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringId;
 import com.darkphoenixteam.kawaiinekomemory.models.Achievement;
 import com.darkphoenixteam.kawaiinekomemory.systems.AudioManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.SaveManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.SoundId;
 import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
 
 /**
@@ -66,9 +67,6 @@ public class HomeScreen extends BaseScreen {
     private SaveManager saveManager;
     private LocaleManager locale;
     
-    // === INPUT ===
-    private final Vector2 touchPoint = new Vector2();
-    
     public HomeScreen(KawaiiNekoMemory game) {
         super(game);
         
@@ -180,7 +178,7 @@ public class HomeScreen extends BaseScreen {
             
             rankingsButton = new SimpleButton(btnTexture, "🏆", btnX, btnY, btnSize, btnSize);
             rankingsButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 game.setScreen(new RankingsScreen(game));
             });
         } catch (Exception e) {
@@ -218,7 +216,7 @@ public class HomeScreen extends BaseScreen {
     }
     
     private void handleButtonClick(String action) {
-        audioManager.playSound(AssetPaths.SFX_BUTTON);
+        audioManager.playSound(SoundId.BUTTON);
         
         switch (action) {
             case "PLAY":
@@ -241,19 +239,19 @@ public class HomeScreen extends BaseScreen {
     
     private void handleLogoClick() {
         if (achievementUnlocked) {
-            audioManager.playSound(AssetPaths.SFX_BUTTON);
+            audioManager.playSound(SoundId.BUTTON);
             return;
         }
         
         logoClickCount++;
         logoClickResetTimer = LOGO_CLICK_RESET_TIME;
         
-        audioManager.playSound(AssetPaths.SFX_CARD_FLIP);
+        audioManager.playSound(SoundId.CARD_FLIP);
         
         if (logoClickCount >= CLICKS_FOR_ACHIEVEMENT) {
             saveManager.unlockAchievement(Achievement.CLICKER_CAT);
             achievementUnlocked = true;
-            audioManager.playSound(AssetPaths.SFX_VICTORY);
+            audioManager.playSound(SoundId.VICTORY);
         }
     }
     
@@ -268,23 +266,21 @@ public class HomeScreen extends BaseScreen {
             }
         }
         
-        if (!isInputEnabled()) return;
-        
+    }
+    
+    @Override
+    protected boolean onTouchDown(float x, float y, int pointer) {
         for (SimpleButton button : buttons) {
-            button.update(viewport);
+            if (pressButton(button, x, y)) return true;
         }
         
-        if (rankingsButton != null) {
-            rankingsButton.update(viewport);
-        }
+        if (pressButton(rankingsButton, x, y)) return true;
         
-        if (Gdx.input.justTouched()) {
-            viewport.unproject(touchPoint.set(Gdx.input.getX(), Gdx.input.getY()));
-            
-            if (logoBounds != null && logoBounds.contains(touchPoint.x, touchPoint.y)) {
-                handleLogoClick();
-            }
+        if (logoBounds != null && logoBounds.contains(x, y)) {
+            handleLogoClick();
+            return true;
         }
+        return false;
     }
     
     @Override
@@ -320,7 +316,7 @@ public class HomeScreen extends BaseScreen {
         }
         
         // Versión
-        String version = locale.get("game.version");
+        String version = locale.get(StringId.GAME_VERSION);
         layout.setText(smallFont, version);
         smallFont.setColor(Color.GRAY);
         smallFont.draw(game.getBatch(), version, (Constants.VIRTUAL_WIDTH - layout.width) / 2f, 20f);
@@ -367,7 +363,7 @@ public class HomeScreen extends BaseScreen {
             game.getBatch().draw(logoTexture, logoX, logoY, logoWidth, logoHeight);
             game.getBatch().setColor(1f, 1f, 1f, 1f);
         } else {
-            String title = locale.get("game.title");
+            String title = locale.get(StringId.GAME_TITLE);
             layout.setText(titleFont, title);
             float titleX = (Constants.VIRTUAL_WIDTH - layout.width) / 2f;
             float titleY = titleZoneCenter + (layout.height / 2f);
@@ -6,24 +6,30 @@ import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Align;
 import com.badlogic.gdx.utils.Array;
 import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
 import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringId;
 import com.darkphoenixteam.kawaiinekomemory.models.LevelData;
 import com.darkphoenixteam.kawaiinekomemory.systems.AudioManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.LevelCatalog;
 import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.SaveManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.SoundId;
 import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
+import com.darkphoenixteam.kawaiinekomemory.ui.VirtualGrid;
 
 /**
  * Pantalla de selección de nivel con:
  * - Detección de cartas activas para bloqueo de dificultades
  * - Popup de selección de modo Time Attack
+ * - Rejilla virtualizada (VirtualGrid): solo se dibujan las celdas visibles,
+ *   scroll cinético en lugar de páginas
  * 
  * @author DarkphoenixTeam
- * @version 2.2 - Card detection + Time Attack popup
+ * @version 2.3 - Rejilla virtualizada con scroll cinético
  */
 public class LevelSelectScreen extends BaseScreen {
     
@@ -61,10 +67,9 @@ public class LevelSelectScreen extends BaseScreen {
     private Array<LevelData> currentLevels;
     
     // === NAVEGACIÓN ===
+    private VirtualGrid<LevelCell> levelGrid;
     private SimpleButton arrowUpButton;
     private SimpleButton arrowDownButton;
-    private int currentPage = 0;
-    private int maxPages = 1;
     
     // === BOTONES ===
     private SimpleButton backButton;
@@ -74,7 +79,12 @@ public class LevelSelectScreen extends BaseScreen {
     private boolean showingTimeAttackPopup = false;
     private SimpleButton timeAttack12Button;
     private SimpleButton timeAttack30Button;
+    private SimpleButton endless12Button;
+    private SimpleButton endless30Button;
     private SimpleButton popupCancelButton;
+    private SimpleButton marathonButton;
+    private SimpleButton marathonSizeButton;
+    private int marathonSizeIndex = 0;
     private Texture popupPanelTexture;
     
     // === CARTAS ACTIVAS ===
@@ -89,9 +99,6 @@ public class LevelSelectScreen extends BaseScreen {
     private SaveManager saveManager;
     private LocaleManager locale;
     
-    // === INPUT ===
-    private final Vector2 touchPoint = new Vector2();
-    
     public LevelSelectScreen(KawaiiNekoMemory game) {
         super(game);
         
@@ -118,6 +125,7 @@ public class LevelSelectScreen extends BaseScreen {
         
         loadAssets();
         createTabs();
+        createLevelGrid();
         createNavigationButtons();
         createBackButton();
         createTimeAttackButton();
@@ -204,6 +212,17 @@ public class LevelSelectScreen extends BaseScreen {
         }
     }
     
+    private void createLevelGrid() {
+        float gridWidth = GRID_COLS * (LEVEL_BUTTON_SIZE + LEVEL_BUTTON_SPACING);
+        float gridStartX = (Constants.VIRTUAL_WIDTH - gridWidth) / 2f;
+        float gridTop = Constants.VIRTUAL_HEIGHT - GRID_MARGIN_TOP;
+        
+        levelGrid = new VirtualGrid<>(LevelCell::new, GRID_COLS,
+            LEVEL_BUTTON_SIZE, LEVEL_BUTTON_SIZE, LEVEL_BUTTON_SPACING, LEVEL_BUTTON_SPACING);
+        levelGrid.setBounds(gridStartX, GRID_MARGIN_BOTTOM,
+            gridWidth - LEVEL_BUTTON_SPACING, gridTop - GRID_MARGIN_BOTTOM);
+    }
+    
     private void createNavigationButtons() {
         float arrowX = Constants.VIRTUAL_WIDTH - ARROW_BUTTON_SIZE - 10f;
         float gridCenterY = (Constants.VIRTUAL_HEIGHT - GRID_MARGIN_TOP - GRID_MARGIN_BOTTOM) / 2f + GRID_MARGIN_BOTTOM;
@@ -236,7 +255,7 @@ public class LevelSelectScreen extends BaseScreen {
             
             backButton = new SimpleButton(
                 buttonTexture,
-                locale.get("common.back"),
+                locale.get(StringId.COMMON_BACK),
                 10f,
                 20f,
                 buttonWidth,
@@ -244,7 +263,7 @@ public class LevelSelectScreen extends BaseScreen {
             );
             
             backButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 game.setScreen(new HomeScreen(game));
             });
         } catch (Exception e) {
@@ -261,7 +280,7 @@ public class LevelSelectScreen extends BaseScreen {
             
             timeAttackButton = new SimpleButton(
                 buttonTexture,
-                locale.get("levels.timeattack"),
+                locale.get(StringId.LEVELS_TIMEATTACK),
                 Constants.VIRTUAL_WIDTH - buttonWidth - 10f,
                 20f,
                 buttonWidth,
@@ -270,7 +289,7 @@ public class LevelSelectScreen extends BaseScreen {
             
             // Mostrar popup en lugar de ir directamente
             timeAttackButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 showingTimeAttackPopup = true;
             });
         } catch (Exception e) {
@@ -286,9 +305,14 @@ public class LevelSelectScreen extends BaseScreen {
             float btnX = (Constants.VIRTUAL_WIDTH - btnWidth) / 2f;
             float centerY = Constants.VIRTUAL_HEIGHT / 2f;
             
+            // Cada fila: modo normal + variante sin fin (mismo reparto que Marathon)
+            float modeWidth = btnWidth * 0.68f;
+            float sideWidth = btnWidth - modeWidth - 10f;
+            float sideX = btnX + modeWidth + 10f;
+            
             // Botón Time Attack 12 (3x4)
             boolean canPlay12 = activeCardCount >= Constants.MIN_CARDS_TIME_ATTACK_12;
-            String label12 = locale.get("timeattack.mode12");
+            String label12 = locale.get(StringId.TIMEATTACK_MODE12);
             if (!canPlay12) {
                 label12 += " (" + activeCardCount + "/" + Constants.MIN_CARDS_TIME_ATTACK_12 + ")";
             }
@@ -298,22 +322,22 @@ public class LevelSelectScreen extends BaseScreen {
                 label12,
                 btnX,
                 centerY + 20f,
-                btnWidth,
+                modeWidth,
                 btnHeight
             );
             timeAttack12Button.setOnClick(() -> {
                 if (canPlay12) {
-                    audioManager.playSound(AssetPaths.SFX_BUTTON);
+                    audioManager.playSound(SoundId.BUTTON);
                     showingTimeAttackPopup = false;
                     game.setScreen(new TimeAttackScreen(game, TimeAttackScreen.Mode.MODE_12));
                 } else {
-                    audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+                    audioManager.playSound(SoundId.NO_MATCH);
                 }
             });
             
             // Botón Time Attack 30 (5x6)
             boolean canPlay30 = activeCardCount >= Constants.MIN_CARDS_TIME_ATTACK_30;
-            String label30 = locale.get("timeattack.mode30");
+            String label30 = locale.get(StringId.TIMEATTACK_MODE30);
             if (!canPlay30) {
                 label30 += " (" + activeCardCount + "/" + Constants.MIN_CARDS_TIME_ATTACK_30 + ")";
             }
@@ -323,19 +347,69 @@ public class LevelSelectScreen extends BaseScreen {
                 label30,
                 btnX,
                 centerY - 50f,
-                btnWidth,
+                modeWidth,
                 btnHeight
             );
             timeAttack30Button.setOnClick(() -> {
                 if (canPlay30) {
-                    audioManager.playSound(AssetPaths.SFX_BUTTON);
+                    audioManager.playSound(SoundId.BUTTON);
                     showingTimeAttackPopup = false;
                     game.setScreen(new TimeAttackScreen(game, TimeAttackScreen.Mode.MODE_30));
                 } else {
-                    audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+                    audioManager.playSound(SoundId.NO_MATCH);
                 }
             });
             
+            // Variantes sin fin
+            endless12Button = new SimpleButton(
+                btnTexture,
+                locale.get(StringId.TIMEATTACK_ENDLESS),
+                sideX,
+                centerY + 20f,
+                sideWidth,
+                btnHeight
+            );
+            endless12Button.setOnClick(() -> startEndless(TimeAttackScreen.Mode.MODE_12, canPlay12));
+            
+            endless30Button = new SimpleButton(
+                btnTexture,
+                locale.get(StringId.TIMEATTACK_ENDLESS),
+                sideX,
+                centerY - 50f,
+                sideWidth,
+                btnHeight
+            );
+            endless30Button.setOnClick(() -> startEndless(TimeAttackScreen.Mode.MODE_30, canPlay30));
+            
+            // Marathon: botón de juego + selector de tamaño
+            marathonButton = new SimpleButton(
+                btnTexture,
+                locale.get(StringId.MARATHON_TITLE),
+                btnX,
+                centerY - 140f,
+                modeWidth,
+                btnHeight
+            );
+            marathonButton.setOnClick(() -> {
+                audioManager.playSound(SoundId.BUTTON);
+                showingTimeAttackPopup = false;
+                game.setScreen(new MarathonScreen(game, marathonSizeIndex));
+            });
+            
+            marathonSizeButton = new SimpleButton(
+                btnTexture,
+                getMarathonSizeLabel(),
+                sideX,
+                centerY - 140f,
+                sideWidth,
+                btnHeight
+            );
+            marathonSizeButton.setOnClick(() -> {
+                audioManager.playSound(SoundId.BUTTON);
+                marathonSizeIndex = (marathonSizeIndex + 1) % Constants.MARATHON_COLS.length;
+                marathonSizeButton.setText(getMarathonSizeLabel());
+            });
+            
             // Botón Cancelar
             Texture cancelTexture = new Texture(Gdx.files.internal(AssetPaths.BTN_BACK));
             float cancelWidth = Constants.VIRTUAL_WIDTH * 0.4f;
@@ -343,14 +417,14 @@ public class LevelSelectScreen extends BaseScreen {
             
             popupCancelButton = new SimpleButton(
                 cancelTexture,
-                locale.get("common.cancel"),
+                locale.get(StringId.COMMON_CANCEL),
                 (Constants.VIRTUAL_WIDTH - cancelWidth) / 2f,
-                centerY - 130f,
+                centerY - 225f,
                 cancelWidth,
                 cancelHeight
             );
             popupCancelButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 showingTimeAttackPopup = false;
             });
             
@@ -359,108 +433,113 @@ public class LevelSelectScreen extends BaseScreen {
         }
     }
     
-    private void loadLevelsForCurrentDifficulty() {
-        currentLevels = new Array<>();
-        
-        int startId = currentDifficulty.index * 50;
-        int endId = startId + 50;
-        
-        boolean difficultyLocked = !difficultyAvailable[currentDifficulty.index];
-        
-        for (int i = startId; i < endId; i++) {
-            LevelData level = new LevelData(i);
-            
-            if (difficultyLocked) {
-                // Si no hay suficientes cartas, todos los niveles están bloqueados
-                level.setUnlocked(false);
-            } else {
-                level.setUnlocked(saveManager.isLevelUnlocked(i));
-            }
-            
-            level.setCompleted(saveManager.isLevelCompleted(i));
-            currentLevels.add(level);
+    private void startEndless(TimeAttackScreen.Mode mode, boolean canPlay) {
+        if (!canPlay) {
+            audioManager.playSound(SoundId.NO_MATCH);
+            return;
         }
+        audioManager.playSound(SoundId.BUTTON);
+        showingTimeAttackPopup = false;
+        game.setScreen(new TimeAttackScreen(game, mode, null, true));
+    }
+    
+    private String getMarathonSizeLabel() {
+        return Constants.MARATHON_COLS[marathonSizeIndex] + "x" + Constants.MARATHON_ROWS[marathonSizeIndex];
+    }
+    
+    private void loadLevelsForCurrentDifficulty() {
+        // Vista compartida del catálogo: el progreso se consulta a SaveManager (cacheado)
+        currentLevels = LevelCatalog.getInstance().getLevels(currentDifficulty);
         
-        currentPage = 0;
-        maxPages = 1;
+        levelGrid.setItemCount(currentLevels.size);
+        levelGrid.scrollToTop();
     }
     
     private void switchDifficulty(LevelData.Difficulty newDifficulty) {
         if (newDifficulty != currentDifficulty) {
             currentDifficulty = newDifficulty;
             loadLevelsForCurrentDifficulty();
-            audioManager.playSound(AssetPaths.SFX_BUTTON);
+            audioManager.playSound(SoundId.BUTTON);
         }
     }
     
+    /**
+     * Flechas: desplaza una página de la rejilla (con inercia)
+     */
     private void changePage(int delta) {
-        int newPage = currentPage + delta;
-        if (newPage >= 0 && newPage < maxPages) {
-            currentPage = newPage;
-            audioManager.playSound(AssetPaths.SFX_BUTTON);
+        if (delta < 0 ? levelGrid.canScrollUp() : levelGrid.canScrollDown()) {
+            levelGrid.flingBy(delta * levelGrid.getVisibleHeight());
+            audioManager.playSound(SoundId.BUTTON);
         }
     }
     
     private void onLevelClick(LevelData level) {
         // Verificar si la dificultad está disponible
         if (!difficultyAvailable[currentDifficulty.index]) {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             return;
         }
         
-        if (level.isUnlocked()) {
-            audioManager.playSound(AssetPaths.SFX_BUTTON);
+        if (saveManager.isLevelUnlocked(level.getGlobalId())) {
+            audioManager.playSound(SoundId.BUTTON);
             game.setScreen(new GameScreen(game, level));
         } else {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
         }
     }
     
     @Override
     protected void update(float delta) {
-        if (!isInputEnabled()) return;
-        
-        // Si el popup está visible, solo actualizar sus botones
+        // Inercia del scroll; el input llega por los hooks de toque
+        levelGrid.update(delta);
+    }
+    
+    @Override
+    protected boolean onTouchDown(float x, float y, int pointer) {
+        // Si el popup está visible, solo responden sus botones
         if (showingTimeAttackPopup) {
-            if (timeAttack12Button != null) timeAttack12Button.update(viewport);
-            if (timeAttack30Button != null) timeAttack30Button.update(viewport);
-            if (popupCancelButton != null) popupCancelButton.update(viewport);
-            return;
+            return pressButton(timeAttack12Button, x, y)
+                || pressButton(timeAttack30Button, x, y)
+                || pressButton(endless12Button, x, y)
+                || pressButton(endless30Button, x, y)
+                || pressButton(marathonButton, x, y)
+                || pressButton(marathonSizeButton, x, y)
+                || pressButton(popupCancelButton, x, y);
         }
         
         for (SimpleButton tab : tabButtons) {
-            tab.update(viewport);
+            if (pressButton(tab, x, y)) return true;
         }
         
-        if (arrowUpButton != null) arrowUpButton.update(viewport);
-        if (arrowDownButton != null) arrowDownButton.update(viewport);
-        if (backButton != null) backButton.update(viewport);
-        if (timeAttackButton != null) timeAttackButton.update(viewport);
+        if (pressButton(arrowUpButton, x, y)) return true;
+        if (pressButton(arrowDownButton, x, y)) return true;
+        if (pressButton(backButton, x, y)) return true;
+        if (pressButton(timeAttackButton, x, y)) return true;
         
-        if (Gdx.input.justTouched()) {
-            checkLevelClick();
-        }
+        // Arrastre o toque sobre la rejilla: el nivel se abre al soltar sin arrastrar
+        return pointer == 0 && levelGrid.touchDown(x, y, getTouchEventTime());
     }
     
-    private void checkLevelClick() {
-        viewport.unproject(touchPoint.set(Gdx.input.getX(), Gdx.input.getY()));
-        
-        float gridWidth = GRID_COLS * (LEVEL_BUTTON_SIZE + LEVEL_BUTTON_SPACING);
-        float gridStartX = (Constants.VIRTUAL_WIDTH - gridWidth) / 2f;
-        float gridStartY = Constants.VIRTUAL_HEIGHT - GRID_MARGIN_TOP;
+    @Override
+    protected void onTouchDragged(float x, float y, int pointer) {
+        if (pointer != 0) return;
+        levelGrid.touchDragged(x, y, getTouchEventTime());
+    }
+    
+    @Override
+    protected void onTouchUp(float x, float y, int pointer) {
+        if (pointer != 0) return;
         
-        for (int i = 0; i < currentLevels.size; i++) {
-            int row = i / GRID_COLS;
-            int col = i % GRID_COLS;
-            
-            float x = gridStartX + col * (LEVEL_BUTTON_SIZE + LEVEL_BUTTON_SPACING);
-            float y = gridStartY - row * (LEVEL_BUTTON_SIZE + LEVEL_BUTTON_SPACING);
-            
-            if (touchPoint.x >= x && touchPoint.x <= x + LEVEL_BUTTON_SIZE &&
-                touchPoint.y >= y - LEVEL_BUTTON_SIZE && touchPoint.y <= y) {
-                onLevelClick(currentLevels.get(i));
-                break;
-            }
+        int index = levelGrid.touchUp(x, y, getTouchEventTime());
+        if (index >= 0 && !showingTimeAttackPopup) {
+            onLevelClick(currentLevels.get(index));
+        }
+    }
+    
+    @Override
+    protected void onScrolled(float amountY) {
+        if (!showingTimeAttackPopup) {
+            levelGrid.scrolled(amountY);
         }
     }
     
@@ -481,14 +560,14 @@ public class LevelSelectScreen extends BaseScreen {
         }
         
         // Título
-        String title = locale.get("levels.title");
+        String title = locale.get(StringId.LEVELS_TITLE);
         layout.setText(titleFont, title);
         titleFont.draw(game.getBatch(), title, 
                       (Constants.VIRTUAL_WIDTH - layout.width) / 2f, 
                       Constants.VIRTUAL_HEIGHT - 20f);
         
         // Mostrar cartas activas
-        String cardsInfo = locale.format("levels.activecards", activeCardCount);
+        String cardsInfo = locale.format(StringId.LEVELS_ACTIVECARDS, activeCardCount);
         layout.setText(smallFont, cardsInfo);
         smallFont.setColor(activeCardCount >= 6 ? Color.WHITE : Color.RED);
         smallFont.draw(game.getBatch(), cardsInfo, 
@@ -502,14 +581,16 @@ public class LevelSelectScreen extends BaseScreen {
         drawTabs();
         
         // Grid de niveles
-        game.getBatch().begin();
         drawLevelGrid();
-        game.getBatch().end();
         
         // Flechas
         game.getBatch().begin();
-        if (arrowUpButton != null) arrowUpButton.drawNoText(game.getBatch());
-        if (arrowDownButton != null) arrowDownButton.drawNoText(game.getBatch());
+        if (arrowUpButton != null && levelGrid.canScrollUp()) {
+            arrowUpButton.drawNoText(game.getBatch());
+        }
+        if (arrowDownButton != null && levelGrid.canScrollDown()) {
+            arrowDownButton.drawNoText(game.getBatch());
+        }
         game.getBatch().end();
         
         // Botones inferiores
@@ -551,83 +632,109 @@ public class LevelSelectScreen extends BaseScreen {
     }
     
     private void drawLevelGrid() {
-        float gridWidth = GRID_COLS * (LEVEL_BUTTON_SIZE + LEVEL_BUTTON_SPACING);
-        float gridStartX = (Constants.VIRTUAL_WIDTH - gridWidth) / 2f;
-        float gridStartY = Constants.VIRTUAL_HEIGHT - GRID_MARGIN_TOP;
-        
         boolean difficultyLocked = !difficultyAvailable[currentDifficulty.index];
         
-        for (int i = 0; i < currentLevels.size; i++) {
-            LevelData level = currentLevels.get(i);
-            
-            int row = i / GRID_COLS;
-            int col = i % GRID_COLS;
-            
-            float x = gridStartX + col * (LEVEL_BUTTON_SIZE + LEVEL_BUTTON_SPACING);
-            float y = gridStartY - row * (LEVEL_BUTTON_SIZE + LEVEL_BUTTON_SPACING);
-            
-            game.getBatch().end();
+        // Solo las celdas visibles: el coste no depende de cuántos niveles haya
+        levelGrid.prepareVisible();
+        int first = levelGrid.getFirstVisible();
+        int end = levelGrid.getEndVisible();
+        
+        levelGrid.beginClip(viewport);
+        
+        shapeRenderer.setProjectionMatrix(camera.combined);
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        for (int i = first; i < end; i++) {
+            LevelCell cell = levelGrid.getCell(i);
+            shapeRenderer.setColor(cell.fillColor);
+            shapeRenderer.rect(levelGrid.getCellX(i), levelGrid.getCellTop(i) - LEVEL_BUTTON_SIZE,
+                               LEVEL_BUTTON_SIZE, LEVEL_BUTTON_SIZE);
+        }
+        shapeRenderer.end();
+        
+        game.getBatch().begin();
+        for (int i = first; i < end; i++) {
+            LevelCell cell = levelGrid.getCell(i);
+            float x = levelGrid.getCellX(i);
+            float y = levelGrid.getCellTop(i);
             
-            shapeRenderer.setProjectionMatrix(camera.combined);
-            shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+            levelFont.draw(game.getBatch(), cell.numberLayout,
+                          x + (LEVEL_BUTTON_SIZE - cell.numberLayout.width) / 2f,
+                          y - LEVEL_BUTTON_SIZE + (LEVEL_BUTTON_SIZE + cell.numberLayout.height) / 2f);
+        }
+        game.getBatch().end();
+        
+        levelGrid.endClip();
+        
+        game.getBatch().begin();
+        
+        // Mensaje si la dificultad está bloqueada
+        if (difficultyLocked) {
+            int required = Constants.getMinCardsForDifficulty(currentDifficulty.index);
+            String lockMsg = locale.format(StringId.LEVELS_LOCKED, required);
+            layout.setText(smallFont, lockMsg);
+            smallFont.setColor(Color.RED);
+            smallFont.draw(game.getBatch(), lockMsg,
+                          (Constants.VIRTUAL_WIDTH - layout.width) / 2f,
+                          Constants.VIRTUAL_HEIGHT / 2f);
+            smallFont.setColor(Color.WHITE);
+        }
+        
+        game.getBatch().end();
+    }
+    
+    // ==================== CELDA RECICLADA ====================
+    
+    /**
+     * Celda de la rejilla de niveles. bind() resuelve el estado del nivel
+     * (bloqueado, completado, estrellas) y maqueta el número una sola vez.
+     */
+    private class LevelCell implements VirtualGrid.Cell {
+        
+        final Color fillColor = new Color();
+        final GlyphLayout numberLayout = new GlyphLayout();
+        
+        @Override
+        public void bind(int index) {
+            LevelData level = currentLevels.get(index);
+            int levelId = level.getGlobalId();
+            boolean difficultyLocked = !difficultyAvailable[currentDifficulty.index];
+            boolean unlocked = !difficultyLocked && saveManager.isLevelUnlocked(levelId);
             
             if (difficultyLocked) {
                 // Toda la dificultad está bloqueada
-                shapeRenderer.setColor(0.3f, 0.2f, 0.2f, 1f);
-            } else if (level.isUnlocked()) {
-                if (level.isCompleted()) {
-                    int stars = saveManager.getLevelStars(level.getGlobalId());
+                fillColor.set(0.3f, 0.2f, 0.2f, 1f);
+            } else if (unlocked) {
+                if (saveManager.isLevelCompleted(levelId)) {
+                    int stars = saveManager.getLevelStars(levelId);
                     if (stars >= 3) {
-                        shapeRenderer.setColor(Color.GOLD);
+                        fillColor.set(Color.GOLD);
                     } else if (stars >= 2) {
-                        shapeRenderer.setColor(Color.YELLOW);
+                        fillColor.set(Color.YELLOW);
                     } else {
-                        shapeRenderer.setColor(Color.GREEN);
+                        fillColor.set(Color.GREEN);
                     }
                 } else {
-                    shapeRenderer.setColor(Color.WHITE);
+                    fillColor.set(Color.WHITE);
                 }
             } else {
-                shapeRenderer.setColor(Color.DARK_GRAY);
+                fillColor.set(Color.DARK_GRAY);
             }
             
-            shapeRenderer.rect(x, y - LEVEL_BUTTON_SIZE, LEVEL_BUTTON_SIZE, LEVEL_BUTTON_SIZE);
-            shapeRenderer.end();
-            
-            game.getBatch().begin();
-            
-            String levelNum = String.valueOf(level.getLocalId());
-            layout.setText(levelFont, levelNum);
-            
+            Color textColor;
             if (difficultyLocked) {
-                levelFont.setColor(Color.DARK_GRAY);
+                textColor = Color.DARK_GRAY;
             } else {
-                levelFont.setColor(level.isUnlocked() ? Color.BLACK : Color.GRAY);
+                textColor = unlocked ? Color.BLACK : Color.GRAY;
             }
-            
-            levelFont.draw(game.getBatch(), levelNum, 
-                          x + (LEVEL_BUTTON_SIZE - layout.width) / 2f,
-                          y - LEVEL_BUTTON_SIZE + (LEVEL_BUTTON_SIZE + layout.height) / 2f);
-            levelFont.setColor(Color.WHITE);
-        }
-        
-        // Mensaje si la dificultad está bloqueada
-        if (difficultyLocked) {
-            int required = Constants.getMinCardsForDifficulty(currentDifficulty.index);
-            String lockMsg = locale.format("levels.locked", required);
-            layout.setText(smallFont, lockMsg);
-            smallFont.setColor(Color.RED);
-            smallFont.draw(game.getBatch(), lockMsg,
-                          (Constants.VIRTUAL_WIDTH - layout.width) / 2f,
-                          Constants.VIRTUAL_HEIGHT / 2f);
-            smallFont.setColor(Color.WHITE);
+            numberLayout.setText(levelFont, String.valueOf(level.getLocalId()),
+                                 textColor, 0f, Align.left, false);
         }
     }
     
     private void drawTimeAttackInfo() {
         int bestPairs = saveManager.getTimeAttackBestPairs();
         if (bestPairs > 0) {
-            String recordText = locale.format("levels.record", bestPairs);
+            String recordText = locale.format(StringId.LEVELS_RECORD, bestPairs);
             smallFont.setColor(Color.GOLD);
             layout.setText(smallFont, recordText);
             smallFont.draw(game.getBatch(), recordText,
@@ -649,14 +756,14 @@ public class LevelSelectScreen extends BaseScreen {
         // Panel
         if (popupPanelTexture != null) {
             float panelWidth = Constants.VIRTUAL_WIDTH * 0.9f;
-            float panelHeight = panelWidth * 0.8f;
+            float panelHeight = panelWidth * 1.05f;
             float panelX = (Constants.VIRTUAL_WIDTH - panelWidth) / 2f;
             float panelY = (Constants.VIRTUAL_HEIGHT - panelHeight) / 2f;
             game.getBatch().draw(popupPanelTexture, panelX, panelY, panelWidth, panelHeight);
         }
         
         // Título
-        String popupTitle = locale.get("timeattack.select");
+        String popupTitle = locale.get(StringId.TIMEATTACK_SELECT);
         titleFont.setColor(Color.ORANGE);
         layout.setText(titleFont, popupTitle);
         titleFont.draw(game.getBatch(), popupTitle,
@@ -665,8 +772,8 @@ public class LevelSelectScreen extends BaseScreen {
         titleFont.setColor(Color.WHITE);
         
         // Descripción
-        String desc12 = locale.get("timeattack.desc12");
-        String desc30 = locale.get("timeattack.desc30");
+        String desc12 = locale.get(StringId.TIMEATTACK_DESC12);
+        String desc30 = locale.get(StringId.TIMEATTACK_DESC30);
         
         smallFont.setColor(Color.WHITE);
         layout.setText(smallFont, desc12);
@@ -679,6 +786,12 @@ public class LevelSelectScreen extends BaseScreen {
                       (Constants.VIRTUAL_WIDTH - layout.width) / 2f,
                       Constants.VIRTUAL_HEIGHT * 0.42f);
         
+        String descMarathon = locale.get(StringId.MARATHON_DESC);
+        layout.setText(smallFont, descMarathon);
+        smallFont.draw(game.getBatch(), descMarathon,
+                      (Constants.VIRTUAL_WIDTH - layout.width) / 2f,
+                      Constants.VIRTUAL_HEIGHT * 0.305f);
+        
         // Botones
         boolean canPlay12 = activeCardCount >= Constants.MIN_CARDS_TIME_ATTACK_12;
         boolean canPlay30 = activeCardCount >= Constants.MIN_CARDS_TIME_ATTACK_30;
@@ -688,6 +801,7 @@ public class LevelSelectScreen extends BaseScreen {
                 game.getBatch().setColor(0.5f, 0.5f, 0.5f, 0.7f);
             }
             timeAttack12Button.draw(game.getBatch(), tabFont);
+            if (endless12Button != null) endless12Button.draw(game.getBatch(), tabFont);
             game.getBatch().setColor(1, 1, 1, 1);
         }
         
@@ -696,9 +810,13 @@ public class LevelSelectScreen extends BaseScreen {
                 game.getBatch().setColor(0.5f, 0.5f, 0.5f, 0.7f);
             }
             timeAttack30Button.draw(game.getBatch(), tabFont);
+            if (endless30Button != null) endless30Button.draw(game.getBatch(), tabFont);
             game.getBatch().setColor(1, 1, 1, 1);
         }
         
+        if (marathonButton != null) marathonButton.draw(game.getBatch(), tabFont);
+        if (marathonSizeButton != null) marathonSizeButton.draw(game.getBatch(), tabFont);
+        
         if (popupCancelButton != null) {
             popupCancelButton.draw(game.getBatch(), tabFont);
         }
@@ -721,6 +839,10 @@ public class LevelSelectScreen extends BaseScreen {
         if (timeAttackButton != null) timeAttackButton.dispose();
         if (timeAttack12Button != null) timeAttack12Button.dispose();
         if (timeAttack30Button != null) timeAttack30Button.dispose();
+        if (endless12Button != null) endless12Button.dispose();
+        if (endless30Button != null) endless30Button.dispose();
+        if (marathonButton != null) marathonButton.dispose();
+        if (marathonSizeButton != null) marathonSizeButton.dispose();
         if (popupCancelButton != null) popupCancelButton.dispose();
         if (shapeRenderer != null) shapeRenderer.dispose();
     }
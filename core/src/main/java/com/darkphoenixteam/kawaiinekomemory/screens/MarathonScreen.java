@@ -0,0 +1,932 @@
+package com.darkphoenixteam.kawaiinekomemory.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Interpolation;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
+import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
+import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringId;
+import com.darkphoenixteam.kawaiinekomemory.models.Board;
+import com.darkphoenixteam.kawaiinekomemory.models.Card;
+import com.darkphoenixteam.kawaiinekomemory.systems.AudioManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.CardAtlas;
+import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.MusicManifest;
+import com.darkphoenixteam.kawaiinekomemory.systems.SaveManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.SoundId;
+import com.darkphoenixteam.kawaiinekomemory.systems.TweenEngine;
+import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
+
+import java.util.Arrays;
+
+/**
+ * Modo Marathon: un solo tablero grande (hasta 10x12) contra el reloj
+ * 
+ * - Todas las cartas salen de un CardAtlas generado en runtime (una textura)
+ * - El tablero tiene ancho de carta fijo y se recorre con cámara propia:
+ *   arrastrar = pan, pellizco / rueda = zoom
+ * - Solo se dibujan las celdas visibles (Board.draw con rectángulo)
+ * - Hit-test O(1) por celda (Board.findClickableAt)
+ * - Las parejas se emparejan por arte (deck + índice): con más pares que
+ *   cartas desbloqueadas, el arte se repite
+ * 
+ * Modo benchmark: cámara y flips guionizados durante
+ * MARATHON_BENCHMARK_SECONDS; al terminar registra FPS medio, 1% low y mínimo.
+ * Se lanza desde escritorio (Lwjgl3Launcher --marathon-benchmark); con
+ * setOnBenchmarkFinished() el lanzador cierra tras el informe.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.1 - Fin de benchmark notificable
+ */
+public class MarathonScreen extends BaseScreen implements TweenEngine.Target {
+    
+    private static final String TAG = "MarathonScreen";
+    
+    // === CANALES DE TWEEN ===
+    private static final int TWEEN_PANEL_POP = 0;
+    private static final int TWEEN_NEKOIN_COUNTER = 1;
+    
+    // === CÁMARA ===
+    private static final float SCROLL_ZOOM_STEP = 0.1f;
+    
+    // === BENCHMARK ===
+    private static final float BENCH_FLIP_INTERVAL = 0.2f;
+    private static final int BENCH_MAX_FPS = 240;
+    
+    // ==================== ESTADOS ====================
+    
+    public enum GameState {
+        PLAYING,
+        CHECKING,
+        NO_MATCH_SHAKE,
+        PAUSED,
+        VICTORY
+    }
+    
+    private GameState gameState;
+    
+    // ==================== CONFIGURACIÓN ====================
+    
+    private final int sizeIndex;
+    private final boolean benchmark;
+    private final int cols;
+    private final int rows;
+    private final int pairs;
+    private boolean matchByArt;
+    
+    // ==================== TABLERO ====================
+    
+    private final Board board;
+    private CardAtlas atlas;
+    private Card firstRevealed;
+    private Card secondRevealed;
+    
+    private Texture backgroundTexture;
+    
+    // ==================== CÁMARA DEL TABLERO ====================
+    
+    private final OrthographicCamera boardCamera;
+    private float minZoom;
+    private float maxZoom;
+    
+    // Punteros 0 y 1 (pan y pellizco), en coordenadas virtuales
+    private final boolean[] pointerDown = new boolean[2];
+    private final float[] pointerX = new float[2];
+    private final float[] pointerY = new float[2];
+    private float downX, downY;
+    private boolean tapCandidate;
+    private boolean panning;
+    private float pinchStartDistance;
+    private float pinchStartZoom;
+    
+    // ==================== TIMER Y PUNTUACIÓN ====================
+    
+    private float elapsedTime;
+    private int pairsFound;
+    private int nekoinsEarned;
+    private float displayedNekoins;
+    private float panelScale = 1f;
+    
+    private float bestTime;
+    private boolean isNewRecord;
+    
+    // ==================== NO MATCH FEEDBACK ====================
+    
+    private float checkDelayTimer;
+    private float noMatchShakeTimer;
+    
+    // ==================== HUD ====================
+    
+    private BitmapFont hudFont;
+    private BitmapFont titleFont;
+    private BitmapFont buttonFont;
+    private GlyphLayout layout;
+    
+    private SimpleButton pauseButton;
+    private Texture pauseIconTexture;
+    private Texture nekoinIconTexture;
+    
+    // ==================== PANELES ====================
+    
+    private Texture panelPauseTexture;
+    private Texture panelVictoryTexture;
+    private Texture buttonTexture;
+    private SimpleButton continueButton;
+    private SimpleButton restartButton;
+    private SimpleButton exitButton;
+    
+    // ==================== BENCHMARK ====================
+    
+    private float benchTime;
+    private float benchFlipTimer;
+    private float[] frameTimes;
+    private int frameCount;
+    private Runnable onBenchmarkFinished;
+    private boolean benchmarkReported;
+    
+    // ==================== SISTEMAS ====================
+    
+    private final AudioManager audioManager;
+    private final SaveManager saveManager;
+    private final LocaleManager locale;
+    
+    // ==================== CONSTRUCTORES ====================
+    
+    public MarathonScreen(KawaiiNekoMemory game, int sizeIndex) {
+        this(game, sizeIndex, false);
+    }
+    
+    /**
+     * @param sizeIndex índice en Constants.MARATHON_COLS / MARATHON_ROWS
+     * @param benchmark true para la pasada guionizada con medición de FPS
+     */
+    public MarathonScreen(KawaiiNekoMemory game, int sizeIndex, boolean benchmark) {
+        super(game);
+        
+        this.sizeIndex = MathUtils.clamp(sizeIndex, 0, Constants.MARATHON_COLS.length - 1);
+        this.benchmark = benchmark;
+        this.cols = Constants.MARATHON_COLS[this.sizeIndex];
+        this.rows = Constants.MARATHON_ROWS[this.sizeIndex];
+        this.pairs = cols * rows / 2;
+        
+        this.audioManager = AudioManager.getInstance();
+        this.saveManager = SaveManager.getInstance();
+        this.locale = LocaleManager.getInstance();
+        
+        this.hudFont = game.getFontManager().getButtonFont();
+        this.titleFont = game.getFontManager().getTitleFont();
+        this.buttonFont = game.getFontManager().getButtonFont();
+        this.layout = new GlyphLayout();
+        
+        this.board = new Board(cols, rows, pairs, tweens, Constants.MARATHON_CARD_WIDTH);
+        this.boardCamera = new OrthographicCamera(Constants.VIRTUAL_WIDTH, Constants.VIRTUAL_HEIGHT);
+        
+        if (benchmark) {
+            frameTimes = new float[(int) (Constants.MARATHON_BENCHMARK_SECONDS * BENCH_MAX_FPS)];
+        }
+        
+        loadAssets();
+        createHUD();
+        createPanels();
+        computeZoomLimits();
+        startRun();
+        playGameMusic();
+        
+        Gdx.app.log(TAG, "=== MARATHON " + cols + "x" + rows + " = " + pairs + " pares" +
+                         (benchmark ? " (BENCHMARK)" : "") + " ===");
+    }
+    
+    /**
+     * Reparte y deja la partida en su estado inicial (constructor y reinicio)
+     */
+    private void startRun() {
+        board.deal();
+        
+        elapsedTime = 0f;
+        pairsFound = 0;
+        nekoinsEarned = 0;
+        displayedNekoins = 0f;
+        panelScale = 1f;
+        tweens.kill(this, TWEEN_PANEL_POP);
+        tweens.kill(this, TWEEN_NEKOIN_COUNTER);
+        
+        bestTime = saveManager.getMarathonBestTime(sizeIndex);
+        isNewRecord = false;
+        
+        firstRevealed = null;
+        secondRevealed = null;
+        checkDelayTimer = 0f;
+        noMatchShakeTimer = 0f;
+        
+        resetPointers();
+        boardCamera.zoom = maxZoom;
+        clampCamera();
+        
+        benchTime = 0f;
+        benchFlipTimer = 0f;
+        frameCount = 0;
+        
+        gameState = GameState.PLAYING;
+    }
+    
+    // ==================== ASSETS ====================
+    
+    private void loadAssets() {
+        try {
+            backgroundTexture = new Texture(Gdx.files.internal(AssetPaths.BG_HARD));
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error cargando fondo");
+        }
+        
+        loadCardAtlas();
+        
+        try {
+            pauseIconTexture = new Texture(Gdx.files.internal(AssetPaths.ICON_PAUSE));
+            nekoinIconTexture = new Texture(Gdx.files.internal(AssetPaths.ICON_NEKOIN));
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error cargando iconos");
+        }
+        
+        try {
+            panelPauseTexture = new Texture(Gdx.files.internal(AssetPaths.PANEL_PAUSE));
+            panelVictoryTexture = new Texture(Gdx.files.internal(AssetPaths.PANEL_VICTORY));
+            buttonTexture = new Texture(Gdx.files.internal(AssetPaths.BTN_BACK));
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error cargando paneles");
+        }
+    }
+    
+    /**
+     * Un atlas con todas las cartas desbloqueadas; el par i usa el arte i % n
+     */
+    private void loadCardAtlas() {
+        IntArray cardIds = new IntArray(Constants.TOTAL_CARDS);
+        long mask = saveManager.getUnlockedCardMask();
+        while (mask != 0L) {
+            cardIds.add(Long.numberOfTrailingZeros(mask));
+            mask &= mask - 1L;
+        }
+        
+        try {
+            atlas = new CardAtlas(cardIds, Constants.MARATHON_ATLAS_SCALE);
+            board.setBackRegion(atlas.getBack());
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error generando atlas: " + e.getMessage());
+        }
+        
+        // Sin cartas no hay arte con que emparejar: se usa el id del par
+        matchByArt = cardIds.size > 0;
+        
+        for (int pairId = 0; pairId < pairs; pairId++) {
+            if (matchByArt) {
+                int cardId = cardIds.get(pairId % cardIds.size);
+                TextureRegion front = atlas != null ? atlas.getFront(cardId) : null;
+                board.setPair(pairId, front,
+                    SaveManager.getDeckFromCardId(cardId),
+                    SaveManager.getCardIndexFromCardId(cardId),
+                    saveManager.getCardNekoinValue(cardId));
+            } else {
+                board.setPair(pairId, (TextureRegion) null, 0, 0, Constants.TIME_ATTACK_NEKOIN_PER_PAIR);
+            }
+        }
+        
+        Gdx.app.log(TAG, "Arte: " + cardIds.size + " cartas para " + pairs + " pares");
+    }
+    
+    private void playGameMusic() {
+        audioManager.playMusicGroup(MusicManifest.GAME);
+    }
+    
+    // ==================== HUD Y PANELES ====================
+    
+    private void createHUD() {
+        float hudY = Constants.VIRTUAL_HEIGHT - Constants.HUD_HEIGHT + 10f;
+        float buttonSize = 50f;
+        
+        if (pauseIconTexture != null) {
+            pauseButton = new SimpleButton(pauseIconTexture, "", 10f, hudY, buttonSize, buttonSize);
+            pauseButton.setOnClick(this::pauseGame);
+        }
+    }
+    
+    private void createPanels() {
+        float panelWidth = Constants.VIRTUAL_WIDTH * 0.85f;
+        float btnWidth = panelWidth * 0.7f;
+        float btnHeight = 55f;
+        float btnX = (Constants.VIRTUAL_WIDTH - btnWidth) / 2f;
+        float btnSpacing = 15f;
+        float baseY = Constants.VIRTUAL_HEIGHT * 0.25f;
+        
+        if (buttonTexture == null) return;
+        
+        exitButton = new SimpleButton(buttonTexture, locale.get(StringId.GAME_BTN_EXIT),
+            btnX, baseY, btnWidth, btnHeight);
+        exitButton.setOnClick(() -> {
+            audioManager.playSound(SoundId.BUTTON);
+            game.setScreen(new LevelSelectScreen(game));
+        });
+        
+        // Pausa: continuar | Victoria: reiniciar (misma posición)
+        continueButton = new SimpleButton(buttonTexture, locale.get(StringId.GAME_BTN_CONTINUE),
+            btnX, baseY + btnHeight + btnSpacing, btnWidth, btnHeight);
+        continueButton.setOnClick(this::resumeGame);
+        
+        restartButton = new SimpleButton(buttonTexture, locale.get(StringId.GAME_BTN_RESTART),
+            btnX, baseY + btnHeight + btnSpacing, btnWidth, btnHeight);
+        restartButton.setOnClick(() -> {
+            audioManager.playSound(SoundId.BUTTON);
+            startRun();
+        });
+    }
+    
+    private void pauseGame() {
+        if (gameState != GameState.PLAYING) return;
+        
+        gameState = GameState.PAUSED;
+        audioManager.playSound(SoundId.BUTTON);
+        audioManager.pauseMusic();
+        resetPointers();
+        popPanel();
+    }
+    
+    private void resumeGame() {
+        if (gameState != GameState.PAUSED) return;
+        
+        gameState = GameState.PLAYING;
+        audioManager.playSound(SoundId.BUTTON);
+        audioManager.resumeMusic();
+    }
+    
+    private void popPanel() {
+        panelScale = 0.6f;
+        tweens.start(this, TWEEN_PANEL_POP, 0.6f, 1f,
+                     Constants.PANEL_POP_DURATION, Interpolation.swingOut);
+    }
+    
+    // ==================== CÁMARA ====================
+    
+    /**
+     * maxZoom muestra el tablero entero en el área de juego (bajo el HUD)
+     */
+    private void computeZoomLimits() {
+        float playHeight = Constants.VIRTUAL_HEIGHT - Constants.HUD_HEIGHT;
+        float fitZoom = Math.max(board.getBoardWidth() / Constants.VIRTUAL_WIDTH,
+                                 board.getBoardHeight() / playHeight);
+        
+        minZoom = Constants.MARATHON_MIN_ZOOM;
+        maxZoom = Math.max(minZoom, fitZoom);
+    }
+    
+    /**
+     * Mantiene el tablero dentro del área visible; centrado en el eje
+     * donde cabe entero
+     */
+    private void clampCamera() {
+        float zoom = boardCamera.zoom;
+        float halfWidth = Constants.VIRTUAL_WIDTH / 2f * zoom;
+        float halfHeight = Constants.VIRTUAL_HEIGHT / 2f * zoom;
+        float visibleWidth = Constants.VIRTUAL_WIDTH * zoom;
+        float visibleHeight = (Constants.VIRTUAL_HEIGHT - Constants.HUD_HEIGHT) * zoom;
+        
+        float boardWidth = board.getBoardWidth();
+        float boardHeight = board.getBoardHeight();
+        
+        float minX;
+        if (boardWidth <= visibleWidth) {
+            minX = (boardWidth - visibleWidth) / 2f;
+        } else {
+            minX = MathUtils.clamp(boardCamera.position.x - halfWidth, 0f, boardWidth - visibleWidth);
+        }
+        
+        float minY;
+        if (boardHeight <= visibleHeight) {
+            minY = (boardHeight - visibleHeight) / 2f;
+        } else {
+            minY = MathUtils.clamp(boardCamera.position.y - halfHeight, 0f, boardHeight - visibleHeight);
+        }
+        
+        boardCamera.position.set(minX + halfWidth, minY + halfHeight, 0f);
+        boardCamera.update();
+    }
+    
+    /**
+     * Zoom manteniendo fijo el punto del tablero bajo (focusX, focusY)
+     */
+    private void zoomAt(float newZoom, float focusX, float focusY) {
+        float oldZoom = boardCamera.zoom;
+        newZoom = MathUtils.clamp(newZoom, minZoom, maxZoom);
+        
+        boardCamera.position.x += (focusX - Constants.VIRTUAL_WIDTH / 2f) * (oldZoom - newZoom);
+        boardCamera.position.y += (focusY - Constants.VIRTUAL_HEIGHT / 2f) * (oldZoom - newZoom);
+        boardCamera.zoom = newZoom;
+        clampCamera();
+    }
+    
+    private float toBoardX(float virtualX) {
+        return boardCamera.position.x + (virtualX - Constants.VIRTUAL_WIDTH / 2f) * boardCamera.zoom;
+    }
+    
+    private float toBoardY(float virtualY) {
+        return boardCamera.position.y + (virtualY - Constants.VIRTUAL_HEIGHT / 2f) * boardCamera.zoom;
+    }
+    
+    private void resetPointers() {
+        pointerDown[0] = false;
+        pointerDown[1] = false;
+        tapCandidate = false;
+        panning = false;
+    }
+    
+    // ==================== UPDATE ====================
+    
+    @Override
+    protected void fixedUpdate(float step) {
+        board.update(step);
+        
+        switch (gameState) {
+            case PLAYING:
+                elapsedTime += step;
+                break;
+            case CHECKING:
+                elapsedTime += step;
+                checkDelayTimer -= step;
+                if (checkDelayTimer <= 0) checkForMatch();
+                break;
+            case NO_MATCH_SHAKE:
+                elapsedTime += step;
+                updateNoMatchShake(step);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    @Override
+    protected void update(float delta) {
+        if (benchmark) {
+            updateBenchmark();
+        }
+    }
+    
+    private void updateNoMatchShake(float delta) {
+        noMatchShakeTimer -= delta;
+        
+        if (noMatchShakeTimer <= 0) {
+            if (firstRevealed != null) firstRevealed.flipBack();
+            if (secondRevealed != null) secondRevealed.flipBack();
+            
+            firstRevealed = null;
+            secondRevealed = null;
+            gameState = GameState.PLAYING;
+        }
+    }
+    
+    // ==================== INPUT ====================
+    
+    @Override
+    protected boolean onTouchDown(float x, float y, int pointer) {
+        switch (gameState) {
+            case PAUSED:
+                return pressButton(continueButton, x, y) || pressButton(exitButton, x, y);
+            case VICTORY:
+                return pressButton(restartButton, x, y) || pressButton(exitButton, x, y);
+            default:
+                break;
+        }
+        
+        if (benchmark) return false;
+        if (pointer == 0 && pressButton(pauseButton, x, y)) return true;
+        if (pointer > 1) return false;
+        
+        pointerDown[pointer] = true;
+        pointerX[pointer] = x;
+        pointerY[pointer] = y;
+        
+        if (pointerDown[0] && pointerDown[1]) {
+            // Segundo dedo: empieza el pellizco, se cancela el tap
+            pinchStartDistance = Math.max(1f, distance());
+            pinchStartZoom = boardCamera.zoom;
+            tapCandidate = false;
+            panning = false;
+        } else if (pointer == 0) {
+            downX = x;
+            downY = y;
+            tapCandidate = true;
+            panning = false;
+        }
+        return true;
+    }
+    
+    @Override
+    protected void onTouchDragged(float x, float y, int pointer) {
+        if (pointer > 1 || !pointerDown[pointer]) return;
+        
+        float lastX = pointerX[pointer];
+        float lastY = pointerY[pointer];
+        pointerX[pointer] = x;
+        pointerY[pointer] = y;
+        
+        if (pointerDown[0] && pointerDown[1]) {
+            float midX = (pointerX[0] + pointerX[1]) / 2f;
+            float midY = (pointerY[0] + pointerY[1]) / 2f;
+            zoomAt(pinchStartZoom * pinchStartDistance / Math.max(1f, distance()), midX, midY);
+            return;
+        }
+        
+        if (pointer != 0) return;
+        
+        if (tapCandidate && Math.abs(x - downX) + Math.abs(y - downY) > Constants.MARATHON_TAP_SLOP) {
+            tapCandidate = false;
+            panning = true;
+        }
+        if (panning) {
+            boardCamera.position.x -= (x - lastX) * boardCamera.zoom;
+            boardCamera.position.y -= (y - lastY) * boardCamera.zoom;
+            clampCamera();
+        }
+    }
+    
+    @Override
+    protected void onTouchUp(float x, float y, int pointer) {
+        if (pointer > 1 || !pointerDown[pointer]) return;
+        pointerDown[pointer] = false;
+        
+        if (pointer == 0 && tapCandidate && gameState == GameState.PLAYING
+                && y < Constants.VIRTUAL_HEIGHT - Constants.HUD_HEIGHT) {
+            handleCardTouch(toBoardX(x), toBoardY(y));
+        }
+        
+        if (pointer == 0) {
+            tapCandidate = false;
+            panning = false;
+        } else if (pointerDown[0]) {
+            // Queda un dedo: sigue como pan desde su posición actual
+            panning = true;
+        }
+    }
+    
+    @Override
+    protected void onScrolled(float amountY) {
+        if (benchmark || gameState == GameState.PAUSED || gameState == GameState.VICTORY) return;
+        
+        zoomAt(boardCamera.zoom * (1f + amountY * SCROLL_ZOOM_STEP),
+               Constants.VIRTUAL_WIDTH / 2f, Constants.VIRTUAL_HEIGHT / 2f);
+    }
+    
+    private float distance() {
+        float dx = pointerX[1] - pointerX[0];
+        float dy = pointerY[1] - pointerY[0];
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+    
+    // ==================== LÓGICA DE CARTAS ====================
+    
+    private void handleCardTouch(float boardX, float boardY) {
+        if (firstRevealed != null && secondRevealed != null) return;
+        
+        Card card = board.findClickableAt(boardX, boardY);
+        if (card != null) {
+            onCardClicked(card);
+        }
+    }
+    
+    private void onCardClicked(Card card) {
+        audioManager.playSound(SoundId.CARD_FLIP);
+        card.flip();
+        
+        if (firstRevealed == null) {
+            firstRevealed = card;
+        } else {
+            secondRevealed = card;
+            gameState = GameState.CHECKING;
+            checkDelayTimer = Constants.MATCH_CHECK_DELAY;
+        }
+    }
+    
+    private boolean isPair(Card a, Card b) {
+        if (!matchByArt) {
+            return a.getCardId() == b.getCardId();
+        }
+        return a.getDeckIndex() == b.getDeckIndex() && a.getCardIndex() == b.getCardIndex();
+    }
+    
+    private void checkForMatch() {
+        if (firstRevealed == null || secondRevealed == null) {
+            gameState = GameState.PLAYING;
+            return;
+        }
+        
+        if (isPair(firstRevealed, secondRevealed)) {
+            audioManager.playSound(SoundId.MATCH);
+            firstRevealed.setMatched();
+            secondRevealed.setMatched();
+            
+            nekoinsEarned += firstRevealed.getNekoinValue();
+            tweens.start(this, TWEEN_NEKOIN_COUNTER, displayedNekoins, nekoinsEarned,
+                         Constants.HUD_COUNTER_DURATION, Interpolation.pow2Out);
+            pairsFound++;
+            
+            firstRevealed = null;
+            secondRevealed = null;
+            
+            if (pairsFound >= pairs) {
+                onVictory();
+            } else {
+                gameState = GameState.PLAYING;
+            }
+        } else {
+            audioManager.playSound(SoundId.NO_MATCH);
+            firstRevealed.startShake(Constants.NO_MATCH_SHAKE_DURATION);
+            secondRevealed.startShake(Constants.NO_MATCH_SHAKE_DURATION);
+            
+            noMatchShakeTimer = Constants.NO_MATCH_SHAKE_DURATION;
+            gameState = GameState.NO_MATCH_SHAKE;
+        }
+    }
+    
+    private void onVictory() {
+        gameState = GameState.VICTORY;
+        audioManager.playSound(SoundId.VICTORY);
+        resetPointers();
+        
+        if (!benchmark) {
+            isNewRecord = saveManager.updateMarathonBestTime(sizeIndex, elapsedTime);
+            saveManager.addPairsFound(pairsFound);
+            saveManager.addNekoins(nekoinsEarned);
+        }
+        
+        Gdx.app.log(TAG, "Marathon completado en " + formatTime(elapsedTime) +
+                         " | +" + nekoinsEarned + " nekoins");
+        popPanel();
+    }
+    
+    // ==================== ANIMACIONES ====================
+    
+    @Override
+    public void onTweenUpdate(int channel, float value) {
+        switch (channel) {
+            case TWEEN_PANEL_POP: panelScale = value; break;
+            case TWEEN_NEKOIN_COUNTER: displayedNekoins = value; break;
+            default: break;
+        }
+    }
+    
+    @Override
+    public void onTweenComplete(int channel) {}
+    
+    // ==================== BENCHMARK ====================
+    
+    /**
+     * Pan/zoom guionizado y flips aleatorios; mide el tiempo real de cada frame
+     */
+    private void updateBenchmark() {
+        float frameTime = Gdx.graphics.getDeltaTime();
+        if (frameCount < frameTimes.length) {
+            frameTimes[frameCount++] = frameTime;
+        }
+        benchTime += frameTime;
+        
+        // Recorrido de Lissajous por todo el tablero con zoom oscilante
+        float t = benchTime;
+        boardCamera.zoom = MathUtils.lerp(minZoom, maxZoom, 0.5f + 0.5f * MathUtils.sin(t * 0.4f));
+        boardCamera.position.x = board.getBoardWidth() * (0.5f + 0.5f * MathUtils.sin(t * 0.7f));
+        boardCamera.position.y = board.getBoardHeight() * (0.5f + 0.5f * MathUtils.sin(t * 0.5f));
+        clampCamera();
+        
+        benchFlipTimer -= frameTime;
+        if (benchFlipTimer <= 0f && gameState == GameState.PLAYING) {
+            benchFlipTimer = BENCH_FLIP_INTERVAL;
+            Array<Card> cards = board.getCards();
+            if (cards.size > 0) {
+                Card card = cards.get(MathUtils.random(cards.size - 1));
+                if (card.canBeClicked()) onCardClicked(card);
+            }
+        }
+        
+        if (benchTime >= Constants.MARATHON_BENCHMARK_SECONDS || gameState == GameState.VICTORY) {
+            if (benchmarkReported) return;      // El cierre puede tardar un frame
+            benchmarkReported = true;
+            reportBenchmark();
+            if (onBenchmarkFinished != null) {
+                onBenchmarkFinished.run();
+            } else {
+                game.setScreen(new LevelSelectScreen(game));
+            }
+        }
+    }
+    
+    /**
+     * Acción al terminar el benchmark, tras registrar el informe
+     * (por defecto se vuelve a LevelSelectScreen)
+     */
+    public void setOnBenchmarkFinished(Runnable onBenchmarkFinished) {
+        this.onBenchmarkFinished = onBenchmarkFinished;
+    }
+    
+    private void reportBenchmark() {
+        if (frameCount == 0) return;
+        
+        float total = 0f;
+        for (int i = 0; i < frameCount; i++) {
+            total += frameTimes[i];
+        }
+        
+        // Peores frames al final
+        Arrays.sort(frameTimes, 0, frameCount);
+        int worstCount = Math.max(1, frameCount / 100);
+        float worstTotal = 0f;
+        for (int i = frameCount - worstCount; i < frameCount; i++) {
+            worstTotal += frameTimes[i];
+        }
+        
+        float avgFps = frameCount / total;
+        float lowFps = worstCount / worstTotal;
+        float minFps = 1f / frameTimes[frameCount - 1];
+        
+        Gdx.app.log(TAG, String.format("BENCHMARK %dx%d: %d frames en %.1fs | medio %.1f fps | 1%% low %.1f fps | mín %.1f fps",
+                                       cols, rows, frameCount, total, avgFps, lowFps, minFps));
+    }
+    
+    // ==================== DRAW ====================
+    
+    @Override
+    protected void draw() {
+        game.getBatch().begin();
+        
+        if (backgroundTexture != null) {
+            game.getBatch().draw(backgroundTexture, 0, 0,
+                                 Constants.VIRTUAL_WIDTH, Constants.VIRTUAL_HEIGHT);
+        }
+        
+        drawBoard();
+        drawHUD();
+        
+        game.getBatch().end();
+        
+        if (gameState == GameState.PAUSED) drawPausePanel();
+        if (gameState == GameState.VICTORY) drawVictoryPanel();
+    }
+    
+    /**
+     * Tablero con su cámara; solo las celdas dentro del rectángulo visible
+     */
+    private void drawBoard() {
+        boardCamera.update();
+        game.getBatch().setProjectionMatrix(boardCamera.combined);
+        
+        float halfWidth = Constants.VIRTUAL_WIDTH / 2f * boardCamera.zoom;
+        float halfHeight = Constants.VIRTUAL_HEIGHT / 2f * boardCamera.zoom;
+        board.draw(game.getBatch(), getRenderAlpha(),
+                   boardCamera.position.x - halfWidth, boardCamera.position.y - halfHeight,
+                   boardCamera.position.x + halfWidth, boardCamera.position.y + halfHeight);
+        
+        game.getBatch().setProjectionMatrix(camera.combined);
+    }
+    
+    private void drawHUD() {
+        float hudY = Constants.VIRTUAL_HEIGHT - Constants.HUD_HEIGHT;
+        
+        TextureRegion hudBack = atlas != null ? atlas.getBack() : null;
+        if (hudBack != null) {
+            saveColor();
+            game.getBatch().setColor(0, 0, 0, 0.5f);
+            game.getBatch().draw(hudBack, 0, hudY, Constants.VIRTUAL_WIDTH, Constants.HUD_HEIGHT);
+            restoreColor();
+        }
+        
+        if (pauseButton != null && !benchmark) pauseButton.drawNoText(game.getBatch());
+        
+        // Cronómetro
+        String timeText = formatTime(elapsedTime);
+        layout.setText(hudFont, timeText);
+        float timeY = hudY + (Constants.HUD_HEIGHT + layout.height) / 2f;
+        hudFont.setColor(Color.WHITE);
+        hudFont.draw(game.getBatch(), timeText, Constants.VIRTUAL_WIDTH - layout.width - 15f, timeY);
+        
+        // Título con tamaño
+        String title = locale.get(StringId.MARATHON_TITLE) + " " + cols + "x" + rows;
+        layout.setText(hudFont, title);
+        hudFont.setColor(Color.ORANGE);
+        hudFont.draw(game.getBatch(), title, (Constants.VIRTUAL_WIDTH - layout.width) / 2f, timeY + 15f);
+        hudFont.setColor(Color.WHITE);
+        
+        // Pares
+        String pairsText = locale.format(StringId.GAME_PAIRSFOUND, pairsFound, pairs);
+        layout.setText(hudFont, pairsText);
+        hudFont.draw(game.getBatch(), pairsText, (Constants.VIRTUAL_WIDTH - layout.width) / 2f, timeY - 15f);
+        
+        // Nekoins ganados
+        if (nekoinIconTexture != null && nekoinsEarned > 0) {
+            String nekoinText = "+" + MathUtils.round(displayedNekoins);
+            float iconSize = 24f;
+            float iconX = 70f;
+            float iconY = timeY - 15f;
+            
+            game.getBatch().draw(nekoinIconTexture, iconX, iconY - iconSize + 5f, iconSize, iconSize);
+            hudFont.setColor(Color.GOLD);
+            hudFont.draw(game.getBatch(), nekoinText, iconX + iconSize + 5f, iconY);
+            hudFont.setColor(Color.WHITE);
+        }
+    }
+    
+    private void drawOverlay(float alpha) {
+        TextureRegion back = atlas != null ? atlas.getBack() : null;
+        if (back == null) return;
+        
+        saveColor();
+        game.getBatch().setColor(0, 0, 0, alpha);
+        game.getBatch().draw(back, 0, 0, Constants.VIRTUAL_WIDTH, Constants.VIRTUAL_HEIGHT);
+        restoreColor();
+    }
+    
+    private void drawPanelBackground(Texture texture, float heightRatio) {
+        if (texture == null) return;
+        
+        float panelWidth = Constants.VIRTUAL_WIDTH * 0.85f * panelScale;
+        float panelHeight = panelWidth * heightRatio;
+        float panelX = (Constants.VIRTUAL_WIDTH - panelWidth) / 2f;
+        float panelY = (Constants.VIRTUAL_HEIGHT - panelHeight) / 2f;
+        game.getBatch().draw(texture, panelX, panelY, panelWidth, panelHeight);
+    }
+    
+    private void drawCentered(BitmapFont font, String text, float y, Color color) {
+        layout.setText(font, text);
+        font.setColor(color);
+        font.draw(game.getBatch(), text, (Constants.VIRTUAL_WIDTH - layout.width) / 2f, y);
+        font.setColor(Color.WHITE);
+    }
+    
+    private void drawPausePanel() {
+        game.getBatch().begin();
+        
+        drawOverlay(0.7f);
+        drawPanelBackground(panelPauseTexture, 1.0f);
+        
+        drawCentered(titleFont, locale.get(StringId.GAME_PAUSED), Constants.VIRTUAL_HEIGHT * 0.68f, Color.WHITE);
+        drawCentered(buttonFont, locale.format(StringId.GAME_TIME, formatTime(elapsedTime)),
+                     Constants.VIRTUAL_HEIGHT * 0.58f, Color.WHITE);
+        
+        if (continueButton != null) continueButton.draw(game.getBatch(), buttonFont);
+        if (exitButton != null) exitButton.draw(game.getBatch(), buttonFont);
+        
+        game.getBatch().end();
+    }
+    
+    private void drawVictoryPanel() {
+        game.getBatch().begin();
+        
+        drawOverlay(0.8f);
+        drawPanelBackground(panelVictoryTexture, 1.2f);
+        
+        float statsY = Constants.VIRTUAL_HEIGHT * 0.65f;
+        float lineHeight = 35f;
+        
+        drawCentered(titleFont, locale.get(StringId.GAME_VICTORY), Constants.VIRTUAL_HEIGHT * 0.75f, Color.GOLD);
+        drawCentered(buttonFont, locale.format(StringId.GAME_TIME, formatTime(elapsedTime)), statsY, Color.WHITE);
+        
+        if (isNewRecord) {
+            drawCentered(buttonFont, locale.get(StringId.GAME_NEWRECORD), statsY - lineHeight, Color.GOLD);
+        } else if (bestTime > 0f) {
+            drawCentered(buttonFont, locale.format(StringId.MARATHON_BEST, formatTime(bestTime)),
+                         statsY - lineHeight, Color.LIGHT_GRAY);
+        }
+        
+        drawCentered(buttonFont, locale.get(StringId.COMMON_NEKOINS) + ": " + MathUtils.round(displayedNekoins),
+                     statsY - lineHeight * 2, Color.GOLD);
+        
+        if (restartButton != null) restartButton.draw(game.getBatch(), buttonFont);
+        if (exitButton != null) exitButton.draw(game.getBatch(), buttonFont);
+        
+        game.getBatch().end();
+    }
+    
+    // ==================== UTILIDADES ====================
+    
+    private String formatTime(float seconds) {
+        int mins = (int)(seconds / 60);
+        int secs = (int)(seconds % 60);
+        return String.format("%d:%02d", mins, secs);
+    }
+    
+    // ==================== DISPOSE ====================
+    
+    @Override
+    public void dispose() {
+        if (atlas != null) atlas.dispose();
+        if (backgroundTexture != null) backgroundTexture.dispose();
+        if (pauseIconTexture != null) pauseIconTexture.dispose();
+        if (nekoinIconTexture != null) nekoinIconTexture.dispose();
+        if (panelPauseTexture != null) panelPauseTexture.dispose();
+        if (panelVictoryTexture != null) panelVictoryTexture.dispose();
+        if (buttonTexture != null) buttonTexture.dispose();
+    }
+}
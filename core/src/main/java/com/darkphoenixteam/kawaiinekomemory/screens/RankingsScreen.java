@@ -9,10 +9,12 @@ import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
 import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringId;
 import com.darkphoenixteam.kawaiinekomemory.models.Achievement;
 import com.darkphoenixteam.kawaiinekomemory.systems.AudioManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.SaveManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.SoundId;
 import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
 
 /**
@@ -95,10 +97,10 @@ public class RankingsScreen extends BaseScreen {
             Texture backTex = new Texture(Gdx.files.internal(AssetPaths.BTN_BACK));
             float btnWidth = Constants.VIRTUAL_WIDTH * 0.4f;
             float btnHeight = btnWidth * 0.35f;
-            backButton = new SimpleButton(backTex, locale.get("common.back"),
+            backButton = new SimpleButton(backTex, locale.get(StringId.COMMON_BACK),
                 (Constants.VIRTUAL_WIDTH - btnWidth) / 2f, 20f, btnWidth, btnHeight);
             backButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 game.setScreen(new HomeScreen(game));
             });
         } catch (Exception e) {
@@ -108,9 +110,12 @@ public class RankingsScreen extends BaseScreen {
     
     @Override
     protected void update(float delta) {
-        if (!isInputEnabled()) return;
-        
-        if (backButton != null) backButton.update(viewport);
+        // Sin lógica por frame: el input llega por onTouchDown()
+    }
+    
+    @Override
+    protected boolean onTouchDown(float x, float y, int pointer) {
+        return pressButton(backButton, x, y);
     }
     
     @Override
@@ -142,7 +147,7 @@ public class RankingsScreen extends BaseScreen {
     }
     
     private void drawHeader() {
-        String title = locale.get("rankings.title");
+        String title = locale.get(StringId.RANKINGS_TITLE);
         titleFont.setColor(Color.GOLD);
         layout.setText(titleFont, title);
         titleFont.draw(game.getBatch(), title,
@@ -150,7 +155,7 @@ public class RankingsScreen extends BaseScreen {
                       Constants.VIRTUAL_HEIGHT - 30f);
         titleFont.setColor(Color.WHITE);
         
-        String subtitle = locale.get("rankings.subtitle");
+        String subtitle = locale.get(StringId.RANKINGS_SUBTITLE);
         smallFont.setColor(Color.LIGHT_GRAY);
         layout.setText(smallFont, subtitle);
         smallFont.draw(game.getBatch(), subtitle,
@@ -206,7 +211,7 @@ public class RankingsScreen extends BaseScreen {
         float card1Y = startY - cardHeight;
         
         buttonFont.setColor(Color.WHITE);
-        buttonFont.draw(game.getBatch(), "⏱ " + locale.get("rankings.timeattack"), textX, card1Y + cardHeight - 15f);
+        buttonFont.draw(game.getBatch(), "⏱ " + locale.get(StringId.RANKINGS_TIMEATTACK), textX, card1Y + cardHeight - 15f);
         
         int bestPairs = saveManager.getTimeAttackBestPairs();
         int totalPairs = saveManager.getTimeAttackTotalPairs();
@@ -217,7 +222,7 @@ public class RankingsScreen extends BaseScreen {
         
         if (bestPairs > 0) {
             buttonFont.setColor(Color.GOLD);
-            String recordText = locale.format("rankings.best", bestPairs);
+            String recordText = locale.format(StringId.RANKINGS_BEST, bestPairs);
             layout.setText(buttonFont, recordText);
             buttonFont.draw(game.getBatch(), recordText, 
                            Constants.VIRTUAL_WIDTH - CARD_MARGIN - 15f - layout.width,
@@ -225,15 +230,15 @@ public class RankingsScreen extends BaseScreen {
             buttonFont.setColor(Color.WHITE);
         }
         
-        smallFont.draw(game.getBatch(), locale.format("rankings.totalpairs", totalPairs), textX, card1Y + cardHeight - 45f);
-        smallFont.draw(game.getBatch(), locale.format("rankings.games", gamesPlayed), textX, card1Y + cardHeight - 65f);
-        smallFont.draw(game.getBatch(), locale.format("game.time", formatTime(currentTime)), textX + 150f, card1Y + cardHeight - 65f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_TOTALPAIRS, totalPairs), textX, card1Y + cardHeight - 45f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_GAMES, gamesPlayed), textX, card1Y + cardHeight - 65f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.GAME_TIME, formatTime(currentTime)), textX + 150f, card1Y + cardHeight - 65f);
         
         // === CARD 2: ESTADÍSTICAS ===
         float card2Y = startY - cardHeight * 2 - CARD_SPACING;
         
         buttonFont.setColor(Color.WHITE);
-        buttonFont.draw(game.getBatch(), "📊 " + locale.get("rankings.stats"), textX, card2Y + cardHeight - 15f);
+        buttonFont.draw(game.getBatch(), "📊 " + locale.get(StringId.RANKINGS_STATS), textX, card2Y + cardHeight - 15f);
         
         int totalWins = saveManager.getTotalWins();
         int totalLosses = saveManager.getTotalLosses();
@@ -241,10 +246,10 @@ public class RankingsScreen extends BaseScreen {
         int bestCombo = saveManager.getBestCombo();
         
         smallFont.setColor(Color.WHITE);
-        smallFont.draw(game.getBatch(), locale.format("rankings.wins", totalWins), textX, card2Y + cardHeight - 45f);
-        smallFont.draw(game.getBatch(), locale.format("rankings.losses", totalLosses), textX + 140f, card2Y + cardHeight - 45f);
-        smallFont.draw(game.getBatch(), locale.format("rankings.totalpairs", totalGamePairs), textX, card2Y + cardHeight - 65f);
-        smallFont.draw(game.getBatch(), locale.format("rankings.bestcombo", bestCombo), textX + 180f, card2Y + cardHeight - 65f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_WINS, totalWins), textX, card2Y + cardHeight - 45f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_LOSSES, totalLosses), textX + 140f, card2Y + cardHeight - 45f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_TOTALPAIRS, totalGamePairs), textX, card2Y + cardHeight - 65f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_BESTCOMBO, bestCombo), textX + 180f, card2Y + cardHeight - 65f);
         
         if (totalWins + totalLosses > 0) {
             float winRate = (totalWins * 100f) / (totalWins + totalLosses);
@@ -261,7 +266,7 @@ public class RankingsScreen extends BaseScreen {
         float card3Y = startY - cardHeight * 3 - CARD_SPACING * 2;
         
         buttonFont.setColor(Color.WHITE);
-        buttonFont.draw(game.getBatch(), "🎴 " + locale.get("rankings.collection"), textX, card3Y + cardHeight - 15f);
+        buttonFont.draw(game.getBatch(), "🎴 " + locale.get(StringId.RANKINGS_COLLECTION), textX, card3Y + cardHeight - 15f);
         
         int unlockedCards = saveManager.getUnlockedCardCount();
         int totalCards = Constants.TOTAL_CARDS;
@@ -269,9 +274,9 @@ public class RankingsScreen extends BaseScreen {
         int gachaPulls = saveManager.getGachaPulls();
         
         smallFont.setColor(Color.WHITE);
-        smallFont.draw(game.getBatch(), locale.format("rankings.cards", unlockedCards, totalCards), textX, card3Y + cardHeight - 45f);
-        smallFont.draw(game.getBatch(), locale.format("rankings.activecount", activeCards), textX + 140f, card3Y + cardHeight - 45f);
-        smallFont.draw(game.getBatch(), locale.format("rankings.gachapulls", gachaPulls), textX, card3Y + cardHeight - 65f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_CARDS, unlockedCards, totalCards), textX, card3Y + cardHeight - 45f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_ACTIVECOUNT, activeCards), textX + 140f, card3Y + cardHeight - 45f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_GACHAPULLS, gachaPulls), textX, card3Y + cardHeight - 65f);
         
         float collectionPercent = (unlockedCards * 100f) / totalCards;
         String percentText = String.format("%.0f%%", collectionPercent);
@@ -286,7 +291,7 @@ public class RankingsScreen extends BaseScreen {
         float card4Y = startY - cardHeight * 4 - CARD_SPACING * 3;
         
         buttonFont.setColor(Color.WHITE);
-        buttonFont.draw(game.getBatch(), "🏆 " + locale.get("rankings.achievements"), textX, card4Y + cardHeight - 15f);
+        buttonFont.draw(game.getBatch(), "🏆 " + locale.get(StringId.RANKINGS_ACHIEVEMENTS), textX, card4Y + cardHeight - 15f);
         
         int unlockedAchievements = saveManager.getUnlockedAchievementCount();
         int totalAchievements = Achievement.count();
@@ -295,19 +300,19 @@ public class RankingsScreen extends BaseScreen {
         int powersUsed = saveManager.getTotalPowersUsed();
         
         smallFont.setColor(Color.WHITE);
-        smallFont.draw(game.getBatch(), locale.format("rankings.cards", unlockedAchievements, totalAchievements), 
+        smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_CARDS, unlockedAchievements, totalAchievements), 
                       textX, card4Y + cardHeight - 45f);
-        smallFont.draw(game.getBatch(), locale.format("rankings.powersused", powersUsed), textX + 150f, card4Y + cardHeight - 45f);
+        smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_POWERSUSED, powersUsed), textX + 150f, card4Y + cardHeight - 45f);
         
         if (nekoinIconTexture != null) {
             float iconSize = 18f;
             float iconY = card4Y + cardHeight - 75f;
             
             game.getBatch().draw(nekoinIconTexture, textX, iconY, iconSize, iconSize);
-            smallFont.draw(game.getBatch(), locale.format("rankings.earned", totalEarned), textX + iconSize + 5f, iconY + iconSize - 3f);
+            smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_EARNED, totalEarned), textX + iconSize + 5f, iconY + iconSize - 3f);
             
             game.getBatch().draw(nekoinIconTexture, textX + 160f, iconY, iconSize, iconSize);
-            smallFont.draw(game.getBatch(), locale.format("rankings.spent", totalSpent), textX + 160f + iconSize + 5f, iconY + iconSize - 3f);
+            smallFont.draw(game.getBatch(), locale.format(StringId.RANKINGS_SPENT, totalSpent), textX + 160f + iconSize + 5f, iconY + iconSize - 3f);
         }
         
         float achievePercent = (unlockedAchievements * 100f) / totalAchievements;
@@ -5,12 +5,14 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
-import com.badlogic.gdx.math.Vector2;
 import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
 import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringId;
 import com.darkphoenixteam.kawaiinekomemory.systems.AudioManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.SettingsStore;
+import com.darkphoenixteam.kawaiinekomemory.systems.SoundId;
 import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
 import com.darkphoenixteam.kawaiinekomemory.ui.SimpleSlider;
 
@@ -22,8 +24,11 @@ import com.darkphoenixteam.kawaiinekomemory.ui.SimpleSlider;
  * - Texturas compartidas manejadas correctamente
  * - Usa saveColor()/restoreColor() de BaseScreen
  * 
+ * v2.2: el cambio de idioma es asíncrono (LocaleManager.requestLanguage);
+ * fuentes y textos se refrescan en onLanguageChanged()
+ * 
  * @author DarkphoenixTeam
- * @version 2.1
+ * @version 2.2
  */
 public class SettingsScreen extends BaseScreen {
     
@@ -57,9 +62,6 @@ public class SettingsScreen extends BaseScreen {
     private AudioManager audioManager;
     private LocaleManager localeManager;
     
-    // === INPUT ===
-    private final Vector2 touchPoint = new Vector2();
-    
     // === LAYOUT ===
     private static final float SLIDER_WIDTH_PERCENT = 0.55f;
     private static final float SLIDER_MAX_HEIGHT = 50f;
@@ -67,7 +69,7 @@ public class SettingsScreen extends BaseScreen {
     private static final float SECTION_SPACING = 90f;
     private static final float BUTTON_WIDTH_PERCENT = 0.50f;
     
-    // === POSICIONES CALCULADAS (para recreateUI) ===
+    // === POSICIONES CALCULADAS ===
     private float sliderX;
     private float sliderWidth;
     private float musicSliderY;
@@ -168,6 +170,8 @@ public class SettingsScreen extends BaseScreen {
             );
             musicSlider.setValue(audioManager.getMusicVolume());
             musicSlider.setOnValueChanged(volume -> audioManager.setMusicVolume(volume));
+            // Un solo guardado por arrastre
+            musicSlider.setOnDragEnd(SettingsStore.getInstance()::commit);
         }
         
         // === SLIDER DE EFECTOS ===
@@ -180,9 +184,10 @@ public class SettingsScreen extends BaseScreen {
             soundSlider.setOnValueChanged(volume -> {
                 audioManager.setSoundVolume(volume);
                 if (!soundSlider.isDragging()) {
-                    audioManager.playSound(AssetPaths.SFX_BUTTON);
+                    audioManager.playSound(SoundId.BUTTON);
                 }
             });
+            soundSlider.setOnDragEnd(SettingsStore.getInstance()::commit);
         }
         
         // === BOTÓN DE IDIOMA ===
@@ -211,48 +216,40 @@ public class SettingsScreen extends BaseScreen {
             
             backButton = new SimpleButton(
                 backButtonTexture,
-                localeManager.get("common.back"),
+                localeManager.get(StringId.COMMON_BACK),
                 buttonX, buttonY, buttonWidth, buttonHeight
             );
             backButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 game.setScreen(new HomeScreen(game));
             });
         }
     }
     
     private void cycleLanguage() {
-        audioManager.playSound(AssetPaths.SFX_BUTTON);
-        
-        boolean needsFontReload = localeManager.cycleLanguage();
-        
-        Gdx.app.log(TAG, "Idioma cambiado a: " + localeManager.getCurrentLanguage().displayName);
+        audioManager.playSound(SoundId.BUTTON);
         
-        if (needsFontReload) {
-            game.getFontManager().regenerateForLanguage(localeManager.isCJK());
-        }
-        
-        // Actualizar referencias de fuentes (podrían haber cambiado)
+        // Textos y fuentes se preparan en segundo plano: la UI no se congela
+        localeManager.cycleLanguage();
+    }
+    
+    @Override
+    protected void onLanguageChanged(LocaleManager.Language language) {
+        // Las fuentes pueden ser otro juego (latino/CJK)
         refreshFontReferences();
-        
-        // Actualizar textos de botones existentes SIN recrear la pantalla
-        recreateUI();
+        refreshTexts();
     }
     
     /**
-     * Recrea solo los componentes de UI con nuevos textos.
-     * NO crea una nueva pantalla — evita memory leak.
-     * Las texturas ya están cargadas, solo se recrean los botones.
+     * Actualiza los textos de los botones existentes sin recrear la pantalla
      */
-    private void recreateUI() {
-        // Actualizar texto del botón de idioma
+    private void refreshTexts() {
         if (languageButton != null) {
             languageButton.setText(localeManager.getCurrentLanguage().displayName);
         }
         
-        // Actualizar texto del botón back
         if (backButton != null) {
-            backButton.setText(localeManager.get("common.back"));
+            backButton.setText(localeManager.get(StringId.COMMON_BACK));
         }
         
         Gdx.app.log(TAG, "UI actualizada para: " + localeManager.getCurrentLanguage().displayName);
@@ -260,30 +257,37 @@ public class SettingsScreen extends BaseScreen {
     
     @Override
     protected void update(float delta) {
-        if (!isInputEnabled()) {
-            return;
-        }
-        
-        boolean isTouched = Gdx.input.isTouched();
-        
-        if (isTouched) {
-            viewport.unproject(touchPoint.set(Gdx.input.getX(), Gdx.input.getY()));
-        }
+        // Sin lógica por frame: sliders y botones llegan por eventos
+    }
+    
+    @Override
+    protected boolean onTouchDown(float x, float y, int pointer) {
+        if (musicSlider != null && musicSlider.touchDown(x, y)) return true;
+        if (soundSlider != null && soundSlider.touchDown(x, y)) return true;
         
+        if (pressButton(languageButton, x, y)) return true;
+        return pressButton(backButton, x, y);
+    }
+    
+    @Override
+    protected void onTouchDragged(float x, float y, int pointer) {
         if (musicSlider != null) {
-            musicSlider.update(touchPoint, isTouched);
+            musicSlider.touchDragged(x, y);
         }
         
         if (soundSlider != null) {
-            soundSlider.update(touchPoint, isTouched);
+            soundSlider.touchDragged(x, y);
         }
-        
-        if (languageButton != null) {
-            languageButton.update(viewport);
+    }
+    
+    @Override
+    protected void onTouchUp(float x, float y, int pointer) {
+        if (musicSlider != null) {
+            musicSlider.touchUp();
         }
         
-        if (backButton != null) {
-            backButton.update(viewport);
+        if (soundSlider != null) {
+            soundSlider.touchUp();
         }
     }
     
@@ -305,7 +309,7 @@ public class SettingsScreen extends BaseScreen {
         }
         
         // Título
-        String title = localeManager.get("settings.title");
+        String title = localeManager.get(StringId.SETTINGS_TITLE);
         layout.setText(titleFont, title);
         float titleX = (Constants.VIRTUAL_WIDTH - layout.width) / 2f;
         float titleY = Constants.VIRTUAL_HEIGHT - 60f;
@@ -313,12 +317,12 @@ public class SettingsScreen extends BaseScreen {
         
         // Sección Música
         if (musicSlider != null) {
-            drawSliderSection(localeManager.get("settings.music"), musicSlider);
+            drawSliderSection(localeManager.get(StringId.SETTINGS_MUSIC), musicSlider);
         }
         
         // Sección Efectos
         if (soundSlider != null) {
-            drawSliderSection(localeManager.get("settings.sfx"), soundSlider);
+            drawSliderSection(localeManager.get(StringId.SETTINGS_SFX), soundSlider);
         }
         
         // Sección Idioma
@@ -358,7 +362,7 @@ public class SettingsScreen extends BaseScreen {
         float buttonHeight = languageButton.getHeight();
         
         // Label
-        String label = localeManager.get("settings.language");
+        String label = localeManager.get(StringId.SETTINGS_LANGUAGE);
         layout.setText(labelFont, label);
         float labelX = (Constants.VIRTUAL_WIDTH - layout.width) / 2f;
         float labelY = buttonY + buttonHeight + LABEL_SPACING + layout.height + 10f;
@@ -5,17 +5,23 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.math.Interpolation;
 import com.badlogic.gdx.math.MathUtils;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
 import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
 import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringId;
+import com.darkphoenixteam.kawaiinekomemory.models.Board;
 import com.darkphoenixteam.kawaiinekomemory.models.Card;
 import com.darkphoenixteam.kawaiinekomemory.systems.AdController;
 import com.darkphoenixteam.kawaiinekomemory.systems.AudioManager;
 import com.darkphoenixteam.kawaiinekomemory.systems.LocaleManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.MusicManifest;
 import com.darkphoenixteam.kawaiinekomemory.systems.SaveManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.SoundId;
+import com.darkphoenixteam.kawaiinekomemory.systems.TweenEngine;
 import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
 
 /**
@@ -23,14 +29,22 @@ import com.darkphoenixteam.kawaiinekomemory.ui.SimpleButton;
  * - Dos modos: MODE_12 (3x4) y MODE_30 (5x6)
  * - Fix: No-match shake delay (igual que GameScreen)
  * - Música aleatoria exclusiva de Time Attack
+ * - Variante sin fin: el siguiente grid (ya construido desde la cola de
+ *   layouts del Board) entra deslizándose sin pausa de transición
+ * - Latencia de cada transición (swap del Board) registrada y reportada
+ *   al terminar la partida
  * 
  * @author DarkphoenixTeam
- * @version 2.1 - No-match fix + Separate music
+ * @version 2.5 - Variante sin fin con grids en streaming
  */
-public class TimeAttackScreen extends BaseScreen {
+public class TimeAttackScreen extends BaseScreen implements TweenEngine.Target {
     
     private static final String TAG = "TimeAttackScreen";
     
+    // === CANALES DE TWEEN ===
+    private static final int TWEEN_PANEL_POP = 0;
+    private static final int TWEEN_NEKOIN_COUNTER = 1;
+    
     // ==================== MODOS ====================
     
     public enum Mode {
@@ -49,6 +63,7 @@ public class TimeAttackScreen extends BaseScreen {
     }
     
     private Mode currentMode;
+    private final boolean endless;
     
     // ==================== ESTADOS ====================
     
@@ -72,7 +87,7 @@ public class TimeAttackScreen extends BaseScreen {
     
     // ==================== TABLERO ====================
     
-    private Array<Card> cards;
+    private Board board;
     private Card firstRevealed;
     private Card secondRevealed;
     
@@ -80,10 +95,6 @@ public class TimeAttackScreen extends BaseScreen {
     private Array<Texture> cardFrontTextures;
     private Texture backgroundTexture;
     
-    private float boardX, boardY;
-    private float boardWidth, boardHeight;
-    private float cardWidth, cardHeight;
-    
     // ==================== TIMER Y PUNTUACIÓN ====================
     
     private float timeRemaining;
@@ -92,6 +103,8 @@ public class TimeAttackScreen extends BaseScreen {
     private int pairsFoundTotal;
     private int gridsCompleted;
     private int nekoinsEarned;
+    private float displayedNekoins;     // Contador animado del HUD
+    private float panelScale = 1f;      // Pop-in del panel de resultados
     
     // ==================== RÉCORDS ====================
     
@@ -135,6 +148,13 @@ public class TimeAttackScreen extends BaseScreen {
     private static final float STARTING_DURATION = 1.5f;
     private float startingTimer;
     
+    // ==================== LATENCIA DE TRANSICIONES ====================
+    
+    private int transitionCount;
+    private long transitionTotalNanos;
+    private long transitionMaxNanos;
+    private int transitionStalls;
+    
     // ==================== SISTEMAS ====================
     
     private AudioManager audioManager;
@@ -142,8 +162,6 @@ public class TimeAttackScreen extends BaseScreen {
     private LocaleManager locale;
     private AdController adController;
     
-    private final Vector2 touchPoint = new Vector2();
-    
     // ==================== CONSTRUCTORES ====================
     
     public TimeAttackScreen(KawaiiNekoMemory game) {
@@ -155,9 +173,17 @@ public class TimeAttackScreen extends BaseScreen {
     }
     
     public TimeAttackScreen(KawaiiNekoMemory game, Mode mode, AdController adController) {
+        this(game, mode, adController, false);
+    }
+    
+    /**
+     * @param endless true para encadenar grids sin pausa de transición
+     */
+    public TimeAttackScreen(KawaiiNekoMemory game, Mode mode, AdController adController, boolean endless) {
         super(game);
         
         this.currentMode = mode;
+        this.endless = endless;
         this.cols = mode.cols;
         this.rows = mode.rows;
         this.pairs = mode.pairs;
@@ -173,9 +199,27 @@ public class TimeAttackScreen extends BaseScreen {
         this.smallFont = game.getFontManager().getSmallFont();
         this.layout = new GlyphLayout();
         
-        this.cards = new Array<>();
+        this.board = new Board(cols, rows, pairs, tweens);
         this.cardFrontTextures = new Array<>();
         
+        resetGameState();
+        
+        loadAssets();
+        createBoard();
+        createHUD();
+        createPanels();
+        playRandomTimeAttackMusic();
+        
+        Gdx.app.log(TAG, "=== TIME ATTACK " + (mode == Mode.MODE_12 ? "12" : "30") +
+                         (endless ? " SIN FIN" : "") + " ===");
+        Gdx.app.log(TAG, "Grid: " + cols + "x" + rows + " = " + pairs + " pares");
+        Gdx.app.log(TAG, "Tiempo: " + timeLimit + "s | Récord: " + bestPairs);
+    }
+    
+    /**
+     * Deja la partida en su estado inicial (constructor y reinicio)
+     */
+    private void resetGameState() {
         this.timeLimit = saveManager.getTimeAttackTime();
         this.timeRemaining = timeLimit;
         
@@ -183,8 +227,13 @@ public class TimeAttackScreen extends BaseScreen {
         this.pairsFoundTotal = 0;
         this.gridsCompleted = 0;
         this.nekoinsEarned = 0;
+        this.displayedNekoins = 0f;
+        this.panelScale = 1f;
+        tweens.kill(this, TWEEN_PANEL_POP);
+        tweens.kill(this, TWEEN_NEKOIN_COUNTER);
         
-        this.bestPairs = saveManager.getTimeAttackBestPairs();
+        this.bestPairs = endless ? saveManager.getTimeAttackEndlessBestPairs()
+                                 : saveManager.getTimeAttackBestPairs();
         this.isNewRecord = false;
         this.adWatched = false;
         this.showingAdOption = false;
@@ -193,19 +242,25 @@ public class TimeAttackScreen extends BaseScreen {
         this.noMatchShakeTimer = 0f;
         this.noMatchCard1 = null;
         this.noMatchCard2 = null;
+        this.firstRevealed = null;
+        this.secondRevealed = null;
+        
+        this.transitionCount = 0;
+        this.transitionTotalNanos = 0L;
+        this.transitionMaxNanos = 0L;
+        this.transitionStalls = 0;
         
         this.gameState = GameState.STARTING;
         this.startingTimer = STARTING_DURATION;
-        
-        loadAssets();
+    }
+    
+    /**
+     * Reinicia la partida sobre la misma pantalla: sin recargar texturas ni crear cartas
+     */
+    private void restartRun() {
+        resetGameState();
         createBoard();
-        createHUD();
-        createPanels();
-        playRandomTimeAttackMusic();
-        
-        Gdx.app.log(TAG, "=== TIME ATTACK " + (mode == Mode.MODE_12 ? "12" : "30") + " ===");
-        Gdx.app.log(TAG, "Grid: " + cols + "x" + rows + " = " + pairs + " pares");
-        Gdx.app.log(TAG, "Tiempo: " + timeLimit + "s | Récord: " + bestPairs);
+        Gdx.app.log(TAG, "=== TIME ATTACK REINICIADO ===");
     }
     
     // ==================== ASSETS ====================
@@ -222,6 +277,7 @@ public class TimeAttackScreen extends BaseScreen {
         } catch (Exception e) {
             Gdx.app.error(TAG, "Error cargando card back");
         }
+        board.setBackTexture(cardBackTexture);
         
         loadDeckTextures();
         
@@ -241,20 +297,16 @@ public class TimeAttackScreen extends BaseScreen {
     }
     
     private void loadDeckTextures() {
-        Array<Integer> activeCards = saveManager.getActiveCards();
-        
-        Array<Integer> validCardIds = new Array<>();
-        for (int i = 0; i < activeCards.size; i++) {
-            int cardId = activeCards.get(i);
-            if (cardId >= 0) validCardIds.add(cardId);
-        }
+        IntArray validCardIds = saveManager.getActiveCardsView()
+            .copyValidTo(new IntArray(Math.max(pairs, Constants.ACTIVE_DECK_SIZE)));
+        int distinctCards = validCardIds.size;
         
         while (validCardIds.size < pairs && validCardIds.size > 0) {
             validCardIds.add(validCardIds.get(validCardIds.size % validCardIds.size));
             Gdx.app.log(TAG, "WARN: Repitiendo carta por falta de cartas activas");
         }
         
-        for (int i = 0; i < pairs; i++) {
+        for (int i = 0; i < pairs && i < validCardIds.size; i++) {
             int cardId = validCardIds.get(i);
             int deck = SaveManager.getDeckFromCardId(cardId);
             int cardIndex = SaveManager.getCardIndexFromCardId(cardId);
@@ -268,90 +320,66 @@ public class TimeAttackScreen extends BaseScreen {
             }
         }
         
+        // Datos por par: se resuelven una vez, cada grid solo baraja
+        for (int pairId = 0; pairId < pairs; pairId++) {
+            Texture frontTex = (pairId < cardFrontTextures.size) ? 
+                               cardFrontTextures.get(pairId) : null;
+            
+            if (pairId < distinctCards) {
+                int realCardId = validCardIds.get(pairId);
+                board.setPair(pairId, frontTex,
+                    SaveManager.getDeckFromCardId(realCardId),
+                    SaveManager.getCardIndexFromCardId(realCardId),
+                    saveManager.getCardNekoinValue(realCardId));
+            } else {
+                board.setPair(pairId, frontTex, 0, 0, Constants.TIME_ATTACK_NEKOIN_PER_PAIR);
+            }
+        }
+        
         Gdx.app.log(TAG, "Cartas cargadas: " + cardFrontTextures.size + "/" + pairs);
     }
     
     // ==================== TABLERO ====================
     
+    /**
+     * Reparte un grid nuevo desde el pool del tablero.
+     * Las transiciones entre grids no crean objetos ni cargan texturas.
+     */
     private void createBoard() {
-        cards.clear();
-        
-        float hudHeight = Constants.HUD_HEIGHT;
-        float padding = Constants.GRID_PADDING;
-        float margin = Constants.CARD_MARGIN_PERCENT;
-        
-        boardWidth = Constants.VIRTUAL_WIDTH - (padding * 2);
-        boardHeight = Constants.VIRTUAL_HEIGHT - hudHeight - (padding * 2);
-        boardX = padding;
-        boardY = padding;
-        
-        float totalMarginX = boardWidth * margin * (cols + 1);
-        float totalMarginY = boardHeight * margin * (rows + 1);
-        
-        cardWidth = (boardWidth - totalMarginX) / cols;
-        cardHeight = (boardHeight - totalMarginY) / rows;
-        
-        float desiredRatio = 1.4f;
-        if (cardHeight > cardWidth * desiredRatio) {
-            cardHeight = cardWidth * desiredRatio;
-        } else {
-            cardWidth = cardHeight / desiredRatio;
-        }
-        
-        float actualMarginX = (boardWidth - (cardWidth * cols)) / (cols + 1);
-        float actualMarginY = (boardHeight - (cardHeight * rows)) / (rows + 1);
-        
-        float startX = boardX + actualMarginX;
-        float startY = boardY + actualMarginY;
-        
-        Array<Integer> cardIds = new Array<>();
-        for (int i = 0; i < pairs; i++) {
-            cardIds.add(i);
-            cardIds.add(i);
-        }
-        cardIds.shuffle();
-        
-        Array<Integer> activeCardIds = saveManager.getActiveCards();
-        
-        int cardIndex = 0;
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                if (cardIndex >= cardIds.size) break;
-                
-                float x = startX + col * (cardWidth + actualMarginX);
-                float y = startY + (rows - 1 - row) * (cardHeight + actualMarginY);
-                
-                int pairId = cardIds.get(cardIndex);
-                Texture frontTex = (pairId < cardFrontTextures.size) ? 
-                                   cardFrontTextures.get(pairId) : null;
-                
-                Card card = new Card(pairId, frontTex, cardBackTexture, x, y, cardWidth, cardHeight);
-                
-                int realCardId = -1;
-                int validIndex = 0;
-                for (int i = 0; i < activeCardIds.size && validIndex <= pairId; i++) {
-                    if (activeCardIds.get(i) >= 0) {
-                        if (validIndex == pairId) {
-                            realCardId = activeCardIds.get(i);
-                            break;
-                        }
-                        validIndex++;
-                    }
-                }
-                
-                if (realCardId >= 0) {
-                    card.setDeckIndex(SaveManager.getDeckFromCardId(realCardId));
-                    card.setNekoinValue(saveManager.getCardNekoinValue(realCardId));
-                } else {
-                    card.setNekoinValue(Constants.TIME_ATTACK_NEKOIN_PER_PAIR);
-                }
-                
-                cards.add(card);
-                cardIndex++;
-            }
-        }
-        
+        board.deal();
         pairsFoundThisGrid = 0;
+        board.prepareNext();
+    }
+    
+    /**
+     * Activa el grid pre-generado durante el anterior (intercambio de buffers)
+     * y lanza la preparación del siguiente
+     */
+    private void advanceBoard() {
+        board.swapToNext();
+        pairsFoundThisGrid = 0;
+        board.prepareNext();
+        recordTransition();
+    }
+    
+    private void recordTransition() {
+        long nanos = board.getLastSwapNanos();
+        transitionCount++;
+        transitionTotalNanos += nanos;
+        if (nanos > transitionMaxNanos) transitionMaxNanos = nanos;
+        if (board.wasLastSwapStalled()) transitionStalls++;
+    }
+    
+    /**
+     * Resumen de latencia de las transiciones de la partida
+     */
+    private void logTransitionStats() {
+        if (transitionCount == 0) return;
+        
+        float avgMs = transitionTotalNanos / (float) transitionCount / 1_000_000f;
+        float maxMs = transitionMaxNanos / 1_000_000f;
+        Gdx.app.log(TAG, String.format("Transiciones: %d | media %.3fms | máx %.3fms | sin grid listo: %d",
+                                       transitionCount, avgMs, maxMs, transitionStalls));
     }
     
     // ==================== HUD ====================
@@ -379,21 +407,21 @@ public class TimeAttackScreen extends BaseScreen {
         float baseY = Constants.VIRTUAL_HEIGHT * 0.18f;
         
         if (buttonTexture != null) {
-            exitButton = new SimpleButton(buttonTexture, locale.get("game.btn.exit"), 
+            exitButton = new SimpleButton(buttonTexture, locale.get(StringId.GAME_BTN_EXIT), 
                 btnX, baseY, btnWidth, btnHeight);
             exitButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
+                audioManager.playSound(SoundId.BUTTON);
                 game.setScreen(new LevelSelectScreen(game));
             });
             
-            continueButton = new SimpleButton(buttonTexture, locale.get("game.btn.restart"),
+            continueButton = new SimpleButton(buttonTexture, locale.get(StringId.GAME_BTN_RESTART),
                 btnX, baseY + btnHeight + btnSpacing, btnWidth, btnHeight);
             continueButton.setOnClick(() -> {
-                audioManager.playSound(AssetPaths.SFX_BUTTON);
-                game.setScreen(new TimeAttackScreen(game, currentMode, adController));
+                audioManager.playSound(SoundId.BUTTON);
+                restartRun();
             });
             
-            watchAdButton = new SimpleButton(buttonTexture, locale.get("game.btn.watchad"),
+            watchAdButton = new SimpleButton(buttonTexture, locale.get(StringId.GAME_BTN_WATCHAD),
                 btnX, baseY + (btnHeight + btnSpacing) * 2, btnWidth, btnHeight);
             watchAdButton.setOnClick(this::onWatchAdClicked);
         }
@@ -402,54 +430,50 @@ public class TimeAttackScreen extends BaseScreen {
     // ==================== MÚSICA ====================
     
     /**
-     * Reproduce una canción aleatoria del pool exclusivo de Time Attack
+     * Reproduce la lista exclusiva de Time Attack, o la de juego si el
+     * manifiesto no tiene pistas de Time Attack
      */
     private void playRandomTimeAttackMusic() {
-        int trackIndex = MathUtils.random(0, Constants.TIME_ATTACK_MUSIC_TRACKS - 1);
-        String musicPath = AssetPaths.getTimeAttackMusicPath(trackIndex);
-        
-        // Verificar si existe, fallback a game music si no
-        try {
-            if (Gdx.files.internal(musicPath).exists()) {
-                audioManager.playMusic(musicPath, true);
-                Gdx.app.log(TAG, "Música Time Attack: " + musicPath);
-            } else {
-                // Fallback a música de juego si no existe la de Time Attack
-                Gdx.app.log(TAG, "Música TA no encontrada: " + musicPath + " - usando game music");
-                playFallbackGameMusic();
-            }
-        } catch (Exception e) {
-            Gdx.app.error(TAG, "Error cargando música TA: " + e.getMessage());
-            playFallbackGameMusic();
+        if (!audioManager.playMusicGroup(MusicManifest.TIME_ATTACK)) {
+            Gdx.app.log(TAG, "Sin música de Time Attack - usando música de juego");
+            audioManager.playMusicGroup(MusicManifest.GAME);
         }
     }
     
+    // ==================== UPDATE ====================
+    
     /**
-     * Fallback: reproduce música de GameScreen si no hay música de Time Attack
+     * Simulación a paso fijo: timers y animaciones de cartas
      */
-    private void playFallbackGameMusic() {
-        int trackIndex = MathUtils.random(0, Constants.GAME_MUSIC_TRACKS - 1);
-        String musicPath = AssetPaths.getGameMusicPath(trackIndex);
-        audioManager.playMusic(musicPath, true);
-        Gdx.app.log(TAG, "Fallback música: " + musicPath);
+    @Override
+    protected void fixedUpdate(float step) {
+        board.update(step);
+        
+        switch (gameState) {
+            case STARTING: updateStarting(step); break;
+            case PLAYING: updateTimer(step); break;
+            case CHECKING: updateChecking(step); break;
+            case NO_MATCH_SHAKE: updateNoMatchShake(step); break;
+            case GRID_TRANSITION: updateGridTransition(step); break;
+            default: break;
+        }
     }
     
-    // ==================== UPDATE ====================
-    
+    /**
+     * Input y UI, una vez por frame
+     */
     @Override
     protected void update(float delta) {
-        for (Card card : cards) {
-            card.update(delta);
-        }
-        
+        board.pumpNext(Constants.GRID_PREP_CARDS_PER_FRAME);
+    }
+    
+    @Override
+    protected boolean onTouchDown(float x, float y, int pointer) {
         switch (gameState) {
-            case STARTING: updateStarting(delta); break;
-            case PLAYING: updatePlaying(delta); break;
-            case CHECKING: updateChecking(delta); break;
-            case NO_MATCH_SHAKE: updateNoMatchShake(delta); break;
-            case GRID_TRANSITION: updateGridTransition(delta); break;
+            case PLAYING: return touchPlaying(x, y);
             case GAME_OVER:
-            case SHOWING_RESULTS: updateResults(delta); break;
+            case SHOWING_RESULTS: return touchResults(x, y);
+            default: return false;
         }
     }
     
@@ -460,33 +484,30 @@ public class TimeAttackScreen extends BaseScreen {
         }
     }
     
-    private void updatePlaying(float delta) {
+    /**
+     * Avanza el cronómetro
+     * @return false si el tiempo se agotó
+     */
+    private boolean updateTimer(float delta) {
         timeRemaining -= delta;
         
         if (timeRemaining <= 0) {
             timeRemaining = 0;
             onTimeUp();
-            return;
+            return false;
         }
+        return true;
+    }
+    
+    private boolean touchPlaying(float x, float y) {
+        if (pressButton(pauseButton, x, y)) return true;
         
-        if (!isInputEnabled()) return;
-        
-        if (pauseButton != null) pauseButton.update(viewport);
-        
-        if (Gdx.input.justTouched()) {
-            viewport.unproject(touchPoint.set(Gdx.input.getX(), Gdx.input.getY()));
-            handleCardTouch(touchPoint.x, touchPoint.y);
-        }
+        handleCardTouch(x, y);
+        return true;
     }
     
     private void updateChecking(float delta) {
-        timeRemaining -= delta;
-        
-        if (timeRemaining <= 0) {
-            timeRemaining = 0;
-            onTimeUp();
-            return;
-        }
+        if (!updateTimer(delta)) return;
         
         checkDelayTimer -= delta;
         if (checkDelayTimer <= 0) checkForMatch();
@@ -497,13 +518,7 @@ public class TimeAttackScreen extends BaseScreen {
      * Las cartas permanecen visibles durante el shake antes de voltearse
      */
     private void updateNoMatchShake(float delta) {
-        timeRemaining -= delta;
-        
-        if (timeRemaining <= 0) {
-            timeRemaining = 0;
-            onTimeUp();
-            return;
-        }
+        if (!updateTimer(delta)) return;
         
         noMatchShakeTimer -= delta;
         
@@ -529,21 +544,17 @@ public class TimeAttackScreen extends BaseScreen {
         gridTransitionTimer -= delta;
         
         if (gridTransitionTimer <= 0) {
-            createBoard();
+            advanceBoard();
             gameState = GameState.PLAYING;
-            audioManager.playSound(AssetPaths.SFX_CARD_SHUFFLE);
+            audioManager.playSound(SoundId.CARD_SHUFFLE);
         }
     }
     
-    private void updateResults(float delta) {
-        if (!isInputEnabled()) return;
+    private boolean touchResults(float x, float y) {
+        if (pressButton(continueButton, x, y)) return true;
+        if (pressButton(exitButton, x, y)) return true;
         
-        if (continueButton != null) continueButton.update(viewport);
-        if (exitButton != null) exitButton.update(viewport);
-        
-        if (showingAdOption && watchAdButton != null && !adWatched) {
-            watchAdButton.update(viewport);
-        }
+        return showingAdOption && !adWatched && pressButton(watchAdButton, x, y);
     }
     
     // ==================== LÓGICA DE CARTAS ====================
@@ -551,16 +562,14 @@ public class TimeAttackScreen extends BaseScreen {
     private void handleCardTouch(float x, float y) {
         if (firstRevealed != null && secondRevealed != null) return;
         
-        for (Card card : cards) {
-            if (card.contains(x, y) && card.canBeClicked()) {
-                onCardClicked(card);
-                break;
-            }
+        Card card = board.findClickableAt(x, y);
+        if (card != null) {
+            onCardClicked(card);
         }
     }
     
     private void onCardClicked(Card card) {
-        audioManager.playSound(AssetPaths.SFX_CARD_FLIP);
+        audioManager.playSound(SoundId.CARD_FLIP);
         card.flip();
         
         if (firstRevealed == null) {
@@ -581,12 +590,14 @@ public class TimeAttackScreen extends BaseScreen {
         boolean isMatch = firstRevealed.getCardId() == secondRevealed.getCardId();
         
         if (isMatch) {
-            audioManager.playSound(AssetPaths.SFX_MATCH);
+            audioManager.playSound(SoundId.MATCH);
             firstRevealed.setMatched();
             secondRevealed.setMatched();
             
             int pairValue = firstRevealed.getNekoinValue();
             nekoinsEarned += pairValue;
+            tweens.start(this, TWEEN_NEKOIN_COUNTER, displayedNekoins, nekoinsEarned,
+                         Constants.HUD_COUNTER_DURATION, Interpolation.pow2Out);
             
             pairsFoundThisGrid++;
             pairsFoundTotal++;
@@ -601,7 +612,7 @@ public class TimeAttackScreen extends BaseScreen {
             }
         } else {
             // FIX: Igual que GameScreen - shake + delay antes de voltear
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             
             noMatchCard1 = firstRevealed;
             noMatchCard2 = secondRevealed;
@@ -618,19 +629,44 @@ public class TimeAttackScreen extends BaseScreen {
     
     private void onGridComplete() {
         gridsCompleted++;
-        audioManager.playSound(AssetPaths.SFX_VICTORY);
         
+        if (endless) {
+            // Sin pausa: el grid siguiente ya está construido y entra deslizándose
+            advanceBoard();
+            board.slideIn(Constants.VIRTUAL_WIDTH, Constants.GRID_SLIDE_IN_DURATION);
+            audioManager.playSound(SoundId.CARD_SHUFFLE);
+            gameState = GameState.PLAYING;
+            return;
+        }
+        
+        audioManager.playSound(SoundId.VICTORY);
         gameState = GameState.GRID_TRANSITION;
         gridTransitionTimer = GRID_TRANSITION_DURATION;
     }
     
+    // ==================== ANIMACIONES ====================
+    
+    @Override
+    public void onTweenUpdate(int channel, float value) {
+        switch (channel) {
+            case TWEEN_PANEL_POP: panelScale = value; break;
+            case TWEEN_NEKOIN_COUNTER: displayedNekoins = value; break;
+            default: break;
+        }
+    }
+    
+    @Override
+    public void onTweenComplete(int channel) {}
+    
     // ==================== FIN DEL JUEGO ====================
     
     private void onTimeUp() {
         gameState = GameState.GAME_OVER;
-        audioManager.playSound(AssetPaths.SFX_DEFEAT);
+        audioManager.playSound(SoundId.DEFEAT);
         
-        isNewRecord = saveManager.updateTimeAttackBestPairs(pairsFoundTotal);
+        isNewRecord = endless ? saveManager.updateTimeAttackEndlessBestPairs(pairsFoundTotal)
+                              : saveManager.updateTimeAttackBestPairs(pairsFoundTotal);
+        logTransitionStats();
         
         saveManager.addTimeAttackPairs(pairsFoundTotal);
         saveManager.incrementTimeAttackGamesPlayed();
@@ -640,15 +676,18 @@ public class TimeAttackScreen extends BaseScreen {
         showingAdOption = (adController != null && adController.isRewardedLoaded() && !adWatched);
         
         gameState = GameState.SHOWING_RESULTS;
+        panelScale = 0.6f;
+        tweens.start(this, TWEEN_PANEL_POP, 0.6f, 1f,
+                     Constants.PANEL_POP_DURATION, Interpolation.swingOut);
     }
     
     private void onWatchAdClicked() {
         if (adController == null || !adController.isRewardedLoaded() || adWatched) {
-            audioManager.playSound(AssetPaths.SFX_NO_MATCH);
+            audioManager.playSound(SoundId.NO_MATCH);
             return;
         }
         
-        audioManager.playSound(AssetPaths.SFX_BUTTON);
+        audioManager.playSound(SoundId.BUTTON);
         
         adController.showRewarded(new AdController.RewardedAdListener() {
             @Override
@@ -687,9 +726,7 @@ public class TimeAttackScreen extends BaseScreen {
     }
     
     private void drawBoard() {
-        for (Card card : cards) {
-            card.draw(game.getBatch());
-        }
+        board.draw(game.getBatch(), getRenderAlpha());
     }
     
     private void drawHUD() {
@@ -721,7 +758,8 @@ public class TimeAttackScreen extends BaseScreen {
         
         // Título con modo
         String modeText = currentMode == Mode.MODE_12 ? "12" : "30";
-        String title = locale.get("timeattack.title") + " " + modeText;
+        String title = locale.get(StringId.TIMEATTACK_TITLE) + " " + modeText;
+        if (endless) title += " " + locale.get(StringId.TIMEATTACK_ENDLESS);
         layout.setText(hudFont, title);
         float titleX = (Constants.VIRTUAL_WIDTH - layout.width) / 2f;
         hudFont.setColor(Color.ORANGE);
@@ -729,14 +767,14 @@ public class TimeAttackScreen extends BaseScreen {
         hudFont.setColor(Color.WHITE);
         
         // Pares
-        String pairsText = locale.format("game.pairs", pairsFoundTotal);
+        String pairsText = locale.format(StringId.GAME_PAIRS, pairsFoundTotal);
         layout.setText(hudFont, pairsText);
         float pairsX = (Constants.VIRTUAL_WIDTH - layout.width) / 2f;
         hudFont.draw(game.getBatch(), pairsText, pairsX, timeY - 15f);
         
         // Récord
         if (bestPairs > 0) {
-            String recordText = locale.format("rankings.best", bestPairs);
+            String recordText = locale.format(StringId.RANKINGS_BEST, bestPairs);
             layout.setText(hudFont, recordText);
             hudFont.setColor(Color.GOLD);
             hudFont.draw(game.getBatch(), recordText, 70f, timeY);
@@ -745,7 +783,7 @@ public class TimeAttackScreen extends BaseScreen {
         
         // Nekoins ganados
         if (nekoinIconTexture != null && nekoinsEarned > 0) {
-            String nekoinText = "+" + nekoinsEarned;
+            String nekoinText = "+" + MathUtils.round(displayedNekoins);
             layout.setText(hudFont, nekoinText);
             float iconSize = 24f;
             float iconX = 70f;
@@ -769,7 +807,7 @@ public class TimeAttackScreen extends BaseScreen {
         restoreColor();
         
         int countdown = (int) Math.ceil(startingTimer);
-        String text = countdown > 0 ? String.valueOf(countdown) : locale.get("timeattack.go");
+        String text = countdown > 0 ? String.valueOf(countdown) : locale.get(StringId.TIMEATTACK_GO);
         
         titleFont.setColor(Color.WHITE);
         layout.setText(titleFont, text);
@@ -790,7 +828,7 @@ public class TimeAttackScreen extends BaseScreen {
         }
         restoreColor();
         
-        String text = locale.format("timeattack.grid", gridsCompleted + 1);
+        String text = locale.format(StringId.TIMEATTACK_GRID, gridsCompleted + 1);
         titleFont.setColor(Color.GREEN);
         layout.setText(titleFont, text);
         titleFont.draw(game.getBatch(), text,
@@ -812,7 +850,7 @@ public class TimeAttackScreen extends BaseScreen {
         restoreColor();
         
         if (panelTexture != null) {
-            float panelWidth = Constants.VIRTUAL_WIDTH * 0.9f;
+            float panelWidth = Constants.VIRTUAL_WIDTH * 0.9f * panelScale;
             float panelHeight = panelWidth * 1.1f;
             float panelX = (Constants.VIRTUAL_WIDTH - panelWidth) / 2f;
             float panelY = (Constants.VIRTUAL_HEIGHT - panelHeight) / 2f;
@@ -820,7 +858,7 @@ public class TimeAttackScreen extends BaseScreen {
         }
         
         // Título
-        String title = locale.get("game.defeat");
+        String title = locale.get(StringId.GAME_DEFEAT);
         titleFont.setColor(Color.ORANGE);
         layout.setText(titleFont, title);
         titleFont.draw(game.getBatch(), title,
@@ -833,6 +871,7 @@ public class TimeAttackScreen extends BaseScreen {
         
         // Modo
         String modeLabel = "Mode: " + (currentMode == Mode.MODE_12 ? "12" : "30");
+        if (endless) modeLabel += " " + locale.get(StringId.TIMEATTACK_ENDLESS);
         layout.setText(buttonFont, modeLabel);
         buttonFont.setColor(Color.ORANGE);
         buttonFont.draw(game.getBatch(), modeLabel,
@@ -840,13 +879,13 @@ public class TimeAttackScreen extends BaseScreen {
         buttonFont.setColor(Color.WHITE);
         
         // Pares
-        String pairsText = locale.format("game.pairs", pairsFoundTotal);
+        String pairsText = locale.format(StringId.GAME_PAIRS, pairsFoundTotal);
         layout.setText(buttonFont, pairsText);
         buttonFont.draw(game.getBatch(), pairsText,
                        (Constants.VIRTUAL_WIDTH - layout.width) / 2f, statsY);
         
         // Grids completados
-        String gridsText = locale.format("game.grids", gridsCompleted);
+        String gridsText = locale.format(StringId.GAME_GRIDS, gridsCompleted);
         layout.setText(buttonFont, gridsText);
         buttonFont.draw(game.getBatch(), gridsText,
                        (Constants.VIRTUAL_WIDTH - layout.width) / 2f, statsY - lineHeight);
@@ -854,7 +893,7 @@ public class TimeAttackScreen extends BaseScreen {
         // Nuevo récord
         if (isNewRecord) {
             buttonFont.setColor(Color.GOLD);
-            String recordText = locale.get("game.newrecord");
+            String recordText = locale.get(StringId.GAME_NEWRECORD);
             layout.setText(buttonFont, recordText);
             buttonFont.draw(game.getBatch(), recordText,
                            (Constants.VIRTUAL_WIDTH - layout.width) / 2f, statsY - lineHeight * 2);
@@ -864,10 +903,10 @@ public class TimeAttackScreen extends BaseScreen {
         // Nekoins
         String nekoinText;
         if (adWatched) {
-            nekoinText = locale.get("common.nekoins") + ": " + nekoinsEarned + " (x2.5!)";
+            nekoinText = locale.get(StringId.COMMON_NEKOINS) + ": " + nekoinsEarned + " (x2.5!)";
             buttonFont.setColor(Color.LIME);
         } else {
-            nekoinText = locale.get("common.nekoins") + ": " + nekoinsEarned;
+            nekoinText = locale.get(StringId.COMMON_NEKOINS) + ": " + nekoinsEarned;
             buttonFont.setColor(Color.GOLD);
         }
         layout.setText(buttonFont, nekoinText);
@@ -876,7 +915,7 @@ public class TimeAttackScreen extends BaseScreen {
         buttonFont.setColor(Color.WHITE);
         
         // Tiempo de la partida
-        String timeText = locale.format("game.time", formatTime(timeLimit));
+        String timeText = locale.format(StringId.GAME_TIME, formatTime(timeLimit));
         layout.setText(hudFont, timeText);
         hudFont.setColor(Color.LIGHT_GRAY);
         hudFont.draw(game.getBatch(), timeText,
@@ -4,14 +4,33 @@ import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.utils.Disposable;
-import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncResult;
 
 /**
  * Gestor centralizado de audio (Singleton)
  * Maneja música y efectos de sonido con persistencia de volumen
  * 
+ * Música: las pistas se abren en BackgroundWorker (el hilo GL nunca
+ * espera a decodificar) y entran con crossfade de igual potencia que
+ * avanza update(), llamado desde render(). Los grupos de MusicManifest
+ * suenan como lista: la siguiente pista se pre-abre y se encadena con
+ * crossfade antes de que termine la actual.
+ * 
+ * Efectos: todos los SoundId se cargan en loadSounds() (nada se decodifica
+ * a mitad de partida) y suenan por un mezclador de MIXER_VOICES voces:
+ * - Cada efecto tiene un máximo de voces; al superarlo se corta su voz
+ *   más antigua
+ * - Con el mezclador lleno se corta la voz de menor prioridad (y más
+ *   antigua) si no supera la del nuevo sonido; si no, el nuevo no suena
+ * - La duración de cada voz viene de MusicManifest (calculada en el build
+ *   desde la cabecera Ogg): libGDX no informa de cuándo termina una
+ *   instancia de Sound
+ * 
  * @author DarkphoenixTeam
+ * @version 2.2 - Duración de los efectos desde el manifiesto
  */
 public class AudioManager implements Disposable {
     
@@ -20,8 +39,7 @@ public class AudioManager implements Disposable {
     // Singleton
     private static AudioManager instance;
     
-    // Preferences
-    private static final String PREFS_NAME = "KawaiiNekoAudio";
+    // Preferences (sección AUDIO de SettingsStore)
     private static final String KEY_MUSIC_VOLUME = "musicVolume";
     private static final String KEY_SOUND_VOLUME = "soundVolume";
     
@@ -29,12 +47,56 @@ public class AudioManager implements Disposable {
     private float musicVolume;
     private float soundVolume;
     
-    // Música actual
+    // === MÚSICA ===
+    private static final float CROSSFADE_SECONDS = 1.5f;
+    // Cada cuánto se mira la posición de la lista (getPosition cuesta en Android)
+    private static final float POSITION_CHECK_INTERVAL = 0.25f;
+    
+    private final MusicManifest musicManifest;
+    
+    // Pista que suena (o entra) y la que sale en el crossfade
     private Music currentMusic;
     private String currentMusicPath;
-    
-    // Cache de sonidos (evita recargar)
-    private ObjectMap<String, Sound> soundCache;
+    private Music fadingMusic;
+    private boolean fading;
+    private float fadeElapsed;
+    
+    // Pista pedida que todavía se está abriendo
+    private String requestedPath;
+    private boolean requestedLoop;
+    
+    // Apertura en segundo plano (una a la vez)
+    private AsyncResult<Music> opening;
+    private String openingPath;
+    
+    // Siguiente pista de la lista, ya abierta
+    private String prefetchWanted;
+    private Music prefetchedMusic;
+    private String prefetchedPath;
+    
+    // Lista en curso (null = pista suelta)
+    private String[] playlist;
+    private int playlistIndex;
+    private float positionCheckTimer;
+    
+    private boolean paused;
+    private boolean muted;
+    
+    // === MEZCLADOR ===
+    // Voces simultáneas de efectos en total (el SoundPool de Android admite 16)
+    private static final int MIXER_VOICES = 8;
+    // Duración supuesta si el efecto no está en el manifiesto
+    private static final long DEFAULT_DURATION_MS = 1000L;
+    
+    // Efectos cargados y su duración, por ordinal de SoundId
+    private final Sound[] sounds = new Sound[SoundId.ALL.length];
+    private final long[] durations = new long[SoundId.ALL.length];
+    
+    // Voces del mezclador (voiceSound = -1: libre)
+    private final int[] voiceSound = new int[MIXER_VOICES];
+    private final long[] voiceHandle = new long[MIXER_VOICES];
+    private final long[] voiceStart = new long[MIXER_VOICES];
+    private final long[] voiceEnd = new long[MIXER_VOICES];
     
     // Preferences de libGDX
     private Preferences prefs;
@@ -43,9 +105,12 @@ public class AudioManager implements Disposable {
      * Constructor privado (Singleton)
      */
     private AudioManager() {
-        soundCache = new ObjectMap<>();
-        prefs = Gdx.app.getPreferences(PREFS_NAME);
+        for (int i = 0; i < MIXER_VOICES; i++) {
+            voiceSound[i] = -1;
+        }
+        prefs = SettingsStore.getInstance().section(SettingsStore.AUDIO);
         loadPreferences();
+        musicManifest = new MusicManifest();
         
         Gdx.app.log(TAG, "Inicializado - Música: " + (int)(musicVolume * 100) + 
                          "%, Efectos: " + (int)(soundVolume * 100) + "%");
@@ -70,63 +135,250 @@ public class AudioManager implements Disposable {
     }
     
     /**
-     * Guarda las preferencias actuales
+     * Guarda las preferencias actuales en memoria: SettingsStore las
+     * escribe al acabar el arrastre (commit) o tras un rato sin cambios
      */
     private void savePreferences() {
         prefs.putFloat(KEY_MUSIC_VOLUME, musicVolume);
         prefs.putFloat(KEY_SOUND_VOLUME, soundVolume);
-        prefs.flush();
     }
     
     // ==================== MÚSICA ====================
     
     /**
-     * Reproduce música de fondo
+     * Reproduce una pista suelta (se abre en segundo plano y entra con crossfade)
      * @param assetPath Ruta del archivo de música
      * @param loop Si debe repetirse en bucle
      */
     public void playMusic(String assetPath, boolean loop) {
-        // Si ya está reproduciendo la misma canción, solo asegurar que suene
-        if (currentMusic != null && assetPath.equals(currentMusicPath)) {
-            if (!currentMusic.isPlaying()) {
-                currentMusic.setVolume(musicVolume);
+        playlist = null;
+        setPrefetch(null);
+        requestTrack(assetPath, loop);
+    }
+    
+    /**
+     * Reproduce un grupo de MusicManifest como lista, empezando por una
+     * pista al azar. Si ya suena ese grupo, sigue sin cortar.
+     * @return false si el grupo no tiene pistas
+     */
+    public boolean playMusicGroup(String group) {
+        String[] tracks = musicManifest.tracks(group);
+        if (tracks.length == 0) return false;
+        if (playlist == tracks) {
+            resumeMusic();
+            return true;
+        }
+        
+        playlist = tracks;
+        playlistIndex = MathUtils.random(tracks.length - 1);
+        positionCheckTimer = 0f;
+        requestTrack(tracks[playlistIndex], tracks.length == 1);
+        setPrefetch(tracks.length > 1 ? tracks[(playlistIndex + 1) % tracks.length] : null);
+        return true;
+    }
+    
+    /**
+     * Avanza aperturas, crossfade y lista (llamar cada frame desde render)
+     */
+    public void update(float delta) {
+        pollOpening();
+        if (paused) return;
+        
+        if (fading) {
+            fadeElapsed += delta;
+            applyFade();
+        }
+        updatePlaylist(delta);
+    }
+    
+    private void requestTrack(String path, boolean loop) {
+        // Ya suena: solo asegurar que siga
+        if (path.equals(currentMusicPath)) {
+            requestedPath = null;
+            currentMusic.setLooping(loop);
+            if (!paused && !currentMusic.isPlaying()) {
                 currentMusic.play();
             }
             return;
         }
         
-        // Detener música anterior
-        stopMusic();
+        requestedPath = path;
+        requestedLoop = loop;
         
+        if (path.equals(prefetchedPath)) {
+            Music music = prefetchedMusic;
+            prefetchedMusic = null;
+            prefetchedPath = null;
+            requestedPath = null;
+            startTrack(music, path, loop);
+        }
+        openNext();
+    }
+    
+    private void setPrefetch(String path) {
+        prefetchWanted = path;
+        if (prefetchedPath != null && !prefetchedPath.equals(path)) {
+            prefetchedMusic.dispose();
+            prefetchedMusic = null;
+            prefetchedPath = null;
+        }
+        openNext();
+    }
+    
+    /**
+     * Lanza la siguiente apertura: primero la pista pedida, luego la pre-carga
+     */
+    private void openNext() {
+        if (opening != null) return;
+        
+        String path = requestedPath;
+        if (path == null && prefetchWanted != null && prefetchedPath == null
+            && !prefetchWanted.equals(currentMusicPath)) {
+            path = prefetchWanted;
+        }
+        if (path == null) return;
+        
+        final String file = path;
+        openingPath = path;
+        opening = BackgroundWorker.getInstance().submit(() -> Gdx.audio.newMusic(Gdx.files.internal(file)));
+    }
+    
+    private void pollOpening() {
+        if (opening == null || !opening.isDone()) return;
+        
+        String path = openingPath;
+        Music music = null;
         try {
-            currentMusic = Gdx.audio.newMusic(Gdx.files.internal(assetPath));
-            currentMusic.setLooping(loop);
-            currentMusic.setVolume(musicVolume);
-            currentMusic.play();
-            currentMusicPath = assetPath;
-            
-            Gdx.app.log(TAG, "Reproduciendo: " + assetPath + " (loop=" + loop + ")");
+            music = opening.get();
         } catch (Exception e) {
-            Gdx.app.error(TAG, "Error cargando música: " + assetPath, e);
+            Gdx.app.error(TAG, "Error cargando música: " + path, e);
+        }
+        opening = null;
+        openingPath = null;
+        
+        if (music == null) {
+            if (path.equals(requestedPath)) requestedPath = null;
+            if (path.equals(prefetchWanted)) prefetchWanted = null;
+        } else if (path.equals(requestedPath)) {
+            requestedPath = null;
+            startTrack(music, path, requestedLoop);
+        } else if (path.equals(prefetchWanted) && prefetchedPath == null) {
+            prefetchedMusic = music;
+            prefetchedPath = path;
+        } else {
+            // Pedida y después sustituida por otra
+            music.dispose();
+        }
+        openNext();
+    }
+    
+    /**
+     * Empieza una pista ya abierta: la actual pasa a salir en el crossfade
+     */
+    private void startTrack(Music music, String path, boolean loop) {
+        if (fadingMusic != null) {
+            disposeMusic(fadingMusic);
         }
+        fadingMusic = currentMusic;
+        currentMusic = music;
+        currentMusicPath = path;
+        
+        music.setLooping(loop);
+        music.setVolume(0f);
+        if (!paused) {
+            music.play();
+        }
+        fading = true;
+        fadeElapsed = 0f;
+        positionCheckTimer = POSITION_CHECK_INTERVAL;
+        
+        Gdx.app.log(TAG, "Reproduciendo: " + path + " (loop=" + loop + ")");
+    }
+    
+    /**
+     * Crossfade de igual potencia: sin² + cos² = 1, sin bajón a mitad
+     */
+    private void applyFade() {
+        float t = Math.min(1f, fadeElapsed / CROSSFADE_SECONDS);
+        float gain = musicGain();
+        currentMusic.setVolume(gain * MathUtils.sin(t * MathUtils.HALF_PI));
+        if (fadingMusic != null) {
+            fadingMusic.setVolume(gain * MathUtils.cos(t * MathUtils.HALF_PI));
+        }
+        
+        if (t >= 1f) {
+            finishFade();
+        }
+    }
+    
+    private void finishFade() {
+        fading = false;
+        if (currentMusic != null) {
+            currentMusic.setVolume(musicGain());
+        }
+        if (fadingMusic != null) {
+            disposeMusic(fadingMusic);
+            fadingMusic = null;
+        }
+    }
+    
+    /**
+     * Encadena la siguiente pista de la lista antes de que acabe la actual
+     */
+    private void updatePlaylist(float delta) {
+        if (playlist == null || playlist.length < 2 || currentMusic == null) return;
+        if (fading || requestedPath != null) return;
+        
+        positionCheckTimer -= delta;
+        if (positionCheckTimer > 0f) return;
+        positionCheckTimer = POSITION_CHECK_INTERVAL;
+        
+        float duration = musicManifest.duration(currentMusicPath);
+        if (duration <= 0f) return;
+        if (duration - currentMusic.getPosition() > CROSSFADE_SECONDS + POSITION_CHECK_INTERVAL) return;
+        
+        playlistIndex = (playlistIndex + 1) % playlist.length;
+        requestTrack(playlist[playlistIndex], false);
+        setPrefetch(playlist[(playlistIndex + 1) % playlist.length]);
+    }
+    
+    private float musicGain() {
+        return muted ? 0f : musicVolume;
+    }
+    
+    private void disposeMusic(Music music) {
+        music.stop();
+        music.dispose();
     }
     
     /**
      * Detiene la música actual y libera recursos
      */
     public void stopMusic() {
+        playlist = null;
+        requestedPath = null;
+        setPrefetch(null);
+        
+        fading = false;
+        if (fadingMusic != null) {
+            disposeMusic(fadingMusic);
+            fadingMusic = null;
+        }
         if (currentMusic != null) {
-            currentMusic.stop();
-            currentMusic.dispose();
+            disposeMusic(currentMusic);
             currentMusic = null;
             currentMusicPath = null;
         }
     }
     
     /**
-     * Pausa la música actual
+     * Pausa la música actual (un crossfade en curso se completa de golpe)
      */
     public void pauseMusic() {
+        paused = true;
+        if (fading) {
+            finishFade();
+        }
         if (currentMusic != null && currentMusic.isPlaying()) {
             currentMusic.pause();
         }
@@ -136,6 +388,7 @@ public class AudioManager implements Disposable {
      * Reanuda la música pausada
      */
     public void resumeMusic() {
+        paused = false;
         if (currentMusic != null && !currentMusic.isPlaying()) {
             currentMusic.play();
         }
@@ -151,44 +404,113 @@ public class AudioManager implements Disposable {
     // ==================== EFECTOS DE SONIDO ====================
     
     /**
-     * Reproduce un efecto de sonido
-     * @param assetPath Ruta del archivo de sonido
+     * Carga todos los efectos de SoundId (llamar al arrancar; los ya
+     * cargados no se repiten)
+     */
+    public void loadSounds() {
+        StartupTracer tracer = StartupTracer.getInstance();
+        int loaded = 0;
+        for (int i = 0; i < SoundId.ALL.length; i++) {
+            if (sounds[i] != null) continue;
+            
+            SoundId id = SoundId.ALL[i];
+            tracer.begin(id.path);
+            try {
+                sounds[i] = Gdx.audio.newSound(Gdx.files.internal(id.path));
+                float seconds = musicManifest.duration(id.path);
+                durations[i] = seconds > 0f ? (long) Math.ceil(seconds * 1000.0) : DEFAULT_DURATION_MS;
+                loaded++;
+            } catch (Exception e) {
+                Gdx.app.error(TAG, "Error cargando sonido: " + id.path, e);
+            } finally {
+                tracer.end();
+            }
+        }
+        Gdx.app.log(TAG, "Sonidos cargados: " + loaded + "/" + SoundId.ALL.length);
+    }
+    
+    /**
+     * Reproduce un efecto de sonido respetando sus voces y su prioridad
+     * @param id Efecto registrado
      */
-    public void playSound(String assetPath) {
+    public void playSound(SoundId id) {
         // No reproducir si el volumen es 0
         if (soundVolume <= 0) return;
         
-        try {
-            // Buscar en cache primero
-            Sound sound = soundCache.get(assetPath);
-            
-            // Si no está en cache, cargar y guardar
-            if (sound == null) {
-                sound = Gdx.audio.newSound(Gdx.files.internal(assetPath));
-                soundCache.put(assetPath, sound);
-                Gdx.app.log(TAG, "Sonido cacheado: " + assetPath);
+        Sound sound = sounds[id.ordinal()];
+        if (sound == null) return;
+        
+        long now = TimeUtils.nanosToMillis(TimeUtils.nanoTime());
+        int voice = findVoice(id, now);
+        if (voice < 0) return;  // Mezclador lleno de sonidos más importantes
+        
+        // Robo de voz
+        if (voiceSound[voice] >= 0) {
+            sounds[voiceSound[voice]].stop(voiceHandle[voice]);
+            voiceSound[voice] = -1;
+        }
+        
+        long handle = sound.play(soundVolume);
+        if (handle == -1) return;
+        
+        voiceSound[voice] = id.ordinal();
+        voiceHandle[voice] = handle;
+        voiceStart[voice] = now;
+        voiceEnd[voice] = now + durations[id.ordinal()];
+    }
+    
+    /**
+     * Elige la voz para un nuevo sonido (libera las terminadas)
+     * @return índice de voz (libre o a cortar), o -1 si no debe sonar
+     */
+    private int findVoice(SoundId id, long now) {
+        int free = -1;
+        int sameCount = 0;
+        int sameOldest = -1;
+        int victim = -1;
+        int priority = id.priority.ordinal();
+        
+        for (int i = 0; i < MIXER_VOICES; i++) {
+            if (voiceSound[i] >= 0 && voiceEnd[i] <= now) {
+                voiceSound[i] = -1;
+            }
+            if (voiceSound[i] < 0) {
+                if (free < 0) free = i;
+                continue;
             }
             
-            // Reproducir con el volumen actual
-            sound.play(soundVolume);
+            if (voiceSound[i] == id.ordinal()) {
+                sameCount++;
+                if (sameOldest < 0 || voiceStart[i] < voiceStart[sameOldest]) sameOldest = i;
+            }
             
-        } catch (Exception e) {
-            Gdx.app.error(TAG, "Error reproduciendo sonido: " + assetPath, e);
+            // Candidata a robo: menor prioridad y, a igualdad, la más antigua
+            int voicePriority = SoundId.ALL[voiceSound[i]].priority.ordinal();
+            if (voicePriority > priority) continue;
+            if (victim < 0) {
+                victim = i;
+            } else {
+                int victimPriority = SoundId.ALL[voiceSound[victim]].priority.ordinal();
+                if (voicePriority < victimPriority
+                    || (voicePriority == victimPriority && voiceStart[i] < voiceStart[victim])) {
+                    victim = i;
+                }
+            }
         }
+        
+        if (sameCount >= id.maxVoices) return sameOldest;
+        if (free >= 0) return free;
+        return victim;
     }
     
     /**
-     * Precarga un sonido en el cache (útil para loading screens)
-     * @param assetPath Ruta del archivo de sonido
+     * Corta todos los efectos que estén sonando
      */
-    public void preloadSound(String assetPath) {
-        if (!soundCache.containsKey(assetPath)) {
-            try {
-                Sound sound = Gdx.audio.newSound(Gdx.files.internal(assetPath));
-                soundCache.put(assetPath, sound);
-                Gdx.app.log(TAG, "Sonido precargado: " + assetPath);
-            } catch (Exception e) {
-                Gdx.app.error(TAG, "Error precargando sonido: " + assetPath, e);
+    public void stopSounds() {
+        for (int i = 0; i < MIXER_VOICES; i++) {
+            if (voiceSound[i] >= 0) {
+                sounds[voiceSound[i]].stop(voiceHandle[i]);
+                voiceSound[i] = -1;
             }
         }
     }
@@ -197,14 +519,14 @@ public class AudioManager implements Disposable {
     
     /**
      * Establece el volumen de música (0.0 a 1.0)
-     * Actualiza en tiempo real y guarda en preferencias
+     * Actualiza en tiempo real; el guardado a disco es diferido
      */
     public void setMusicVolume(float volume) {
         this.musicVolume = clamp(volume);
         
-        // Aplicar inmediatamente a la música actual
-        if (currentMusic != null) {
-            currentMusic.setVolume(musicVolume);
+        // Aplicar inmediatamente a la música actual (en crossfade lo aplica update)
+        if (currentMusic != null && !fading) {
+            currentMusic.setVolume(musicGain());
         }
         
         savePreferences();
@@ -212,10 +534,13 @@ public class AudioManager implements Disposable {
     
     /**
      * Establece el volumen de efectos (0.0 a 1.0)
-     * Guarda en preferencias
+     * El guardado a disco es diferido
      */
     public void setSoundVolume(float volume) {
         this.soundVolume = clamp(volume);
+        if (soundVolume <= 0) {
+            stopSounds();
+        }
         savePreferences();
     }
     
@@ -237,6 +562,10 @@ public class AudioManager implements Disposable {
      * Silencia todo el audio temporalmente
      */
     public void muteAll() {
+        muted = true;
+        if (fading) {
+            finishFade();
+        }
         if (currentMusic != null) {
             currentMusic.setVolume(0);
         }
@@ -246,6 +575,7 @@ public class AudioManager implements Disposable {
      * Restaura el volumen después de silenciar
      */
     public void unmuteAll() {
+        muted = false;
         if (currentMusic != null) {
             currentMusic.setVolume(musicVolume);
         }
@@ -269,14 +599,26 @@ public class AudioManager implements Disposable {
     public void dispose() {
         Gdx.app.log(TAG, "Liberando recursos...");
         
-        // Liberar música
+        // Liberar música (una apertura en curso se espera para liberarla)
         stopMusic();
+        if (opening != null) {
+            try {
+                opening.get().dispose();
+            } catch (Exception e) {
+                Gdx.app.error(TAG, "Error liberando música: " + openingPath, e);
+            }
+            opening = null;
+            openingPath = null;
+        }
         
-        // Liberar todos los sonidos en cache
-        for (Sound sound : soundCache.values()) {
-            sound.dispose();
+        // Liberar todos los efectos
+        stopSounds();
+        for (int i = 0; i < sounds.length; i++) {
+            if (sounds[i] != null) {
+                sounds[i].dispose();
+                sounds[i] = null;
+            }
         }
-        soundCache.clear();
         
         Gdx.app.log(TAG, "Recursos liberados");
     }
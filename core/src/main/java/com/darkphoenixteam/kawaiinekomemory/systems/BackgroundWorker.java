@@ -0,0 +1,66 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/**
+ * Hilo de trabajo compartido para tareas fuera del hilo GL
+ * (preparación de grids, decodificación, I/O)
+ * 
+ * Reglas:
+ * - Las tareas NO pueden tocar OpenGL ni objetos de libGDX ligados al contexto
+ * - El resultado se recoge en el hilo GL con AsyncResult.isDone()/get()
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class BackgroundWorker implements Disposable {
+    
+    private static final String TAG = "BackgroundWorker";
+    private static final int MAX_THREADS = 1;
+    
+    // Singleton
+    private static BackgroundWorker instance;
+    
+    private final AsyncExecutor executor;
+    
+    private BackgroundWorker() {
+        executor = new AsyncExecutor(MAX_THREADS, "KawaiiNekoWorker");
+        Gdx.app.log(TAG, "Inicializado (" + MAX_THREADS + " hilo)");
+    }
+    
+    public static BackgroundWorker getInstance() {
+        if (instance == null) {
+            instance = new BackgroundWorker();
+        }
+        return instance;
+    }
+    
+    /**
+     * Encola una tarea en el hilo de trabajo
+     */
+    public <T> AsyncResult<T> submit(AsyncTask<T> task) {
+        return executor.submit(task);
+    }
+    
+    // ==================== LIFECYCLE ====================
+    
+    @Override
+    public void dispose() {
+        executor.dispose();
+        Gdx.app.log(TAG, "Detenido");
+    }
+    
+    /**
+     * Resetea el singleton (para testing o reinicio)
+     */
+    public static void reset() {
+        if (instance != null) {
+            instance.dispose();
+            instance = null;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntMap;
+import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
+
+/**
+ * Atlas de cartas generado en runtime con PixmapPacker
+ * 
+ * Empaqueta el reverso y los frentes pedidos, reescalados, en una sola
+ * página: todo el tablero se dibuja con una textura (sin flush del batch
+ * por cambio de textura). Pensado para tableros grandes (Marathon).
+ * 
+ * Las regiones son propiedad del atlas: no disponer sus texturas.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class CardAtlas implements Disposable {
+    
+    private static final String TAG = "CardAtlas";
+    
+    private static final int PAGE_SIZE = 2048;
+    private static final int PADDING = 2;
+    private static final String BACK_NAME = "back";
+    
+    private final TextureAtlas atlas;
+    private final IntMap<TextureRegion> fronts;
+    private final TextureRegion back;
+    
+    /**
+     * @param cardIds IDs globales de carta (0-34) a incluir
+     * @param scale escala de las imágenes fuente (1 = tamaño original)
+     */
+    public CardAtlas(IntArray cardIds, float scale) {
+        long start = System.nanoTime();
+        
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, PADDING, false);
+        Pixmap scaled = null;
+        
+        try {
+            scaled = packScaled(packer, BACK_NAME, AssetPaths.CARD_BACK, scale, null);
+            
+            for (int i = 0; i < cardIds.size; i++) {
+                int cardId = cardIds.get(i);
+                String path = AssetPaths.getCardPath(
+                    SaveManager.getDeckFromCardId(cardId),
+                    SaveManager.getCardIndexFromCardId(cardId));
+                scaled = packScaled(packer, String.valueOf(cardId), path, scale, scaled);
+            }
+        } finally {
+            if (scaled != null) scaled.dispose();
+        }
+        
+        // El packer no se dispone: cada página la libera su textura (ver PixmapPacker.Page)
+        atlas = packer.generateTextureAtlas(
+            Texture.TextureFilter.MipMapLinearNearest, Texture.TextureFilter.Linear, true);
+        
+        fronts = new IntMap<>(cardIds.size);
+        for (int i = 0; i < cardIds.size; i++) {
+            int cardId = cardIds.get(i);
+            TextureRegion region = atlas.findRegion(String.valueOf(cardId));
+            if (region != null) {
+                fronts.put(cardId, region);
+            }
+        }
+        back = atlas.findRegion(BACK_NAME);
+        
+        Gdx.app.log(TAG, "Generado: " + fronts.size + " cartas, " + packer.getPages().size +
+                         " página(s) en " + ((System.nanoTime() - start) / 1_000_000L) + "ms");
+    }
+    
+    /**
+     * Carga una imagen, la reescala sobre un Pixmap reutilizable y la empaqueta.
+     * @return el Pixmap reutilizable (creado si hacía falta)
+     */
+    private Pixmap packScaled(PixmapPacker packer, String name, String path,
+                              float scale, Pixmap scaled) {
+        FileHandle file = Gdx.files.internal(path);
+        if (!file.exists()) {
+            Gdx.app.error(TAG, "Archivo no existe: " + path);
+            return scaled;
+        }
+        
+        Pixmap source = null;
+        try {
+            source = new Pixmap(file);
+            int width = Math.max(1, Math.round(source.getWidth() * scale));
+            int height = Math.max(1, Math.round(source.getHeight() * scale));
+            
+            if (scaled == null || scaled.getWidth() != width || scaled.getHeight() != height) {
+                if (scaled != null) scaled.dispose();
+                scaled = new Pixmap(width, height, Pixmap.Format.RGBA8888);
+                scaled.setFilter(Pixmap.Filter.BiLinear);
+                scaled.setBlending(Pixmap.Blending.None);
+            }
+            
+            scaled.drawPixmap(source, 0, 0, source.getWidth(), source.getHeight(),
+                              0, 0, width, height);
+            packer.pack(name, scaled);
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error empaquetando: " + path + " - " + e.getMessage());
+        } finally {
+            if (source != null) source.dispose();
+        }
+        return scaled;
+    }
+    
+    // ==================== ACCESO ====================
+    
+    /**
+     * Región del frente, o null si la carta no está en el atlas
+     */
+    public TextureRegion getFront(int cardId) {
+        return fronts.get(cardId);
+    }
+    
+    public TextureRegion getBack() {
+        return back;
+    }
+    
+    @Override
+    public void dispose() {
+        atlas.dispose();
+        fronts.clear();
+        Gdx.app.log(TAG, "Liberado");
+    }
+}
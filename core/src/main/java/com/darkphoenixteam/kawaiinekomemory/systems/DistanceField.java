@@ -0,0 +1,312 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeBitmapFontData;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.math.Rectangle;
+import java.nio.ByteBuffer;
+
+/**
+ * Fuentes de campo de distancia con signo (SDF) generadas en CPU
+ * 
+ * FreeType (gdx-freetype 1.12) no tiene modo SDF, así que:
+ * 1. Se rasteriza el grupo a DISTANCE_FIELD_UPSCALE veces el tamaño
+ *    del atlas, en blanco y sin borde ni sombra (páginas Alpha)
+ * 2. Por glifo: transformada de distancia euclídea exacta
+ *    (Felzenszwalb-Huttenlocher) dentro y fuera del contorno
+ * 3. Se reduce al tamaño del atlas promediando cada bloque y se guarda
+ *    en el alfa: 0.5 = contorno, +-DISTANCE_FIELD_SPREAD px = 1 / 0
+ * 
+ * Los offsets de cada glifo se alinean a la reducción para que las
+ * métricas sean exactas. Sin llamadas GL: apto para BackgroundWorker,
+ * GlyphCache y el horneado.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public final class DistanceField {
+    
+    private static final float INF = 1e20f;
+    
+    // Páginas del rasterizado a alta resolución (1 byte por píxel)
+    private static final int SOURCE_PAGE_SIZE = 1024;
+    
+    private DistanceField() {
+    }
+    
+    /**
+     * Textura de página de campo de distancia: TextBatch activa el
+     * shader SDF al cambiar a ella
+     */
+    public static class PageTexture extends Texture {
+        
+        public PageTexture(TextureData data) {
+            super(data);
+            setFilter(FontSpec.DISTANCE_FIELD_FILTER, FontSpec.DISTANCE_FIELD_FILTER);
+        }
+    }
+    
+    // ==================== FUENTE ====================
+    
+    /**
+     * Genera el campo de distancia de los caracteres dados sobre packer
+     * @return datos de fuente al tamaño FontSpec.distanceFieldSize(cjk)
+     */
+    public static BitmapFontData rasterize(FreeTypeFontGenerator generator, boolean cjk,
+                                           String characters, PixmapPacker packer) {
+        int upscale = FontSpec.DISTANCE_FIELD_UPSCALE;
+        PixmapPacker source = new PixmapPacker(SOURCE_PAGE_SIZE, SOURCE_PAGE_SIZE, Pixmap.Format.Alpha,
+                                               1, false, new PixmapPacker.SkylineStrategy());
+        try {
+            FreeTypeFontParameter param = new FreeTypeFontParameter();
+            param.characters = characters;
+            param.packer = source;
+            param.size = FontSpec.distanceFieldSize(cjk) * upscale;
+            param.color = Color.WHITE;
+            FreeTypeBitmapFontData large = generator.generateData(param);
+            
+            BitmapFontData data = new BitmapFontData();
+            data.name = large.name;
+            data.flipped = false;
+            data.lineHeight = large.lineHeight / upscale;
+            data.capHeight = large.capHeight / upscale;
+            data.ascent = large.ascent / upscale;
+            data.descent = large.descent / upscale;
+            data.down = large.down / upscale;
+            data.xHeight = large.xHeight / upscale;
+            data.spaceXadvance = large.spaceXadvance / upscale;
+            
+            Converter converter = new Converter();
+            for (int i = 0; i < characters.length(); i++) {
+                char ch = characters.charAt(i);
+                Glyph glyph = large.getGlyph(ch);
+                if (glyph == null || glyph == large.missingGlyph || data.getGlyph(ch) != null) continue;
+                data.setGlyph(ch, converter.convert(glyph, source, packer));
+            }
+            if (large.missingGlyph != null) {
+                data.missingGlyph = converter.convert(large.missingGlyph, source, packer);
+            }
+            
+            copyKerning(large, data, characters);
+            return data;
+        } finally {
+            source.dispose();
+        }
+    }
+    
+    private static void copyKerning(BitmapFontData large, BitmapFontData data, String characters) {
+        for (int i = 0; i < characters.length(); i++) {
+            Glyph first = large.getGlyph(characters.charAt(i));
+            if (first == null || first.kerning == null) continue;
+            
+            Glyph target = data.getGlyph(characters.charAt(i));
+            if (target == null) continue;
+            for (int j = 0; j < characters.length(); j++) {
+                char second = characters.charAt(j);
+                int amount = first.getKerning(second);
+                if (amount != 0) {
+                    target.setKerning(second, Math.round(amount / (float) FontSpec.DISTANCE_FIELD_UPSCALE));
+                }
+            }
+        }
+    }
+    
+    // ==================== CONVERSIÓN ====================
+    
+    /**
+     * Convierte glifos a campo de distancia reutilizando los buffers
+     */
+    private static class Converter {
+        
+        private float[] inside = new float[0];
+        private float[] outside = new float[0];
+        private float[] line = new float[0];
+        private float[] values = new float[0];
+        private float[] result = new float[0];
+        private int[] parabolas = new int[0];
+        private float[] bounds = new float[0];
+        private int packed;
+        
+        Glyph convert(Glyph large, PixmapPacker source, PixmapPacker packer) {
+            int upscale = FontSpec.DISTANCE_FIELD_UPSCALE;
+            int margin = FontSpec.DISTANCE_FIELD_SPREAD * upscale;
+            
+            Glyph glyph = new Glyph();
+            glyph.id = large.id;
+            glyph.xadvance = Math.round(large.xadvance / (float) upscale);
+            if (large.width <= 0 || large.height <= 0) {
+                glyph.xoffset = Math.round(large.xoffset / (float) upscale);
+                glyph.yoffset = Math.round(large.yoffset / (float) upscale);
+                return glyph;
+            }
+            
+            // Márgenes que dejan los offsets múltiplos de upscale (métricas exactas)
+            int left = margin + Math.floorMod(large.xoffset - margin, upscale);
+            int bottom = margin + Math.floorMod(large.yoffset - margin, upscale);
+            int right = margin + Math.floorMod(-(left + large.width + margin), upscale);
+            int top = margin + Math.floorMod(-(bottom + large.height + margin), upscale);
+            int width = left + large.width + right;
+            int height = top + large.height + bottom;
+            
+            glyph.xoffset = (large.xoffset - left) / upscale;
+            glyph.yoffset = (large.yoffset - bottom) / upscale;
+            glyph.width = width / upscale;
+            glyph.height = height / upscale;
+            
+            Pixmap page = source.getPages().get(large.page).getPixmap();
+            computeDistances(page, large, left, top, width, height);
+            
+            Pixmap pixels = encode(width, height, glyph.width, glyph.height);
+            try {
+                String name = "df" + (packed++);
+                Rectangle rect = packer.pack(name, pixels);
+                glyph.page = packer.getPageIndex(name);
+                glyph.srcX = (int) rect.x;
+                glyph.srcY = (int) rect.y;
+            } finally {
+                pixels.dispose();
+            }
+            return glyph;
+        }
+        
+        /**
+         * Distancia con signo (px de alta resolución) de cada píxel al contorno
+         */
+        private void computeDistances(Pixmap page, Glyph large, int left, int top, int width, int height) {
+            int size = width * height;
+            if (inside.length < size) {
+                inside = new float[size];
+                outside = new float[size];
+                result = new float[size];
+            }
+            int longest = Math.max(width, height);
+            if (line.length < longest) {
+                line = new float[longest];
+                values = new float[longest];
+                parabolas = new int[longest];
+                bounds = new float[longest + 1];
+            }
+            
+            // inside: 0 en píxeles dentro; outside: 0 en píxeles fuera
+            ByteBuffer source = page.getPixels();
+            int pageWidth = page.getWidth();
+            for (int y = 0; y < height; y++) {
+                int glyphY = y - top;
+                for (int x = 0; x < width; x++) {
+                    int glyphX = x - left;
+                    boolean filled = false;
+                    if (glyphX >= 0 && glyphX < large.width && glyphY >= 0 && glyphY < large.height) {
+                        int alpha = source.get((large.srcY + glyphY) * pageWidth + large.srcX + glyphX) & 0xFF;
+                        filled = alpha >= 128;
+                    }
+                    inside[y * width + x] = filled ? 0f : INF;
+                    outside[y * width + x] = filled ? INF : 0f;
+                }
+            }
+            
+            transform(inside, width, height);
+            transform(outside, width, height);
+            
+            // Positivo dentro; el contorno queda a medio píxel de ambos lados
+            for (int i = 0; i < size; i++) {
+                result[i] = inside[i] == 0f
+                    ? (float) Math.sqrt(outside[i]) - 0.5f
+                    : 0.5f - (float) Math.sqrt(inside[i]);
+            }
+        }
+        
+        /**
+         * Reduce por bloques de upscale x upscale y codifica en el alfa
+         */
+        private Pixmap encode(int width, int height, int outWidth, int outHeight) {
+            int upscale = FontSpec.DISTANCE_FIELD_UPSCALE;
+            float scale = 1f / (upscale * upscale * upscale);
+            float spread = FontSpec.DISTANCE_FIELD_SPREAD;
+            
+            Pixmap pixels = new Pixmap(outWidth, outHeight, Pixmap.Format.RGBA8888);
+            ByteBuffer target = pixels.getPixels();
+            for (int oy = 0; oy < outHeight; oy++) {
+                for (int ox = 0; ox < outWidth; ox++) {
+                    float sum = 0f;
+                    for (int y = oy * upscale; y < (oy + 1) * upscale; y++) {
+                        for (int x = ox * upscale; x < (ox + 1) * upscale; x++) {
+                            sum += result[y * width + x];
+                        }
+                    }
+                    
+                    // Media del bloque en px del atlas
+                    float distance = sum * scale;
+                    float value = Math.max(0f, Math.min(1f, 0.5f + distance / (2f * spread)));
+                    int index = (oy * outWidth + ox) * 4;
+                    target.put(index, (byte) 0xFF);
+                    target.put(index + 1, (byte) 0xFF);
+                    target.put(index + 2, (byte) 0xFF);
+                    target.put(index + 3, (byte) Math.round(value * 255f));
+                }
+            }
+            return pixels;
+        }
+        
+        /**
+         * Transformada de distancia al cuadrado en 2D: columnas y luego filas
+         */
+        private void transform(float[] grid, int width, int height) {
+            for (int x = 0; x < width; x++) {
+                for (int y = 0; y < height; y++) {
+                    line[y] = grid[y * width + x];
+                }
+                transform1D(height);
+                for (int y = 0; y < height; y++) {
+                    grid[y * width + x] = line[y];
+                }
+            }
+            for (int y = 0; y < height; y++) {
+                System.arraycopy(grid, y * width, line, 0, width);
+                transform1D(width);
+                System.arraycopy(line, 0, grid, y * width, width);
+            }
+        }
+        
+        /**
+         * Envolvente inferior de parábolas sobre line[0, n) (in situ)
+         */
+        private void transform1D(int n) {
+            System.arraycopy(line, 0, values, 0, n);
+            
+            int k = 0;
+            parabolas[0] = 0;
+            bounds[0] = Float.NEGATIVE_INFINITY;
+            bounds[1] = Float.POSITIVE_INFINITY;
+            
+            for (int q = 1; q < n; q++) {
+                float s = intersection(q, parabolas[k]);
+                while (s <= bounds[k]) {
+                    k--;
+                    s = intersection(q, parabolas[k]);
+                }
+                k++;
+                parabolas[k] = q;
+                bounds[k] = s;
+                bounds[k + 1] = Float.POSITIVE_INFINITY;
+            }
+            
+            k = 0;
+            for (int q = 0; q < n; q++) {
+                while (bounds[k + 1] < q) k++;
+                int p = parabolas[k];
+                line[q] = (q - p) * (q - p) + values[p];
+            }
+        }
+        
+        private float intersection(int q, int p) {
+            return ((values[q] + q * q) - (values[p] + p * p)) / (2f * (q - p));
+        }
+    }
+}
@@ -1,11 +1,24 @@
 package com.darkphoenixteam.kawaiinekomemory.systems;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.PropertiesUtils;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import java.io.Reader;
 
 /**
  * Gestor de fuentes con soporte para idiomas CJK
@@ -15,283 +28,548 @@ import com.badlogic.gdx.utils.Disposable;
  * - Idiomas latinos: fonts/game_font.ttf (si existe) o default
  * - Idiomas CJK: fonts/NotoSansCJKjp-Regular.otf
  * 
+ * v3.0 - Cambio de idioma sin congelar:
+ * - Cada grupo (latín / CJK) es un FontSet: las 4 fuentes rasterizadas
+ *   en un PixmapPacker compartido
+ * - La rasterización FreeType se hace en BackgroundWorker; en el hilo GL
+ *   solo queda subir las páginas del packer
+ * - Los dos grupos se conservan una vez generados: volver a un grupo ya
+ *   usado es instantáneo y nunca se regeneran fuentes que no cambian
+ * - Es un LanguageResource de LocaleManager: el cambio de fuentes se
+ *   aplica en el mismo frame que el de textos
+ * 
+ * v3.1 - Fuentes pre-horneadas:
+ * - :core:bakeFonts genera .fnt + páginas .png por grupo desde FontSpec
+ *   (mismos parámetros que FreeType en runtime)
+ * - Si el grupo está horneado y su firma coincide con FontSpec, se carga
+ *   sin FreeType: leer texto y decodificar PNG, nada de rasterizar
+ * - FreeType queda como respaldo: grupo sin hornear (fuente ausente al
+ *   compilar) o con glifos desactualizados (FontSpec cambió)
+ * 
+ * v3.2 - Cobertura completa bajo demanda:
+ * - FontSpec.characters es solo el juego pre-generado; cualquier otro
+ *   carácter lo resuelve el GlyphCache del grupo al hacer layout
+ *   (caché en disco + FreeType, páginas dinámicas con LRU)
+ * 
+ * v3.3 - Campo de distancia (si TextBatch tiene el shader):
+ * - Un solo atlas SDF por grupo al tamaño de TITLE; title, button,
+ *   normal y small son vistas escaladas de la misma tabla de glifos
+ * - El color de cada fuente es su tinte base: setColor(WHITE) sigue
+ *   dando el color de FontSpec, como en las fuentes rasterizadas
+ * - Sin shader se mantienen las 4 fuentes rasterizadas
+ * 
  * @author DarkphoenixTeam
- * @version 2.0 - Soporte CJK
+ * @version 3.3 - Fuentes de campo de distancia
  */
-public class FontManager implements Disposable {
+public class FontManager implements Disposable, LocaleManager.LanguageResource {
     
     private static final String TAG = "FontManager";
     
-    // Rutas de fuentes
-    private static final String FONT_LATIN = "fonts/game_font.ttf";
-    private static final String FONT_CJK = "fonts/NotoSansCJKjp-Regular.otf";
-    
-    // Generadores
-    private FreeTypeFontGenerator latinGenerator;
-    private FreeTypeFontGenerator cjkGenerator;
+    // Modo de los grupos (lo decide TextBatch al arrancar)
+    private final boolean distanceField;
     
-    // Fuentes generadas
-    private BitmapFont titleFont;
-    private BitmapFont buttonFont;
-    private BitmapFont normalFont;
-    private BitmapFont smallFont;
+    // Grupos generados (se conservan) y grupo activo
+    private FontSet latinSet;
+    private FontSet cjkSet;
+    private FontSet current;
     
-    // Estado
-    private boolean isCJK = false;
-    private boolean initialized = false;
-    
-    // Caracteres por idioma
-    private static final String LATIN_CHARS = 
-        FreeTypeFontGenerator.DEFAULT_CHARS +
-        "ÁÉÍÓÚáéíóúÑñ¿¡" +                    // Español
-        "ÀÂÆÇÈÉÊËÎÏÔŒÙÛÜŸàâæçèéêëîïôœùûüÿ" + // Francés
-        "ÄÖÜẞäöüß" +                           // Alemán
-        "ÀÈÉÌÒÙàèéìòù" +                       // Italiano
-        "ÃÕãõ" +                               // Portugués
-        "АБВГДЕЁЖЗИЙКЛМНОПРСТУФХЦЧШЩЪЫЬЭЮЯ" + // Ruso mayúsculas
-        "абвгдеёжзийклмнопрстуфхцчшщъыьэюя" + // Ruso minúsculas
-        "★☆●○♥♦←→↑↓";                         // Símbolos
-    
-    // Para CJK incluimos caracteres comunes japoneses/chinos/coreanos
-    private static final String CJK_CHARS = 
-        FreeTypeFontGenerator.DEFAULT_CHARS +
-        "★☆●○♥♦←→↑↓" +
-        // Hiragana
-        "あいうえおかきくけこさしすせそたちつてとなにぬねのはひふへほまみむめもやゆよらりるれろわをん" +
-        "がぎぐげござじずぜぞだぢづでどばびぶべぼぱぴぷぺぽ" +
-        // Katakana
-        "アイウエオカキクケコサシスセソタチツテトナニヌネノハヒフヘホマミムメモヤユヨラリルレロワヲン" +
-        "ガギグゲゴザジズゼゾダヂヅデドバビブベボパピプペポ" +
-        // Kanji comunes del juego
-        "一二三四五六七八九十百千万" +
-        "時間秒分開始終了勝敗" +
-        "設定音楽効果言語戻確認" +
-        "簡単普通難中級上級" +
-        "遊再挑戦次続終了" +
-        "枚組合記録新最高" +
-        "猫可愛思出集完成" +
-        // Coreano básico (Hangul)
-        "가나다라마바사아자차카타파하" +
-        "게임시작설정음악효과언어" +
-        // Chino simplificado básico
-        "游戏开始设置音乐效果语言返回确认";
+    // Grupos en preparación en segundo plano
+    private AsyncResult<FontSet> pendingLatin;
+    private AsyncResult<FontSet> pendingCJK;
     
     /**
      * Constructor con detección automática de idioma
      */
     public FontManager() {
-        this(LocaleManager.getInstance().isCJK());
+        this(LocaleManager.getInstance().isCJK(), false);
     }
     
     /**
-     * Constructor con especificación de modo CJK
+     * Constructor con especificación de modo CJK (fuentes rasterizadas)
      * @param useCJK true para usar fuente CJK
      */
     public FontManager(boolean useCJK) {
-        this.isCJK = useCJK;
-        initialize();
+        this(useCJK, false);
     }
     
     /**
-     * Inicializa las fuentes según el modo actual
+     * Constructor completo.
+     * El grupo inicial se genera de forma síncrona (arranque).
+     * @param useCJK true para usar fuente CJK
+     * @param distanceField true para fuentes de campo de distancia
+     *                      (requiere dibujar con TextBatch)
      */
-    private void initialize() {
-        Gdx.app.log(TAG, "Inicializando fuentes - Modo CJK: " + isCJK);
+    public FontManager(boolean useCJK, boolean distanceField) {
+        Gdx.app.log(TAG, "Inicializando fuentes - Modo CJK: " + useCJK + 
+                    " | Campo de distancia: " + distanceField);
+        this.distanceField = distanceField;
         
-        // Limpiar fuentes anteriores si existen
-        disposeFonts();
-        
-        if (isCJK) {
-            initializeCJKFonts();
-        } else {
-            initializeLatinFonts();
-        }
+        current = FontSet.generate(useCJK, distanceField);
+        current.upload();
+        storeSet(current);
         
-        initialized = true;
+        LocaleManager.getInstance().addResource(this);
     }
     
+    // ==================== CAMBIO DE IDIOMA ====================
+    
     /**
-     * Inicializa fuentes para idiomas latinos
+     * Empieza a generar el grupo del idioma en segundo plano (si no existe ya)
      */
-    private void initializeLatinFonts() {
-        try {
-            // Intentar cargar fuente personalizada
-            if (Gdx.files.internal(FONT_LATIN).exists()) {
-                latinGenerator = new FreeTypeFontGenerator(Gdx.files.internal(FONT_LATIN));
-                Gdx.app.log(TAG, "Fuente latina cargada: " + FONT_LATIN);
-            } else {
-                // Fallback a fuente CJK que también soporta latín
-                if (Gdx.files.internal(FONT_CJK).exists()) {
-                    latinGenerator = new FreeTypeFontGenerator(Gdx.files.internal(FONT_CJK));
-                    Gdx.app.log(TAG, "Usando fuente CJK como fallback para latín");
-                } else {
-                    Gdx.app.log(TAG, "No se encontró fuente, usando bitmap default");
-                    createDefaultFonts();
-                    return;
-                }
-            }
-            
-            generateFonts(latinGenerator, LATIN_CHARS);
-            
-        } catch (Exception e) {
-            Gdx.app.error(TAG, "Error cargando fuentes latinas: " + e.getMessage());
-            createDefaultFonts();
-        }
+    @Override
+    public void prepare(LocaleManager.Language language) {
+        boolean useCJK = language.isCJK;
+        if (getSet(useCJK) != null || getPending(useCJK) != null) return;
+        
+        AsyncResult<FontSet> pending = BackgroundWorker.getInstance().submit(
+            () -> FontSet.generate(useCJK, distanceField));
+        setPending(useCJK, pending);
+        Gdx.app.log(TAG, "Preparando fuentes " + (useCJK ? "CJK" : "Latín") + " en segundo plano");
     }
     
     /**
-     * Inicializa fuentes para idiomas CJK (Chino, Japonés, Coreano)
+     * true si el grupo del idioma está listo. Sube las páginas cuando la
+     * rasterización termina (única parte en el hilo GL).
      */
-    private void initializeCJKFonts() {
+    @Override
+    public boolean isPrepared(LocaleManager.Language language) {
+        boolean useCJK = language.isCJK;
+        if (getSet(useCJK) != null) return true;
+        
+        AsyncResult<FontSet> pending = getPending(useCJK);
+        if (pending == null) {
+            prepare(language);
+            return false;
+        }
+        if (!pending.isDone()) return false;
+        
+        FontSet set;
         try {
-            if (Gdx.files.internal(FONT_CJK).exists()) {
-                cjkGenerator = new FreeTypeFontGenerator(Gdx.files.internal(FONT_CJK));
-                Gdx.app.log(TAG, "Fuente CJK cargada: " + FONT_CJK);
-                generateFonts(cjkGenerator, CJK_CHARS);
-            } else {
-                Gdx.app.error(TAG, "Fuente CJK no encontrada: " + FONT_CJK);
-                // Intentar con fuente latina
-                isCJK = false;
-                initializeLatinFonts();
-            }
+            set = pending.get();
         } catch (Exception e) {
-            Gdx.app.error(TAG, "Error cargando fuentes CJK: " + e.getMessage());
-            createDefaultFonts();
+            Gdx.app.error(TAG, "Error generando fuentes: " + e.getMessage());
+            set = FontSet.empty(useCJK, distanceField);
         }
+        setPending(useCJK, null);
+        
+        set.upload();
+        storeSet(set);
+        return true;
     }
     
-    /**
-     * Genera las 4 fuentes con diferentes tamaños
-     */
-    private void generateFonts(FreeTypeFontGenerator generator, String characters) {
-        FreeTypeFontParameter param = new FreeTypeFontParameter();
-        param.characters = characters;
-        param.borderWidth = 1;
-        param.borderColor = Color.valueOf("00000080");
-        param.shadowOffsetX = 2;
-        param.shadowOffsetY = 2;
-        param.shadowColor = Color.valueOf("00000040");
-        
-        // Título grande
-        param.size = isCJK ? 40 : 48;  // CJK necesita menos tamaño
-        param.color = Color.valueOf("FF69B4");
-        titleFont = generator.generateFont(param);
-        
-        // Botones
-        param.size = isCJK ? 26 : 32;
-        param.color = Color.WHITE;
-        buttonFont = generator.generateFont(param);
-        
-        // Texto normal
-        param.size = isCJK ? 20 : 24;
-        param.color = Color.DARK_GRAY;
-        normalFont = generator.generateFont(param);
-        
-        // Texto pequeño
-        param.size = isCJK ? 16 : 18;
-        param.color = Color.GRAY;
-        smallFont = generator.generateFont(param);
-        
-        Gdx.app.log(TAG, "Fuentes generadas exitosamente");
+    @Override
+    public void apply(LocaleManager.Language language) {
+        FontSet set = getSet(language.isCJK);
+        if (set != null && set != current) {
+            current = set;
+            Gdx.app.log(TAG, "Fuentes activas: " + (set.cjk ? "CJK" : "Latín"));
+        }
     }
     
-    /**
-     * Crea fuentes bitmap por defecto (fallback)
-     */
-    private void createDefaultFonts() {
-        Gdx.app.log(TAG, "Usando fuentes bitmap default");
-        
-        titleFont = new BitmapFont();
-        titleFont.getData().setScale(3f);
-        titleFont.setColor(1f, 0.4f, 0.7f, 1f);
-        
-        buttonFont = new BitmapFont();
-        buttonFont.getData().setScale(2f);
-        buttonFont.setColor(1f, 1f, 1f, 1f);
-        
-        normalFont = new BitmapFont();
-        normalFont.getData().setScale(1.5f);
-        normalFont.setColor(0.3f, 0.3f, 0.3f, 1f);
-        
-        smallFont = new BitmapFont();
-        smallFont.getData().setScale(1f);
-        smallFont.setColor(0.5f, 0.5f, 0.5f, 1f);
+    private FontSet getSet(boolean useCJK) {
+        return useCJK ? cjkSet : latinSet;
     }
     
-    /**
-     * Regenera las fuentes para un nuevo idioma
-     * @param useCJK true si el nuevo idioma es CJK
-     * @return true si se regeneraron las fuentes
-     */
-    public boolean regenerateForLanguage(boolean useCJK) {
-        if (this.isCJK == useCJK && initialized) {
-            Gdx.app.log(TAG, "No es necesario regenerar fuentes");
-            return false;
+    private void storeSet(FontSet set) {
+        if (set.cjk) {
+            cjkSet = set;
+        } else {
+            latinSet = set;
+        }
+    }
+    
+    private AsyncResult<FontSet> getPending(boolean useCJK) {
+        return useCJK ? pendingCJK : pendingLatin;
+    }
+    
+    private void setPending(boolean useCJK, AsyncResult<FontSet> pending) {
+        if (useCJK) {
+            pendingCJK = pending;
+        } else {
+            pendingLatin = pending;
         }
-        
-        Gdx.app.log(TAG, "Regenerando fuentes para " + (useCJK ? "CJK" : "Latín"));
-        this.isCJK = useCJK;
-        initialize();
-        return true;
     }
     
     /**
-     * Libera solo las fuentes (no los generadores)
+     * Espera y libera una preparación que ya no se va a usar (dispose)
      */
-    private void disposeFonts() {
-        if (titleFont != null) {
-            titleFont.dispose();
-            titleFont = null;
-        }
-        if (buttonFont != null) {
-            buttonFont.dispose();
-            buttonFont = null;
-        }
-        if (normalFont != null) {
-            normalFont.dispose();
-            normalFont = null;
-        }
-        if (smallFont != null) {
-            smallFont.dispose();
-            smallFont = null;
+    private static void discard(AsyncResult<FontSet> pending) {
+        if (pending == null) return;
+        
+        try {
+            FontSet set = pending.get();
+            if (set != null) set.dispose();
+        } catch (Exception ignored) {
         }
     }
     
     // === GETTERS ===
     
     public BitmapFont getTitleFont() {
-        return titleFont;
+        return current.titleFont;
     }
     
     public BitmapFont getButtonFont() {
-        return buttonFont;
+        return current.buttonFont;
     }
     
     public BitmapFont getNormalFont() {
-        return normalFont;
+        return current.normalFont;
     }
     
     public BitmapFont getSmallFont() {
-        return smallFont;
+        return current.smallFont;
     }
     
     public boolean isCJKMode() {
-        return isCJK;
+        return current.cjk;
+    }
+    
+    /** true si el grupo activo viene de fuentes pre-horneadas */
+    public boolean isBaked() {
+        return current.baked;
+    }
+    
+    /** true si las fuentes son de campo de distancia (un atlas por grupo) */
+    public boolean isDistanceField() {
+        return distanceField;
     }
     
     @Override
     public void dispose() {
         Gdx.app.log(TAG, "Liberando recursos de fuentes...");
         
-        disposeFonts();
+        LocaleManager.getInstance().removeResource(this);
+        discard(pendingLatin);
+        discard(pendingCJK);
+        pendingLatin = null;
+        pendingCJK = null;
+        
+        if (latinSet != null) {
+            latinSet.dispose();
+            latinSet = null;
+        }
+        if (cjkSet != null) {
+            cjkSet.dispose();
+            cjkSet = null;
+        }
+        current = null;
+    }
+    
+    // ==================== GRUPO DE FUENTES ====================
+    
+    /**
+     * Las 4 fuentes de un grupo de idiomas.
+     * generate() no toca GL (apto para BackgroundWorker); upload() sí.
+     */
+    private static class FontSet implements Disposable {
+        
+        final boolean cjk;
+        final boolean distanceField;
+        boolean baked;
+        
+        // Resultado de la preparación (sin texturas); un solo elemento en modo campo de distancia
+        private BitmapFontData[] data;
+        private PixmapPacker packer;                 // FreeType: páginas en el packer
+        private FileHandle[] pageFiles;              // Horneado: páginas .png
+        private Pixmap[] pagePixmaps;
+        private final Array<Texture> pageTextures = new Array<>();
+        private FileHandle fontFile;                 // para los glifos bajo demanda
+        private GlyphCache glyphCache;
+        
+        // Fuentes listas para dibujar (tras upload)
+        BitmapFont titleFont;
+        BitmapFont buttonFont;
+        BitmapFont normalFont;
+        BitmapFont smallFont;
+        
+        private FontSet(boolean cjk, boolean distanceField) {
+            this.cjk = cjk;
+            this.distanceField = distanceField;
+        }
+        
+        /**
+         * Grupo sin fuente TTF: upload() crea las bitmap por defecto
+         */
+        static FontSet empty(boolean cjk, boolean distanceField) {
+            return new FontSet(cjk, distanceField);
+        }
+        
+        /**
+         * Prepara las 4 fuentes del grupo (hilo de trabajo o arranque):
+         * horneadas si están al día, si no rasterizadas con FreeType
+         */
+        static FontSet generate(boolean useCJK, boolean distanceField) {
+            FontSet baked = loadBaked(useCJK, distanceField);
+            return baked != null ? baked : rasterize(useCJK, distanceField);
+        }
+        
+        /**
+         * Lee los .fnt y decodifica las páginas horneadas, o null si el
+         * grupo no está horneado o está desactualizado
+         */
+        private static FontSet loadBaked(boolean useCJK, boolean distanceField) {
+            long start = System.nanoTime();
+            String group = FontSpec.groupName(useCJK);
+            
+            FileHandle manifest = Gdx.files.internal(FontSpec.BAKED_MANIFEST);
+            if (!manifest.exists()) return null;
+            
+            FontSet set = new FontSet(useCJK, distanceField);
+            try {
+                ObjectMap<String, String> values = new ObjectMap<>();
+                Reader reader = manifest.reader("UTF-8");
+                try {
+                    PropertiesUtils.load(values, reader);
+                } finally {
+                    reader.close();
+                }
+                
+                String signature = values.get(group + ".signature");
+                if (signature == null) return null;
+                if (!signature.equals(FontSpec.signature(useCJK, distanceField))) {
+                    Gdx.app.error(TAG, "Fuentes horneadas " + group + " desactualizadas o de otro modo, usando FreeType");
+                    return null;
+                }
+                
+                if (distanceField) {
+                    set.data = new BitmapFontData[] {
+                        new BitmapFontData(Gdx.files.internal(FontSpec.bakedDistanceFieldPath(useCJK)), false)
+                    };
+                } else {
+                    set.data = new BitmapFontData[FontSpec.COUNT];
+                    for (int i = 0; i < FontSpec.COUNT; i++) {
+                        set.data[i] = new BitmapFontData(Gdx.files.internal(FontSpec.bakedFontPath(useCJK, i)), false);
+                    }
+                }
+                
+                // Las fuentes del grupo comparten páginas: basta con las del primer .fnt
+                String[] paths = set.data[0].imagePaths;
+                set.pageFiles = new FileHandle[paths.length];
+                set.pagePixmaps = new Pixmap[paths.length];
+                for (int i = 0; i < paths.length; i++) {
+                    set.pageFiles[i] = Gdx.files.internal(paths[i]);
+                    set.pagePixmaps[i] = new Pixmap(set.pageFiles[i]);
+                }
+                
+                set.baked = true;
+                set.fontFile = resolveFontFile(useCJK);
+                Gdx.app.log(TAG, "Fuentes " + group + " horneadas leídas en " + 
+                            (System.nanoTime() - start) / 1_000_000L + "ms (" + paths.length + " páginas)");
+                return set;
+            } catch (Exception e) {
+                Gdx.app.error(TAG, "Error leyendo fuentes horneadas " + group + ": " + e.getMessage());
+                set.dispose();
+                return null;
+            }
+        }
+        
+        /**
+         * Respaldo: rasteriza con FreeType desde el TTF/OTF
+         */
+        private static FontSet rasterize(boolean useCJK, boolean distanceField) {
+            long start = System.nanoTime();
+            FontSet set = new FontSet(useCJK, distanceField);
+            
+            FileHandle file = resolveFontFile(useCJK);
+            set.fontFile = file;
+            if (file == null) {
+                Gdx.app.log(TAG, "No se encontró fuente, usando bitmap default");
+                return set;
+            }
+            
+            FreeTypeFontGenerator generator = null;
+            try {
+                generator = new FreeTypeFontGenerator(file);
+                set.packer = FontSpec.createPacker();
+                if (distanceField) {
+                    set.data = new BitmapFontData[] {
+                        DistanceField.rasterize(generator, useCJK, FontSpec.characters(useCJK), set.packer)
+                    };
+                } else {
+                    set.data = FontSpec.rasterize(generator, useCJK, set.packer);
+                }
+                Gdx.app.log(TAG, "Fuentes " + FontSpec.groupName(useCJK) + " rasterizadas desde " + 
+                            file.path() + " en " + (System.nanoTime() - start) / 1_000_000L + "ms");
+            } catch (Exception e) {
+                Gdx.app.error(TAG, "Error generando fuentes: " + e.getMessage());
+                set.disposeData();
+            } finally {
+                // Sin modo incremental el generador no se necesita tras rasterizar
+                if (generator != null) generator.dispose();
+            }
+            return set;
+        }
         
-        if (latinGenerator != null) {
-            latinGenerator.dispose();
-            latinGenerator = null;
+        /**
+         * Fuente del grupo; si falta la de CJK se usa la latina y viceversa
+         */
+        private static FileHandle resolveFontFile(boolean useCJK) {
+            FileHandle preferred = Gdx.files.internal(FontSpec.fontPath(useCJK));
+            if (preferred.exists()) return preferred;
+            
+            Gdx.app.error(TAG, "Fuente no encontrada: " + preferred.path());
+            FileHandle fallback = Gdx.files.internal(FontSpec.fontPath(!useCJK));
+            return fallback.exists() ? fallback : null;
         }
-        if (cjkGenerator != null) {
-            cjkGenerator.dispose();
-            cjkGenerator = null;
+        
+        /**
+         * Sube las páginas y crea las BitmapFont (hilo GL)
+         */
+        void upload() {
+            if (data == null) {
+                createDefaultFonts();
+                return;
+            }
+            
+            Array<TextureRegion> regions = new Array<>();
+            if (packer != null && !distanceField) {
+                packer.updateTextureRegions(regions, FontSpec.MIN_FILTER, FontSpec.MAG_FILTER, false);
+            } else if (packer != null) {
+                Array<PixmapPacker.Page> pages = packer.getPages();
+                for (int i = 0; i < pages.size; i++) {
+                    // Gestionada: el packer conserva el pixmap para recargarla
+                    addPage(new PixmapTextureData(pages.get(i).getPixmap(), null, false, false, true), regions);
+                }
+            } else {
+                for (int i = 0; i < pagePixmaps.length; i++) {
+                    // Gestionada: tras perder el contexto se recarga desde el .png
+                    addPage(new FileTextureData(pageFiles[i], pagePixmaps[i], null, false), regions);
+                }
+                // La textura libera el pixmap al subirlo
+                pagePixmaps = null;
+            }
+            
+            // Los caracteres fuera de FontSpec.characters se generan al usarse
+            glyphCache = new GlyphCache(cjk, distanceField, fontFile, regions);
+            if (distanceField) {
+                BitmapFontData shared = glyphCache.wrap(0, data[0]);
+                titleFont = createDistanceFieldFont(glyphCache, shared, FontSpec.TITLE, regions);
+                buttonFont = createDistanceFieldFont(glyphCache, shared, FontSpec.BUTTON, regions);
+                normalFont = createDistanceFieldFont(glyphCache, shared, FontSpec.NORMAL, regions);
+                smallFont = createDistanceFieldFont(glyphCache, shared, FontSpec.SMALL, regions);
+            } else {
+                titleFont = createFont(glyphCache.wrap(FontSpec.TITLE, data[FontSpec.TITLE]), regions);
+                buttonFont = createFont(glyphCache.wrap(FontSpec.BUTTON, data[FontSpec.BUTTON]), regions);
+                normalFont = createFont(glyphCache.wrap(FontSpec.NORMAL, data[FontSpec.NORMAL]), regions);
+                smallFont = createFont(glyphCache.wrap(FontSpec.SMALL, data[FontSpec.SMALL]), regions);
+            }
+            
+            Gdx.app.log(TAG, "Fuentes listas (" + regions.size + " páginas, " + 
+                        (baked ? "horneadas" : "FreeType") + (distanceField ? ", campo de distancia" : "") + ")");
+        }
+        
+        private void addPage(TextureData textureData, Array<TextureRegion> regions) {
+            Texture texture;
+            if (distanceField) {
+                texture = new DistanceField.PageTexture(textureData);
+            } else {
+                texture = new Texture(textureData);
+                texture.setFilter(FontSpec.MIN_FILTER, FontSpec.MAG_FILTER);
+            }
+            pageTextures.add(texture);
+            regions.add(new TextureRegion(texture));
+        }
+        
+        private static BitmapFont createFont(BitmapFontData fontData, Array<TextureRegion> regions) {
+            BitmapFont font = new BitmapFont(fontData, regions, true);
+            // Las texturas son compartidas por el grupo
+            font.setOwnsTexture(false);
+            return font;
+        }
+        
+        private BitmapFont createDistanceFieldFont(GlyphCache cache, BitmapFontData shared, int font,
+                                                   Array<TextureRegion> regions) {
+            BitmapFontData view = cache.view(shared, FontSpec.distanceFieldScale(cjk, font));
+            BitmapFont bitmapFont = new TintedFont(view, regions, FontSpec.color(font));
+            bitmapFont.setOwnsTexture(false);
+            return bitmapFont;
+        }
+        
+        /**
+         * Crea fuentes bitmap por defecto (fallback)
+         */
+        private void createDefaultFonts() {
+            Gdx.app.log(TAG, "Usando fuentes bitmap default");
+            
+            titleFont = new BitmapFont();
+            titleFont.getData().setScale(3f);
+            titleFont.setColor(1f, 0.4f, 0.7f, 1f);
+            
+            buttonFont = new BitmapFont();
+            buttonFont.getData().setScale(2f);
+            buttonFont.setColor(1f, 1f, 1f, 1f);
+            
+            normalFont = new BitmapFont();
+            normalFont.getData().setScale(1.5f);
+            normalFont.setColor(0.3f, 0.3f, 0.3f, 1f);
+            
+            smallFont = new BitmapFont();
+            smallFont.getData().setScale(1f);
+            smallFont.setColor(0.5f, 0.5f, 0.5f, 1f);
+        }
+        
+        private void disposeData() {
+            if (glyphCache != null) {
+                glyphCache.dispose();
+                glyphCache = null;
+            }
+            if (packer != null) {
+                packer.dispose();
+                packer = null;
+            }
+            if (pagePixmaps != null) {
+                for (Pixmap pixmap : pagePixmaps) {
+                    if (pixmap != null) pixmap.dispose();
+                }
+                pagePixmaps = null;
+            }
+            for (Texture texture : pageTextures) {
+                texture.dispose();
+            }
+            pageTextures.clear();
+            data = null;
+        }
+        
+        @Override
+        public void dispose() {
+            if (titleFont != null) titleFont.dispose();
+            if (buttonFont != null) buttonFont.dispose();
+            if (normalFont != null) normalFont.dispose();
+            if (smallFont != null) smallFont.dispose();
+            titleFont = null;
+            buttonFont = null;
+            normalFont = null;
+            smallFont = null;
+            
+            // Libera las páginas (pixmaps y texturas) del grupo
+            disposeData();
+        }
+    }
+    
+    /**
+     * Fuente de campo de distancia con color base: los glifos son
+     * blancos, así que setColor() multiplica por el color de FontSpec
+     * (igual que el color ya horneado en las fuentes rasterizadas)
+     */
+    private static class TintedFont extends BitmapFont {
+        
+        private final Color base;
+        
+        TintedFont(BitmapFontData data, Array<TextureRegion> regions, Color base) {
+            super(data, regions, true);
+            this.base = new Color(base);
+            setColor(Color.WHITE);
+        }
+        
+        @Override
+        public void setColor(Color color) {
+            setColor(color.r, color.g, color.b, color.a);
+        }
+        
+        @Override
+        public void setColor(float r, float g, float b, float a) {
+            super.setColor(r * base.r, g * base.g, b * base.b, a * base.a);
         }
     }
 }
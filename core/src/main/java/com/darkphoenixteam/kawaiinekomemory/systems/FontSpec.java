@@ -0,0 +1,193 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeBitmapFontData;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator.FreeTypeFontParameter;
+
+/**
+ * Definición única de las fuentes del juego
+ * 
+ * La usan FontManager (FreeType en runtime) y la tarea :core:bakeFonts
+ * (fuentes pre-horneadas .fnt + .png), así ambos caminos generan
+ * exactamente los mismos glifos.
+ * 
+ * signature() resume tamaños, colores, borde, sombra y caracteres:
+ * si cambia algo aquí sin volver a hornear, FontManager detecta que
+ * las fuentes horneadas están desactualizadas y usa FreeType.
+ * 
+ * Modo campo de distancia (DISTANCE_FIELD): un solo atlas por grupo al
+ * tamaño de TITLE; las otras fuentes son escalas de él y el borde y la
+ * sombra los pinta el shader de TextBatch.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.2 - Caracteres generados desde los textos (FontCharsets)
+ */
+public final class FontSpec {
+    
+    // Cambiar si cambia el formato de los archivos horneados
+    private static final int BAKE_FORMAT = 1;
+    
+    // === ARCHIVOS ===
+    public static final String FONT_LATIN = "fonts/game_font.ttf";
+    public static final String FONT_CJK = "fonts/NotoSansCJKjp-Regular.otf";
+    public static final String BAKED_DIR = "fonts/baked";
+    public static final String BAKED_MANIFEST = BAKED_DIR + "/fonts.properties";
+    
+    // === FUENTES DE UN GRUPO ===
+    public static final int TITLE = 0;
+    public static final int BUTTON = 1;
+    public static final int NORMAL = 2;
+    public static final int SMALL = 3;
+    public static final int COUNT = 4;
+    
+    private static final String[] NAMES = {"title", "button", "normal", "small"};
+    private static final int[] SIZES_LATIN = {48, 32, 24, 18};
+    private static final int[] SIZES_CJK = {40, 26, 20, 16};  // CJK necesita menos tamaño
+    private static final Color[] COLORS = {
+        Color.valueOf("FF69B4"), Color.WHITE, Color.DARK_GRAY, Color.GRAY
+    };
+    
+    // === ESTILO COMÚN ===
+    public static final int BORDER_WIDTH = 1;
+    public static final Color BORDER_COLOR = Color.valueOf("00000080");
+    public static final int SHADOW_OFFSET = 2;
+    public static final Color SHADOW_COLOR = Color.valueOf("00000040");
+    
+    // Páginas del packer compartido por las 4 fuentes de un grupo
+    public static final int PACKER_PAGE_SIZE = 1024;
+    public static final Texture.TextureFilter MIN_FILTER = Texture.TextureFilter.Nearest;
+    public static final Texture.TextureFilter MAG_FILTER = Texture.TextureFilter.Nearest;
+    
+    // === CAMPO DE DISTANCIA ===
+    // Modo preferido; FontManager lo usa si TextBatch tiene el shader
+    public static final boolean DISTANCE_FIELD = true;
+    public static final int DISTANCE_FIELD_SPREAD = 4;   // px del atlas a cada lado del contorno
+    public static final int DISTANCE_FIELD_UPSCALE = 4;  // se rasteriza a 4x para medir distancias
+    public static final Texture.TextureFilter DISTANCE_FIELD_FILTER = Texture.TextureFilter.Linear;
+    
+    private FontSpec() {
+    }
+    
+    // ==================== GRUPOS ====================
+    
+    /** Nombre del grupo en archivos y manifiesto ("latin" / "cjk") */
+    public static String groupName(boolean cjk) {
+        return cjk ? "cjk" : "latin";
+    }
+    
+    public static String fontPath(boolean cjk) {
+        return cjk ? FONT_CJK : FONT_LATIN;
+    }
+    
+    /**
+     * Caracteres pre-generados (y horneados) del grupo: los que usan los
+     * textos de sus idiomas, según :core:generateFontCharsets. Lo que
+     * falte (texto dinámico) lo genera GlyphCache al usarse.
+     */
+    public static String characters(boolean cjk) {
+        return cjk ? FontCharsets.CJK : FontCharsets.LATIN;
+    }
+    
+    /** Ruta del .fnt horneado de una fuente (relativa a assets) */
+    public static String bakedFontPath(boolean cjk, int font) {
+        return BAKED_DIR + "/" + groupName(cjk) + "_" + NAMES[font] + ".fnt";
+    }
+    
+    /** Ruta del único .fnt horneado del grupo en modo campo de distancia */
+    public static String bakedDistanceFieldPath(boolean cjk) {
+        return BAKED_DIR + "/" + groupName(cjk) + "_distancefield.fnt";
+    }
+    
+    /** Prefijo de las páginas .png horneadas del grupo */
+    public static String bakedPagePrefix(boolean cjk) {
+        return groupName(cjk) + "_page";
+    }
+    
+    /**
+     * Huella de la definición del grupo en un modo (se guarda al hornear)
+     */
+    public static String signature(boolean cjk, boolean distanceField) {
+        StringBuilder spec = new StringBuilder(512);
+        spec.append(BAKE_FORMAT).append('|').append(fontPath(cjk)).append('|')
+            .append(PACKER_PAGE_SIZE).append('|').append(BORDER_WIDTH).append(BORDER_COLOR)
+            .append('|').append(SHADOW_OFFSET).append(SHADOW_COLOR);
+        if (distanceField) {
+            spec.append("|df").append(DISTANCE_FIELD_SPREAD).append('x').append(DISTANCE_FIELD_UPSCALE);
+        }
+        for (int i = 0; i < COUNT; i++) {
+            spec.append('|').append(size(cjk, i)).append(COLORS[i]);
+        }
+        spec.append('|').append(characters(cjk));
+        
+        // String.hashCode está fijado por la especificación: estable entre JVM y Android
+        return Integer.toHexString(spec.toString().hashCode()) + "-" + spec.length();
+    }
+    
+    // ==================== RASTERIZADO ====================
+    
+    public static int size(boolean cjk, int font) {
+        return cjk ? SIZES_CJK[font] : SIZES_LATIN[font];
+    }
+    
+    /** Color de la fuente (en modo campo de distancia es el tinte base) */
+    public static Color color(int font) {
+        return COLORS[font];
+    }
+    
+    /** Tamaño del atlas de campo de distancia: el mayor del grupo */
+    public static int distanceFieldSize(boolean cjk) {
+        return size(cjk, TITLE);
+    }
+    
+    /** Escala de una fuente sobre el atlas de campo de distancia */
+    public static float distanceFieldScale(boolean cjk, int font) {
+        return size(cjk, font) / (float) distanceFieldSize(cjk);
+    }
+    
+    public static PixmapPacker createPacker() {
+        return createPacker(PACKER_PAGE_SIZE);
+    }
+    
+    public static PixmapPacker createPacker(int pageSize) {
+        return new PixmapPacker(pageSize, pageSize, Pixmap.Format.RGBA8888, 1, false,
+                                new PixmapPacker.SkylineStrategy());
+    }
+    
+    /**
+     * Rasteriza las 4 fuentes del grupo sobre el packer compartido.
+     * Sin llamadas GL: apto para BackgroundWorker y para el horneado.
+     */
+    public static FreeTypeBitmapFontData[] rasterize(FreeTypeFontGenerator generator, boolean cjk,
+                                                     PixmapPacker packer) {
+        FreeTypeBitmapFontData[] data = new FreeTypeBitmapFontData[COUNT];
+        for (int i = 0; i < COUNT; i++) {
+            data[i] = generator.generateData(createParameter(cjk, i, characters(cjk), packer));
+        }
+        return data;
+    }
+    
+    /**
+     * Parámetros FreeType de una fuente del grupo para los caracteres dados
+     * (también los usa GlyphCache para rasterizar glifos sueltos)
+     */
+    public static FreeTypeFontParameter createParameter(boolean cjk, int font, String characters,
+                                                        PixmapPacker packer) {
+        FreeTypeFontParameter param = new FreeTypeFontParameter();
+        param.characters = characters;
+        param.packer = packer;
+        param.size = size(cjk, font);
+        param.color = COLORS[font];
+        param.borderWidth = BORDER_WIDTH;
+        param.borderColor = BORDER_COLOR;
+        param.shadowOffsetX = SHADOW_OFFSET;
+        param.shadowOffsetY = SHADOW_OFFSET;
+        param.shadowColor = SHADOW_COLOR;
+        param.minFilter = MIN_FILTER;
+        param.magFilter = MAG_FILTER;
+        return param;
+    }
+}
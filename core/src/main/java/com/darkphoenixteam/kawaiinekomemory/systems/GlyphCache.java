@@ -0,0 +1,689 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout.GlyphRun;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.graphics.glutils.PixmapTextureData;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntSet;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+
+/**
+ * Glifos bajo demanda para los caracteres fuera del juego pre-generado
+ * de un grupo (FontSpec.characters)
+ * 
+ * - Las 4 fuentes del grupo envuelven su BitmapFontData: antes de cada
+ *   layout se buscan los caracteres sin glifo del texto
+ * - Primero se leen de la caché en disco (clave: grupo + firma de
+ *   FontSpec, fuente y codepoint); si no están, se rasterizan con
+ *   FreeType todos los del texto en una sola pasada y se guardan
+ * - Los glifos nuevos van a páginas propias (PAGE_SIZE) detrás de las
+ *   del grupo. Como mucho MAX_PAGES: al llenarse se recicla la menos
+ *   usada recientemente (LRU por frame) y sus glifos se vuelven a pedir
+ *   al disco cuando hagan falta
+ * - Un GlyphLayout cacheado con glifos de una página reciclada los pinta
+ *   vacíos hasta su siguiente setText() (nunca glifos equivocados)
+ * - Modo campo de distancia: una sola tabla de glifos (slot 0) y las 4
+ *   fuentes son vistas escaladas de ella (view()); los glifos nuevos se
+ *   generan con DistanceField en páginas DistanceField.PageTexture
+ * 
+ * Solo hilo GL: los glifos se suben a la textura al colocarse.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.1 - Campo de distancia
+ */
+public class GlyphCache implements Disposable {
+    
+    private static final String TAG = "GlyphCache";
+    
+    private static final int PAGE_SIZE = 512;
+    private static final int MAX_PAGES = 4;          // por grupo: 4 x 1MB RGBA
+    private static final int PADDING = 1;
+    private static final String CACHE_DIR = "cache/glyphs";
+    
+    private final boolean cjk;
+    private final boolean distanceField;
+    private FileHandle fontFile;                     // null = solo disco, sin FreeType
+    private final Array<TextureRegion> regions;      // compartido con las BitmapFont del grupo
+    private final int basePageCount;
+    
+    private final CachedFontData[] fonts = new CachedFontData[FontSpec.COUNT];
+    private final DiskCache[] disk = new DiskCache[FontSpec.COUNT];
+    private final IntSet[] absent = new IntSet[FontSpec.COUNT];  // sin glifo en la fuente
+    
+    // === PÁGINAS DINÁMICAS ===
+    private final Array<AtlasPage> pages = new Array<>();
+    private AtlasPage openPage;
+    
+    private FreeTypeFontGenerator generator;
+    private final StringBuilder missing = new StringBuilder();
+    private final CachedGlyph cached = new CachedGlyph();
+    
+    // === ESTADÍSTICAS ===
+    private int diskHits;
+    private int rasterized;
+    private int recycledPages;
+    
+    /**
+     * @param distanceField true si las páginas del grupo son de campo de distancia
+     * @param fontFile TTF/OTF del grupo para rasterizar (null = solo caché en disco)
+     * @param regions páginas ya subidas del grupo; aquí se añaden las dinámicas
+     */
+    public GlyphCache(boolean cjk, boolean distanceField, FileHandle fontFile, Array<TextureRegion> regions) {
+        this.cjk = cjk;
+        this.distanceField = distanceField;
+        this.fontFile = fontFile;
+        this.regions = regions;
+        this.basePageCount = regions.size;
+        
+        String prefix = FontSpec.groupName(cjk) + "_" + FontSpec.signature(cjk, distanceField) + "_";
+        boolean local = Gdx.files.isLocalStorageAvailable();
+        if (local) {
+            deleteStaleFiles(prefix);
+        }
+        
+        for (int i = 0; i < FontSpec.COUNT; i++) {
+            absent[i] = new IntSet();
+            if (local) {
+                disk[i] = new DiskCache(Gdx.files.local(CACHE_DIR + "/" + prefix + i + ".bin"));
+            }
+        }
+    }
+    
+    /**
+     * Envuelve los datos de una fuente del grupo (usar el resultado en la BitmapFont)
+     */
+    public BitmapFontData wrap(int font, BitmapFontData base) {
+        fonts[font] = new CachedFontData(this, font, base);
+        return fonts[font];
+    }
+    
+    /**
+     * Vista escalada de una fuente ya envuelta: comparte sus glifos (y
+     * los que se generen después) con otra escala
+     */
+    public BitmapFontData view(BitmapFontData wrapped, float scale) {
+        CachedFontData view = new CachedFontData((CachedFontData) wrapped);
+        view.setScale(scale);
+        return view;
+    }
+    
+    // ==================== RESOLUCIÓN ====================
+    
+    /**
+     * Asegura glifo para cada carácter de str[start, end)
+     */
+    private void resolve(CachedFontData data, CharSequence str, int start, int end) {
+        missing.setLength(0);
+        IntSet absentChars = absent[data.font];
+        long frame = Gdx.graphics.getFrameId();
+        
+        for (int i = start; i < end; i++) {
+            char ch = str.charAt(i);
+            if (ch < ' ') continue;
+            
+            Glyph glyph = data.getGlyph(ch);
+            if (glyph != null) {
+                // Antes de colocar nada: una página usada por este texto no se recicla
+                touch(glyph, frame);
+            } else if (!absentChars.contains(ch) && indexOfMissing(ch) < 0) {
+                missing.append(ch);
+            }
+        }
+        if (missing.length() == 0) return;
+        
+        // 1) Caché en disco
+        int kept = 0;
+        for (int i = 0; i < missing.length(); i++) {
+            char ch = missing.charAt(i);
+            if (disk[data.font] != null && disk[data.font].read(ch, cached)) {
+                place(data, ch, cached, frame);
+                cached.disposePixels();
+                diskHits++;
+            } else {
+                missing.setCharAt(kept++, ch);
+            }
+        }
+        missing.setLength(kept);
+        
+        // 2) FreeType, todos los restantes en una pasada
+        if (kept > 0) {
+            rasterize(data, frame);
+        }
+    }
+    
+    private int indexOfMissing(char ch) {
+        for (int i = 0; i < missing.length(); i++) {
+            if (missing.charAt(i) == ch) return i;
+        }
+        return -1;
+    }
+    
+    private void rasterize(CachedFontData data, long frame) {
+        FreeTypeFontGenerator source = getGenerator();
+        if (source == null) {
+            markAbsent(data.font);
+            return;
+        }
+        
+        long start = System.nanoTime();
+        PixmapPacker scratch = FontSpec.createPacker(PAGE_SIZE);
+        try {
+            // Con packer propio y sin modo incremental no hay llamadas GL
+            BitmapFontData generated;
+            if (distanceField) {
+                generated = DistanceField.rasterize(source, cjk, missing.toString(), scratch);
+            } else {
+                generated = source.generateData(
+                    FontSpec.createParameter(cjk, data.font, missing.toString(), scratch));
+            }
+            
+            for (int i = 0; i < missing.length(); i++) {
+                char ch = missing.charAt(i);
+                Glyph glyph = generated.getGlyph(ch);
+                if (glyph == null || glyph == generated.missingGlyph) {
+                    absent[data.font].add(ch);
+                    continue;
+                }
+                
+                cached.set(glyph, extract(scratch, glyph));
+                place(data, ch, cached, frame);
+                if (disk[data.font] != null) {
+                    disk[data.font].write(ch, cached);
+                }
+                cached.disposePixels();
+                rasterized++;
+            }
+            
+            Gdx.app.log(TAG, "Rasterizados " + missing.length() + " glifos (" + FontSpec.groupName(cjk) +
+                        " " + FontSpec.size(cjk, data.font) + "px) en " +
+                        (System.nanoTime() - start) / 1_000_000L + "ms");
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error rasterizando glifos: " + e.getMessage());
+            markAbsent(data.font);
+        } finally {
+            cached.disposePixels();
+            scratch.dispose();
+        }
+    }
+    
+    private FreeTypeFontGenerator getGenerator() {
+        if (generator == null && fontFile != null) {
+            try {
+                generator = new FreeTypeFontGenerator(fontFile);
+            } catch (Exception e) {
+                Gdx.app.error(TAG, "No se pudo abrir " + fontFile.path() + ": " + e.getMessage());
+                fontFile = null;
+            }
+        }
+        return generator;
+    }
+    
+    private void markAbsent(int font) {
+        for (int i = 0; i < missing.length(); i++) {
+            absent[font].add(missing.charAt(i));
+        }
+    }
+    
+    /**
+     * Copia el glifo de la página del packer temporal (null si está vacío)
+     */
+    private static Pixmap extract(PixmapPacker scratch, Glyph glyph) {
+        if (glyph.width <= 0 || glyph.height <= 0) return null;
+        
+        Pixmap page = scratch.getPages().get(glyph.page).getPixmap();
+        Pixmap pixels = new Pixmap(glyph.width, glyph.height, Pixmap.Format.RGBA8888);
+        pixels.setBlending(Pixmap.Blending.None);
+        pixels.drawPixmap(page, 0, 0, glyph.srcX, glyph.srcY, glyph.width, glyph.height);
+        return pixels;
+    }
+    
+    // ==================== PÁGINAS ====================
+    
+    /**
+     * Coloca el glifo en una página dinámica y lo registra en la fuente
+     */
+    private void place(CachedFontData data, char ch, CachedGlyph source, long frame) {
+        AtlasPage page = allocate(source.width, source.height, frame);
+        if (page == null) {
+            absent[data.font].add(ch);
+            return;
+        }
+        
+        if (source.pixels != null) {
+            page.pixmap.drawPixmap(source.pixels, page.packX, page.packY);
+            page.texture.draw(source.pixels, page.packX, page.packY);
+        }
+        
+        Glyph glyph = new Glyph();
+        glyph.id = ch;
+        glyph.srcX = page.packX;
+        glyph.srcY = page.packY;
+        glyph.width = source.width;
+        glyph.height = source.height;
+        glyph.xoffset = source.xoffset;
+        glyph.yoffset = source.yoffset;
+        glyph.xadvance = source.xadvance;
+        glyph.page = page.regionIndex;
+        data.setGlyphRegion(glyph, regions.get(page.regionIndex));
+        data.setGlyph(ch, glyph);
+        
+        page.glyphs.add(glyph);
+        page.owners.add(data.font);
+        page.lastUsed = frame;
+    }
+    
+    /**
+     * Reserva sitio: página abierta, página nueva o la LRU reciclada
+     */
+    private AtlasPage allocate(int width, int height, long frame) {
+        if (width + PADDING > PAGE_SIZE || height + PADDING > PAGE_SIZE) return null;
+        if (openPage != null && openPage.reserve(width, height)) return openPage;
+        
+        AtlasPage next = null;
+        if (pages.size >= MAX_PAGES) {
+            next = leastRecentlyUsed(frame);
+            if (next != null) {
+                recycle(next);
+            } else {
+                // Todas las páginas se usan en este frame: se excede el límite hasta que haya LRU
+                Gdx.app.log(TAG, "Límite de páginas superado en este frame (" + (pages.size + 1) + ")");
+            }
+        }
+        if (next == null) {
+            next = createPage();
+        }
+        
+        openPage = next;
+        return next.reserve(width, height) ? next : null;
+    }
+    
+    private AtlasPage createPage() {
+        Pixmap pixmap = new Pixmap(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888);
+        pixmap.setBlending(Pixmap.Blending.None);
+        pixmap.setColor(0f, 0f, 0f, 0f);
+        pixmap.fill();
+        
+        // Gestionada: tras perder el contexto se vuelve a subir el pixmap
+        PixmapTextureData textureData = new PixmapTextureData(pixmap, null, false, false, true);
+        Texture texture;
+        if (distanceField) {
+            texture = new DistanceField.PageTexture(textureData);
+        } else {
+            texture = new Texture(textureData);
+            texture.setFilter(FontSpec.MIN_FILTER, FontSpec.MAG_FILTER);
+        }
+        regions.add(new TextureRegion(texture));
+        
+        AtlasPage page = new AtlasPage(pixmap, texture, regions.size - 1);
+        pages.add(page);
+        return page;
+    }
+    
+    /**
+     * Página dinámica menos usada, sin contar las usadas en este frame
+     */
+    private AtlasPage leastRecentlyUsed(long frame) {
+        AtlasPage oldest = null;
+        for (int i = 0; i < pages.size; i++) {
+            AtlasPage page = pages.get(i);
+            if (page.lastUsed < frame && (oldest == null || page.lastUsed < oldest.lastUsed)) {
+                oldest = page;
+            }
+        }
+        return oldest;
+    }
+    
+    private void recycle(AtlasPage page) {
+        for (int i = 0; i < page.glyphs.size; i++) {
+            Glyph glyph = page.glyphs.get(i);
+            CachedFontData data = fonts[page.owners.get(i)];
+            if (data.getGlyph((char) glyph.id) == glyph) {
+                data.setGlyph(glyph.id, null);
+            }
+            // Layouts cacheados con este glifo lo pintan vacío, no con otro
+            glyph.width = 0;
+            glyph.height = 0;
+        }
+        
+        page.clear();
+        recycledPages++;
+    }
+    
+    private void touch(Glyph glyph, long frame) {
+        int index = glyph.page - basePageCount;
+        if (index >= 0 && index < pages.size) {
+            pages.get(index).lastUsed = frame;
+        }
+    }
+    
+    private static void deleteStaleFiles(String currentPrefix) {
+        FileHandle dir = Gdx.files.local(CACHE_DIR);
+        if (!dir.isDirectory()) return;
+        
+        String group = currentPrefix.substring(0, currentPrefix.indexOf('_') + 1);
+        for (FileHandle file : dir.list()) {
+            if (file.name().startsWith(group) && !file.name().startsWith(currentPrefix)) {
+                file.delete();
+            }
+        }
+    }
+    
+    // ==================== LIFECYCLE ====================
+    
+    @Override
+    public void dispose() {
+        for (AtlasPage page : pages) {
+            page.texture.dispose();
+            page.pixmap.dispose();
+        }
+        pages.clear();
+        openPage = null;
+        
+        for (DiskCache cache : disk) {
+            if (cache != null) cache.close();
+        }
+        if (generator != null) {
+            generator.dispose();
+            generator = null;
+        }
+        
+        if (diskHits + rasterized > 0) {
+            Gdx.app.log(TAG, FontSpec.groupName(cjk) + ": " + diskHits + " glifos de disco, " +
+                        rasterized + " rasterizados, " + recycledPages + " páginas recicladas");
+        }
+    }
+    
+    // ==================== TIPOS INTERNOS ====================
+    
+    /**
+     * Datos de fuente que piden a la caché los glifos que faltan.
+     * Una vista (source != null) usa la tabla de glifos de source.
+     */
+    private static class CachedFontData extends BitmapFontData {
+        
+        final GlyphCache cache;
+        final int font;
+        final CachedFontData source;
+        
+        CachedFontData(GlyphCache cache, int font, BitmapFontData base) {
+            this(cache, font, base, null);
+        }
+        
+        CachedFontData(CachedFontData source) {
+            this(source.cache, source.font, source, source);
+        }
+        
+        private CachedFontData(GlyphCache cache, int font, BitmapFontData base, CachedFontData source) {
+            this.cache = cache;
+            this.font = font;
+            this.source = source;
+            
+            name = base.name;
+            imagePaths = base.imagePaths;
+            fontFile = base.fontFile;
+            flipped = base.flipped;
+            padTop = base.padTop;
+            padRight = base.padRight;
+            padBottom = base.padBottom;
+            padLeft = base.padLeft;
+            lineHeight = base.lineHeight;
+            capHeight = base.capHeight;
+            ascent = base.ascent;
+            descent = base.descent;
+            down = base.down;
+            blankLineScale = base.blankLineScale;
+            scaleX = base.scaleX;
+            scaleY = base.scaleY;
+            markupEnabled = base.markupEnabled;
+            cursorX = base.cursorX;
+            missingGlyph = base.missingGlyph;
+            spaceXadvance = base.spaceXadvance;
+            xHeight = base.xHeight;
+            breakChars = base.breakChars;
+            xChars = base.xChars;
+            capChars = base.capChars;
+            System.arraycopy(base.glyphs, 0, glyphs, 0, glyphs.length);
+        }
+        
+        @Override
+        public Glyph getGlyph(char ch) {
+            return source != null ? source.getGlyph(ch) : super.getGlyph(ch);
+        }
+        
+        @Override
+        public void getGlyphs(GlyphRun run, CharSequence str, int start, int end, Glyph lastGlyph) {
+            cache.resolve(source != null ? source : this, str, start, end);
+            super.getGlyphs(run, str, start, end, lastGlyph);
+        }
+    }
+    
+    /**
+     * Página dinámica con empaquetado por estantes
+     */
+    private static class AtlasPage {
+        
+        final Pixmap pixmap;
+        final Texture texture;
+        final int regionIndex;
+        final Array<Glyph> glyphs = new Array<>(false, 64);
+        final IntArray owners = new IntArray(false, 64);
+        long lastUsed;
+        
+        private int shelfX;
+        private int shelfY;
+        private int shelfHeight;
+        
+        // Resultado del último reserve()
+        int packX;
+        int packY;
+        
+        AtlasPage(Pixmap pixmap, Texture texture, int regionIndex) {
+            this.pixmap = pixmap;
+            this.texture = texture;
+            this.regionIndex = regionIndex;
+        }
+        
+        boolean reserve(int width, int height) {
+            if (shelfX + width + PADDING > PAGE_SIZE) {
+                shelfY += shelfHeight + PADDING;
+                shelfX = 0;
+                shelfHeight = 0;
+            }
+            if (shelfY + height + PADDING > PAGE_SIZE) return false;
+            
+            packX = shelfX + PADDING;
+            packY = shelfY + PADDING;
+            shelfX += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, height);
+            return true;
+        }
+        
+        void clear() {
+            glyphs.clear();
+            owners.clear();
+            shelfX = 0;
+            shelfY = 0;
+            shelfHeight = 0;
+            pixmap.fill();
+            texture.draw(pixmap, 0, 0);
+        }
+    }
+    
+    /**
+     * Glifo leído de disco o recién rasterizado, antes de colocarlo
+     */
+    private static class CachedGlyph {
+        
+        int width;
+        int height;
+        int xoffset;
+        int yoffset;
+        int xadvance;
+        Pixmap pixels;    // null si el glifo no tiene píxeles (espacios)
+        
+        void set(Glyph glyph, Pixmap glyphPixels) {
+            width = glyph.width;
+            height = glyph.height;
+            xoffset = glyph.xoffset;
+            yoffset = glyph.yoffset;
+            xadvance = glyph.xadvance;
+            pixels = glyphPixels;
+        }
+        
+        void disposePixels() {
+            if (pixels != null) {
+                pixels.dispose();
+                pixels = null;
+            }
+        }
+    }
+    
+    /**
+     * Archivo de glifos de una fuente: registros añadidos al final
+     *
+     * Registro: int codepoint | short ancho, alto, xoffset, yoffset, xadvance
+     *           | ancho * alto * 4 bytes RGBA
+     * El índice (codepoint -> posición) se construye al primer acceso.
+     */
+    private static class DiskCache {
+        
+        private static final int HEADER = 14;
+        
+        private final FileHandle file;
+        private RandomAccessFile access;
+        private IntIntMap index;
+        private boolean failed;
+        private final byte[] header = new byte[HEADER];
+        
+        DiskCache(FileHandle file) {
+            this.file = file;
+        }
+        
+        private boolean open() {
+            if (access != null) return true;
+            if (failed) return false;
+            
+            try {
+                file.parent().mkdirs();
+                access = new RandomAccessFile(file.file(), "rw");
+                index = new IntIntMap();
+                
+                long length = access.length();
+                long position = 0;
+                while (position + HEADER <= length) {
+                    access.seek(position);
+                    access.readFully(header);
+                    ByteBuffer buffer = ByteBuffer.wrap(header);
+                    int codepoint = buffer.getInt();
+                    int width = buffer.getShort();
+                    int height = buffer.getShort();
+                    
+                    long next = position + HEADER + (long) width * height * 4;
+                    if (width < 0 || height < 0 || next > length) break;
+                    index.put(codepoint, (int) position);
+                    position = next;
+                }
+                
+                // Registro a medias (cierre durante una escritura): se descarta
+                if (position < length) {
+                    access.setLength(position);
+                }
+                return true;
+            } catch (IOException e) {
+                Gdx.app.error(TAG, "Caché de glifos no disponible: " + e.getMessage());
+                failed = true;
+                close();
+                return false;
+            }
+        }
+        
+        boolean read(char ch, CachedGlyph into) {
+            if (!open()) return false;
+            
+            int position = index.get(ch, -1);
+            if (position < 0) return false;
+            
+            try {
+                access.seek(position);
+                access.readFully(header);
+                ByteBuffer buffer = ByteBuffer.wrap(header);
+                buffer.getInt();
+                into.width = buffer.getShort();
+                into.height = buffer.getShort();
+                into.xoffset = buffer.getShort();
+                into.yoffset = buffer.getShort();
+                into.xadvance = buffer.getShort();
+                into.pixels = null;
+                
+                if (into.width > 0 && into.height > 0) {
+                    byte[] bytes = new byte[into.width * into.height * 4];
+                    access.readFully(bytes);
+                    
+                    Pixmap pixels = new Pixmap(into.width, into.height, Pixmap.Format.RGBA8888);
+                    ByteBuffer target = pixels.getPixels();
+                    target.position(0);
+                    target.put(bytes);
+                    target.position(0);
+                    into.pixels = pixels;
+                }
+                return true;
+            } catch (IOException e) {
+                Gdx.app.error(TAG, "Error leyendo glifo de caché: " + e.getMessage());
+                index.remove(ch, -1);
+                return false;
+            }
+        }
+        
+        void write(char ch, CachedGlyph glyph) {
+            if (!open() || index.containsKey(ch)) return;
+            
+            int pixelBytes = glyph.pixels != null ? glyph.width * glyph.height * 4 : 0;
+            ByteBuffer record = ByteBuffer.allocate(HEADER + pixelBytes);
+            record.putInt(ch);
+            record.putShort((short) (pixelBytes > 0 ? glyph.width : 0));
+            record.putShort((short) (pixelBytes > 0 ? glyph.height : 0));
+            record.putShort((short) glyph.xoffset);
+            record.putShort((short) glyph.yoffset);
+            record.putShort((short) glyph.xadvance);
+            if (pixelBytes > 0) {
+                ByteBuffer source = glyph.pixels.getPixels();
+                source.position(0);
+                source.limit(pixelBytes);
+                record.put(source);
+                source.clear();
+            }
+            
+            try {
+                long position = access.length();
+                access.seek(position);
+                access.write(record.array());
+                index.put(ch, (int) position);
+            } catch (IOException e) {
+                Gdx.app.error(TAG, "Error guardando glifo en caché: " + e.getMessage());
+            }
+        }
+        
+        void close() {
+            if (access != null) {
+                try {
+                    access.close();
+                } catch (IOException ignored) {
+                }
+                access = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
+import com.darkphoenixteam.kawaiinekomemory.models.LevelData;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+
+/**
+ * Catálogo de niveles cargado una sola vez desde la tabla compilada
+ * 
+ * levels.json (core/src/data) describe reglas por dificultad y rango más
+ * overrides por nivel; la tarea Gradle compileLevelCatalog lo expande a
+ * assets/data/levels.bin. Aquí solo se lee ese binario y se crean los
+ * LevelData inmutables que comparten todas las pantallas.
+ * 
+ * Formato (big-endian, DataOutputStream):
+ * int magic 'KNLV', short versión,
+ * short nDificultades + UTF nombres, short nRangos + UTF nombres,
+ * short nNiveles y por nivel: short id, byte dificultad, short localId,
+ * byte rango, byte cols, byte rows, byte grids, byte shuffleEvery, float tiempo
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class LevelCatalog {
+    
+    private static final String TAG = "LevelCatalog";
+    
+    private static final int MAGIC = 0x4B4E4C56;   // 'KNLV'
+    private static final int FORMAT_VERSION = 1;
+    
+    private static LevelCatalog instance;
+    
+    private final IntMap<LevelData> byId;
+    private final Array<LevelData>[] byDifficulty;
+    private final IntIntMap previousIds;   // globalId -> anterior en su dificultad (-1 = primero)
+    private int levelCount;
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private LevelCatalog() {
+        int difficulties = LevelData.Difficulty.values().length;
+        byId = new IntMap<>(256);
+        byDifficulty = new Array[difficulties];
+        previousIds = new IntIntMap(256);
+        for (int i = 0; i < difficulties; i++) {
+            byDifficulty[i] = new Array<>(false, 64, LevelData.class);
+        }
+        
+        long start = System.nanoTime();
+        load(Gdx.files.internal(AssetPaths.LEVEL_CATALOG));
+        
+        for (int i = 0; i < difficulties; i++) {
+            Array<LevelData> levels = byDifficulty[i];
+            levels.sort((a, b) -> Integer.compare(a.getLocalId(), b.getLocalId()));
+            for (int j = 0; j < levels.size; j++) {
+                previousIds.put(levels.get(j).getGlobalId(), j > 0 ? levels.get(j - 1).getGlobalId() : -1);
+            }
+        }
+        
+        Gdx.app.log(TAG, "Catálogo: " + levelCount + " niveles en " +
+                         ((System.nanoTime() - start) / 1_000_000L) + "ms");
+    }
+    
+    public static LevelCatalog getInstance() {
+        if (instance == null) {
+            instance = new LevelCatalog();
+        }
+        return instance;
+    }
+    
+    public static void reset() {
+        instance = null;
+    }
+    
+    // ==================== CARGA ====================
+    
+    private void load(FileHandle file) {
+        if (!file.exists()) {
+            Gdx.app.error(TAG, "No existe " + file.path() + " (¿falta compileLevelCatalog?)");
+            return;
+        }
+        
+        DataInputStream in = null;
+        try {
+            in = new DataInputStream(new BufferedInputStream(file.read(), 4096));
+            
+            if (in.readInt() != MAGIC) {
+                Gdx.app.error(TAG, "Cabecera inválida en " + file.path());
+                return;
+            }
+            int version = in.readShort();
+            if (version != FORMAT_VERSION) {
+                Gdx.app.error(TAG, "Versión no soportada: " + version);
+                return;
+            }
+            
+            // Los índices del binario se resuelven por nombre: reordenar los enums no rompe el formato
+            LevelData.Difficulty[] difficulties = new LevelData.Difficulty[in.readShort()];
+            for (int i = 0; i < difficulties.length; i++) {
+                difficulties[i] = LevelData.Difficulty.valueOf(in.readUTF());
+            }
+            LevelData.LevelRange[] ranges = new LevelData.LevelRange[in.readShort()];
+            for (int i = 0; i < ranges.length; i++) {
+                ranges[i] = LevelData.LevelRange.valueOf(in.readUTF());
+            }
+            
+            int count = in.readShort();
+            for (int i = 0; i < count; i++) {
+                int globalId = in.readShort();
+                LevelData.Difficulty difficulty = difficulties[in.readByte()];
+                int localId = in.readShort();
+                LevelData.LevelRange range = ranges[in.readByte()];
+                int cols = in.readByte();
+                int rows = in.readByte();
+                int grids = in.readByte();
+                int shuffleEvery = in.readByte();
+                float time = in.readFloat();
+                
+                LevelData level = new LevelData(globalId, localId, difficulty, range,
+                                                cols, rows, grids, shuffleEvery, time);
+                byId.put(globalId, level);
+                byDifficulty[difficulty.index].add(level);
+            }
+            levelCount = count;
+            
+        } catch (IOException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            Gdx.app.error(TAG, "Error leyendo catálogo: " + e.getMessage());
+            byId.clear();
+            for (Array<LevelData> levels : byDifficulty) {
+                levels.clear();
+            }
+            levelCount = 0;
+        } finally {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+    
+    // ==================== CONSULTAS ====================
+    
+    /**
+     * Nivel por ID global, o null si no existe
+     */
+    public LevelData get(int globalId) {
+        return byId.get(globalId);
+    }
+    
+    /**
+     * Niveles de una dificultad ordenados por localId.
+     * Vista compartida: no modificar.
+     */
+    public Array<LevelData> getLevels(LevelData.Difficulty difficulty) {
+        return byDifficulty[difficulty.index];
+    }
+    
+    /**
+     * ID del nivel anterior en la misma dificultad, o -1 si es el primero (o no existe)
+     */
+    public int getPreviousId(int globalId) {
+        return previousIds.get(globalId, -1);
+    }
+    
+    /**
+     * Siguiente nivel: el siguiente de la dificultad o, al terminarla,
+     * el primero de la siguiente. null si era el último del juego.
+     */
+    public LevelData getNext(LevelData level) {
+        if (level == null) return null;
+        
+        int difficulty = level.getDifficulty().index;
+        Array<LevelData> levels = byDifficulty[difficulty];
+        int index = levels.indexOf(level, true);
+        if (index >= 0 && index + 1 < levels.size) {
+            return levels.get(index + 1);
+        }
+        
+        for (int d = difficulty + 1; d < byDifficulty.length; d++) {
+            if (byDifficulty[d].size > 0) {
+                return byDifficulty[d].first();
+            }
+        }
+        return null;
+    }
+    
+    public int size() {
+        return levelCount;
+    }
+}
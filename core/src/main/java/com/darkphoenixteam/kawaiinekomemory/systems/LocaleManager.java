@@ -2,8 +2,12 @@ package com.darkphoenixteam.kawaiinekomemory.systems;
 
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
-import com.badlogic.gdx.files.FileHandle;
-import com.badlogic.gdx.utils.I18NBundle;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.SnapshotArray;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.darkphoenixteam.kawaiinekomemory.i18n.MessageTemplate;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringId;
+import com.darkphoenixteam.kawaiinekomemory.i18n.StringTable;
 import java.util.Locale;
 
 /**
@@ -14,15 +18,25 @@ import java.util.Locale;
  * 
  * Soporta: EN, ES, RU, PT, ZH, JA, KO, FR, DE, IT
  * 
+ * v3.0: los textos se resuelven por id (StringId, generado en el build)
+ * sobre un String[] denso por idioma; format() usa plantillas
+ * pre-parseadas con caché por argumentos. get(String) se mantiene para
+ * claves construidas en runtime.
+ * 
+ * v3.1: cambio de idioma en caliente. requestLanguage() prepara la tabla
+ * de textos y los LanguageResource (fuentes) en segundo plano; update()
+ * los aplica todos en el mismo frame y avisa a los LanguageListener
+ * (pantallas vivas) para que refresquen sus textos cacheados.
+ * 
  * @author DarkphoenixTeam
- * @version 2.0 - Detección automática mejorada
+ * @version 3.1 - Cambio de idioma asíncrono
  */
 public class LocaleManager {
     
     private static final String TAG = "LocaleManager";
-    private static final String PREFS_NAME = "KawaiiNekoSettings";
     private static final String KEY_LANGUAGE = "language";
     private static final String KEY_FIRST_RUN = "first_run_language";
+    private static final String STRINGS_DIR = "i18n";
     
     /**
      * Idiomas soportados
@@ -71,14 +85,47 @@ public class LocaleManager {
         }
     }
     
+    /**
+     * Aviso de idioma aplicado (hilo GL). Refrescar aquí textos y fuentes cacheados.
+     */
+    public interface LanguageListener {
+        void onLanguageChanged(Language language);
+    }
+    
+    /**
+     * Recurso que depende del idioma (p. ej. fuentes). Se prepara en
+     * segundo plano y se aplica junto con la tabla de textos.
+     * Todos los métodos se llaman en el hilo GL.
+     */
+    public interface LanguageResource {
+        /** Lanza la preparación (sin bloquear) */
+        void prepare(Language language);
+        
+        /** Sondeo: true cuando ya se puede aplicar */
+        boolean isPrepared(Language language);
+        
+        /** Cambio instantáneo al recurso preparado */
+        void apply(Language language);
+    }
+    
     private static LocaleManager instance;
+    
+    // Clave -> id, para get(String) con claves dinámicas
+    private static ObjectIntMap<String> idsByKey;
+    
     private Preferences prefs;
-    private I18NBundle bundle;
+    private StringTable table;
     private Language currentLanguage;
+    
+    // === CAMBIO EN CALIENTE ===
+    private final SnapshotArray<LanguageListener> listeners = new SnapshotArray<>(LanguageListener.class);
+    private final SnapshotArray<LanguageResource> resources = new SnapshotArray<>(LanguageResource.class);
+    private Language pendingLanguage;
+    private AsyncResult<StringTable> pendingTable;
     private boolean isFirstRun;
     
     private LocaleManager() {
-        prefs = Gdx.app.getPreferences(PREFS_NAME);
+        prefs = SettingsStore.getInstance().section(SettingsStore.LOCALE);
         
         // Verificar si es primera ejecución
         isFirstRun = !prefs.getBoolean(KEY_FIRST_RUN, false);
@@ -99,7 +146,7 @@ public class LocaleManager {
             Gdx.app.log(TAG, "Idioma cargado de preferencias: " + currentLanguage.displayName);
         }
         
-        loadBundle();
+        loadTable();
     }
     
     /**
@@ -123,32 +170,32 @@ public class LocaleManager {
     }
     
     /**
-     * Carga el bundle de strings para el idioma actual
+     * Carga la tabla de textos para el idioma actual
      */
-    private void loadBundle() {
+    private void loadTable() {
+        StartupTracer.getInstance().begin("StringTable.load");
         try {
-            FileHandle baseFileHandle = Gdx.files.internal("i18n/strings");
-            Locale locale = new Locale(currentLanguage.code);
-            bundle = I18NBundle.createBundle(baseFileHandle, locale, "UTF-8");
+            table = StringTable.load(Gdx.files.internal(STRINGS_DIR), currentLanguage.code);
             
-            Gdx.app.log(TAG, "Bundle cargado: " + currentLanguage.code + 
-                        " (" + currentLanguage.displayName + ")");
+            Gdx.app.log(TAG, "Textos cargados: " + currentLanguage.code + 
+                        " (" + currentLanguage.displayName + ") - " + table.size() + 
+                        " textos, " + table.getUntranslatedCount() + " sin traducir");
         } catch (Exception e) {
-            Gdx.app.error(TAG, "Error cargando bundle para " + currentLanguage.code + 
+            Gdx.app.error(TAG, "Error cargando textos para " + currentLanguage.code + 
                           ": " + e.getMessage());
             
             // Fallback a inglés
             try {
-                FileHandle baseFileHandle = Gdx.files.internal("i18n/strings");
-                bundle = I18NBundle.createBundle(baseFileHandle, new Locale("en"), "UTF-8");
+                table = StringTable.load(Gdx.files.internal(STRINGS_DIR), Language.EN.code);
                 currentLanguage = Language.EN;
                 Gdx.app.log(TAG, "Fallback a inglés");
             } catch (Exception e2) {
-                Gdx.app.error(TAG, "Error fatal cargando bundle de inglés: " + e2.getMessage());
-                // Crear bundle vacío para evitar crashes
-                bundle = null;
+                Gdx.app.error(TAG, "Error fatal cargando textos en inglés: " + e2.getMessage());
+                // Sin tabla: get() devuelve "[clave]" para evitar crashes
+                table = null;
             }
         }
+        StartupTracer.getInstance().end();
     }
     
     public static LocaleManager getInstance() {
@@ -158,72 +205,215 @@ public class LocaleManager {
         return instance;
     }
     
+    // ==================== TEXTOS POR ID ====================
+    
     /**
-     * Obtiene un string localizado por su key
+     * Texto localizado por id (StringId.X): acceso directo al array
      */
-    public String get(String key) {
-        if (bundle == null) {
-            return "[" + key + "]";
+    public String get(int id) {
+        if (table == null || id < 0 || id >= StringId.COUNT) {
+            return missing(id);
         }
-        try {
-            return bundle.get(key);
-        } catch (Exception e) {
+        return table.get(id);
+    }
+    
+    /**
+     * Texto con formato. Ejemplo: format(StringId.GAME_PAIRS, 5) → "Pairs: 5"
+     * El resultado se cachea por valor: sin asignaciones si no cambia.
+     */
+    public String format(int id, int arg0) {
+        MessageTemplate template = getTemplate(id);
+        return template != null ? template.format(arg0) : missing(id);
+    }
+    
+    public String format(int id, int arg0, int arg1) {
+        MessageTemplate template = getTemplate(id);
+        return template != null ? template.format(arg0, arg1) : missing(id);
+    }
+    
+    public String format(int id, Object arg0) {
+        MessageTemplate template = getTemplate(id);
+        return template != null ? template.format(arg0) : missing(id);
+    }
+    
+    public String format(int id, Object... args) {
+        MessageTemplate template = getTemplate(id);
+        return template != null ? template.format(args) : missing(id);
+    }
+    
+    private MessageTemplate getTemplate(int id) {
+        if (table == null || id < 0 || id >= StringId.COUNT) return null;
+        return table.template(id);
+    }
+    
+    private String missing(int id) {
+        return (id >= 0 && id < StringId.COUNT) ? "[" + StringId.key(id) + "]" : "[" + id + "]";
+    }
+    
+    // ==================== TEXTOS POR CLAVE ====================
+    
+    /**
+     * Id de una clave ("game.moves" → StringId.GAME_MOVES), o -1 si no existe.
+     * Para claves construidas en runtime; resolver una vez y guardar el id.
+     */
+    public static int idOf(String key) {
+        if (idsByKey == null) {
+            idsByKey = new ObjectIntMap<>(StringId.COUNT);
+            for (int id = 0; id < StringId.COUNT; id++) {
+                idsByKey.put(StringId.key(id), id);
+            }
+        }
+        return idsByKey.get(key, -1);
+    }
+    
+    /**
+     * Obtiene un string localizado por su key (claves dinámicas).
+     * En código con claves fijas usar get(StringId.X).
+     */
+    public String get(String key) {
+        int id = idOf(key);
+        if (id < 0) {
             Gdx.app.error(TAG, "Key no encontrada: " + key);
             return "[" + key + "]";
         }
+        return get(id);
     }
     
     /**
-     * Obtiene un string localizado con formato (parámetros)
-     * Ejemplo: format("game.pairs", 5) → "5 pairs" o "5 pares"
+     * Obtiene un string localizado con formato por su key (claves dinámicas)
      */
     public String format(String key, Object... args) {
-        if (bundle == null) {
+        int id = idOf(key);
+        if (id < 0) {
+            Gdx.app.error(TAG, "Key no encontrada: " + key);
             return "[" + key + "]";
         }
-        try {
-            return bundle.format(key, args);
-        } catch (Exception e) {
-            Gdx.app.error(TAG, "Error formateando key: " + key);
-            return "[" + key + "]";
+        return format(id, args);
+    }
+    
+    // ==================== CAMBIO DE IDIOMA ====================
+    
+    /**
+     * Pide un cambio de idioma. No bloquea: la tabla se lee en
+     * BackgroundWorker y los recursos se preparan en paralelo.
+     * Una nueva petición antes de aplicar sustituye a la anterior.
+     */
+    public void requestLanguage(Language language) {
+        if (language == null || language == getTargetLanguage()) return;
+        
+        if (language == currentLanguage) {
+            // Vuelta al idioma actual antes de aplicar: cancelar
+            pendingLanguage = null;
+            pendingTable = null;
+            return;
         }
+        
+        pendingLanguage = language;
+        final String code = language.code;
+        pendingTable = BackgroundWorker.getInstance().submit(
+            () -> StringTable.load(Gdx.files.internal(STRINGS_DIR), code));
+        
+        LanguageResource[] items = resources.begin();
+        for (int i = 0, n = resources.size; i < n; i++) {
+            items[i].prepare(language);
+        }
+        resources.end();
+        
+        Gdx.app.log(TAG, "Preparando idioma: " + language.displayName);
     }
     
     /**
-     * Cambia el idioma del juego
-     * @return true si cambió de grupo de fuentes (requiere regenerar FontManager)
+     * Aplica el cambio pendiente cuando todo está listo. Llamar una vez
+     * por frame en el hilo GL, antes de actualizar la pantalla.
      */
-    public boolean setLanguage(Language language) {
-        boolean wasCJK = currentLanguage.isCJK;
+    public void update() {
+        if (pendingLanguage == null || !pendingTable.isDone()) return;
+        
+        LanguageResource[] items = resources.begin();
+        try {
+            for (int i = 0, n = resources.size; i < n; i++) {
+                if (!items[i].isPrepared(pendingLanguage)) return;
+            }
+        } finally {
+            resources.end();
+        }
+        
+        Language language = pendingLanguage;
+        StringTable loaded = null;
+        try {
+            loaded = pendingTable.get();
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error cargando textos para " + language.code + ": " + e.getMessage());
+        }
+        pendingLanguage = null;
+        pendingTable = null;
+        if (loaded == null) return;
+        
+        // === SWAP ATÓMICO: textos y recursos cambian en el mismo frame ===
+        items = resources.begin();
+        for (int i = 0, n = resources.size; i < n; i++) {
+            items[i].apply(language);
+        }
+        resources.end();
         
+        table = loaded;
         currentLanguage = language;
         prefs.putString(KEY_LANGUAGE, language.code);
         prefs.flush();
         
-        loadBundle();
-        
-        boolean fontChangeNeeded = (wasCJK != language.isCJK);
-        
         Gdx.app.log(TAG, "Idioma cambiado a: " + language.displayName + 
-                    " | Regenerar fuentes: " + fontChangeNeeded);
+                    " (" + loaded.getUntranslatedCount() + " sin traducir)");
         
-        return fontChangeNeeded;
+        LanguageListener[] targets = listeners.begin();
+        for (int i = 0, n = listeners.size; i < n; i++) {
+            targets[i].onLanguageChanged(language);
+        }
+        listeners.end();
     }
     
     /**
-     * Avanza al siguiente idioma en la lista
-     * @return true si necesita regenerar fuentes
+     * Avanza al siguiente idioma en la lista (desde el pendiente, si lo hay)
      */
-    public boolean cycleLanguage() {
-        return setLanguage(currentLanguage.next());
+    public void cycleLanguage() {
+        requestLanguage(getTargetLanguage().next());
     }
     
     /**
      * Retrocede al idioma anterior en la lista
-     * @return true si necesita regenerar fuentes
      */
-    public boolean cyclePreviousLanguage() {
-        return setLanguage(currentLanguage.previous());
+    public void cyclePreviousLanguage() {
+        requestLanguage(getTargetLanguage().previous());
+    }
+    
+    /**
+     * Idioma que quedará activo: el pendiente o, si no hay, el actual
+     */
+    public Language getTargetLanguage() {
+        return pendingLanguage != null ? pendingLanguage : currentLanguage;
+    }
+    
+    public boolean isLanguagePending() {
+        return pendingLanguage != null;
+    }
+    
+    public void addListener(LanguageListener listener) {
+        if (!listeners.contains(listener, true)) {
+            listeners.add(listener);
+        }
+    }
+    
+    public void removeListener(LanguageListener listener) {
+        listeners.removeValue(listener, true);
+    }
+    
+    public void addResource(LanguageResource resource) {
+        if (!resources.contains(resource, true)) {
+            resources.add(resource);
+        }
+    }
+    
+    public void removeResource(LanguageResource resource) {
+        resources.removeValue(resource, true);
     }
     
     public Language getCurrentLanguage() {
@@ -0,0 +1,90 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ObjectFloatMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.PropertiesUtils;
+import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
+
+import java.io.Reader;
+
+/**
+ * Pistas de música que existen de verdad, por grupo
+ * 
+ * Lo genera la tarea :core:generateMusicManifest desde los .ogg de
+ * assets/audio/music (assets/data/music.properties), con la duración de
+ * cada pista: AudioManager la usa para encadenar la siguiente con
+ * crossfade antes de que termine. También trae la duración de cada
+ * efecto de assets/audio/sfx (voces del mezclador).
+ * 
+ * Sin manifiesto (build sin generar) solo quedan menú y bazar.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.1 - Duración de los efectos
+ */
+public class MusicManifest {
+    
+    private static final String TAG = "MusicManifest";
+    
+    // === GRUPOS ===
+    public static final String MENU = "menu";
+    public static final String BAZAAR = "bazaar";
+    public static final String GAME = "game";
+    public static final String TIME_ATTACK = "timeattack";
+    
+    private static final String[] GROUPS = {MENU, BAZAAR, GAME, TIME_ATTACK};
+    private static final String[] NO_TRACKS = new String[0];
+    
+    private final ObjectMap<String, String[]> tracks = new ObjectMap<>();
+    private final ObjectFloatMap<String> durations = new ObjectFloatMap<>();
+    
+    public MusicManifest() {
+        FileHandle file = Gdx.files.internal(AssetPaths.MUSIC_MANIFEST);
+        if (!file.exists()) {
+            Gdx.app.error(TAG, "Falta " + AssetPaths.MUSIC_MANIFEST + " (ejecutar :core:generateMusicManifest)");
+            tracks.put(MENU, new String[] {AssetPaths.MUSIC_MENU});
+            tracks.put(BAZAAR, new String[] {AssetPaths.MUSIC_BAZAAR});
+            return;
+        }
+        
+        try {
+            ObjectMap<String, String> values = new ObjectMap<>();
+            Reader reader = file.reader("UTF-8");
+            try {
+                PropertiesUtils.load(values, reader);
+            } finally {
+                reader.close();
+            }
+            
+            for (String group : GROUPS) {
+                String list = values.get(group, "").trim();
+                tracks.put(group, list.isEmpty() ? NO_TRACKS : list.split(","));
+            }
+            
+            for (ObjectMap.Entry<String, String> entry : values) {
+                if (entry.key.startsWith("duration.")) {
+                    durations.put(entry.key.substring("duration.".length()), Float.parseFloat(entry.value));
+                }
+            }
+            
+            Gdx.app.log(TAG, "Pistas - juego: " + tracks(GAME).length + ", time attack: " + tracks(TIME_ATTACK).length);
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error leyendo " + AssetPaths.MUSIC_MANIFEST, e);
+        }
+    }
+    
+    /**
+     * Pistas de un grupo (vacío si no hay ninguna)
+     */
+    public String[] tracks(String group) {
+        return tracks.get(group, NO_TRACKS);
+    }
+    
+    /**
+     * Duración en segundos de una pista o un efecto (0 = desconocida)
+     */
+    public float duration(String path) {
+        return durations.get(path, 0f);
+    }
+}
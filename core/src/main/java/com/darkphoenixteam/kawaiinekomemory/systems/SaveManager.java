@@ -3,21 +3,26 @@ package com.darkphoenixteam.kawaiinekomemory.systems;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Preferences;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.IntIntMap;
 import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.economy.PriceCache;
+import com.darkphoenixteam.kawaiinekomemory.economy.Prices;
 import com.darkphoenixteam.kawaiinekomemory.models.Achievement;
+import com.darkphoenixteam.kawaiinekomemory.models.LevelData;
 
 /**
  * Gestor de guardado OPTIMIZADO
  * - Batch flush para reducir escrituras a disco
+ * - Datos en la sección SAVE de SettingsStore (escritura en segundo plano)
  * - Métodos de guardado diferido
  * 
  * @author DarkphoenixTeam
- * @version 3.1 - Batch flush optimization
+ * @version 3.6 - Guardado a través de SettingsStore
  */
 public class SaveManager {
     
     private static final String TAG = "SaveManager";
-    private static final String PREFS_NAME = "KawaiiNekoSave";
     
     // === KEYS PRINCIPALES ===
     private static final String KEY_NEKOINS = "nekoins";
@@ -47,6 +52,8 @@ public class SaveManager {
     private static final String KEY_TIME_ATTACK_BEST_PAIRS = "time_attack_best_pairs";
     private static final String KEY_TIME_ATTACK_TOTAL_PAIRS = "time_attack_total_pairs";
     private static final String KEY_TIME_ATTACK_GAMES_PLAYED = "time_attack_games_played";
+    private static final String KEY_TIME_ATTACK_ENDLESS_BEST_PAIRS = "time_attack_endless_best_pairs";
+    private static final String KEY_MARATHON_BEST_TIME = "marathon_best_time_";  // + sizeIndex
     
     // === KEYS GACHA ===
     private static final String KEY_GACHA_PULLS = "gacha_total_pulls";
@@ -55,22 +62,39 @@ public class SaveManager {
     private static final int TOTAL_CARDS = 35;
     private static final int ACTIVE_DECK_SIZE = 15;
     private static final int CARDS_PER_DECK = 7;
-    private static final int LEVELS_PER_DIFFICULTY = 50;
     
     private static SaveManager instance;
     private Preferences prefs;
-    private Array<Integer> activeCards;
+    private IntArray activeCards;
+    private ActiveCardsView activeCardsView;
+    
+    // Bit i = carta i desbloqueada (35 cartas caben en un long)
+    private long unlockedMask;
     
     private Array<Achievement> newlyUnlocked;
     
+    // Progreso por globalId: estrellas (0-3) si completado, LEVEL_NOT_COMPLETED si no.
+    // Se llena bajo demanda: LevelSelect consulta 50 niveles por frame sin tocar prefs.
+    private final IntIntMap levelCache = new IntIntMap(256);
+    private static final int LEVEL_NOT_COMPLETED = -1;
+    private static final int LEVEL_NOT_CACHED = Integer.MIN_VALUE;
+    
+    // === PRECIOS (se recalculan solo si cambia el contador de compras) ===
+    private final PriceCache gachaPrice = new PriceCache(Prices.GACHA);
+    private final PriceCache timeAttackUpgradePrice = new PriceCache(Prices.TIME_ATTACK_UPGRADE);
+    private final PriceCache hintPrice = new PriceCache(Prices.POWER);
+    private final PriceCache timeFreezePrice = new PriceCache(Prices.POWER);
+    
     // === BATCH FLUSH CONTROL ===
     private boolean pendingFlush = false;
     private int pendingOperations = 0;
     private static final int FLUSH_THRESHOLD = 5; // Flush después de 5 operaciones
+    private boolean inTransaction = false;        // Sin flush por umbral hasta el commit
     
     private SaveManager() {
-        prefs = Gdx.app.getPreferences(PREFS_NAME);
-        activeCards = new Array<>();
+        prefs = SettingsStore.getInstance().section(SettingsStore.SAVE);
+        activeCards = new IntArray(ACTIVE_DECK_SIZE);
+        activeCardsView = new ActiveCardsView(activeCards);
         newlyUnlocked = new Array<>();
         
         int version = prefs.getInteger(KEY_SAVE_VERSION, 0);
@@ -78,9 +102,12 @@ public class SaveManager {
         
         if (version < CURRENT_VERSION) {
             Gdx.app.log(TAG, "Migrando datos a nueva versión...");
+            StartupTracer.getInstance().begin("SaveManager.migrate");
             migrateData(version);
+            StartupTracer.getInstance().end();
         } else {
             loadActiveCards();
+            loadUnlockedMask();
         }
         
         debugPrintStats();
@@ -95,13 +122,14 @@ public class SaveManager {
         pendingFlush = true;
         pendingOperations++;
         
-        if (pendingOperations >= FLUSH_THRESHOLD) {
+        if (!inTransaction && pendingOperations >= FLUSH_THRESHOLD) {
             flushNow();
         }
     }
     
     /**
-     * Fuerza el guardado inmediato
+     * Guarda lo pendiente (SettingsStore lo escribe en segundo plano en el
+     * siguiente frame)
      */
     public void flushNow() {
         if (pendingFlush) {
@@ -140,10 +168,12 @@ public class SaveManager {
             prefs.putInteger(KEY_SAVE_VERSION, CURRENT_VERSION);
             prefs.flush();
             loadActiveCards();
+            loadUnlockedMask();
         } else if (oldVersion >= 3) {
             prefs.putInteger(KEY_SAVE_VERSION, CURRENT_VERSION);
             prefs.flush();
             loadActiveCards();
+            loadUnlockedMask();
         } else {
             resetAndInitialize();
         }
@@ -151,13 +181,16 @@ public class SaveManager {
     
     private void resetAndInitialize() {
         prefs.clear();
+        levelCache.clear();
         activeCards.clear();
+        unlockedMask = 0L;
         
         prefs.putInteger(KEY_SAVE_VERSION, CURRENT_VERSION);
         prefs.putInteger(KEY_NEKOINS, 100);
         
         for (int i = 0; i < CARDS_PER_DECK; i++) {
             prefs.putBoolean(KEY_CARD_UNLOCKED + i, true);
+            unlockedMask |= 1L << i;
         }
         
         StringBuilder sb = new StringBuilder();
@@ -216,6 +249,18 @@ public class SaveManager {
         }
     }
     
+    /**
+     * Lee una sola vez las claves card_unlocked_N y las compacta en un bitmask
+     */
+    private void loadUnlockedMask() {
+        unlockedMask = 0L;
+        for (int i = 0; i < TOTAL_CARDS; i++) {
+            if (prefs.getBoolean(KEY_CARD_UNLOCKED + i, false)) {
+                unlockedMask |= 1L << i;
+            }
+        }
+    }
+    
     public static SaveManager getInstance() {
         if (instance == null) {
             instance = new SaveManager();
@@ -275,21 +320,18 @@ public class SaveManager {
         return Constants.TIME_ATTACK_BASE_TIME + (upgrades * Constants.TIME_ATTACK_UPGRADE_AMOUNT);
     }
     
+    /**
+     * Precio de la siguiente mejora, -1 si ya están todas
+     */
     public int getTimeAttackUpgradeCost() {
-        int upgrades = getTimeAttackUpgrades();
-        if (upgrades >= Constants.TIME_ATTACK_MAX_UPGRADES) {
-            return -1;
-        }
-        
-        int cost = Constants.TIME_ATTACK_UPGRADE_BASE_COST;
-        for (int i = 0; i < upgrades; i++) {
-            if (i % 2 == 0) {
-                cost += Constants.TIME_ATTACK_UPGRADE_INCREMENT_ODD;
-            } else {
-                cost += Constants.TIME_ATTACK_UPGRADE_INCREMENT_EVEN;
-            }
-        }
-        return cost;
+        return timeAttackUpgradePrice.price(getTimeAttackUpgrades());
+    }
+    
+    /**
+     * Coste de las próximas count mejoras, -1 si superan el máximo
+     */
+    public int getTimeAttackUpgradeCost(int count) {
+        return timeAttackUpgradePrice.quote(getTimeAttackUpgrades(), count);
     }
     
     public boolean purchaseTimeAttackUpgrade() {
@@ -323,6 +365,24 @@ public class SaveManager {
         return false;
     }
     
+    public int getTimeAttackEndlessBestPairs() {
+        return prefs.getInteger(KEY_TIME_ATTACK_ENDLESS_BEST_PAIRS, 0);
+    }
+    
+    /**
+     * Récord aparte: sin pausa entre grids se encuentran más pares
+     */
+    public boolean updateTimeAttackEndlessBestPairs(int pairs) {
+        int current = getTimeAttackEndlessBestPairs();
+        if (pairs > current) {
+            prefs.putInteger(KEY_TIME_ATTACK_ENDLESS_BEST_PAIRS, pairs);
+            deferredFlush();
+            Gdx.app.log(TAG, "Nuevo récord Time Attack sin fin: " + pairs + " pares");
+            return true;
+        }
+        return false;
+    }
+    
     public void addTimeAttackPairs(int pairs) {
         int total = prefs.getInteger(KEY_TIME_ATTACK_TOTAL_PAIRS, 0);
         prefs.putInteger(KEY_TIME_ATTACK_TOTAL_PAIRS, total + pairs);
@@ -343,6 +403,26 @@ public class SaveManager {
         return prefs.getInteger(KEY_TIME_ATTACK_GAMES_PLAYED, 0);
     }
     
+    // ==================== MARATHON ====================
+    
+    /**
+     * Mejor tiempo (segundos) del tamaño de Marathon, 0 si no hay
+     */
+    public float getMarathonBestTime(int sizeIndex) {
+        return prefs.getFloat(KEY_MARATHON_BEST_TIME + sizeIndex, 0f);
+    }
+    
+    public boolean updateMarathonBestTime(int sizeIndex, float seconds) {
+        float current = getMarathonBestTime(sizeIndex);
+        if (current <= 0f || seconds < current) {
+            prefs.putFloat(KEY_MARATHON_BEST_TIME + sizeIndex, seconds);
+            deferredFlush();
+            Gdx.app.log(TAG, "Nuevo récord Marathon " + sizeIndex + ": " + seconds + "s");
+            return true;
+        }
+        return false;
+    }
+    
     // ==================== GACHA ====================
     
     public int getGachaPulls() {
@@ -350,17 +430,58 @@ public class SaveManager {
     }
     
     public int getGachaCost() {
-        int pulls = getGachaPulls();
-        int cost = Constants.GACHA_BASE_COST;
+        return gachaPrice.price(getGachaPulls());
+    }
+    
+    /**
+     * Coste total de las próximas count tiradas (O(1))
+     */
+    public int getGachaCost(int count) {
+        return gachaPrice.quote(getGachaPulls(), count);
+    }
+    
+    /**
+     * Guarda una tirada (simple o múltiple) como una transacción:
+     * gasto, contador de tiradas, desbloqueos y logros con un solo flush.
+     * @param cardIds cartas ganadas
+     * @param cost coste total ya cotizado
+     * @return false si no hay nekoins suficientes (no se guarda nada)
+     */
+    public boolean commitGachaPulls(IntArray cardIds, int cost) {
+        int current = getNekoins();
+        if (cardIds == null || cardIds.size == 0 || cost < 0 || current < cost) return false;
         
-        for (int i = 0; i < pulls; i++) {
-            if (i % 2 == 0) {
-                cost += Constants.GACHA_INCREMENT_ODD;
-            } else {
-                cost += Constants.GACHA_INCREMENT_EVEN;
+        inTransaction = true;
+        try {
+            prefs.putInteger(KEY_NEKOINS, current - cost);
+            
+            int totalSpent = prefs.getInteger(KEY_STAT_TOTAL_SPENT, 0);
+            prefs.putInteger(KEY_STAT_TOTAL_SPENT, totalSpent + cost);
+            
+            int purchases = prefs.getInteger(KEY_STAT_PURCHASES, 0);
+            prefs.putInteger(KEY_STAT_PURCHASES, purchases + 1);
+            
+            prefs.putInteger(KEY_GACHA_PULLS, getGachaPulls() + cardIds.size);
+            
+            for (int i = 0; i < cardIds.size; i++) {
+                int cardId = cardIds.get(i);
+                if (cardId < 0 || cardId >= TOTAL_CARDS) continue;
+                prefs.putBoolean(KEY_CARD_UNLOCKED + cardId, true);
+                unlockedMask |= 1L << cardId;
             }
+            markDirty();
+            
+            if (purchases == 0) {
+                unlockAchievement(Achievement.FIRST_SHOP);
+            }
+            checkAchievement(Achievement.BIG_SPENDER);
+            checkAchievement(Achievement.GALLERY_UNLOCK);
+        } finally {
+            inTransaction = false;
         }
-        return cost;
+        
+        flushNow();
+        return true;
     }
     
     public void incrementGachaPulls() {
@@ -371,53 +492,66 @@ public class SaveManager {
     
     // ==================== POWER PRICES ====================
     
+    /**
+     * Precio de un poder según el stock actual, -1 si el stock está lleno
+     */
     public int getPowerPrice(int currentAmount) {
-        if (currentAmount >= Constants.MAX_POWER_STOCK) return -1;
-        if (currentAmount < 0) currentAmount = 0;
-        if (currentAmount >= Constants.POWER_PRICES.length) {
-            return Constants.POWER_PRICES[Constants.POWER_PRICES.length - 1];
-        }
-        return Constants.POWER_PRICES[currentAmount];
+        return Prices.POWER.price(currentAmount);
     }
     
     public int getHintPrice() {
-        return getPowerPrice(getHintUses());
+        return hintPrice.price(getHintUses());
     }
     
     public int getTimeFreezePrice() {
-        return getPowerPrice(getTimeFreezeUses());
+        return timeFreezePrice.price(getTimeFreezeUses());
     }
     
     // ==================== CARDS ====================
     
     public boolean isCardUnlocked(int cardId) {
         if (cardId < 0 || cardId >= TOTAL_CARDS) return false;
-        return prefs.getBoolean(KEY_CARD_UNLOCKED + cardId, false);
+        return (unlockedMask & (1L << cardId)) != 0;
     }
     
     public void unlockCard(int cardId) {
         if (cardId < 0 || cardId >= TOTAL_CARDS) return;
         
         prefs.putBoolean(KEY_CARD_UNLOCKED + cardId, true);
+        unlockedMask |= 1L << cardId;
         deferredFlush();
         
         checkAchievement(Achievement.GALLERY_UNLOCK);
     }
     
     public int getUnlockedCardCount() {
-        int count = 0;
-        for (int i = 0; i < TOTAL_CARDS; i++) {
-            if (isCardUnlocked(i)) count++;
-        }
-        return count;
+        return Long.bitCount(unlockedMask);
+    }
+    
+    /**
+     * Bitmask de cartas desbloqueadas (bit i = carta i)
+     */
+    public long getUnlockedCardMask() {
+        return unlockedMask;
     }
     
-    public Array<Integer> getActiveCards() {
-        return new Array<>(activeCards);
+    /**
+     * Copia de los slots activos (-1 = vacío). Preferir getActiveCardsView()
+     * cuando solo se necesita leer.
+     */
+    public IntArray getActiveCards() {
+        return new IntArray(activeCards);
+    }
+    
+    /**
+     * Vista de solo lectura de los slots activos, sin copia ni boxing
+     */
+    public ActiveCardsView getActiveCardsView() {
+        return activeCardsView;
     }
     
     public boolean isCardActive(int cardId) {
-        return activeCards.contains(cardId, false);
+        return activeCards.contains(cardId);
     }
     
     public boolean setActiveCardSlot(int slot, int cardId) {
@@ -447,7 +581,7 @@ public class SaveManager {
     }
     
     public int removeActiveCard(int cardId) {
-        int idx = activeCards.indexOf(cardId, false);
+        int idx = activeCards.indexOf(cardId);
         if (idx >= 0) {
             activeCards.set(idx, -1);
             saveActiveCards();
@@ -497,8 +631,8 @@ public class SaveManager {
     }
     
     public int getCardNekoinValue(int cardId) {
-        int[] values = {1, 2, 3, 5, 7};
         int deck = getDeckFromCardId(cardId);
+        int[] values = Constants.NEKOIN_PER_DECK;
         return (deck >= 0 && deck < values.length) ? values[deck] : 1;
     }
     
@@ -511,7 +645,9 @@ public class SaveManager {
         int currentStars = getLevelStars(levelId);
         if (stars > currentStars) {
             prefs.putInteger(KEY_LEVEL_STARS + levelId, stars);
+            currentStars = stars;
         }
+        levelCache.put(levelId, currentStars);
         
         if (!wasCompleted) {
             int wins = prefs.getInteger(KEY_STAT_TOTAL_WINS, 0);
@@ -537,16 +673,33 @@ public class SaveManager {
     }
     
     public boolean isLevelCompleted(int levelId) {
-        return prefs.getBoolean(KEY_LEVEL_COMPLETED + levelId, false);
+        return getCachedLevel(levelId) != LEVEL_NOT_COMPLETED;
     }
     
     public int getLevelStars(int levelId) {
-        return prefs.getInteger(KEY_LEVEL_STARS + levelId, 0);
+        return Math.max(0, getCachedLevel(levelId));
     }
     
+    /**
+     * Desbloqueado si es el primero de su dificultad o el anterior (según el catálogo) está completado
+     */
     public boolean isLevelUnlocked(int levelId) {
-        if (levelId % 50 == 0) return true;
-        return isLevelCompleted(levelId - 1);
+        int previousId = LevelCatalog.getInstance().getPreviousId(levelId);
+        return previousId < 0 || isLevelCompleted(previousId);
+    }
+    
+    /**
+     * Lee el progreso del nivel desde la caché, cargándolo de prefs la primera vez
+     */
+    private int getCachedLevel(int levelId) {
+        int cached = levelCache.get(levelId, LEVEL_NOT_CACHED);
+        if (cached == LEVEL_NOT_CACHED) {
+            cached = prefs.getBoolean(KEY_LEVEL_COMPLETED + levelId, false)
+                ? prefs.getInteger(KEY_LEVEL_STARS + levelId, 0)
+                : LEVEL_NOT_COMPLETED;
+            levelCache.put(levelId, cached);
+        }
+        return cached;
     }
     
     public int getCurrentDeck() {
@@ -716,103 +869,36 @@ public class SaveManager {
     }
     
     private void checkDifficultyCompletionAchievements() {
-        // Easy (0-49)
-        if (!isAchievementUnlocked(Achievement.EASY_COMPLETION)) {
-            boolean allComplete = true;
-            for (int i = 0; i < LEVELS_PER_DIFFICULTY; i++) {
-                if (!isLevelCompleted(i)) {
-                    allComplete = false;
-                    break;
-                }
-            }
-            if (allComplete) unlockAchievement(Achievement.EASY_COMPLETION);
-        }
-        
-        // Normal (50-99)
-        if (!isAchievementUnlocked(Achievement.NORMAL_COMPLETION)) {
-            boolean allComplete = true;
-            for (int i = 50; i < 100; i++) {
-                if (!isLevelCompleted(i)) {
-                    allComplete = false;
-                    break;
-                }
-            }
-            if (allComplete) unlockAchievement(Achievement.NORMAL_COMPLETION);
-        }
-        
-        // Advanced (100-149)
-        if (!isAchievementUnlocked(Achievement.ADVANCED_COMPLETION)) {
-            boolean allComplete = true;
-            for (int i = 100; i < 150; i++) {
-                if (!isLevelCompleted(i)) {
-                    allComplete = false;
-                    break;
-                }
-            }
-            if (allComplete) unlockAchievement(Achievement.ADVANCED_COMPLETION);
-        }
-        
-        // Hard (150-199)
-        if (!isAchievementUnlocked(Achievement.HARD_COMPLETION)) {
-            boolean allComplete = true;
-            for (int i = 150; i < 200; i++) {
-                if (!isLevelCompleted(i)) {
-                    allComplete = false;
-                    break;
-                }
-            }
-            if (allComplete) unlockAchievement(Achievement.HARD_COMPLETION);
-        }
+        checkAllLevels(Achievement.EASY_COMPLETION, LevelData.Difficulty.EASY, 1);
+        checkAllLevels(Achievement.NORMAL_COMPLETION, LevelData.Difficulty.NORMAL, 1);
+        checkAllLevels(Achievement.ADVANCED_COMPLETION, LevelData.Difficulty.ADVANCED, 1);
+        checkAllLevels(Achievement.HARD_COMPLETION, LevelData.Difficulty.HARD, 1);
     }
     
     private void checkPerfectionAchievements() {
-        // Easy 3 estrellas
-        if (!isAchievementUnlocked(Achievement.ALL_STARS_EASY)) {
-            boolean allPerfect = true;
-            for (int i = 0; i < LEVELS_PER_DIFFICULTY; i++) {
-                if (getLevelStars(i) < 3) {
-                    allPerfect = false;
-                    break;
-                }
-            }
-            if (allPerfect) unlockAchievement(Achievement.ALL_STARS_EASY);
-        }
+        checkAllLevels(Achievement.ALL_STARS_EASY, LevelData.Difficulty.EASY, 3);
+        checkAllLevels(Achievement.ALL_STARS_NORMAL, LevelData.Difficulty.NORMAL, 3);
+        checkAllLevels(Achievement.ALL_STARS_ADVANCED, LevelData.Difficulty.ADVANCED, 3);
+        checkAllLevels(Achievement.ALL_STARS_HARD, LevelData.Difficulty.HARD, 3);
+    }
+    
+    /**
+     * Desbloquea el logro si todos los niveles del catálogo en la dificultad
+     * están completados con al menos minStars (1 = basta con completarlos)
+     */
+    private void checkAllLevels(Achievement achievement, LevelData.Difficulty difficulty, int minStars) {
+        if (isAchievementUnlocked(achievement)) return;
         
-        // Normal 3 estrellas
-        if (!isAchievementUnlocked(Achievement.ALL_STARS_NORMAL)) {
-            boolean allPerfect = true;
-            for (int i = 50; i < 100; i++) {
-                if (getLevelStars(i) < 3) {
-                    allPerfect = false;
-                    break;
-                }
-            }
-            if (allPerfect) unlockAchievement(Achievement.ALL_STARS_NORMAL);
-        }
+        Array<LevelData> levels = LevelCatalog.getInstance().getLevels(difficulty);
+        if (levels.size == 0) return;
         
-        // Advanced 3 estrellas
-        if (!isAchievementUnlocked(Achievement.ALL_STARS_ADVANCED)) {
-            boolean allPerfect = true;
-            for (int i = 100; i < 150; i++) {
-                if (getLevelStars(i) < 3) {
-                    allPerfect = false;
-                    break;
-                }
+        for (int i = 0; i < levels.size; i++) {
+            int cached = getCachedLevel(levels.get(i).getGlobalId());
+            if (cached == LEVEL_NOT_COMPLETED || Math.max(1, cached) < minStars) {
+                return;
             }
-            if (allPerfect) unlockAchievement(Achievement.ALL_STARS_ADVANCED);
-        }
-        
-        // Hard 3 estrellas
-        if (!isAchievementUnlocked(Achievement.ALL_STARS_HARD)) {
-            boolean allPerfect = true;
-            for (int i = 150; i < 200; i++) {
-                if (getLevelStars(i) < 3) {
-                    allPerfect = false;
-                    break;
-                }
-            }
-            if (allPerfect) unlockAchievement(Achievement.ALL_STARS_HARD);
         }
+        unlockAchievement(achievement);
     }
     
     public int getUnlockedAchievementCount() {
@@ -838,6 +924,7 @@ public class SaveManager {
     public void resetAll() {
         instance = null;
         prefs.clear();
+        levelCache.clear();
         prefs.flush();
         Gdx.app.log(TAG, "RESET COMPLETO");
     }
@@ -863,4 +950,42 @@ public class SaveManager {
                " Logros:" + getUnlockedAchievementCount() + "/" + Achievement.count() +
                " TA-Best:" + getTimeAttackBestPairs();
     }
+    
+    // ==================== VISTA DE SOLO LECTURA ====================
+    
+    /**
+     * Vista de los slots activos sin copia. Refleja los cambios al instante.
+     */
+    public static final class ActiveCardsView {
+        private final IntArray slots;
+        
+        private ActiveCardsView(IntArray slots) {
+            this.slots = slots;
+        }
+        
+        /** Número de slots (incluye vacíos) */
+        public int size() {
+            return slots.size;
+        }
+        
+        /** Carta en el slot, o -1 si está vacío */
+        public int get(int slot) {
+            return slots.get(slot);
+        }
+        
+        public boolean contains(int cardId) {
+            return slots.contains(cardId);
+        }
+        
+        /**
+         * Añade a out las cartas no vacías, en orden de slot
+         */
+        public IntArray copyValidTo(IntArray out) {
+            for (int i = 0; i < slots.size; i++) {
+                int cardId = slots.items[i];
+                if (cardId >= 0) out.add(cardId);
+            }
+            return out;
+        }
+    }
 }
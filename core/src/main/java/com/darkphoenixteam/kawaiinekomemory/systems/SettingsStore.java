@@ -0,0 +1,425 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.PropertiesUtils;
+import com.badlogic.gdx.utils.async.AsyncResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Almacén único de ajustes y progreso (Singleton)
+ * 
+ * Un solo archivo local (FILE) en lugar de un Preferences por sistema.
+ * Cada sistema usa su sección (section()), que implementa Preferences
+ * con las claves prefijadas: SaveManager, AudioManager y LocaleManager
+ * no cambian su forma de leer y escribir.
+ * 
+ * Escrituras agrupadas:
+ * - put* solo cambia la memoria; tras QUIET_SECONDS sin cambios se guarda
+ * - flush() de una sección (o commit()) guarda en el siguiente update()
+ * - El archivo se escribe en BackgroundWorker sobre una copia de los
+ *   valores (temporal + rename: nunca queda a medias)
+ * - flushNow() escribe en el acto: pausa y cierre de la app
+ * 
+ * Al primer arranque migra los Preferences antiguos (KawaiiNekoSave,
+ * KawaiiNekoAudio, KawaiiNekoSettings) y los vacía.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class SettingsStore {
+    
+    private static final String TAG = "SettingsStore";
+    
+    private static final String FILE = "kawaiineko_settings.properties";
+    private static final String TEMP_FILE = FILE + ".tmp";
+    
+    // Segundos sin cambios antes de guardar (un arrastre de slider = un guardado)
+    private static final float QUIET_SECONDS = 0.5f;
+    
+    // === SECCIONES ===
+    public static final String SAVE = "save";
+    public static final String AUDIO = "audio";
+    public static final String LOCALE = "locale";
+    
+    // Preferences anteriores de cada sección (solo para migrar)
+    private static final String[][] LEGACY_PREFERENCES = {
+        {SAVE, "KawaiiNekoSave"},
+        {AUDIO, "KawaiiNekoAudio"},
+        {LOCALE, "KawaiiNekoSettings"}
+    };
+    
+    // Singleton
+    private static SettingsStore instance;
+    
+    // Valores en memoria (hilo GL), claves "<sección>.<clave>"
+    private final ObjectMap<String, String> values = new ObjectMap<>(256);
+    private final ObjectMap<String, Section> sections = new ObjectMap<>();
+    
+    // === GUARDADO ===
+    private boolean dirty;
+    private boolean commitRequested;
+    private float quietTimer;
+    private AsyncResult<Void> writing;
+    
+    private SettingsStore() {
+        FileHandle file = Gdx.files.local(FILE);
+        if (file.exists()) {
+            load(file);
+        } else {
+            StartupTracer.getInstance().begin("SettingsStore.migrate");
+            migrateLegacy();
+            StartupTracer.getInstance().end();
+        }
+        Gdx.app.log(TAG, "Inicializado - " + values.size + " valores");
+    }
+    
+    public static SettingsStore getInstance() {
+        if (instance == null) {
+            instance = new SettingsStore();
+        }
+        return instance;
+    }
+    
+    /**
+     * Vista Preferences de una sección (SAVE, AUDIO, LOCALE)
+     */
+    public Preferences section(String name) {
+        Section section = sections.get(name);
+        if (section == null) {
+            section = new Section(name + ".");
+            sections.put(name, section);
+        }
+        return section;
+    }
+    
+    // ==================== CARGA Y MIGRACIÓN ====================
+    
+    private void load(FileHandle file) {
+        try {
+            Reader reader = file.reader("UTF-8");
+            try {
+                PropertiesUtils.load(values, reader);
+            } finally {
+                reader.close();
+            }
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error leyendo " + FILE + ", se empieza de cero", e);
+            values.clear();
+        }
+    }
+    
+    private void migrateLegacy() {
+        int migrated = 0;
+        for (String[] legacy : LEGACY_PREFERENCES) {
+            Map<String, ?> old = Gdx.app.getPreferences(legacy[1]).get();
+            for (Map.Entry<String, ?> entry : old.entrySet()) {
+                if (entry.getValue() == null) continue;
+                values.put(legacy[0] + "." + entry.getKey(), String.valueOf(entry.getValue()));
+                migrated++;
+            }
+        }
+        if (migrated == 0) return;
+        
+        dirty = true;
+        if (!flushNow()) return;
+        
+        // Solo con el archivo nuevo ya escrito
+        for (String[] legacy : LEGACY_PREFERENCES) {
+            Preferences old = Gdx.app.getPreferences(legacy[1]);
+            old.clear();
+            old.flush();
+        }
+        Gdx.app.log(TAG, "Migrados " + migrated + " valores de Preferences antiguos");
+    }
+    
+    // ==================== GUARDADO ====================
+    
+    private void markChanged() {
+        dirty = true;
+        quietTimer = QUIET_SECONDS;
+    }
+    
+    /**
+     * Pide guardar lo pendiente en el siguiente update (fin de arrastre,
+     * fin de partida...). No bloquea.
+     */
+    public void commit() {
+        if (dirty) {
+            commitRequested = true;
+        }
+    }
+    
+    /**
+     * Lanza el guardado si toca (llamar cada frame desde render)
+     */
+    public void update(float delta) {
+        if (writing != null) {
+            if (!writing.isDone()) return;
+            finishWrite();
+        }
+        if (!dirty) return;
+        
+        quietTimer -= delta;
+        if (commitRequested || quietTimer <= 0f) {
+            final ObjectMap<String, String> snapshot = new ObjectMap<>(values);
+            dirty = false;
+            commitRequested = false;
+            writing = BackgroundWorker.getInstance().submit(() -> {
+                write(snapshot);
+                return null;
+            });
+        }
+    }
+    
+    private boolean finishWrite() {
+        boolean ok = true;
+        try {
+            writing.get();
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error guardando " + FILE, e);
+            // Se reintenta tras otro intervalo de calma, no en el frame siguiente
+            dirty = true;
+            quietTimer = QUIET_SECONDS;
+            ok = false;
+        }
+        writing = null;
+        return ok;
+    }
+    
+    /**
+     * Guarda ya en este hilo (espera a una escritura en curso)
+     * @return false si no se pudo escribir
+     */
+    public boolean flushNow() {
+        if (writing != null) {
+            finishWrite();
+        }
+        if (!dirty) return true;
+        
+        try {
+            write(values);
+            dirty = false;
+            commitRequested = false;
+            return true;
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error guardando " + FILE, e);
+            return false;
+        }
+    }
+    
+    /**
+     * Escribe el temporal y lo renombra sobre el archivo (sin tocar GL)
+     */
+    private static void write(ObjectMap<String, String> snapshot) throws IOException {
+        FileHandle temp = Gdx.files.local(TEMP_FILE);
+        Writer writer = temp.writer(false, "UTF-8");
+        try {
+            PropertiesUtils.store(snapshot, writer, "Kawaii Neko Memory");
+        } finally {
+            writer.close();
+        }
+        
+        File target = Gdx.files.local(FILE).file();
+        if (!temp.file().renameTo(target)) {
+            // Windows no renombra sobre un archivo existente
+            if (!target.delete() || !temp.file().renameTo(target)) {
+                throw new IOException("No se pudo reemplazar " + target);
+            }
+        }
+    }
+    
+    // ==================== SECCIÓN ====================
+    
+    /**
+     * Preferences sobre las claves de una sección
+     */
+    private class Section implements Preferences {
+        
+        private final String prefix;
+        
+        Section(String prefix) {
+            this.prefix = prefix;
+        }
+        
+        private Preferences set(String key, String value) {
+            String old = values.put(prefix + key, value);
+            if (!value.equals(old)) {
+                markChanged();
+            }
+            return this;
+        }
+        
+        @Override
+        public Preferences putBoolean(String key, boolean val) {
+            return set(key, Boolean.toString(val));
+        }
+        
+        @Override
+        public Preferences putInteger(String key, int val) {
+            return set(key, Integer.toString(val));
+        }
+        
+        @Override
+        public Preferences putLong(String key, long val) {
+            return set(key, Long.toString(val));
+        }
+        
+        @Override
+        public Preferences putFloat(String key, float val) {
+            return set(key, Float.toString(val));
+        }
+        
+        @Override
+        public Preferences putString(String key, String val) {
+            if (val == null) {
+                remove(key);
+                return this;
+            }
+            return set(key, val);
+        }
+        
+        @Override
+        public Preferences put(Map<String, ?> vals) {
+            for (Map.Entry<String, ?> entry : vals.entrySet()) {
+                set(entry.getKey(), String.valueOf(entry.getValue()));
+            }
+            return this;
+        }
+        
+        @Override
+        public boolean getBoolean(String key) {
+            return getBoolean(key, false);
+        }
+        
+        @Override
+        public int getInteger(String key) {
+            return getInteger(key, 0);
+        }
+        
+        @Override
+        public long getLong(String key) {
+            return getLong(key, 0L);
+        }
+        
+        @Override
+        public float getFloat(String key) {
+            return getFloat(key, 0f);
+        }
+        
+        @Override
+        public String getString(String key) {
+            return getString(key, "");
+        }
+        
+        @Override
+        public boolean getBoolean(String key, boolean defValue) {
+            String value = values.get(prefix + key);
+            return value != null ? Boolean.parseBoolean(value) : defValue;
+        }
+        
+        @Override
+        public int getInteger(String key, int defValue) {
+            String value = values.get(prefix + key);
+            if (value == null) return defValue;
+            try {
+                return Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                return defValue;
+            }
+        }
+        
+        @Override
+        public long getLong(String key, long defValue) {
+            String value = values.get(prefix + key);
+            if (value == null) return defValue;
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                return defValue;
+            }
+        }
+        
+        @Override
+        public float getFloat(String key, float defValue) {
+            String value = values.get(prefix + key);
+            if (value == null) return defValue;
+            try {
+                return Float.parseFloat(value);
+            } catch (NumberFormatException e) {
+                return defValue;
+            }
+        }
+        
+        @Override
+        public String getString(String key, String defValue) {
+            return values.get(prefix + key, defValue);
+        }
+        
+        @Override
+        public Map<String, ?> get() {
+            Map<String, String> map = new HashMap<>();
+            for (ObjectMap.Entry<String, String> entry : values) {
+                if (entry.key.startsWith(prefix)) {
+                    map.put(entry.key.substring(prefix.length()), entry.value);
+                }
+            }
+            return map;
+        }
+        
+        @Override
+        public boolean contains(String key) {
+            return values.containsKey(prefix + key);
+        }
+        
+        /**
+         * Borra solo las claves de esta sección
+         */
+        @Override
+        public void clear() {
+            ObjectMap.Keys<String> keys = values.keys();
+            while (keys.hasNext()) {
+                if (keys.next().startsWith(prefix)) {
+                    keys.remove();
+                    dirty = true;
+                }
+            }
+            quietTimer = QUIET_SECONDS;
+        }
+        
+        @Override
+        public void remove(String key) {
+            if (values.remove(prefix + key) != null) {
+                markChanged();
+            }
+        }
+        
+        /**
+         * Agrupado: se escribe en el siguiente update, no en esta llamada
+         */
+        @Override
+        public void flush() {
+            commit();
+        }
+    }
+    
+    // ==================== LIFECYCLE ====================
+    
+    /**
+     * Reinicia el singleton guardando lo pendiente
+     */
+    public static void reset() {
+        if (instance != null) {
+            instance.flushNow();
+            instance = null;
+        }
+    }
+}
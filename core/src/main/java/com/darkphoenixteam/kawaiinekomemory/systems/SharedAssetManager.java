@@ -1,6 +1,7 @@
 package com.darkphoenixteam.kawaiinekomemory.systems;
 
 import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.ObjectMap;
@@ -14,9 +15,10 @@ import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
  * - get(path): Obtiene textura (carga si no existe, incrementa ref)
  * - release(path): Decrementa referencia (libera si llega a 0)
  * - preloadCommon(): Carga assets frecuentes al inicio
+ * - getResidentBytes(): bytes de GPU estimados, llevados al cargar y liberar
  * 
  * @author DarkphoenixTeam
- * @version 1.0
+ * @version 1.1 - Bytes residentes sin recorrer el cache
  */
 public class SharedAssetManager implements Disposable {
     
@@ -28,6 +30,9 @@ public class SharedAssetManager implements Disposable {
     // Cache de texturas con conteo de referencias
     private final ObjectMap<String, TextureEntry> textureCache;
     
+    // Suma de textureBytes() de las texturas del cache
+    private long residentBytes;
+    
     // Clase interna para tracking
     private static class TextureEntry {
         Texture texture;
@@ -81,6 +86,7 @@ public class SharedAssetManager implements Disposable {
             
             Texture texture = new Texture(Gdx.files.internal(path));
             textureCache.put(path, new TextureEntry(texture));
+            residentBytes += textureBytes(texture);
             Gdx.app.log(TAG, "Cargado: " + path + " (total: " + textureCache.size + ")");
             return texture;
             
@@ -115,6 +121,7 @@ public class SharedAssetManager implements Disposable {
         entry.refCount--;
         
         if (entry.refCount <= 0) {
+            residentBytes -= textureBytes(entry.texture);
             entry.texture.dispose();
             textureCache.remove(path);
             Gdx.app.log(TAG, "Liberado: " + path + " (total: " + textureCache.size + ")");
@@ -245,14 +252,44 @@ public class SharedAssetManager implements Disposable {
      * Obtiene memoria estimada usada (en formato legible)
      */
     public String getMemoryUsage() {
-        long bytes = 0;
-        for (TextureEntry entry : textureCache.values()) {
-            if (entry.texture != null) {
-                bytes += (long) entry.texture.getWidth() * entry.texture.getHeight() * 4; // RGBA
+        float mb = residentBytes / (1024f * 1024f);
+        return String.format("%.2f MB (%d texturas)", mb, textureCache.size);
+    }
+    
+    /**
+     * Bytes de GPU estimados de las texturas cargadas (O(1), apto para
+     * consultarlo cada frame)
+     */
+    public long getResidentBytes() {
+        return residentBytes;
+    }
+    
+    /**
+     * Tamaño en GPU de una textura según su formato (sin mipmaps)
+     */
+    private static long textureBytes(Texture texture) {
+        int bytesPerPixel = 4;
+        Pixmap.Format format = texture.getTextureData().getFormat();
+        if (format != null) {
+            switch (format) {
+                case Alpha:
+                case Intensity:
+                    bytesPerPixel = 1;
+                    break;
+                case LuminanceAlpha:
+                case RGB565:
+                case RGBA4444:
+                    bytesPerPixel = 2;
+                    break;
+                case RGB888:
+                    bytesPerPixel = 3;
+                    break;
+                default:
+                    bytesPerPixel = 4;
+                    break;
             }
         }
-        float mb = bytes / (1024f * 1024f);
-        return String.format("%.2f MB (%d texturas)", mb, textureCache.size);
+        return (long) texture.getWidth() * texture.getHeight() * bytesPerPixel;
     }
     
     /**
@@ -274,6 +311,7 @@ public class SharedAssetManager implements Disposable {
             }
         }
         textureCache.clear();
+        residentBytes = 0;
         
         Gdx.app.log(TAG, "Recursos liberados");
     }
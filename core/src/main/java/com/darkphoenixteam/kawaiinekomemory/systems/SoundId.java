@@ -0,0 +1,48 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
+
+/**
+ * Efectos de sonido del juego, registrados en AudioManager al arrancar
+ * 
+ * Cada efecto declara su prioridad y cuántas voces puede tener sonando a
+ * la vez. Con el límite alcanzado, una nueva reproducción corta la voz
+ * más antigua del mismo efecto.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public enum SoundId {
+    
+    BUTTON(AssetPaths.SFX_BUTTON, Priority.UI, 2),
+    COIN(AssetPaths.SFX_COIN, Priority.UI, 2),
+    CARD_FLIP(AssetPaths.SFX_CARD_FLIP, Priority.FLIP, 3),
+    CARD_SHUFFLE(AssetPaths.SFX_CARD_SHUFFLE, Priority.FLIP, 1),
+    MATCH(AssetPaths.SFX_MATCH, Priority.MATCH, 2),
+    NO_MATCH(AssetPaths.SFX_NO_MATCH, Priority.MATCH, 2),
+    HINT(AssetPaths.SFX_HINT, Priority.MATCH, 1),
+    TIME_FREEZE(AssetPaths.SFX_TIMEFREEZE, Priority.MATCH, 1),
+    VICTORY(AssetPaths.SFX_VICTORY, Priority.VICTORY, 1),
+    DEFEAT(AssetPaths.SFX_DEFEAT, Priority.VICTORY, 1);
+    
+    /**
+     * Clases de prioridad: con el mezclador lleno, un sonido solo puede
+     * cortar voces de su misma prioridad o menor
+     */
+    public enum Priority {
+        UI, FLIP, MATCH, VICTORY
+    }
+    
+    // Cache de values() (evita copiar el array)
+    static final SoundId[] ALL = values();
+    
+    public final String path;
+    public final Priority priority;
+    public final int maxVoices;
+    
+    SoundId(String path, Priority priority, int maxVoices) {
+        this.path = path;
+        this.priority = priority;
+        this.maxVoices = maxVoices;
+    }
+}
@@ -0,0 +1,228 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.LongMap;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Trazador de fases de arranque (Singleton)
+ * 
+ * Spans begin()/end() con timestamp en nanosegundos, guardados en un
+ * buffer circular preasignado (struct-of-arrays, sin objetos por evento).
+ * Los spans se anidan por hilo, así que begin/end deben ir en pares
+ * en el mismo hilo (try/finally si la fase puede lanzar).
+ * 
+ * Qué se traza:
+ * - Fases de KawaiiNekoMemory.create() y decodificación de cada sonido
+ * - Migración de ajustes, carga de textos, migración del guardado
+ * - Hoja de miniaturas (hilo de BackgroundWorker)
+ * - setScreen() y los primeros SCREEN_FRAMES frames de cada pantalla
+ * 
+ * export() escribe Chrome trace-event JSON (abrir en chrome://tracing
+ * o ui.perfetto.dev). Al terminar el arranque se exporta solo a
+ * STARTUP_FILE.
+ * 
+ * Desactivado por defecto: solo KawaiiNekoMemory lo activa en ejecuciones
+ * de perfilado. Desactivado, begin()/end() vuelven sin tomar el lock,
+ * export() no hace nada y el buffer ni se reserva.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.1 - Solo activo en ejecuciones de perfilado
+ */
+public class StartupTracer {
+    
+    private static final String TAG = "StartupTracer";
+    
+    // Eventos en el buffer (los más antiguos se sobrescriben)
+    private static final int CAPACITY = 4096;
+    
+    // Frames trazados tras mostrar cada pantalla
+    public static final int SCREEN_FRAMES = 3;
+    
+    public static final String STARTUP_FILE = "startup_trace.json";
+    
+    private static final byte PHASE_BEGIN = 0;
+    private static final byte PHASE_END = 1;
+    
+    // Singleton
+    private static StartupTracer instance;
+    
+    // Leído desde cualquier hilo sin lock
+    private volatile boolean enabled;
+    
+    // === BUFFER CIRCULAR (se reserva al activar) ===
+    private byte[] phases;
+    private long[] times;
+    private String[] names;
+    private int[] args;
+    private long[] threads;
+    private int head;
+    private int size;
+    
+    // Nombre de cada hilo visto (metadatos del JSON)
+    private final LongMap<String> threadNames = new LongMap<>();
+    
+    // Origen de los timestamps exportados
+    private final long originNanos;
+    
+    private StartupTracer() {
+        originNanos = TimeUtils.nanoTime();
+    }
+    
+    public static StartupTracer getInstance() {
+        if (instance == null) {
+            instance = new StartupTracer();
+        }
+        return instance;
+    }
+    
+    /**
+     * Activa o desactiva la traza (llamar al arrancar, antes del primer span)
+     */
+    public synchronized void setEnabled(boolean enabled) {
+        if (enabled && phases == null) {
+            phases = new byte[CAPACITY];
+            times = new long[CAPACITY];
+            names = new String[CAPACITY];
+            args = new int[CAPACITY];
+            threads = new long[CAPACITY];
+        }
+        this.enabled = enabled;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    // ==================== SPANS ====================
+    
+    /**
+     * Abre un span en el hilo actual
+     * @param name Literal o nombre cacheado (no concatenar en cada llamada)
+     */
+    public void begin(String name) {
+        if (!enabled) return;
+        record(PHASE_BEGIN, name, -1);
+    }
+    
+    /**
+     * Abre un span con un argumento (número de frame, índice...)
+     */
+    public void begin(String name, int arg) {
+        if (!enabled) return;
+        record(PHASE_BEGIN, name, arg);
+    }
+    
+    /**
+     * Cierra el último span abierto en el hilo actual
+     */
+    public void end() {
+        if (!enabled) return;
+        record(PHASE_END, null, -1);
+    }
+    
+    private synchronized void record(byte phase, String name, int arg) {
+        long now = TimeUtils.nanoTime();
+        Thread thread = Thread.currentThread();
+        long threadId = thread.getId();
+        if (!threadNames.containsKey(threadId)) {
+            threadNames.put(threadId, thread.getName());
+        }
+        
+        int slot = (head + size) % CAPACITY;
+        if (size == CAPACITY) {
+            head = (head + 1) % CAPACITY;
+        } else {
+            size++;
+        }
+        phases[slot] = phase;
+        times[slot] = now;
+        names[slot] = name;
+        args[slot] = arg;
+        threads[slot] = threadId;
+    }
+    
+    // ==================== EXPORTACIÓN ====================
+    
+    /**
+     * Compone el JSON (trace-event format) con lo que haya en el buffer
+     */
+    public synchronized String toChromeJson() {
+        StringBuilder json = new StringBuilder(size * 80 + 256);
+        json.append("{\"displayTimeUnit\":\"ms\",\"traceEvents\":[\n");
+        
+        boolean first = true;
+        for (LongMap.Entry<String> entry : threadNames) {
+            if (!first) json.append(",\n");
+            first = false;
+            json.append("{\"ph\":\"M\",\"pid\":1,\"tid\":").append(entry.key)
+                .append(",\"name\":\"thread_name\",\"args\":{\"name\":\"");
+            appendEscaped(json, entry.value);
+            json.append("\"}}");
+        }
+        
+        for (int i = 0; i < size; i++) {
+            int slot = (head + i) % CAPACITY;
+            if (!first) json.append(",\n");
+            first = false;
+            
+            long micros = (times[slot] - originNanos) / 1000L;
+            json.append("{\"ph\":\"").append(phases[slot] == PHASE_BEGIN ? 'B' : 'E')
+                .append("\",\"pid\":1,\"tid\":").append(threads[slot])
+                .append(",\"ts\":").append(micros);
+            if (names[slot] != null) {
+                json.append(",\"name\":\"");
+                appendEscaped(json, names[slot]);
+                json.append('"');
+            }
+            if (args[slot] >= 0) {
+                json.append(",\"args\":{\"n\":").append(args[slot]).append('}');
+            }
+            json.append('}');
+        }
+        
+        json.append("\n]}\n");
+        return json.toString();
+    }
+    
+    private static void appendEscaped(StringBuilder json, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(' ');
+            } else {
+                json.append(c);
+            }
+        }
+    }
+    
+    /**
+     * Escribe el JSON en un archivo local. Se compone en este hilo
+     * y se escribe en BackgroundWorker. Desactivado no hace nada.
+     */
+    public void export(final String fileName) {
+        if (!enabled) return;
+        final String json = toChromeJson();
+        final int events = size;
+        BackgroundWorker.getInstance().submit(() -> {
+            try {
+                Gdx.files.local(fileName).writeString(json, false, "UTF-8");
+                Gdx.app.log(TAG, "Traza guardada: " + fileName + " (" + events + " eventos)");
+            } catch (Exception e) {
+                Gdx.app.error(TAG, "Error guardando " + fileName, e);
+            }
+            return null;
+        });
+    }
+    
+    // ==================== LIFECYCLE ====================
+    
+    /**
+     * Resetea el singleton (descarta los eventos)
+     */
+    public static void reset() {
+        instance = null;
+    }
+}
@@ -0,0 +1,208 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.glutils.GLVersion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+
+/**
+ * SpriteBatch cuyo shader por defecto pinta también texto de campo de
+ * distancia (DistanceField.PageTexture)
+ * 
+ * - Un solo shader para sprites y texto: cambiar entre sprites y texto
+ *   cuesta el mismo flush de cambio de textura que antes, y cambiar de
+ *   fuente dentro de un grupo (misma página) no cuesta ninguno
+ * - Al cambiar de textura se activa u_distanceField si es una página SDF
+ * - El borde y la sombra de FontSpec los compone el shader; el suavizado
+ *   sale de fwidth(), así vale para cualquier escala sin uniform por fuente
+ * 
+ * Sin derivadas en el shader (GLES2 sin GL_OES_standard_derivatives) o
+ * si no compila, es un SpriteBatch normal y FontManager usa fuentes
+ * rasterizadas.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class TextBatch extends SpriteBatch {
+    
+    private static final String TAG = "TextBatch";
+    
+    private static final String VERTEX_SHADER =
+        "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+        "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+        "uniform mat4 u_projTrans;\n" +
+        "varying vec4 v_color;\n" +
+        "varying vec2 v_texCoords;\n" +
+        "\n" +
+        "void main() {\n" +
+        "    v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" +
+        "    v_color.a = v_color.a * (255.0 / 254.0);\n" +
+        "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" +
+        "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" +
+        "}\n";
+    
+    private static final String FRAGMENT_SHADER =
+        "#ifdef GL_ES\n" +
+        "#extension GL_OES_standard_derivatives : enable\n" +
+        "precision mediump float;\n" +
+        "#endif\n" +
+        "\n" +
+        "uniform sampler2D u_texture;\n" +
+        "uniform float u_distanceField;\n" +
+        "uniform float u_outline;\n" +
+        "uniform vec4 u_outlineColor;\n" +
+        "uniform vec2 u_shadowOffset;\n" +
+        "uniform vec4 u_shadowColor;\n" +
+        "varying vec4 v_color;\n" +
+        "varying vec2 v_texCoords;\n" +
+        "\n" +
+        "void main() {\n" +
+        "    if (u_distanceField > 0.5) {\n" +
+        "        float dist = texture2D(u_texture, v_texCoords).a;\n" +
+        "        float width = 0.7 * fwidth(dist);\n" +
+        "        float fill = smoothstep(0.5 - width, 0.5 + width, dist);\n" +
+        "        float outline = smoothstep(u_outline - width, u_outline + width, dist) * u_outlineColor.a;\n" +
+        "        float shadowDist = texture2D(u_texture, v_texCoords - u_shadowOffset).a;\n" +
+        "        float shadow = smoothstep(u_outline - width, u_outline + width, shadowDist) * u_shadowColor.a;\n" +
+        "        // Premultiplicado: relleno sobre borde sobre sombra\n" +
+        "        vec4 color = vec4(u_shadowColor.rgb * shadow, shadow);\n" +
+        "        color = vec4(u_outlineColor.rgb * outline, outline) + color * (1.0 - outline);\n" +
+        "        color = vec4(v_color.rgb * fill, fill) + color * (1.0 - fill);\n" +
+        "        gl_FragColor = vec4(color.rgb / max(color.a, 0.0001), color.a * v_color.a);\n" +
+        "    } else {\n" +
+        "        gl_FragColor = v_color * texture2D(u_texture, v_texCoords);\n" +
+        "    }\n" +
+        "}\n";
+    
+    // null = sin soporte, batch normal
+    private final ShaderProgram distanceFieldShader;
+    
+    // Estado del uniform en el shader (evita llamadas GL repetidas)
+    private boolean distanceFieldPage;
+    private Texture currentTexture;
+    
+    public TextBatch() {
+        this(createShader());
+    }
+    
+    private TextBatch(ShaderProgram shader) {
+        super(1000, shader);
+        this.distanceFieldShader = shader;
+        
+        Gdx.app.log(TAG, "Texto de campo de distancia: " + (shader != null ? "activo" : "no disponible"));
+    }
+    
+    /**
+     * Compila el shader combinado, o null si el dispositivo no lo admite
+     */
+    private static ShaderProgram createShader() {
+        if (!FontSpec.DISTANCE_FIELD) return null;
+        
+        GLVersion version = Gdx.graphics.getGLVersion();
+        boolean derivatives = Gdx.gl30 != null
+            || version.getType() == GLVersion.Type.OpenGL
+            || Gdx.graphics.supportsExtension("GL_OES_standard_derivatives");
+        if (!derivatives) {
+            Gdx.app.log(TAG, "Sin GL_OES_standard_derivatives");
+            return null;
+        }
+        
+        ShaderProgram shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            Gdx.app.error(TAG, "Error compilando shader de campo de distancia: " + shader.getLog());
+            shader.dispose();
+            return null;
+        }
+        return shader;
+    }
+    
+    /**
+     * true si el shader SDF está disponible (FontManager elige el modo)
+     */
+    public boolean isDistanceFieldEnabled() {
+        return distanceFieldShader != null;
+    }
+    
+    // ==================== ESTADO DEL SHADER ====================
+    
+    @Override
+    public void begin() {
+        super.begin();
+        currentTexture = null;
+        if (isShaderActive()) {
+            applyStyle();
+            setDistanceFieldPage(false, true);
+        }
+    }
+    
+    @Override
+    public void end() {
+        super.end();
+        currentTexture = null;
+    }
+    
+    @Override
+    protected void switchTexture(Texture texture) {
+        super.switchTexture(texture);
+        currentTexture = texture;
+        if (isShaderActive()) {
+            updatePage(texture, false);
+        }
+    }
+    
+    @Override
+    public void setShader(ShaderProgram shader) {
+        boolean wasActive = isShaderActive();
+        super.setShader(shader);
+        
+        // Al volver al shader combinado se restaura su estado
+        if (isDrawing() && !wasActive && isShaderActive()) {
+            applyStyle();
+            updatePage(currentTexture, true);
+        }
+    }
+    
+    private boolean isShaderActive() {
+        return distanceFieldShader != null && getShader() == distanceFieldShader;
+    }
+    
+    private void updatePage(Texture texture, boolean force) {
+        boolean page = texture instanceof DistanceField.PageTexture;
+        setDistanceFieldPage(page, force);
+        if (page) {
+            distanceFieldShader.setUniformf("u_shadowOffset",
+                FontSpec.SHADOW_OFFSET / (float) texture.getWidth(),
+                FontSpec.SHADOW_OFFSET / (float) texture.getHeight());
+        }
+    }
+    
+    private void setDistanceFieldPage(boolean page, boolean force) {
+        if (page == distanceFieldPage && !force) return;
+        
+        distanceFieldPage = page;
+        distanceFieldShader.setUniformf("u_distanceField", page ? 1f : 0f);
+    }
+    
+    /**
+     * Borde y sombra de FontSpec (se reaplican en cada begin: los
+     * uniforms se pierden si el contexto GL se recrea)
+     */
+    private void applyStyle() {
+        // Umbral del borde: BORDER_WIDTH px del atlas fuera del contorno
+        float outline = 0.5f - FontSpec.BORDER_WIDTH / (2f * FontSpec.DISTANCE_FIELD_SPREAD);
+        distanceFieldShader.setUniformf("u_outline", outline);
+        distanceFieldShader.setUniformf("u_outlineColor", FontSpec.BORDER_COLOR);
+        distanceFieldShader.setUniformf("u_shadowColor", FontSpec.SHADOW_COLOR);
+    }
+    
+    @Override
+    public void dispose() {
+        super.dispose();
+        // No es propiedad del SpriteBatch
+        if (distanceFieldShader != null) {
+            distanceFieldShader.dispose();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.FileTextureData;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.darkphoenixteam.kawaiinekomemory.config.AssetPaths;
+import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+
+/**
+ * Atlas de miniaturas de todas las cartas (más el reverso) en una textura
+ * 
+ * - Rejilla fija de THUMB_COLS columnas: la región de cada carta se calcula,
+ *   no hace falta archivo .atlas
+ * - Primera ejecución: se decodifican las 36 imágenes en BackgroundWorker,
+ *   se reducen sobre una sola hoja y se guarda en almacenamiento local (CIM)
+ * - Siguientes ejecuciones: se lee la hoja cacheada (sin decodificar PNG)
+ * - En el hilo GL solo hay una subida de textura; la textura es gestionada
+ *   (se recarga desde la caché si se pierde el contexto)
+ * - Cada carta se encaja en su celda sin deformar: el arte de las barajas
+ *   no tiene toda la misma proporción (256x384 y 256x284), el sobrante
+ *   queda transparente
+ * 
+ * El arte a tamaño completo solo se carga para vistas de detalle
+ * (p. ej. el revelado simple del gacha).
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.1 - Miniaturas encajadas sin deformar (caché v2)
+ */
+public class ThumbnailAtlas implements Disposable {
+    
+    private static final String TAG = "ThumbnailAtlas";
+    
+    // Cambiar la versión invalida la caché (nuevo arte, nuevo tamaño)
+    private static final int CACHE_VERSION = 2;
+    private static final int THUMB_WIDTH = 96;     // Celda 2:3 (256x384 -> 96x144)
+    private static final int THUMB_HEIGHT = 144;
+    private static final int THUMB_COLS = 6;
+    private static final int BACK_INDEX = Constants.TOTAL_CARDS;
+    private static final int THUMB_COUNT = Constants.TOTAL_CARDS + 1;
+    
+    private static final String CACHE_PATH =
+        "cache/card_thumbs_v" + CACHE_VERSION + "_" + THUMB_WIDTH + "x" + THUMB_HEIGHT + ".cim";
+    
+    private static ThumbnailAtlas instance;
+    
+    private AsyncResult<Pixmap> pending;
+    private boolean cacheWritten;
+    private Texture texture;
+    private final TextureRegion[] regions = new TextureRegion[THUMB_COUNT];
+    
+    private ThumbnailAtlas() {
+    }
+    
+    public static ThumbnailAtlas getInstance() {
+        if (instance == null) {
+            instance = new ThumbnailAtlas();
+        }
+        return instance;
+    }
+    
+    // ==================== PREPARACIÓN ====================
+    
+    /**
+     * Empieza a preparar la hoja en segundo plano (idempotente).
+     * Llamar pronto (arranque) para que las pantallas la encuentren lista.
+     */
+    public void prepareAsync() {
+        if (texture != null || pending != null) return;
+        
+        pending = BackgroundWorker.getInstance().submit(() -> {
+            StartupTracer.getInstance().begin("ThumbnailAtlas.sheet");
+            try {
+                return loadOrBuildSheet();
+            } finally {
+                StartupTracer.getInstance().end();
+            }
+        });
+    }
+    
+    /**
+     * true si la textura ya está subida. Sube la hoja si terminó de prepararse.
+     */
+    public boolean isReady() {
+        if (texture == null && pending != null && pending.isDone()) {
+            upload();
+        }
+        return texture != null;
+    }
+    
+    /**
+     * Garantiza la textura (bloquea si la preparación sigue en curso)
+     */
+    private void ensureLoaded() {
+        if (texture != null) return;
+        
+        prepareAsync();
+        upload();
+    }
+    
+    /**
+     * Se ejecuta en BackgroundWorker: sin llamadas GL
+     */
+    private Pixmap loadOrBuildSheet() {
+        long start = System.nanoTime();
+        FileHandle cache = getCacheFile();
+        
+        if (cache != null && cache.exists()) {
+            try {
+                Pixmap sheet = PixmapIO.readCIM(cache);
+                if (sheet.getWidth() == THUMB_COLS * THUMB_WIDTH) {
+                    cacheWritten = true;
+                    Gdx.app.log(TAG, "Hoja leída de caché en " + elapsedMs(start) + "ms");
+                    return sheet;
+                }
+                sheet.dispose();
+            } catch (Exception e) {
+                Gdx.app.error(TAG, "Caché inválida, regenerando: " + e.getMessage());
+            }
+        }
+        
+        Pixmap sheet = buildSheet();
+        
+        if (cache != null) {
+            try {
+                PixmapIO.writeCIM(cache, sheet);
+                cacheWritten = true;
+            } catch (Exception e) {
+                Gdx.app.error(TAG, "No se pudo guardar la caché: " + e.getMessage());
+            }
+        }
+        
+        Gdx.app.log(TAG, "Hoja generada (" + THUMB_COUNT + " miniaturas) en " + elapsedMs(start) + "ms");
+        return sheet;
+    }
+    
+    private Pixmap buildSheet() {
+        int rows = (THUMB_COUNT + THUMB_COLS - 1) / THUMB_COLS;
+        Pixmap sheet = new Pixmap(THUMB_COLS * THUMB_WIDTH, rows * THUMB_HEIGHT, Pixmap.Format.RGBA8888);
+        sheet.setBlending(Pixmap.Blending.None);
+        sheet.setFilter(Pixmap.Filter.BiLinear);
+        
+        for (int i = 0; i < THUMB_COUNT; i++) {
+            String path = (i == BACK_INDEX)
+                ? AssetPaths.CARD_BACK
+                : AssetPaths.getCardPath(SaveManager.getDeckFromCardId(i), SaveManager.getCardIndexFromCardId(i));
+            
+            Pixmap source = null;
+            try {
+                source = new Pixmap(Gdx.files.internal(path));
+                int srcWidth = source.getWidth();
+                int srcHeight = source.getHeight();
+                // Escala común a los dos ejes y centrado (256x284 -> 96x107)
+                float scale = Math.min((float) THUMB_WIDTH / srcWidth, (float) THUMB_HEIGHT / srcHeight);
+                int width = Math.max(1, Math.round(srcWidth * scale));
+                int height = Math.max(1, Math.round(srcHeight * scale));
+                sheet.drawPixmap(source, 0, 0, srcWidth, srcHeight,
+                                 cellX(i) + (THUMB_WIDTH - width) / 2,
+                                 cellY(i) + (THUMB_HEIGHT - height) / 2,
+                                 width, height);
+            } catch (Exception e) {
+                Gdx.app.error(TAG, "Error leyendo " + path + " - " + e.getMessage());
+            } finally {
+                if (source != null) source.dispose();
+            }
+        }
+        return sheet;
+    }
+    
+    /**
+     * Recoge la hoja preparada y la sube (hilo GL)
+     */
+    private void upload() {
+        Pixmap sheet = null;
+        try {
+            sheet = pending != null ? pending.get() : null;
+        } catch (Exception e) {
+            Gdx.app.error(TAG, "Error preparando miniaturas: " + e.getMessage());
+        }
+        pending = null;
+        
+        if (sheet == null) {
+            sheet = buildSheet();
+        }
+        
+        FileHandle cache = getCacheFile();
+        if (cacheWritten && cache != null) {
+            // Gestionada: tras perder el contexto se recarga desde la caché
+            texture = new Texture(new FileTextureData(cache, sheet, null, false));
+        } else {
+            texture = new Texture(sheet);
+            sheet.dispose();
+        }
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        
+        for (int i = 0; i < THUMB_COUNT; i++) {
+            regions[i] = new TextureRegion(texture, cellX(i), cellY(i), THUMB_WIDTH, THUMB_HEIGHT);
+        }
+    }
+    
+    // ==================== ACCESO ====================
+    
+    /**
+     * Miniatura de una carta (0-34), o null si el ID no es válido
+     */
+    public TextureRegion getThumbnail(int cardId) {
+        if (cardId < 0 || cardId >= Constants.TOTAL_CARDS) return null;
+        ensureLoaded();
+        return regions[cardId];
+    }
+    
+    public TextureRegion getBack() {
+        ensureLoaded();
+        return regions[BACK_INDEX];
+    }
+    
+    // ==================== INTERNOS ====================
+    
+    private static int cellX(int index) {
+        return (index % THUMB_COLS) * THUMB_WIDTH;
+    }
+    
+    private static int cellY(int index) {
+        return (index / THUMB_COLS) * THUMB_HEIGHT;
+    }
+    
+    private static FileHandle getCacheFile() {
+        return Gdx.files.isLocalStorageAvailable() ? Gdx.files.local(CACHE_PATH) : null;
+    }
+    
+    private static long elapsedMs(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000L;
+    }
+    
+    // ==================== LIFECYCLE ====================
+    
+    @Override
+    public void dispose() {
+        if (pending != null) {
+            try {
+                Pixmap sheet = pending.get();
+                if (sheet != null) sheet.dispose();
+            } catch (Exception ignored) {
+            }
+            pending = null;
+        }
+        if (texture != null) {
+            texture.dispose();
+            texture = null;
+        }
+        Gdx.app.log(TAG, "Liberado");
+    }
+    
+    public static void reset() {
+        if (instance != null) {
+            instance.dispose();
+            instance = null;
+        }
+    }
+}
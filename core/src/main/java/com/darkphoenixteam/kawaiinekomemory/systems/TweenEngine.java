@@ -0,0 +1,235 @@
+package com.darkphoenixteam.kawaiinekomemory.systems;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.Interpolation;
+
+/**
+ * Motor de tweens con slots reutilizables (sin objetos por animación)
+ * 
+ * Cada tween es un slot en arrays primitivos paralelos: objetivo, canal,
+ * valor inicial, cambio, duración, tiempo transcurrido e Interpolation.
+ * update() recorre todos los slots en un solo bucle y escribe el valor
+ * en el objetivo vía Target.onTweenUpdate(canal, valor).
+ * 
+ * Reglas:
+ * - Un objetivo solo tiene un tween por canal: start() sobre un canal
+ *   ocupado reemplaza el anterior (sin callback de fin)
+ * - kill() y los tweens terminados se compactan al final de update()
+ * - Los arrays solo crecen si se supera la capacidad inicial
+ * 
+ * No es singleton: cada pantalla tiene el suyo (ver BaseScreen).
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class TweenEngine {
+    
+    private static final String TAG = "TweenEngine";
+    
+    /**
+     * Receptor de los valores de un tween
+     */
+    public interface Target {
+        void onTweenUpdate(int channel, float value);
+        
+        /**
+         * El tween del canal llegó a su valor final
+         */
+        void onTweenComplete(int channel);
+    }
+    
+    // === SLOTS (struct-of-arrays) ===
+    private Target[] targets;
+    private int[] channels;
+    private float[] from;
+    private float[] change;
+    private float[] duration;
+    private float[] elapsed;
+    private Interpolation[] easing;
+    private boolean[] alive;
+    private int count;
+    
+    private boolean updating;
+    
+    public TweenEngine(int initialCapacity) {
+        allocate(Math.max(8, initialCapacity));
+    }
+    
+    private void allocate(int capacity) {
+        targets = new Target[capacity];
+        channels = new int[capacity];
+        from = new float[capacity];
+        change = new float[capacity];
+        duration = new float[capacity];
+        elapsed = new float[capacity];
+        easing = new Interpolation[capacity];
+        alive = new boolean[capacity];
+    }
+    
+    // ==================== API ====================
+    
+    /**
+     * Inicia (o reemplaza) el tween de target/channel.
+     * El primer valor se escribe en el siguiente update().
+     */
+    public void start(Target target, int channel, float fromValue, float toValue,
+                      float seconds, Interpolation interpolation) {
+        if (target == null) return;
+        
+        int slot = find(target, channel);
+        if (slot < 0) {
+            if (count == targets.length) {
+                grow();
+            }
+            slot = count++;
+        }
+        
+        targets[slot] = target;
+        channels[slot] = channel;
+        from[slot] = fromValue;
+        change[slot] = toValue - fromValue;
+        duration[slot] = Math.max(0.0001f, seconds);
+        elapsed[slot] = 0f;
+        easing[slot] = interpolation != null ? interpolation : Interpolation.linear;
+        alive[slot] = true;
+    }
+    
+    /**
+     * Cancela el tween de target/channel (el valor queda donde esté)
+     */
+    public void kill(Target target, int channel) {
+        int slot = find(target, channel);
+        if (slot >= 0) {
+            alive[slot] = false;
+            if (!updating) compact();
+        }
+    }
+    
+    /**
+     * Cancela todos los tweens de un objetivo (p. ej. al devolverlo al pool)
+     */
+    public void killAll(Target target) {
+        boolean found = false;
+        for (int i = 0; i < count; i++) {
+            if (alive[i] && targets[i] == target) {
+                alive[i] = false;
+                found = true;
+            }
+        }
+        if (found && !updating) compact();
+    }
+    
+    public boolean isRunning(Target target, int channel) {
+        return find(target, channel) >= 0;
+    }
+    
+    public void clear() {
+        for (int i = 0; i < count; i++) {
+            targets[i] = null;
+            easing[i] = null;
+            alive[i] = false;
+        }
+        count = 0;
+    }
+    
+    public int getActiveCount() {
+        return count;
+    }
+    
+    // ==================== UPDATE ====================
+    
+    /**
+     * Avanza todos los tweens. Pensado para el paso fijo de BaseScreen.
+     * Los tweens iniciados desde un callback empiezan en el siguiente update().
+     */
+    public void update(float delta) {
+        int end = count;
+        updating = true;
+        
+        for (int i = 0; i < end; i++) {
+            if (!alive[i]) continue;
+            
+            float time = elapsed[i] + delta;
+            elapsed[i] = time;
+            
+            float progress = time >= duration[i] ? 1f : time / duration[i];
+            Target target = targets[i];
+            int channel = channels[i];
+            
+            target.onTweenUpdate(channel, from[i] + change[i] * easing[i].apply(progress));
+            
+            // El callback puede haber reemplazado o cancelado este slot
+            if (progress >= 1f && alive[i] && targets[i] == target && elapsed[i] == time) {
+                alive[i] = false;
+                target.onTweenComplete(channel);
+            }
+        }
+        
+        updating = false;
+        compact();
+    }
+    
+    // ==================== INTERNOS ====================
+    
+    private int find(Target target, int channel) {
+        for (int i = 0; i < count; i++) {
+            if (alive[i] && targets[i] == target && channels[i] == channel) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Elimina los slots muertos conservando el orden de los vivos
+     */
+    private void compact() {
+        int write = 0;
+        for (int read = 0; read < count; read++) {
+            if (!alive[read]) continue;
+            
+            if (write != read) {
+                targets[write] = targets[read];
+                channels[write] = channels[read];
+                from[write] = from[read];
+                change[write] = change[read];
+                duration[write] = duration[read];
+                elapsed[write] = elapsed[read];
+                easing[write] = easing[read];
+                alive[write] = true;
+            }
+            write++;
+        }
+        for (int i = write; i < count; i++) {
+            targets[i] = null;
+            easing[i] = null;
+            alive[i] = false;
+        }
+        count = write;
+    }
+    
+    private void grow() {
+        int capacity = targets.length * 2;
+        
+        Target[] oldTargets = targets;
+        int[] oldChannels = channels;
+        float[] oldFrom = from;
+        float[] oldChange = change;
+        float[] oldDuration = duration;
+        float[] oldElapsed = elapsed;
+        Interpolation[] oldEasing = easing;
+        boolean[] oldAlive = alive;
+        
+        allocate(capacity);
+        System.arraycopy(oldTargets, 0, targets, 0, count);
+        System.arraycopy(oldChannels, 0, channels, 0, count);
+        System.arraycopy(oldFrom, 0, from, 0, count);
+        System.arraycopy(oldChange, 0, change, 0, count);
+        System.arraycopy(oldDuration, 0, duration, 0, count);
+        System.arraycopy(oldElapsed, 0, elapsed, 0, count);
+        System.arraycopy(oldEasing, 0, easing, 0, count);
+        System.arraycopy(oldAlive, 0, alive, 0, count);
+        
+        Gdx.app.log(TAG, "Capacidad ampliada a " + capacity);
+    }
+}
@@ -0,0 +1,425 @@
+package com.darkphoenixteam.kawaiinekomemory.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.StringBuilder;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.systems.BackgroundWorker;
+import com.darkphoenixteam.kawaiinekomemory.systems.SharedAssetManager;
+
+/**
+ * Overlay de rendimiento (debug), dibujado por BaseScreen encima de draw()
+ * 
+ * Muestra FPS, histograma de tiempos de frame con p50/p95/p99, contadores
+ * de GLProfiler (draw calls, bindings de textura, cambios de shader,
+ * vértices), heap Java, heap nativo, bytes residentes de
+ * SharedAssetManager y la pantalla actual.
+ * 
+ * Coste:
+ * - Desactivado: BaseScreen solo consulta isEnabled(); el GLProfiler
+ *   no intercepta GL
+ * - Activado: un registro por frame en arrays fijos; memoria, textos y
+ *   percentiles se recalculan a REFRESH_HZ (sin objetos por frame)
+ * 
+ * Controles: F3 o toque con cuatro dedos lo activa; F4 o toque con tres
+ * dedos (activado) guarda en CSV los últimos CSV_SECONDS segundos.
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class PerfOverlay implements Disposable {
+    
+    private static final String TAG = "PerfOverlay";
+    
+    // === HISTOGRAMA ===
+    private static final float BUCKET_MS = 0.5f;
+    private static final int BUCKETS = 80;                // 0-40 ms, el último acumula el resto
+    private static final int HISTOGRAM_FRAMES = 600;      // Ventana móvil (~10 s a 60 fps)
+    
+    // === CSV ===
+    public static final int CSV_SECONDS = 10;
+    private static final int CSV_FRAMES = CSV_SECONDS * 120;   // Hasta 120 fps
+    
+    // === REFRESCO DE TEXTO Y MEMORIA ===
+    private static final float REFRESH_HZ = 4f;
+    
+    // === LAYOUT (mundo virtual) ===
+    private static final float MARGIN = 6f;
+    private static final float PADDING = 6f;
+    private static final float BAR_WIDTH = 3f;
+    private static final float HISTOGRAM_HEIGHT = 50f;
+    private static final float PANEL_WIDTH = BUCKETS * BAR_WIDTH + PADDING * 2f;
+    
+    private static final float BUDGET_60_MS = 1000f / 60f;
+    private static final float BUDGET_30_MS = 1000f / 30f;
+    
+    private final GLProfiler profiler = new GLProfiler(Gdx.graphics);
+    private boolean enabled;
+    
+    // === VENTANA DEL HISTOGRAMA ===
+    private final int[] bucketCounts = new int[BUCKETS];
+    private final byte[] frameBuckets = new byte[HISTOGRAM_FRAMES];
+    private int histogramHead;
+    private int histogramSize;
+    
+    // === REGISTRO PARA CSV (struct-of-arrays) ===
+    private final long[] rowTime = new long[CSV_FRAMES];
+    private final float[] rowFrameMs = new float[CSV_FRAMES];
+    private final int[] rowDrawCalls = new int[CSV_FRAMES];
+    private final int[] rowTextureBindings = new int[CSV_FRAMES];
+    private final int[] rowShaderSwitches = new int[CSV_FRAMES];
+    private final int[] rowVertices = new int[CSV_FRAMES];
+    private final long[] rowJavaHeap = new long[CSV_FRAMES];
+    private final long[] rowNativeHeap = new long[CSV_FRAMES];
+    private final long[] rowResident = new long[CSV_FRAMES];
+    private final String[] rowScreen = new String[CSV_FRAMES];
+    private int rowHead;
+    private int rowSize;
+    
+    // === ÚLTIMOS VALORES ===
+    private int drawCalls;
+    private int textureBindings;
+    private int shaderSwitches;
+    private int vertices;
+    private long javaHeap;
+    private long nativeHeap;
+    private long residentBytes;
+    private float overlayMs;
+    private float refreshTimer;
+    
+    // === DIBUJO ===
+    private final StringBuilder text = new StringBuilder(256);
+    private final GlyphLayout layout = new GlyphLayout();
+    private final Matrix4 projection = new Matrix4();
+    private BitmapFont layoutFont;
+    private String screenName = "";
+    private Object lastScreen;
+    private Texture pixel;
+    private int maxBucketCount;
+    
+    public PerfOverlay() {
+        projection.setToOrtho2D(0, 0, Constants.VIRTUAL_WIDTH, Constants.VIRTUAL_HEIGHT);
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    public void toggle() {
+        setEnabled(!enabled);
+    }
+    
+    public void setEnabled(boolean enabled) {
+        if (this.enabled == enabled) return;
+        this.enabled = enabled;
+        
+        if (enabled) {
+            // Ventanas vacías: no mezclar con una sesión anterior
+            histogramHead = 0;
+            histogramSize = 0;
+            rowHead = 0;
+            rowSize = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                bucketCounts[i] = 0;
+            }
+            refreshTimer = 0f;
+            profiler.reset();
+            profiler.enable();
+        } else {
+            profiler.disable();
+        }
+        Gdx.app.log(TAG, enabled ? "Activado" : "Desactivado");
+    }
+    
+    // ==================== FRAME ====================
+    
+    /**
+     * Registra el frame y dibuja el overlay. Llamar al final de render(),
+     * con el batch cerrado: los contadores de GL son solo los del juego.
+     *
+     * @param screen pantalla que acaba de dibujar
+     * @param font fuente del texto (la pequeña del FontManager)
+     */
+    public void endFrame(Object screen, SpriteBatch batch, BitmapFont font) {
+        if (!enabled) return;
+        long start = TimeUtils.nanoTime();
+        
+        // Contadores del frame, antes de dibujar el overlay
+        drawCalls = profiler.getDrawCalls();
+        textureBindings = profiler.getTextureBindings();
+        shaderSwitches = profiler.getShaderSwitches();
+        vertices = (int) profiler.getVertexCount().total;
+        
+        // Delta real (BaseScreen recorta los picos para la simulación)
+        float delta = Gdx.graphics.getDeltaTime();
+        float frameMs = delta * 1000f;
+        
+        refreshTimer -= delta;
+        boolean refresh = refreshTimer <= 0f || font != layoutFont || screen != lastScreen;
+        if (refresh) {
+            refreshTimer = 1f / REFRESH_HZ;
+            sampleMemory(screen);
+        }
+        
+        addToHistogram(frameMs);
+        record(frameMs);
+        
+        if (refresh) {
+            rebuildText(font);
+        }
+        draw(batch, font);
+        
+        // El dibujo del overlay no cuenta para el frame siguiente
+        profiler.reset();
+        
+        float cost = (TimeUtils.nanoTime() - start) / 1_000_000f;
+        overlayMs += (cost - overlayMs) * 0.1f;
+    }
+    
+    private void sampleMemory(Object screen) {
+        javaHeap = Gdx.app.getJavaHeap();
+        nativeHeap = Gdx.app.getNativeHeap();
+        residentBytes = SharedAssetManager.getInstance().getResidentBytes();
+        
+        if (screen != lastScreen) {
+            lastScreen = screen;
+            screenName = screen != null ? screen.getClass().getSimpleName() : "-";
+        }
+    }
+    
+    private void addToHistogram(float frameMs) {
+        int bucket = (int) (frameMs / BUCKET_MS);
+        if (bucket >= BUCKETS) bucket = BUCKETS - 1;
+        if (bucket < 0) bucket = 0;
+        
+        if (histogramSize == HISTOGRAM_FRAMES) {
+            // Sale de la ventana el frame más antiguo
+            bucketCounts[frameBuckets[histogramHead]]--;
+        } else {
+            histogramSize++;
+        }
+        frameBuckets[histogramHead] = (byte) bucket;
+        histogramHead = (histogramHead + 1) % HISTOGRAM_FRAMES;
+        bucketCounts[bucket]++;
+    }
+    
+    private void record(float frameMs) {
+        int slot = (rowHead + rowSize) % CSV_FRAMES;
+        if (rowSize == CSV_FRAMES) {
+            rowHead = (rowHead + 1) % CSV_FRAMES;
+        } else {
+            rowSize++;
+        }
+        rowTime[slot] = TimeUtils.millis();
+        rowFrameMs[slot] = frameMs;
+        rowDrawCalls[slot] = drawCalls;
+        rowTextureBindings[slot] = textureBindings;
+        rowShaderSwitches[slot] = shaderSwitches;
+        rowVertices[slot] = vertices;
+        rowJavaHeap[slot] = javaHeap;
+        rowNativeHeap[slot] = nativeHeap;
+        rowResident[slot] = residentBytes;
+        rowScreen[slot] = screenName;
+    }
+    
+    /**
+     * Límite superior (ms) del bucket donde cae el percentil
+     */
+    private float percentile(float fraction) {
+        if (histogramSize == 0) return 0f;
+        int target = (int) Math.ceil(histogramSize * fraction);
+        int seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += bucketCounts[i];
+            if (seen >= target) {
+                return (i + 1) * BUCKET_MS;
+            }
+        }
+        return BUCKETS * BUCKET_MS;
+    }
+    
+    // ==================== DIBUJO ====================
+    
+    private void rebuildText(BitmapFont font) {
+        maxBucketCount = 1;
+        for (int i = 0; i < BUCKETS; i++) {
+            if (bucketCounts[i] > maxBucketCount) {
+                maxBucketCount = bucketCounts[i];
+            }
+        }
+        
+        text.setLength(0);
+        text.append("FPS ").append(Gdx.graphics.getFramesPerSecond());
+        text.append("  p50 ");
+        appendTenths(percentile(0.50f));
+        text.append(" p95 ");
+        appendTenths(percentile(0.95f));
+        text.append(" p99 ");
+        appendTenths(percentile(0.99f));
+        text.append(" ms\n");
+        
+        text.append("draw ").append(drawCalls);
+        text.append("  tex ").append(textureBindings);
+        text.append("  shader ").append(shaderSwitches);
+        text.append("  vert ").append(vertices).append('\n');
+        
+        text.append("heap ");
+        appendMegabytes(javaHeap);
+        text.append("  nativo ");
+        appendMegabytes(nativeHeap);
+        text.append("  GPU ");
+        appendMegabytes(residentBytes);
+        text.append('\n');
+        
+        text.append(screenName).append("  overlay ");
+        appendHundredths(overlayMs);
+        text.append(" ms");
+        
+        layoutFont = font;
+        if (font != null) {
+            layout.setText(font, text, Color.WHITE, PANEL_WIDTH - PADDING * 2f, Align.left, false);
+        } else {
+            layout.reset();
+        }
+    }
+    
+    private void appendTenths(float value) {
+        int tenths = Math.round(value * 10f);
+        text.append(tenths / 10).append('.').append(tenths % 10);
+    }
+    
+    private void appendHundredths(float value) {
+        int hundredths = Math.round(value * 100f);
+        text.append(hundredths / 100).append('.');
+        if (hundredths % 100 < 10) text.append('0');
+        text.append(hundredths % 100);
+    }
+    
+    private void appendMegabytes(long bytes) {
+        appendTenths(bytes / (1024f * 1024f));
+        text.append(" MB");
+    }
+    
+    private void draw(SpriteBatch batch, BitmapFont font) {
+        if (pixel == null) {
+            Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+            pixmap.setColor(Color.WHITE);
+            pixmap.fill();
+            pixel = new Texture(pixmap);
+            pixmap.dispose();
+        }
+        
+        float panelHeight = PADDING * 3f + layout.height + HISTOGRAM_HEIGHT;
+        float left = MARGIN;
+        float top = Constants.VIRTUAL_HEIGHT - MARGIN;
+        float bottom = top - panelHeight;
+        
+        float oldColor = batch.getPackedColor();
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        
+        // Fondo
+        batch.setColor(0f, 0f, 0f, 0.65f);
+        batch.draw(pixel, left, bottom, PANEL_WIDTH, panelHeight);
+        
+        // Histograma: verde dentro de 60 fps, amarillo hasta 30 fps, rojo el resto
+        float barsX = left + PADDING;
+        float barsY = bottom + PADDING;
+        for (int i = 0; i < BUCKETS; i++) {
+            int count = bucketCounts[i];
+            if (count == 0) continue;
+            float upperMs = (i + 1) * BUCKET_MS;
+            if (upperMs <= BUDGET_60_MS) {
+                batch.setColor(0.4f, 0.9f, 0.4f, 0.9f);
+            } else if (upperMs <= BUDGET_30_MS) {
+                batch.setColor(0.95f, 0.85f, 0.3f, 0.9f);
+            } else {
+                batch.setColor(0.95f, 0.35f, 0.35f, 0.9f);
+            }
+            float height = Math.max(1f, HISTOGRAM_HEIGHT * Math.min(1f, count / (float) maxBucketCount));
+            batch.draw(pixel, barsX + i * BAR_WIDTH, barsY, BAR_WIDTH - 1f, height);
+        }
+        
+        // Presupuesto de 60 fps
+        batch.setColor(1f, 1f, 1f, 0.5f);
+        batch.draw(pixel, barsX + (BUDGET_60_MS / BUCKET_MS) * BAR_WIDTH, barsY, 1f, HISTOGRAM_HEIGHT);
+        
+        batch.setPackedColor(oldColor);
+        if (font != null) {
+            font.draw(batch, layout, left + PADDING, top - PADDING);
+        }
+        
+        batch.end();
+    }
+    
+    // ==================== CSV ====================
+    
+    /**
+     * Guarda en un CSV local los frames de los últimos segundos.
+     * Se compone en este hilo y se escribe en BackgroundWorker.
+     */
+    public void dumpCsv(int seconds) {
+        if (!enabled || rowSize == 0) {
+            Gdx.app.log(TAG, "Sin frames registrados para el CSV");
+            return;
+        }
+        
+        long since = TimeUtils.millis() - seconds * 1000L;
+        final java.lang.StringBuilder csv = new java.lang.StringBuilder(rowSize * 64);
+        csv.append("time_ms,frame_ms,draw_calls,texture_bindings,shader_switches,vertices,")
+           .append("java_heap,native_heap,resident_bytes,screen\n");
+        
+        int rows = 0;
+        for (int i = 0; i < rowSize; i++) {
+            int slot = (rowHead + i) % CSV_FRAMES;
+            if (rowTime[slot] < since) continue;
+            csv.append(rowTime[slot]).append(',')
+               .append(rowFrameMs[slot]).append(',')
+               .append(rowDrawCalls[slot]).append(',')
+               .append(rowTextureBindings[slot]).append(',')
+               .append(rowShaderSwitches[slot]).append(',')
+               .append(rowVertices[slot]).append(',')
+               .append(rowJavaHeap[slot]).append(',')
+               .append(rowNativeHeap[slot]).append(',')
+               .append(rowResident[slot]).append(',')
+               .append(rowScreen[slot]).append('\n');
+            rows++;
+        }
+        
+        final String fileName = "perf_" + TimeUtils.millis() + ".csv";
+        final int rowCount = rows;
+        BackgroundWorker.getInstance().submit(() -> {
+            try {
+                Gdx.files.local(fileName).writeString(csv.toString(), false, "UTF-8");
+                Gdx.app.log(TAG, "CSV guardado: " + fileName + " (" + rowCount + " frames)");
+            } catch (Exception e) {
+                Gdx.app.error(TAG, "Error guardando " + fileName, e);
+            }
+            return null;
+        });
+    }
+    
+    // ==================== LIFECYCLE ====================
+    
+    @Override
+    public void dispose() {
+        if (enabled) {
+            profiler.disable();
+            enabled = false;
+        }
+        if (pixel != null) {
+            pixel.dispose();
+            pixel = null;
+        }
+    }
+}
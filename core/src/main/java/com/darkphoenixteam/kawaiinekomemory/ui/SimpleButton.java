@@ -1,14 +1,12 @@
 package com.darkphoenixteam.kawaiinekomemory.ui;
 
-import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.viewport.Viewport;
+import com.badlogic.gdx.utils.TimeUtils;
 
 /**
  * Botón simple con detección de toques y sistema de debounce
@@ -19,8 +17,12 @@ import com.badlogic.gdx.utils.viewport.Viewport;
  * - Color reutilizable para evitar GC pressure
  * - Texto mutable para cambiar dinámicamente
  * 
+ * v3.0: sin polling. La pantalla le entrega los toques ya desproyectados
+ * (touchDown/touchUp) y el cooldown es un timestamp: un botón en reposo
+ * no hace trabajo por frame.
+ * 
  * @author DarkphoenixTeam
- * @version 2.1
+ * @version 3.0 - Input por eventos
  */
 public class SimpleButton {
     
@@ -28,7 +30,7 @@ public class SimpleButton {
     
     // === DEBOUNCE CONFIG ===
     private static final float DEFAULT_COOLDOWN = 0.5f;
-    private float cooldownTimer = 0f;
+    private long cooldownEndNanos = 0L;
     
     // Texturas y bounds
     private Texture texture;
@@ -41,10 +43,6 @@ public class SimpleButton {
     
     // Estado del toque
     private boolean isPressed = false;
-    private boolean wasPressed = false;
-    
-    // Vector reutilizable
-    private final Vector2 touchPoint = new Vector2();
     
     // Color reutilizable (evita crear objetos cada frame)
     private final Color savedColor = new Color();
@@ -88,33 +86,26 @@ public class SimpleButton {
     }
     
     /**
-     * Actualiza el estado del botón con sistema de debounce
+     * Toque nuevo en coordenadas de mundo.
+     * @return true si el toque cayó sobre el botón (aunque esté en cooldown)
      */
-    public void update(Viewport viewport) {
-        float delta = Gdx.graphics.getDeltaTime();
-        
-        if (cooldownTimer > 0) {
-            cooldownTimer -= delta;
-            isPressed = false;
-            wasPressed = false;
-            return;
+    public boolean touchDown(float x, float y) {
+        if (!bounds.contains(x, y)) {
+            return false;
         }
         
-        isPressed = false;
-        
-        if (Gdx.input.isTouched()) {
-            viewport.unproject(touchPoint.set(Gdx.input.getX(), Gdx.input.getY()));
-            
-            if (bounds.contains(touchPoint.x, touchPoint.y)) {
-                isPressed = true;
-                
-                if (!wasPressed) {
-                    triggerClick();
-                }
-            }
+        if (!isOnCooldown()) {
+            isPressed = true;
+            triggerClick();
         }
-        
-        wasPressed = isPressed;
+        return true;
+    }
+    
+    /**
+     * Fin del toque: suelta el estado visual de presionado
+     */
+    public void touchUp() {
+        isPressed = false;
     }
     
     /**
@@ -126,7 +117,7 @@ public class SimpleButton {
         // Guardar color original sin crear nuevo objeto
         savedColor.set(batch.getColor());
         
-        if (cooldownTimer > 0) {
+        if (isOnCooldown()) {
             batch.setColor(COLOR_COOLDOWN);
         } else if (isPressed) {
             batch.setColor(COLOR_PRESSED);
@@ -163,7 +154,7 @@ public class SimpleButton {
         
         savedColor.set(batch.getColor());
         
-        if (cooldownTimer > 0) {
+        if (isOnCooldown()) {
             batch.setColor(COLOR_COOLDOWN);
         } else if (isPressed) {
             batch.setColor(COLOR_PRESSED);
@@ -195,7 +186,7 @@ public class SimpleButton {
      * Dispara el evento de click y activa el cooldown
      */
     private void triggerClick() {
-        cooldownTimer = DEFAULT_COOLDOWN;
+        setCooldown(DEFAULT_COOLDOWN);
         
         if (onClick != null) {
             onClick.run();
@@ -206,21 +197,21 @@ public class SimpleButton {
      * Fuerza el reset del cooldown
      */
     public void resetCooldown() {
-        cooldownTimer = 0f;
+        cooldownEndNanos = 0L;
     }
     
     /**
      * Verifica si el botón está en cooldown
      */
     public boolean isOnCooldown() {
-        return cooldownTimer > 0;
+        return TimeUtils.nanoTime() < cooldownEndNanos;
     }
     
     /**
      * Establece un cooldown personalizado
      */
     public void setCooldown(float seconds) {
-        cooldownTimer = seconds;
+        cooldownEndNanos = TimeUtils.nanoTime() + (long) (seconds * 1_000_000_000L);
     }
     
     /**
@@ -264,7 +255,7 @@ public class SimpleButton {
     }
     
     public float getCooldownRemaining() {
-        return cooldownTimer;
+        return Math.max(0L, cooldownEndNanos - TimeUtils.nanoTime()) / 1_000_000_000f;
     }
     
     public String getText() {
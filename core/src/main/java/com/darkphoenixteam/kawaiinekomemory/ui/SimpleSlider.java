@@ -6,7 +6,6 @@ import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
 
 /**
  * Slider personalizado para controles de volumen
@@ -17,8 +16,13 @@ import com.badlogic.gdx.math.Vector2;
  * - Rectangle del touch area reutilizable (evita GC)
  * - Log reducido (solo en inicio/fin de drag)
  * 
+ * v3.0: recibe eventos (touchDown/touchDragged/touchUp) en lugar de
+ * consultar el estado del toque cada frame
+ * 
+ * v3.1: callback de fin de arrastre (para guardar una vez, no por evento)
+ * 
  * @author DarkphoenixTeam
- * @version 2.1
+ * @version 3.1 - Fin de arrastre
  */
 public class SimpleSlider {
     
@@ -46,8 +50,9 @@ public class SimpleSlider {
     private float value;
     private boolean isDragging;
     
-    // Callback
+    // Callbacks
     private ValueChangedListener listener;
+    private Runnable dragEndListener;
     
     /**
      * Interface para callback de cambio de valor
@@ -89,39 +94,61 @@ public class SimpleSlider {
     }
     
     /**
-     * Actualiza el estado del slider
+     * Toque nuevo: inicia el arrastre si cae en el área (con margen para el knob)
+     * @return true si el slider capturó el toque
      */
-    public void update(Vector2 touchPoint, boolean isTouched) {
-        if (isTouched) {
-            // Área de detección (incluye margen para el knob) — reutiliza el objeto
-            float touchPadding = knobSize * 0.5f;
-            touchArea.set(
-                bounds.x - touchPadding,
-                bounds.y - touchPadding,
-                bounds.width + (touchPadding * 2f),
-                bounds.height + (touchPadding * 2f)
-            );
-            
-            if (touchArea.contains(touchPoint.x, touchPoint.y) || isDragging) {
-                isDragging = true;
-                
-                // Calcular nuevo valor
-                float relativeX = touchPoint.x - bounds.x;
-                float newValue = MathUtils.clamp(relativeX / bounds.width, 0f, 1f);
-                
-                if (Math.abs(newValue - value) > 0.005f) {
-                    value = newValue;
-                    
-                    if (listener != null) {
-                        listener.onValueChanged(value);
-                    }
-                }
+    public boolean touchDown(float x, float y) {
+        // Área de detección — reutiliza el objeto
+        float touchPadding = knobSize * 0.5f;
+        touchArea.set(
+            bounds.x - touchPadding,
+            bounds.y - touchPadding,
+            bounds.width + (touchPadding * 2f),
+            bounds.height + (touchPadding * 2f)
+        );
+        
+        if (!touchArea.contains(x, y)) {
+            return false;
+        }
+        
+        isDragging = true;
+        updateValueFromTouch(x);
+        return true;
+    }
+    
+    /**
+     * Arrastre: solo tiene efecto si el toque empezó en el slider
+     */
+    public void touchDragged(float x, float y) {
+        if (isDragging) {
+            updateValueFromTouch(x);
+        }
+    }
+    
+    /**
+     * Fin del toque
+     */
+    public void touchUp() {
+        boolean wasDragging = isDragging;
+        isDragging = false;
+        if (wasDragging) {
+            Gdx.app.log(TAG, "Fin arrastre - valor: " + getPercentage() + "%");
+            if (dragEndListener != null) {
+                dragEndListener.run();
             }
-        } else {
-            if (isDragging) {
-                Gdx.app.log(TAG, "Fin arrastre - valor: " + getPercentage() + "%");
+        }
+    }
+    
+    private void updateValueFromTouch(float x) {
+        float relativeX = x - bounds.x;
+        float newValue = MathUtils.clamp(relativeX / bounds.width, 0f, 1f);
+        
+        if (Math.abs(newValue - value) > 0.005f) {
+            value = newValue;
+            
+            if (listener != null) {
+                listener.onValueChanged(value);
             }
-            isDragging = false;
         }
     }
     
@@ -176,6 +203,13 @@ public class SimpleSlider {
         this.listener = listener;
     }
     
+    /**
+     * Callback al soltar el slider tras arrastrarlo
+     */
+    public void setOnDragEnd(Runnable listener) {
+        this.dragEndListener = listener;
+    }
+    
     /**
      * Establece el valor (sin callback)
      */
@@ -0,0 +1,367 @@
+package com.darkphoenixteam.kawaiinekomemory.ui;
+
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.utils.ScissorStack;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+/**
+ * Rejilla virtualizada con scroll cinético
+ * 
+ * - Celdas de tamaño fijo: el rango visible se calcula, no se recorre la lista
+ * - Pool pequeño de celdas recicladas (filas visibles + 1): cada celda se
+ *   vincula a un índice con bind() y cachea ahí su texto (GlyphLayout),
+ *   así el coste por frame depende de las filas visibles, no del total
+ * - Scroll por arrastre con inercia (fricción exponencial), rueda y flechas
+ * - Un toque sin arrastre devuelve el índice tocado en touchUp()
+ * 
+ * Uso en draw(): prepareVisible(), y para i en [getFirstVisible(), getEndVisible())
+ * dibujar getCell(i) en getCellX(i) / getCellTop(i).
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class VirtualGrid<T extends VirtualGrid.Cell> {
+    
+    /**
+     * Renderer reciclable de una celda
+     */
+    public interface Cell {
+        /** Vincula la celda al elemento index (aquí se cachea el texto) */
+        void bind(int index);
+    }
+    
+    public interface CellFactory<T> {
+        T create();
+    }
+    
+    // === SCROLL CINÉTICO ===
+    private static final float FRICTION = 5f;            // 1/s, decaimiento exponencial
+    private static final float MIN_VELOCITY = 20f;       // px/s, por debajo se detiene
+    private static final float MAX_VELOCITY = 4000f;     // px/s
+    private static final float VELOCITY_SMOOTHING = 0.8f;
+    private static final float RELEASE_IDLE_TIME = 0.1f; // s quieto antes de soltar = sin inercia
+    private static final float TAP_SLOP = 12f;           // px de arrastre que aún cuentan como toque
+    private static final float WHEEL_ROWS = 2f;          // filas por muesca de rueda
+    
+    private final CellFactory<T> factory;
+    private final int columns;
+    protected float cellWidth;
+    private final float cellHeight;
+    private final float spacingX;
+    private final float spacingY;
+    
+    // Área visible (coordenadas del mundo virtual)
+    private float boundsX;
+    private float boundsY;
+    private float boundsWidth;
+    private float boundsHeight;
+    
+    private int itemCount;
+    
+    // === POOL ===
+    // El rango visible nunca supera la capacidad: slot = índice % capacidad
+    private final Array<T> cells = new Array<>();
+    private int[] boundIndex = new int[0];
+    private int capacity;
+    
+    // === ESTADO DE SCROLL ===
+    private float scroll;                 // 0 = arriba del todo
+    private float maxScroll;
+    private float velocity;
+    private boolean dragging;
+    private boolean tapCandidate;
+    private float lastTouchY;
+    private float dragDistance;
+    private long lastMoveTime;
+    
+    // === RANGO VISIBLE ===
+    private int firstVisible;
+    private int endVisible;
+    
+    // === CLIP ===
+    private final Rectangle clipArea = new Rectangle();
+    private final Rectangle scissor = new Rectangle();
+    private final Matrix4 identity = new Matrix4();
+    
+    public VirtualGrid(CellFactory<T> factory, int columns, float cellWidth, float cellHeight,
+                       float spacingX, float spacingY) {
+        this.factory = factory;
+        this.columns = Math.max(1, columns);
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.spacingX = spacingX;
+        this.spacingY = spacingY;
+    }
+    
+    // ==================== CONFIGURACIÓN ====================
+    
+    /**
+     * Área visible de la rejilla (x, y = esquina inferior izquierda)
+     */
+    public void setBounds(float x, float y, float width, float height) {
+        boundsX = x;
+        boundsY = y;
+        boundsWidth = width;
+        boundsHeight = height;
+        
+        ensureCapacity((int) Math.ceil(height / getRowPitch()) + 1);
+        updateMaxScroll();
+    }
+    
+    /**
+     * Cambia el número de elementos y desvincula todas las celdas
+     */
+    public void setItemCount(int count) {
+        itemCount = Math.max(0, count);
+        updateMaxScroll();
+        invalidate();
+    }
+    
+    /**
+     * Fuerza un nuevo bind() de las celdas (datos o idioma cambiados)
+     */
+    public void invalidate() {
+        for (int i = 0; i < boundIndex.length; i++) {
+            boundIndex[i] = -1;
+        }
+    }
+    
+    // ==================== SCROLL ====================
+    
+    /**
+     * Avanza la inercia. Llamar una vez por frame.
+     */
+    public void update(float delta) {
+        if (dragging || velocity == 0f) return;
+        
+        setScroll(scroll + velocity * delta);
+        velocity *= (float) Math.exp(-FRICTION * delta);
+        
+        if (Math.abs(velocity) < MIN_VELOCITY || scroll <= 0f || scroll >= maxScroll) {
+            velocity = 0f;
+        }
+    }
+    
+    /**
+     * Desplazamiento animado: la inercia recorre aproximadamente distance
+     */
+    public void flingBy(float distance) {
+        if (dragging) return;
+        velocity = clampVelocity(distance * FRICTION);
+    }
+    
+    /**
+     * Rueda del ratón: amountY > 0 baja la lista
+     */
+    public void scrolled(float amountY) {
+        flingBy(amountY * WHEEL_ROWS * getRowPitch());
+    }
+    
+    public void scrollToTop() {
+        velocity = 0f;
+        scroll = 0f;
+    }
+    
+    public boolean canScrollUp() {
+        return scroll > 0f;
+    }
+    
+    public boolean canScrollDown() {
+        return scroll < maxScroll;
+    }
+    
+    public float getVisibleHeight() {
+        return boundsHeight;
+    }
+    
+    // ==================== INPUT ====================
+    
+    /**
+     * @param time timestamp del evento (BaseScreen.getTouchEventTime)
+     * @return true si el toque cae dentro de la rejilla
+     */
+    public boolean touchDown(float x, float y, long time) {
+        if (!contains(x, y)) return false;
+        
+        // Tocar una lista en movimiento la detiene sin seleccionar
+        tapCandidate = Math.abs(velocity) < MIN_VELOCITY * 10f;
+        velocity = 0f;
+        dragging = true;
+        dragDistance = 0f;
+        lastTouchY = y;
+        lastMoveTime = time;
+        return true;
+    }
+    
+    public void touchDragged(float x, float y, long time) {
+        if (!dragging) return;
+        
+        // El contenido sigue al dedo: subir el dedo muestra los siguientes
+        float dy = y - lastTouchY;
+        setScroll(scroll + dy);
+        dragDistance += Math.abs(dy);
+        if (dragDistance > TAP_SLOP) {
+            tapCandidate = false;
+        }
+        
+        float dt = (time - lastMoveTime) / 1_000_000_000f;
+        if (dt > 0f) {
+            float instant = dy / dt;
+            velocity = clampVelocity(VELOCITY_SMOOTHING * instant + (1f - VELOCITY_SMOOTHING) * velocity);
+        }
+        lastTouchY = y;
+        lastMoveTime = time;
+    }
+    
+    /**
+     * @return índice tocado (toque sin arrastre), o -1
+     */
+    public int touchUp(float x, float y, long time) {
+        if (!dragging) return -1;
+        dragging = false;
+        
+        // Dedo quieto antes de soltar: sin inercia
+        if ((time - lastMoveTime) / 1_000_000_000f > RELEASE_IDLE_TIME) {
+            velocity = 0f;
+        }
+        
+        if (tapCandidate) {
+            velocity = 0f;
+            return hit(x, y);
+        }
+        return -1;
+    }
+    
+    /**
+     * Índice del elemento bajo (x, y), o -1
+     */
+    public int hit(float x, float y) {
+        if (!contains(x, y)) return -1;
+        
+        float localX = x - boundsX;
+        float localY = getTop() - y + scroll;
+        
+        int col = (int) (localX / (cellWidth + spacingX));
+        int row = (int) (localY / getRowPitch());
+        if (col >= columns) return -1;
+        
+        // Descartar el hueco entre celdas
+        if (localX - col * (cellWidth + spacingX) > cellWidth) return -1;
+        if (localY - row * getRowPitch() > cellHeight) return -1;
+        
+        int index = row * columns + col;
+        return index < itemCount ? index : -1;
+    }
+    
+    // ==================== DIBUJO ====================
+    
+    /**
+     * Calcula el rango visible. Llamar al inicio del draw().
+     */
+    public void prepareVisible() {
+        float pitch = getRowPitch();
+        int firstRow = (int) (scroll / pitch);
+        int lastRow = (int) ((scroll + boundsHeight) / pitch);
+        
+        firstVisible = Math.min(itemCount, firstRow * columns);
+        endVisible = Math.min(itemCount, (lastRow + 1) * columns);
+    }
+    
+    public int getFirstVisible() {
+        return firstVisible;
+    }
+    
+    /** Fin (exclusivo) del rango visible */
+    public int getEndVisible() {
+        return endVisible;
+    }
+    
+    /**
+     * Celda vinculada a index (solo para índices del rango visible).
+     * Reutiliza el slot: bind() solo se llama cuando el índice cambia.
+     */
+    public T getCell(int index) {
+        int slot = index % capacity;
+        T cell = cells.get(slot);
+        if (boundIndex[slot] != index) {
+            cell.bind(index);
+            boundIndex[slot] = index;
+        }
+        return cell;
+    }
+    
+    public float getCellX(int index) {
+        return boundsX + (index % columns) * (cellWidth + spacingX);
+    }
+    
+    /** Borde superior de la celda (las celdas cuelgan hacia abajo) */
+    public float getCellTop(int index) {
+        return getTop() - (index / columns) * getRowPitch() + scroll;
+    }
+    
+    public float getCellWidth() {
+        return cellWidth;
+    }
+    
+    public float getCellHeight() {
+        return cellHeight;
+    }
+    
+    /**
+     * Activa el recorte al área de la rejilla.
+     * Los batches/ShapeRenderers abiertos deben cerrarse antes de endClip().
+     */
+    public boolean beginClip(Viewport viewport) {
+        clipArea.set(boundsX, boundsY, boundsWidth, boundsHeight);
+        viewport.calculateScissors(identity, clipArea, scissor);
+        return ScissorStack.pushScissors(scissor);
+    }
+    
+    public void endClip() {
+        ScissorStack.popScissors();
+    }
+    
+    // ==================== INTERNOS ====================
+    
+    private void ensureCapacity(int rows) {
+        int needed = rows * columns;
+        if (needed <= capacity) return;
+        
+        while (cells.size < needed) {
+            cells.add(factory.create());
+        }
+        capacity = needed;
+        boundIndex = new int[capacity];
+        invalidate();
+    }
+    
+    private void updateMaxScroll() {
+        int rows = (itemCount + columns - 1) / columns;
+        float contentHeight = rows > 0 ? rows * getRowPitch() - spacingY : 0f;
+        maxScroll = Math.max(0f, contentHeight - boundsHeight);
+        setScroll(scroll);
+    }
+    
+    private void setScroll(float value) {
+        scroll = Math.max(0f, Math.min(maxScroll, value));
+    }
+    
+    private float clampVelocity(float value) {
+        return Math.max(-MAX_VELOCITY, Math.min(MAX_VELOCITY, value));
+    }
+    
+    private boolean contains(float x, float y) {
+        return x >= boundsX && x <= boundsX + boundsWidth
+            && y >= boundsY && y <= boundsY + boundsHeight;
+    }
+    
+    private float getTop() {
+        return boundsY + boundsHeight;
+    }
+    
+    private float getRowPitch() {
+        return cellHeight + spacingY;
+    }
+}
@@ -0,0 +1,21 @@
+package com.darkphoenixteam.kawaiinekomemory.ui;
+
+/**
+ * Lista virtualizada: VirtualGrid de una sola columna cuyas filas
+ * ocupan todo el ancho del área visible
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public class VirtualList<T extends VirtualGrid.Cell> extends VirtualGrid<T> {
+    
+    public VirtualList(CellFactory<T> factory, float rowHeight, float spacing) {
+        super(factory, 1, 0f, rowHeight, 0f, spacing);
+    }
+    
+    @Override
+    public void setBounds(float x, float y, float width, float height) {
+        cellWidth = width;
+        super.setBounds(x, y, width, height);
+    }
+}
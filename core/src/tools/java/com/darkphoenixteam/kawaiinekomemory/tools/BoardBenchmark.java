@@ -0,0 +1,263 @@
+package com.darkphoenixteam.kawaiinekomemory.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.Pool;
+import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+import com.darkphoenixteam.kawaiinekomemory.models.Board;
+import com.darkphoenixteam.kawaiinekomemory.models.Card;
+import com.darkphoenixteam.kawaiinekomemory.models.LevelData;
+import com.darkphoenixteam.kawaiinekomemory.systems.SaveManager;
+import com.darkphoenixteam.kawaiinekomemory.systems.TweenEngine;
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Microbenchmark del reparto de un grid (createBoard) por dificultad
+ * 
+ * Bucle simple sin JMH: calentamiento y ROUNDS rondas de ITERATIONS
+ * repartos; se informa la mediana en ns y los bytes asignados por
+ * reparto (contador de asignación del hilo de la JVM).
+ * 
+ * Tres caminos, con los mismos datos de cartas:
+ * - boxed/new: el createBoard original. Pares en Array<Integer>,
+ *   copia boxed de las cartas activas, búsqueda lineal del id real por
+ *   carta y un Card nuevo por celda
+ * - boxed/pool: los mismos ids boxed, pero con cartas de un Pool
+ *   (aísla el coste del boxing del de crear cartas)
+ * - int/pool: Board.deal() actual (IntArray, datos por par resueltos al
+ *   cargar, Pool<Card>)
+ * 
+ * Los tamaños de grid se leen de levels.json. Sin GL: las texturas son null.
+ * 
+ * Uso: BoardBenchmark <levels.json>
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public final class BoardBenchmark {
+    
+    private static final int WARMUP = 200_000;
+    private static final int ITERATIONS = 200_000;
+    private static final int ROUNDS = 5;
+    private static final long SEED = 42L;
+    
+    private static final float CARD_RATIO = 1.4f;
+    
+    // Sumidero: evita que el JIT descarte el reparto
+    private static int sink;
+    
+    private BoardBenchmark() {
+    }
+    
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Uso: BoardBenchmark <levels.json>");
+        }
+        JsonValue catalog = new JsonReader().parse(new FileHandle(new File(args[0])));
+        
+        System.out.println("BoardBenchmark: " + System.getProperty("java.vm.name") + " " +
+                           System.getProperty("java.version") + ", " + ROUNDS + "x" + ITERATIONS +
+                           " repartos (mediana)");
+        System.out.println(String.format(Locale.ROOT, "%-9s %5s %17s %17s %17s",
+                           "", "grid", "boxed/new", "boxed/pool", "int/pool"));
+        
+        for (LevelData.Difficulty difficulty : LevelData.Difficulty.values()) {
+            JsonValue spec = find(catalog.get("difficulties"), difficulty.name());
+            int cols = spec.getInt("cols");
+            int rows = spec.getInt("rows");
+            int pairs = cols * rows / 2;
+            
+            Deal[] deals = {new BoxedDeal(cols, rows, pairs, false),
+                            new BoxedDeal(cols, rows, pairs, true),
+                            new PooledDeal(cols, rows, pairs)};
+            
+            StringBuilder line = new StringBuilder();
+            line.append(String.format(Locale.ROOT, "%-9s %5s", difficulty.name(), cols + "x" + rows));
+            for (Deal deal : deals) {
+                long[] result = measure(deal);
+                line.append(String.format(Locale.ROOT, " %8d ns %4d B", result[0], result[1]));
+            }
+            System.out.println(line);
+        }
+        
+        if (sink == 42) System.out.println();
+    }
+    
+    private static JsonValue find(JsonValue difficulties, String name) {
+        for (JsonValue entry = difficulties.child; entry != null; entry = entry.next) {
+            if (name.equals(entry.getString("name"))) return entry;
+        }
+        throw new IllegalArgumentException("levels.json sin la dificultad " + name);
+    }
+    
+    /**
+     * @return {mediana de ns por reparto, bytes asignados por reparto}
+     */
+    private static long[] measure(Deal deal) {
+        com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+        
+        MathUtils.random.setSeed(SEED);
+        for (int i = 0; i < WARMUP; i++) {
+            deal.run();
+        }
+        
+        long[] nanos = new long[ROUNDS];
+        long bytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocatedBefore = threads.getThreadAllocatedBytes(thread);
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                deal.run();
+            }
+            nanos[round] = (System.nanoTime() - start) / ITERATIONS;
+            bytes = Math.min(bytes, (threads.getThreadAllocatedBytes(thread) - allocatedBefore) / ITERATIONS);
+        }
+        Arrays.sort(nanos);
+        return new long[] {nanos[ROUNDS / 2], bytes};
+    }
+    
+    private interface Deal {
+        void run();
+    }
+    
+    // ==================== CAMINO ORIGINAL (BOXED) ====================
+    
+    /**
+     * Réplica del createBoard original (antes de Board): el layout se
+     * recalcula y cada carta busca su id real entre las activas
+     */
+    private static final class BoxedDeal implements Deal {
+        
+        private final int cols;
+        private final int rows;
+        private final int pairs;
+        private final Pool<Card> pool;     // null: un Card nuevo por celda
+        private final Array<Card> cards = new Array<>();
+        // Como SaveManager.activeCards antes de IntArray
+        private final Array<Integer> activeCards = new Array<>();
+        
+        BoxedDeal(int cols, int rows, int pairs, boolean pooled) {
+            this.cols = cols;
+            this.rows = rows;
+            this.pairs = pairs;
+            this.pool = pooled ? new Pool<Card>(pairs * 2, pairs * 2) {
+                @Override
+                protected Card newObject() {
+                    return new Card(-1, null, null, 0f, 0f, 0f, 0f);
+                }
+            } : null;
+            for (int i = 0; i < Constants.ACTIVE_DECK_SIZE; i++) {
+                activeCards.add(i * 2 % Constants.TOTAL_CARDS);
+            }
+        }
+        
+        @Override
+        public void run() {
+            if (pool != null) pool.freeAll(cards);
+            cards.clear();
+            
+            float padding = Constants.GRID_PADDING;
+            float margin = Constants.CARD_MARGIN_PERCENT;
+            float boardWidth = Constants.VIRTUAL_WIDTH - (padding * 2);
+            float boardHeight = Constants.VIRTUAL_HEIGHT - Constants.HUD_HEIGHT - (padding * 2);
+            
+            float cardWidth = (boardWidth - boardWidth * margin * (cols + 1)) / cols;
+            float cardHeight = (boardHeight - boardHeight * margin * (rows + 1)) / rows;
+            if (cardHeight > cardWidth * CARD_RATIO) {
+                cardHeight = cardWidth * CARD_RATIO;
+            } else {
+                cardWidth = cardHeight / CARD_RATIO;
+            }
+            float actualMarginX = (boardWidth - (cardWidth * cols)) / (cols + 1);
+            float actualMarginY = (boardHeight - (cardHeight * rows)) / (rows + 1);
+            float startX = padding + actualMarginX;
+            float startY = padding + actualMarginY;
+            
+            Array<Integer> cardIds = new Array<>();
+            for (int i = 0; i < pairs; i++) {
+                cardIds.add(i);
+                cardIds.add(i);
+            }
+            cardIds.shuffle();
+            
+            // SaveManager.getActiveCards() copiaba en cada llamada
+            Array<Integer> activeCardIds = new Array<>(activeCards);
+            
+            int cardIndex = 0;
+            for (int row = 0; row < rows; row++) {
+                for (int col = 0; col < cols; col++) {
+                    if (cardIndex >= cardIds.size) break;
+                    
+                    float x = startX + col * (cardWidth + actualMarginX);
+                    float y = startY + (rows - 1 - row) * (cardHeight + actualMarginY);
+                    int pairId = cardIds.get(cardIndex);
+                    
+                    Card card;
+                    if (pool != null) {
+                        card = pool.obtain();
+                        card.init(pairId, null, null, x, y, cardWidth, cardHeight);
+                    } else {
+                        card = new Card(pairId, null, null, x, y, cardWidth, cardHeight);
+                    }
+                    
+                    int realCardId = -1;
+                    int validIndex = 0;
+                    for (int i = 0; i < activeCardIds.size && validIndex <= pairId; i++) {
+                        if (activeCardIds.get(i) >= 0) {
+                            if (validIndex == pairId) {
+                                realCardId = activeCardIds.get(i);
+                                break;
+                            }
+                            validIndex++;
+                        }
+                    }
+                    if (realCardId >= 0) {
+                        int deck = SaveManager.getDeckFromCardId(realCardId);
+                        card.setDeckIndex(deck);
+                        card.setCardIndex(SaveManager.getCardIndexFromCardId(realCardId));
+                        card.setNekoinValue(Constants.NEKOIN_PER_DECK[deck]);
+                    }
+                    
+                    cards.add(card);
+                    cardIndex++;
+                }
+            }
+            sink += cards.size;
+        }
+    }
+    
+    // ==================== CAMINO ACTUAL (BOARD) ====================
+    
+    /**
+     * Board.deal(): datos por par registrados una vez, como en loadDeckTextures
+     */
+    private static final class PooledDeal implements Deal {
+        
+        private final Board board;
+        
+        PooledDeal(int cols, int rows, int pairs) {
+            board = new Board(cols, rows, pairs, new TweenEngine(pairs * 2));
+            for (int pairId = 0; pairId < pairs; pairId++) {
+                int cardId = pairId * 2 % Constants.TOTAL_CARDS;
+                int deck = SaveManager.getDeckFromCardId(cardId);
+                board.setPair(pairId, (Texture) null, deck,
+                              SaveManager.getCardIndexFromCardId(cardId), Constants.NEKOIN_PER_DECK[deck]);
+            }
+        }
+        
+        @Override
+        public void run() {
+            board.deal();
+            sink += board.getCards().size;
+        }
+    }
+}
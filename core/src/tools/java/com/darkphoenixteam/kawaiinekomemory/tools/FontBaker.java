@@ -0,0 +1,195 @@
+package com.darkphoenixteam.kawaiinekomemory.tools;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.BitmapFontData;
+import com.badlogic.gdx.graphics.g2d.BitmapFont.Glyph;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.darkphoenixteam.kawaiinekomemory.systems.DistanceField;
+import com.darkphoenixteam.kawaiinekomemory.systems.FontSpec;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+
+/**
+ * Hornea las fuentes de FontSpec a .fnt (texto AngelCode) + páginas .png
+ * 
+ * Se ejecuta en escritorio desde :core:bakeFonts. Por cada grupo
+ * (latin / cjk) cuya fuente exista: rasteriza con FreeType igual que
+ * FontManager, guarda las páginas del packer compartido y un .fnt por
+ * fuente que las referencia. Las métricas se escriben en la línea
+ * "metrics" para que BitmapFontData las recupere exactas.
+ * 
+ * fonts.properties guarda la firma de cada grupo horneado.
+ * 
+ * Con FontSpec.DISTANCE_FIELD se hornea el modo campo de distancia: un
+ * solo .fnt por grupo (tamaño de TITLE) sobre sus páginas SDF. Un
+ * dispositivo sin el shader lo detecta por la firma y usa FreeType.
+ * 
+ * Uso: FontBaker <carpeta assets>
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.1 - Campo de distancia
+ */
+public final class FontBaker {
+    
+    private FontBaker() {
+    }
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Uso: FontBaker <carpeta assets>");
+        }
+        
+        // Pixmap y FreeType sin backend: solo las librerías nativas
+        GdxNativesLoader.load();
+        
+        File assets = new File(args[0]);
+        FileHandle output = new FileHandle(new File(assets, FontSpec.BAKED_DIR));
+        output.deleteDirectory();
+        output.mkdirs();
+        
+        StringBuilder manifest = new StringBuilder();
+        manifest.append("# GENERADO por :core:bakeFonts - no editar a mano\n");
+        
+        for (boolean cjk : new boolean[] {false, true}) {
+            File source = new File(assets, FontSpec.fontPath(cjk));
+            if (!source.exists()) {
+                // Sin hornear: en runtime FontManager usa FreeType con su propio respaldo
+                System.out.println("FontBaker: " + FontSpec.groupName(cjk) + " sin hornear (falta " + source + ")");
+                continue;
+            }
+            
+            long start = System.nanoTime();
+            int pages = bakeGroup(new FileHandle(source), cjk, output);
+            manifest.append(FontSpec.groupName(cjk)).append(".signature=")
+                    .append(FontSpec.signature(cjk, FontSpec.DISTANCE_FIELD)).append('\n');
+            
+            System.out.println("FontBaker: " + FontSpec.groupName(cjk) + " -> " + pages + " páginas en " +
+                               (System.nanoTime() - start) / 1_000_000L + "ms");
+        }
+        
+        output.child("fonts.properties").writeString(manifest.toString(), false, "UTF-8");
+    }
+    
+    /**
+     * @return número de páginas escritas
+     */
+    private static int bakeGroup(FileHandle source, boolean cjk, FileHandle output) throws IOException {
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(source);
+        PixmapPacker packer = FontSpec.createPacker();
+        
+        try {
+            BitmapFontData[] data;
+            if (FontSpec.DISTANCE_FIELD) {
+                data = new BitmapFontData[] {
+                    DistanceField.rasterize(generator, cjk, FontSpec.characters(cjk), packer)
+                };
+            } else {
+                data = FontSpec.rasterize(generator, cjk, packer);
+            }
+            
+            Array<PixmapPacker.Page> pages = packer.getPages();
+            String[] pageFiles = new String[pages.size];
+            for (int i = 0; i < pages.size; i++) {
+                pageFiles[i] = FontSpec.bakedPagePrefix(cjk) + i + ".png";
+                PixmapIO.writePNG(output.child(pageFiles[i]), pages.get(i).getPixmap());
+            }
+            
+            if (FontSpec.DISTANCE_FIELD) {
+                FileHandle fnt = output.child(new File(FontSpec.bakedDistanceFieldPath(cjk)).getName());
+                writeFnt(data[0], FontSpec.distanceFieldSize(cjk), pageFiles, fnt);
+            } else {
+                for (int i = 0; i < FontSpec.COUNT; i++) {
+                    FileHandle fnt = output.child(new File(FontSpec.bakedFontPath(cjk, i)).getName());
+                    writeFnt(data[i], FontSpec.size(cjk, i), pageFiles, fnt);
+                }
+            }
+            return pages.size;
+        } finally {
+            packer.dispose();
+            generator.dispose();
+        }
+    }
+    
+    /**
+     * Escribe el .fnt en el formato que lee BitmapFontData.load()
+     */
+    private static void writeFnt(BitmapFontData data, int size, String[] pageFiles,
+                                 FileHandle file) throws IOException {
+        // Incluye el glifo 0 (missingGlyph): BitmapFontData lo reconoce por el id
+        // (FreeType lo deja en la tabla; DistanceField solo en missingGlyph)
+        Array<Glyph> glyphs = new Array<>();
+        for (Glyph[] page : data.glyphs) {
+            if (page == null) continue;
+            for (Glyph glyph : page) {
+                if (glyph != null) glyphs.add(glyph);
+            }
+        }
+        if (data.missingGlyph != null && !glyphs.contains(data.missingGlyph, true)) {
+            glyphs.add(data.missingGlyph);
+        }
+        
+        // Base = distancia de la parte superior de la línea a la línea base
+        int base = Math.round(data.capHeight + data.ascent);
+        
+        Writer out = file.writer(false, "UTF-8");
+        try {
+            out.write("info face=\"" + file.nameWithoutExtension() + "\" size=" + size +
+                      " bold=0 italic=0 charset=\"\" unicode=1 stretchH=100 smooth=1 aa=1" +
+                      " padding=" + (int) data.padTop + "," + (int) data.padRight + "," +
+                      (int) data.padBottom + "," + (int) data.padLeft + " spacing=1,1\n");
+            out.write("common lineHeight=" + Math.round(data.lineHeight) + " base=" + base +
+                      " scaleW=" + FontSpec.PACKER_PAGE_SIZE + " scaleH=" + FontSpec.PACKER_PAGE_SIZE +
+                      " pages=" + pageFiles.length + " packed=0\n");
+            for (int i = 0; i < pageFiles.length; i++) {
+                out.write("page id=" + i + " file=\"" + pageFiles[i] + "\"\n");
+            }
+            
+            out.write("chars count=" + glyphs.size + "\n");
+            for (Glyph glyph : glyphs) {
+                writeGlyph(out, glyph);
+            }
+            
+            // Siempre presente: BitmapFontData solo lee "metrics" tras el bloque de kernings
+            StringBuilder kernings = new StringBuilder();
+            int kerningCount = 0;
+            for (int i = 0; i < glyphs.size; i++) {
+                Glyph first = glyphs.get(i);
+                if (first.kerning == null) continue;
+                for (int j = 0; j < glyphs.size; j++) {
+                    Glyph second = glyphs.get(j);
+                    int amount = first.getKerning((char) second.id);
+                    if (amount != 0) {
+                        kernings.append("kerning first=").append(first.id)
+                                .append(" second=").append(second.id)
+                                .append(" amount=").append(amount).append('\n');
+                        kerningCount++;
+                    }
+                }
+            }
+            out.write("kernings count=" + kerningCount + "\n");
+            out.write(kernings.toString());
+            
+            out.write(String.format(Locale.ROOT,
+                "metrics ascent=%s descent=%s down=%s capHeight=%s lineHeight=%s spaceXAdvance=%s xHeight=%s\n",
+                data.ascent, data.descent, data.down, data.capHeight, data.lineHeight,
+                data.spaceXadvance, data.xHeight));
+        } finally {
+            out.close();
+        }
+    }
+    
+    private static void writeGlyph(Writer out, Glyph glyph) throws IOException {
+        // BitmapFontData (sin flip) invierte: yoffset = -(height + valor)
+        int yoffset = -(glyph.height + glyph.yoffset);
+        out.write("char id=" + glyph.id + " x=" + glyph.srcX + " y=" + glyph.srcY +
+                  " width=" + glyph.width + " height=" + glyph.height +
+                  " xoffset=" + glyph.xoffset + " yoffset=" + yoffset +
+                  " xadvance=" + glyph.xadvance + " page=" + glyph.page + " chnl=15\n");
+    }
+}
@@ -0,0 +1,258 @@
+package com.darkphoenixteam.kawaiinekomemory.tools;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Files;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.backends.headless.HeadlessApplication;
+import com.badlogic.gdx.backends.headless.HeadlessApplicationConfiguration;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.glutils.GLVersion;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.darkphoenixteam.kawaiinekomemory.KawaiiNekoMemory;
+import com.darkphoenixteam.kawaiinekomemory.systems.FontSpec;
+import com.darkphoenixteam.kawaiinekomemory.systems.StartupTracer;
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.nio.IntBuffer;
+
+/**
+ * Arranque en frío del juego hasta el primer frame, sin ventana
+ * 
+ * Corre KawaiiNekoMemory (modo perfilado) sobre el backend headless con
+ * un GL que no hace nada: se mide la CPU del arranque (decodificar,
+ * rasterizar, parsear), no la subida de texturas ni la compilación de
+ * shaders. Cada modo es un proceso nuevo (JVM y caches en frío):
+ * - horneadas: fuentes de fonts/baked (lo normal tras :core:bakeFonts)
+ * - freetype: se oculta fonts/baked/fonts.properties y FontManager
+ *   rasteriza con FreeType, como antes de las fuentes pre-horneadas
+ * 
+ * Los archivos Local van a un directorio temporal nuevo (sin caché de
+ * miniaturas ni ajustes previos). Salida: las líneas "Arranque:" del
+ * juego, el primer frame medido desde el arranque de la JVM y la traza
+ * de StartupTracer (startup_trace_<modo>.json en el directorio actual).
+ * 
+ * Uso: StartupBenchmark <horneadas|freetype>
+ * (assets en el classpath, como en el módulo de escritorio)
+ * 
+ * @author DarkphoenixTeam
+ * @version 1.0
+ */
+public final class StartupBenchmark {
+    
+    private static final String TAG = "StartupBenchmark";
+    
+    // Frames tras el primero antes de cerrar (deja terminar el trabajo en segundo plano)
+    private static final int FRAMES = 30;
+    
+    private StartupBenchmark() {
+    }
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1 || !(args[0].equals("horneadas") || args[0].equals("freetype"))) {
+            throw new IllegalArgumentException("Uso: StartupBenchmark <horneadas|freetype>");
+        }
+        final String mode = args[0];
+        final File localDir = java.nio.file.Files.createTempDirectory("kawaii-startup").toFile();
+        
+        HeadlessApplicationConfiguration config = new HeadlessApplicationConfiguration();
+        config.updatesPerSecond = 0;      // Sin esperas entre frames
+        
+        new HeadlessApplication(new Harness(new KawaiiNekoMemory(true), mode, localDir), config);
+    }
+    
+    /**
+     * Instala los sustitutos antes de create() (en el hilo del bucle)
+     */
+    private static final class Harness implements ApplicationListener {
+        
+        private final KawaiiNekoMemory game;
+        private final String mode;
+        private final File localDir;
+        private int frames;
+        
+        Harness(KawaiiNekoMemory game, String mode, File localDir) {
+            this.game = game;
+            this.mode = mode;
+            this.localDir = localDir;
+        }
+        
+        @Override
+        public void create() {
+            Gdx.files = new BenchmarkFiles(Gdx.files, mode.equals("freetype"), localDir);
+            Gdx.gl = Gdx.gl20 = noOpGL();
+            Gdx.graphics = withGLVersion(Gdx.graphics);
+            Gdx.app.log(TAG, "Modo: " + mode + " | Local: " + localDir);
+            
+            game.create();
+        }
+        
+        @Override
+        public void render() {
+            game.render();
+            
+            if (frames == 0) {
+                long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+                Gdx.app.log(TAG, "Primer frame a " + (TimeUtils.millis() - jvmStart) + "ms del arranque de la JVM");
+            }
+            if (++frames == FRAMES) {
+                String json = StartupTracer.getInstance().toChromeJson();
+                new FileHandle(new File("startup_trace_" + mode + ".json")).writeString(json, false, "UTF-8");
+                Gdx.app.exit();
+            }
+        }
+        
+        @Override
+        public void resize(int width, int height) {
+            game.resize(width, height);
+        }
+        
+        @Override
+        public void pause() {
+            game.pause();
+        }
+        
+        @Override
+        public void resume() {
+            game.resume();
+        }
+        
+        @Override
+        public void dispose() {
+            game.dispose();
+        }
+    }
+    
+    // ==================== SUSTITUTOS ====================
+    
+    /**
+     * GL20 que no hace nada: shaders compilados y enlazados, sin atributos
+     * ni uniforms activos, el resto a cero
+     */
+    private static GL20 noOpGL() {
+        return (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] {GL20.class},
+            (proxy, method, args) -> {
+                String name = method.getName();
+                if ((name.equals("glGetShaderiv") || name.equals("glGetProgramiv")) && args[2] instanceof IntBuffer) {
+                    int pname = (Integer) args[1];
+                    boolean ok = pname == GL20.GL_COMPILE_STATUS || pname == GL20.GL_LINK_STATUS;
+                    ((IntBuffer) args[2]).put(0, ok ? 1 : 0);
+                    return null;
+                }
+                if (name.equals("glGetIntegerv") && args[1] instanceof IntBuffer) {
+                    ((IntBuffer) args[1]).put(0, (Integer) args[0] == GL20.GL_MAX_TEXTURE_SIZE ? 4096 : 0);
+                    return null;
+                }
+                if (name.equals("glGetString")) return "";
+                if (name.equals("glGetShaderInfoLog") || name.equals("glGetProgramInfoLog")) return "";
+                if (name.equals("glCreateShader") || name.equals("glCreateProgram") || name.equals("glGenTexture")
+                    || name.equals("glGenBuffer")) {
+                    return 1;
+                }
+                return defaultValue(method.getReturnType());
+            });
+    }
+    
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) return false;
+        if (type == int.class) return 0;
+        if (type == float.class) return 0f;
+        if (type == long.class) return 0L;
+        return null;
+    }
+    
+    /**
+     * MockGraphics sin versión de GL: TextBatch la consulta
+     */
+    private static Graphics withGLVersion(final Graphics graphics) {
+        final GLVersion version = new GLVersion(com.badlogic.gdx.Application.ApplicationType.Desktop,
+                                                "2.1", "headless", "no-op");
+        return (Graphics) Proxy.newProxyInstance(Graphics.class.getClassLoader(), new Class<?>[] {Graphics.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("getGLVersion")) return version;
+                try {
+                    return method.invoke(graphics, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+    }
+    
+    /**
+     * Files del backend con Local redirigido y, en modo freetype, sin
+     * el manifiesto de fuentes horneadas
+     */
+    private static final class BenchmarkFiles implements Files {
+        
+        private final Files files;
+        private final boolean hideBaked;
+        private final File localDir;
+        
+        BenchmarkFiles(Files files, boolean hideBaked, File localDir) {
+            this.files = files;
+            this.hideBaked = hideBaked;
+            this.localDir = localDir;
+        }
+        
+        @Override
+        public FileHandle getFileHandle(String path, FileType type) {
+            switch (type) {
+                case Internal: return internal(path);
+                case Local: return local(path);
+                default: return files.getFileHandle(path, type);
+            }
+        }
+        
+        @Override
+        public FileHandle classpath(String path) {
+            return files.classpath(path);
+        }
+        
+        @Override
+        public FileHandle internal(String path) {
+            if (hideBaked && path.equals(FontSpec.BAKED_MANIFEST)) {
+                return files.absolute(new File(localDir, "sin_hornear.properties").getPath());
+            }
+            return files.internal(path);
+        }
+        
+        @Override
+        public FileHandle external(String path) {
+            return files.external(path);
+        }
+        
+        @Override
+        public FileHandle absolute(String path) {
+            return files.absolute(path);
+        }
+        
+        @Override
+        public FileHandle local(String path) {
+            return files.absolute(new File(localDir, path).getPath());
+        }
+        
+        @Override
+        public String getExternalStoragePath() {
+            return files.getExternalStoragePath();
+        }
+        
+        @Override
+        public boolean isExternalStorageAvailable() {
+            return files.isExternalStorageAvailable();
+        }
+        
+        @Override
+        public String getLocalStoragePath() {
+            return localDir.getPath() + File.separator;
+        }
+        
+        @Override
+        public boolean isLocalStorageAvailable() {
+            return true;
+        }
+    }
+}
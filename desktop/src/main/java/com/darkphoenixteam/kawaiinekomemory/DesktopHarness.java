@@ -0,0 +1,136 @@
+package com.darkphoenixteam.kawaiinekomemory;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.math.MathUtils;
+import com.darkphoenixteam.kawaiinekomemory.screens.MarathonScreen;
+import com.darkphoenixteam.kawaiinekomemory.ui.PerfOverlay;
+
+/**
+ * Envoltorio de escritorio del juego: aplica los flags de Lwjgl3Launcher
+ * que no son de la ventana (semilla, overlay, guion de input, cierre
+ * automático, benchmark de Marathon) y delega todo el ciclo de vida en
+ * KawaiiNekoMemory.
+ * 
+ * @author DarkphoenixTeam
+ */
+public class DesktopHarness implements ApplicationListener {
+    
+    private static final String TAG = "DesktopHarness";
+    
+    /**
+     * Flags ya validados por Lwjgl3Launcher
+     */
+    public static class Options {
+        public int width;
+        public int height;
+        public int fps = 60;
+        public boolean vsync = true;
+        public boolean profile;
+        public boolean perf;
+        public InputScript script;
+        public float exitAfter = -1f;
+        public long seed;
+        public boolean seeded;
+        public boolean noAudio;
+        public int marathonBenchmark = -1;
+    }
+    
+    private final KawaiiNekoMemory game;
+    private final Options options;
+    
+    private float elapsed;
+    private boolean exiting;
+    
+    public DesktopHarness(KawaiiNekoMemory game, Options options) {
+        this.game = game;
+        this.options = options;
+    }
+    
+    @Override
+    public void create() {
+        if (options.seeded) {
+            MathUtils.random.setSeed(options.seed);
+            Gdx.app.log(TAG, "Semilla: " + options.seed);
+        }
+        
+        game.create();
+        
+        if (options.perf && game.getPerfOverlay() != null) {
+            game.getPerfOverlay().setEnabled(true);
+        }
+        if (options.marathonBenchmark >= 0) {
+            startMarathonBenchmark();
+        }
+        Gdx.app.log(TAG, "GL: " + Gdx.graphics.getGLVersion().getRendererString() +
+                   " | FPS: " + (options.fps == 0 ? "sin límite" : String.valueOf(options.fps)) +
+                   " | vsync: " + options.vsync);
+    }
+    
+    @Override
+    public void render() {
+        if (!exiting) {
+            elapsed += Gdx.graphics.getDeltaTime();
+            
+            if (options.script != null && options.script.update(elapsed, game.getScreen())) {
+                requestExit();
+            }
+            if (options.exitAfter >= 0f && elapsed >= options.exitAfter) {
+                requestExit();
+            }
+        }
+        game.render();
+    }
+    
+    /**
+     * Sustituye el splash por Marathon en modo benchmark; al registrar
+     * su informe de FPS se cierra la aplicación
+     */
+    private void startMarathonBenchmark() {
+        MarathonScreen benchmark = new MarathonScreen(game, options.marathonBenchmark, true);
+        benchmark.setOnBenchmarkFinished(this::requestExit);
+        
+        Screen splash = game.getScreen();
+        game.setScreen(benchmark);
+        if (splash != null) {
+            splash.dispose();
+        }
+    }
+    
+    /**
+     * Cierra al final del frame. El CSV del overlay se escribe en
+     * BackgroundWorker, que termina sus tareas antes de detenerse.
+     */
+    private void requestExit() {
+        if (exiting) return;
+        exiting = true;
+        
+        PerfOverlay overlay = game.getPerfOverlay();
+        if (overlay != null && overlay.isEnabled()) {
+            overlay.dumpCsv(PerfOverlay.CSV_SECONDS);
+        }
+        Gdx.app.log(TAG, "Cierre a los " + elapsed + "s");
+        Gdx.app.exit();
+    }
+    
+    @Override
+    public void resize(int width, int height) {
+        game.resize(width, height);
+    }
+    
+    @Override
+    public void pause() {
+        game.pause();
+    }
+    
+    @Override
+    public void resume() {
+        game.resume();
+    }
+    
+    @Override
+    public void dispose() {
+        game.dispose();
+    }
+}
@@ -0,0 +1,241 @@
+package com.darkphoenixteam.kawaiinekomemory;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector2;
+import com.darkphoenixteam.kawaiinekomemory.screens.BaseScreen;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Input guionizado para benchmarks reproducibles
+ * 
+ * Una acción por línea (# para comentarios), en orden de tiempo:
+ *   <segundo> tap X Y          toque: down ahora, up en el frame siguiente
+ *   <segundo> down X Y [P]     P = puntero (0 por defecto)
+ *   <segundo> drag X Y [P]
+ *   <segundo> up X Y [P]
+ *   <segundo> key NOMBRE       Input.Keys (F3, F4, F5, ESCAPE...)
+ *   <segundo> exit             cierra la aplicación
+ * 
+ * El segundo cuenta desde el primer frame. X Y son coordenadas del mundo
+ * virtual (480x800, origen abajo a la izquierda): se pasan a pantalla con
+ * el viewport de la pantalla actual y llegan a su InputProcessor como
+ * un toque real.
+ * 
+ * @author DarkphoenixTeam
+ */
+public class InputScript {
+    
+    private static final String TAG = "InputScript";
+    
+    private static final int ACTION_TAP = 0;
+    private static final int ACTION_DOWN = 1;
+    private static final int ACTION_DRAG = 2;
+    private static final int ACTION_UP = 3;
+    private static final int ACTION_KEY = 4;
+    private static final int ACTION_EXIT = 5;
+    
+    // === ACCIONES (struct-of-arrays) ===
+    private final float[] times;
+    private final int[] actions;
+    private final float[] xs;
+    private final float[] ys;
+    private final int[] values;      // Puntero o keycode
+    private final int count;
+    private int next;
+    
+    // Up pendiente de un tap (se envía en el frame siguiente)
+    private boolean pendingTapUp;
+    private float tapX;
+    private float tapY;
+    
+    private final Vector2 point = new Vector2();
+    private final Matrix4 identity = new Matrix4();
+    
+    private InputScript(float[] times, int[] actions, float[] xs, float[] ys, int[] values, int count) {
+        this.times = times;
+        this.actions = actions;
+        this.xs = xs;
+        this.ys = ys;
+        this.values = values;
+        this.count = count;
+    }
+    
+    /**
+     * Lee y valida el guion (antes de arrancar la aplicación)
+     * @throws IllegalArgumentException con la línea del error
+     */
+    public static InputScript load(File file) {
+        List<String> lines = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lines.add(line);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("No se pudo leer el script " + file + ": " + e.getMessage());
+        }
+        
+        int capacity = lines.size();
+        float[] times = new float[capacity];
+        int[] actions = new int[capacity];
+        float[] xs = new float[capacity];
+        float[] ys = new float[capacity];
+        int[] values = new int[capacity];
+        int count = 0;
+        
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+            
+            String where = file.getName() + ":" + (i + 1);
+            String[] parts = line.split("\\s+");
+            if (parts.length < 2) {
+                throw new IllegalArgumentException(where + ": se espera '<segundo> <acción> ...'");
+            }
+            
+            try {
+                times[count] = Float.parseFloat(parts[0]);
+                if (count > 0 && times[count] < times[count - 1]) {
+                    throw new IllegalArgumentException(where + ": tiempo anterior a la acción previa");
+                }
+                
+                switch (parts[1]) {
+                    case "tap":
+                        actions[count] = ACTION_TAP;
+                        readPoint(parts, where, xs, ys, count);
+                        break;
+                    case "down":
+                        actions[count] = ACTION_DOWN;
+                        readPoint(parts, where, xs, ys, count);
+                        values[count] = parts.length > 4 ? Integer.parseInt(parts[4]) : 0;
+                        break;
+                    case "drag":
+                        actions[count] = ACTION_DRAG;
+                        readPoint(parts, where, xs, ys, count);
+                        values[count] = parts.length > 4 ? Integer.parseInt(parts[4]) : 0;
+                        break;
+                    case "up":
+                        actions[count] = ACTION_UP;
+                        readPoint(parts, where, xs, ys, count);
+                        values[count] = parts.length > 4 ? Integer.parseInt(parts[4]) : 0;
+                        break;
+                    case "key":
+                        if (parts.length < 3) {
+                            throw new IllegalArgumentException(where + ": falta el nombre de la tecla");
+                        }
+                        int keycode = Input.Keys.valueOf(parts[2]);
+                        if (keycode < 0) {
+                            throw new IllegalArgumentException(where + ": tecla desconocida " + parts[2]);
+                        }
+                        actions[count] = ACTION_KEY;
+                        values[count] = keycode;
+                        break;
+                    case "exit":
+                        actions[count] = ACTION_EXIT;
+                        break;
+                    default:
+                        throw new IllegalArgumentException(where + ": acción desconocida " + parts[1]);
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(where + ": número inválido (" + e.getMessage() + ")");
+            }
+            count++;
+        }
+        
+        return new InputScript(times, actions, xs, ys, values, count);
+    }
+    
+    private static void readPoint(String[] parts, String where, float[] xs, float[] ys, int index) {
+        if (parts.length < 4) {
+            throw new IllegalArgumentException(where + ": se esperan X Y");
+        }
+        xs[index] = Float.parseFloat(parts[2]);
+        ys[index] = Float.parseFloat(parts[3]);
+    }
+    
+    // ==================== REPRODUCCIÓN ====================
+    
+    /**
+     * Envía las acciones que ya tocan (llamar antes de game.render())
+     * @param elapsed segundos desde el primer frame
+     * @return true si el guion pide cerrar
+     */
+    public boolean update(float elapsed, Screen screen) {
+        InputProcessor processor = Gdx.input.getInputProcessor();
+        
+        if (pendingTapUp) {
+            pendingTapUp = false;
+            if (processor != null && toScreen(screen, tapX, tapY)) {
+                processor.touchUp((int) point.x, (int) point.y, 0, Input.Buttons.LEFT);
+            }
+        }
+        
+        while (next < count && times[next] <= elapsed) {
+            int i = next++;
+            int action = actions[i];
+            
+            if (action == ACTION_EXIT) {
+                Gdx.app.log(TAG, "exit a los " + times[i] + "s");
+                return true;
+            }
+            if (processor == null) {
+                Gdx.app.log(TAG, "Sin InputProcessor, acción " + (i + 1) + " ignorada");
+                continue;
+            }
+            
+            if (action == ACTION_KEY) {
+                processor.keyDown(values[i]);
+                processor.keyUp(values[i]);
+                continue;
+            }
+            
+            if (!toScreen(screen, xs[i], ys[i])) continue;
+            int screenX = (int) point.x;
+            int screenY = (int) point.y;
+            
+            switch (action) {
+                case ACTION_TAP:
+                    processor.touchDown(screenX, screenY, 0, Input.Buttons.LEFT);
+                    pendingTapUp = true;
+                    tapX = xs[i];
+                    tapY = ys[i];
+                    // El resto espera al frame siguiente: el up va antes
+                    return false;
+                case ACTION_DOWN:
+                    processor.touchDown(screenX, screenY, values[i], Input.Buttons.LEFT);
+                    break;
+                case ACTION_DRAG:
+                    processor.touchDragged(screenX, screenY, values[i]);
+                    break;
+                case ACTION_UP:
+                    processor.touchUp(screenX, screenY, values[i], Input.Buttons.LEFT);
+                    break;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Mundo virtual a pantalla (origen arriba a la izquierda, como el input)
+     */
+    private boolean toScreen(Screen screen, float x, float y) {
+        if (!(screen instanceof BaseScreen)) return false;
+        point.set(x, y);
+        ((BaseScreen) screen).getViewport().toScreenCoordinates(point, identity);
+        return true;
+    }
+}
@@ -0,0 +1,188 @@
+package com.darkphoenixteam.kawaiinekomemory;
+
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
+import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.darkphoenixteam.kawaiinekomemory.config.Constants;
+
+import java.io.File;
+
+/**
+ * Launcher de escritorio (LWJGL3) para perfilado y benchmarks
+ * 
+ * Flags:
+ * - --width N / --height N: tamaño de ventana (por defecto el virtual)
+ * - --fps N: límite de FPS en primer plano (0 = sin límite)
+ * - --uncapped: sin límite de FPS y sin vsync
+ * - --no-vsync: vsync desactivado
+ * - --profile: herramientas de perfilado (PerfOverlay con F3/F4 y
+ *   gestos de varios dedos, traza de arranque en startup_trace.json y
+ *   F5); sin él se comporta como una build release
+ * - --perf: PerfOverlay activo desde el primer frame (implica --profile)
+ * - --script ARCHIVO: input guionizado (ver InputScript)
+ * - --exit-after S: cierra a los S segundos (con --perf guarda antes el CSV)
+ * - --seed N: semilla de MathUtils.random (barajados reproducibles)
+ * - --no-audio: sin OpenAL (máquinas de CI sin dispositivo de audio)
+ * - --marathon-benchmark N: arranca MarathonScreen en modo benchmark
+ *   (N = índice de Constants.MARATHON_COLS/ROWS) y cierra tras su
+ *   informe de FPS
+ * 
+ * Con GL por software (Mesa llvmpipe: LIBGL_ALWAYS_SOFTWARE=1) corre
+ * en máquinas sin GPU.
+ * 
+ * @author DarkphoenixTeam
+ */
+public class Lwjgl3Launcher {
+    
+    public static void main(String[] args) {
+        DesktopHarness.Options options;
+        try {
+            options = parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            printUsage();
+            System.exit(1);
+            return;
+        }
+        if (options == null) {
+            printUsage();
+            return;
+        }
+        
+        Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
+        config.setTitle("Kawaii Neko Memory");
+        config.setWindowedMode(options.width, options.height);
+        config.setResizable(true);
+        config.useVsync(options.vsync);
+        config.setForegroundFPS(options.fps);
+        // Sin foco no se frena: un benchmark en segundo plano sigue midiendo
+        config.setIdleFPS(options.fps);
+        config.disableAudio(options.noAudio);
+        
+        new Lwjgl3Application(new DesktopHarness(new KawaiiNekoMemory(options.profile), options), config);
+    }
+    
+    /**
+     * @return null si se pidió la ayuda
+     */
+    private static DesktopHarness.Options parse(String[] args) {
+        DesktopHarness.Options options = new DesktopHarness.Options();
+        options.width = (int) Constants.VIRTUAL_WIDTH;
+        options.height = (int) Constants.VIRTUAL_HEIGHT;
+        
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--width":
+                    options.width = parseInt(arg, value(args, ++i, arg));
+                    break;
+                case "--height":
+                    options.height = parseInt(arg, value(args, ++i, arg));
+                    break;
+                case "--fps":
+                    options.fps = parseInt(arg, value(args, ++i, arg));
+                    break;
+                case "--uncapped":
+                    options.fps = 0;
+                    options.vsync = false;
+                    break;
+                case "--no-vsync":
+                    options.vsync = false;
+                    break;
+                case "--profile":
+                    options.profile = true;
+                    break;
+                case "--perf":
+                    options.perf = true;
+                    options.profile = true;
+                    break;
+                case "--script":
+                    File script = new File(value(args, ++i, arg));
+                    if (!script.isFile()) {
+                        throw new IllegalArgumentException("No existe el script: " + script);
+                    }
+                    options.script = InputScript.load(script);
+                    break;
+                case "--exit-after":
+                    options.exitAfter = parseFloat(arg, value(args, ++i, arg));
+                    break;
+                case "--seed":
+                    options.seed = parseLong(arg, value(args, ++i, arg));
+                    options.seeded = true;
+                    break;
+                case "--no-audio":
+                    options.noAudio = true;
+                    break;
+                case "--marathon-benchmark":
+                    options.marathonBenchmark = parseInt(arg, value(args, ++i, arg));
+                    if (options.marathonBenchmark < 0 || 
+                        options.marathonBenchmark >= Constants.MARATHON_COLS.length) {
+                        throw new IllegalArgumentException(arg + " espera un tamaño entre 0 y " + 
+                                                           (Constants.MARATHON_COLS.length - 1));
+                    }
+                    break;
+                case "--help":
+                case "-h":
+                    return null;
+                default:
+                    throw new IllegalArgumentException("Flag desconocido: " + arg);
+            }
+        }
+        
+        if (options.width <= 0 || options.height <= 0 || options.fps < 0) {
+            throw new IllegalArgumentException("Tamaño o FPS fuera de rango");
+        }
+        return options;
+    }
+    
+    private static String value(String[] args, int index, String flag) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Falta el valor de " + flag);
+        }
+        return args[index];
+    }
+    
+    private static int parseInt(String flag, String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(flag + " espera un entero: " + value);
+        }
+    }
+    
+    private static long parseLong(String flag, String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(flag + " espera un entero: " + value);
+        }
+    }
+    
+    private static float parseFloat(String flag, String value) {
+        try {
+            return Float.parseFloat(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(flag + " espera un número: " + value);
+        }
+    }
+    
+    private static void printUsage() {
+        System.out.println("Uso: kawaii-neko-memory [flags]");
+        System.out.println("  --width N --height N   Tamaño de ventana (por defecto 480x800)");
+        System.out.println("  --fps N                Límite de FPS (0 = sin límite, por defecto 60)");
+        System.out.println("  --uncapped             Sin límite de FPS y sin vsync");
+        System.out.println("  --no-vsync             Vsync desactivado");
+        System.out.println("  --profile              Herramientas de perfilado (F3/F4/F5, gestos, traza)");
+        System.out.println("  --perf                 PerfOverlay activo desde el inicio (implica --profile)");
+        System.out.println("  --script ARCHIVO       Input guionizado");
+        System.out.println("  --exit-after S         Cerrar a los S segundos");
+        System.out.println("  --seed N               Semilla de MathUtils.random");
+        System.out.println("  --no-audio             Sin audio");
+        StringBuilder sizes = new StringBuilder();
+        for (int i = 0; i < Constants.MARATHON_COLS.length; i++) {
+            if (i > 0) sizes.append(", ");
+            sizes.append(i).append(" = ").append(Constants.MARATHON_COLS[i])
+                 .append('x').append(Constants.MARATHON_ROWS[i]);
+        }
+        System.out.println("  --marathon-benchmark N Benchmark de Marathon y cierre (" + sizes + ")");
+    }
+}